@@ -0,0 +1,101 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans.factory.support;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.RuntimeBeanReference;
+import org.springframework.tests.sample.beans.ITestBean;
+import org.springframework.tests.sample.beans.TestBean;
+
+/**
+ * Benchmarks for {@link DefaultListableBeanFactory#getBean}, for singletons
+ * and for prototypes created through constructor and property injection.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.Throughput)
+public class DefaultListableBeanFactoryBenchmark {
+
+	@Benchmark
+	public void getSingletonByName(BeanFactoryState state, Blackhole bh) {
+		bh.consume(state.beanFactory.getBean("singleton"));
+	}
+
+	@Benchmark
+	public void getSingletonByType(BeanFactoryState state, Blackhole bh) {
+		bh.consume(state.beanFactory.getBean(ITestBean.class));
+	}
+
+	@Benchmark
+	public void createPrototype(BeanFactoryState state, Blackhole bh) {
+		bh.consume(state.beanFactory.getBean("prototype"));
+	}
+
+	@Benchmark
+	public void createPrototypeWithConstructorArguments(BeanFactoryState state, Blackhole bh) {
+		bh.consume(state.beanFactory.getBean("constructorPrototype"));
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class BeanFactoryState {
+
+		@Param({"10", "1000"})
+		public int beanCount;
+
+		public DefaultListableBeanFactory beanFactory;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			this.beanFactory = new DefaultListableBeanFactory();
+			for (int i = 0; i < this.beanCount; i++) {
+				RootBeanDefinition filler = new RootBeanDefinition(Object.class);
+				this.beanFactory.registerBeanDefinition("filler" + i, filler);
+			}
+
+			RootBeanDefinition singleton = new RootBeanDefinition(TestBean.class);
+			singleton.getPropertyValues().add("name", "singleton");
+			this.beanFactory.registerBeanDefinition("singleton", singleton);
+
+			RootBeanDefinition prototype = new RootBeanDefinition(TestBean.class);
+			prototype.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+			prototype.getPropertyValues().add("name", "prototype");
+			prototype.getPropertyValues().add("age", 42);
+			prototype.getPropertyValues().add("spouse", new RuntimeBeanReference("singleton"));
+			this.beanFactory.registerBeanDefinition("prototype", prototype);
+
+			RootBeanDefinition constructorPrototype = new RootBeanDefinition(TestBean.class);
+			constructorPrototype.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+			constructorPrototype.getConstructorArgumentValues().addGenericArgumentValue("constructor");
+			constructorPrototype.getConstructorArgumentValues().addGenericArgumentValue(42);
+			this.beanFactory.registerBeanDefinition("constructorPrototype", constructorPrototype);
+
+			this.beanFactory.preInstantiateSingletons();
+		}
+	}
+
+}
@@ -27,6 +27,7 @@ import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.HierarchicalBeanFactory;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.core.convert.ConversionService;
+import org.springframework.core.metrics.ApplicationStartup;
 import org.springframework.lang.Nullable;
 import org.springframework.util.StringValueResolver;
 
@@ -273,6 +274,23 @@ public interface ConfigurableBeanFactory extends HierarchicalBeanFactory, Single
 	@Nullable
 	Scope getRegisteredScope(String scopeName);
 
+	/**
+	 * Set the {@code ApplicationStartup} for this bean factory.
+	 * <p>This allows the application context to record metrics during application startup.
+	 * The factory itself records a "spring.beans.instantiate" step for each bean creation,
+	 * with nested "spring.beans.construct", "spring.beans.populate", "spring.beans.init"
+	 * and "spring.beans.post-process" steps, all tagged with the "beanName".
+	 * @param applicationStartup the new application startup
+	 * @since 5.0
+	 */
+	void setApplicationStartup(ApplicationStartup applicationStartup);
+
+	/**
+	 * Return the {@code ApplicationStartup} for this bean factory.
+	 * @since 5.0
+	 */
+	ApplicationStartup getApplicationStartup();
+
 	/**
 	 * Provides a security access control context relevant to this factory.
 	 * @return the applicable AccessControlContext (never {@code null})
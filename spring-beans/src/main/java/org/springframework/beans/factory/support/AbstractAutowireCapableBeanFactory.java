@@ -76,6 +76,7 @@ import org.springframework.core.NamedThreadLocal;
 import org.springframework.core.ParameterNameDiscoverer;
 import org.springframework.core.PriorityOrdered;
 import org.springframework.core.ResolvableType;
+import org.springframework.core.metrics.StartupStep;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
@@ -462,56 +463,62 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
 		if (logger.isDebugEnabled()) {
 			logger.debug("Creating instance of bean '" + beanName + "'");
 		}
-		RootBeanDefinition mbdToUse = mbd;
+		StartupStep creationStep = startBeanStep("spring.beans.instantiate", beanName);
+		try {
+			RootBeanDefinition mbdToUse = mbd;
 
-		// Make sure bean class is actually resolved at this point, and
-		// clone the bean definition in case of a dynamically resolved Class
-		// which cannot be stored in the shared merged bean definition.
-		Class<?> resolvedClass = resolveBeanClass(mbd, beanName);
-		if (resolvedClass != null && !mbd.hasBeanClass() && mbd.getBeanClassName() != null) {
-			mbdToUse = new RootBeanDefinition(mbd);
-			mbdToUse.setBeanClass(resolvedClass);
-		}
+			// Make sure bean class is actually resolved at this point, and
+			// clone the bean definition in case of a dynamically resolved Class
+			// which cannot be stored in the shared merged bean definition.
+			Class<?> resolvedClass = resolveBeanClass(mbd, beanName);
+			if (resolvedClass != null && !mbd.hasBeanClass() && mbd.getBeanClassName() != null) {
+				mbdToUse = new RootBeanDefinition(mbd);
+				mbdToUse.setBeanClass(resolvedClass);
+			}
 
-		// Prepare method overrides.
-		try {
-			mbdToUse.prepareMethodOverrides();
-		}
-		catch (BeanDefinitionValidationException ex) {
-			throw new BeanDefinitionStoreException(mbdToUse.getResourceDescription(),
-					beanName, "Validation of method overrides failed", ex);
-		}
+			// Prepare method overrides.
+			try {
+				mbdToUse.prepareMethodOverrides();
+			}
+			catch (BeanDefinitionValidationException ex) {
+				throw new BeanDefinitionStoreException(mbdToUse.getResourceDescription(),
+						beanName, "Validation of method overrides failed", ex);
+			}
 
-		try {
-			// Give BeanPostProcessors a chance to return a proxy instead of the target bean instance.
-			Object bean = resolveBeforeInstantiation(beanName, mbdToUse);
-			if (bean != null) {
-				return bean;
+			try {
+				// Give BeanPostProcessors a chance to return a proxy instead of the target bean instance.
+				Object bean = resolveBeforeInstantiation(beanName, mbdToUse);
+				if (bean != null) {
+					return bean;
+				}
+			}
+			catch (Throwable ex) {
+				throw new BeanCreationException(mbdToUse.getResourceDescription(), beanName,
+						"BeanPostProcessor before instantiation of bean failed", ex);
 			}
-		}
-		catch (Throwable ex) {
-			throw new BeanCreationException(mbdToUse.getResourceDescription(), beanName,
-					"BeanPostProcessor before instantiation of bean failed", ex);
-		}
 
-		try {
-			Object beanInstance = doCreateBean(beanName, mbdToUse, args);
-			if (logger.isDebugEnabled()) {
-				logger.debug("Finished creating instance of bean '" + beanName + "'");
+			try {
+				Object beanInstance = doCreateBean(beanName, mbdToUse, args);
+				if (logger.isDebugEnabled()) {
+					logger.debug("Finished creating instance of bean '" + beanName + "'");
+				}
+				return beanInstance;
+			}
+			catch (BeanCreationException ex) {
+				// A previously detected exception with proper bean creation context already...
+				throw ex;
+			}
+			catch (ImplicitlyAppearedSingletonException ex) {
+				// An IllegalStateException to be communicated up to DefaultSingletonBeanRegistry...
+				throw ex;
+			}
+			catch (Throwable ex) {
+				throw new BeanCreationException(
+						mbdToUse.getResourceDescription(), beanName, "Unexpected exception during bean creation", ex);
 			}
-			return beanInstance;
-		}
-		catch (BeanCreationException ex) {
-			// A previously detected exception with proper bean creation context already...
-			throw ex;
-		}
-		catch (ImplicitlyAppearedSingletonException ex) {
-			// An IllegalStateException to be communicated up to DefaultSingletonBeanRegistry...
-			throw ex;
 		}
-		catch (Throwable ex) {
-			throw new BeanCreationException(
-					mbdToUse.getResourceDescription(), beanName, "Unexpected exception during bean creation", ex);
+		finally {
+			creationStep.end();
 		}
 	}
 
@@ -539,7 +546,13 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
 			instanceWrapper = this.factoryBeanInstanceCache.remove(beanName);
 		}
 		if (instanceWrapper == null) {
-			instanceWrapper = createBeanInstance(beanName, mbd, args);
+			StartupStep constructionStep = startBeanStep("spring.beans.construct", beanName);
+			try {
+				instanceWrapper = createBeanInstance(beanName, mbd, args);
+			}
+			finally {
+				constructionStep.end();
+			}
 		}
 		final Object bean = (instanceWrapper != null ? instanceWrapper.getWrappedInstance() : null);
 		Class<?> beanType = (instanceWrapper != null ? instanceWrapper.getWrappedClass() : null);
@@ -549,6 +562,7 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
 			// Allow post-processors to modify the merged bean definition.
 			synchronized (mbd.postProcessingLock) {
 				if (!mbd.postProcessed) {
+					StartupStep postProcessingStep = startPostProcessingStep(beanName, "merged-bean-definition");
 					try {
 						applyMergedBeanDefinitionPostProcessors(mbd, beanType, beanName);
 					}
@@ -556,6 +570,9 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
 						throw new BeanCreationException(mbd.getResourceDescription(), beanName,
 								"Post-processing of merged bean definition failed", ex);
 					}
+					finally {
+						postProcessingStep.end();
+					}
 					mbd.postProcessed = true;
 				}
 			}
@@ -576,7 +593,13 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
 		// Initialize the bean instance.
 		Object exposedObject = bean;
 		try {
-			populateBean(beanName, mbd, instanceWrapper);
+			StartupStep populationStep = startBeanStep("spring.beans.populate", beanName);
+			try {
+				populateBean(beanName, mbd, instanceWrapper);
+			}
+			finally {
+				populationStep.end();
+			}
 			if (exposedObject != null) {
 				exposedObject = initializeBean(beanName, exposedObject, mbd);
 			}
@@ -935,15 +958,18 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
 			if (bw != null) {
 				return (FactoryBean<?>) bw.getWrappedInstance();
 			}
-			if (isSingletonCurrentlyInCreation(beanName) ||
-					(mbd.getFactoryBeanName() != null && isSingletonCurrentlyInCreation(mbd.getFactoryBeanName()))) {
+			// Also consider beans being created by another thread during parallel
+			// pre-instantiation, which must not be marked as in creation again.
+			if (isSingletonCurrentlyInCreationInAnyThread(beanName) ||
+					(mbd.getFactoryBeanName() != null &&
+							isSingletonCurrentlyInCreationInAnyThread(mbd.getFactoryBeanName()))) {
 				return null;
 			}
 
+			// Mark this bean as currently in creation, even if just partially.
+			beforeSingletonCreation(beanName);
 			Object instance = null;
 			try {
-				// Mark this bean as currently in creation, even if just partially.
-				beforeSingletonCreation(beanName);
 				// Give BeanPostProcessors a chance to return a proxy instead of the target bean instance.
 				instance = resolveBeforeInstantiation(beanName, mbd);
 				if (instance == null) {
@@ -1043,9 +1069,15 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
 			if (!mbd.isSynthetic() && hasInstantiationAwareBeanPostProcessors()) {
 				Class<?> targetType = determineTargetType(beanName, mbd);
 				if (targetType != null) {
-					bean = applyBeanPostProcessorsBeforeInstantiation(targetType, beanName);
-					if (bean != null) {
-						bean = applyBeanPostProcessorsAfterInitialization(bean, beanName);
+					StartupStep postProcessingStep = startPostProcessingStep(beanName, "before-instantiation");
+					try {
+						bean = applyBeanPostProcessorsBeforeInstantiation(targetType, beanName);
+						if (bean != null) {
+							bean = applyBeanPostProcessorsAfterInitialization(bean, beanName);
+						}
+					}
+					finally {
+						postProcessingStep.end();
 					}
 				}
 			}
@@ -1705,10 +1737,17 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
 
 		Object wrappedBean = bean;
 		if (mbd == null || !mbd.isSynthetic()) {
-			wrappedBean = applyBeanPostProcessorsBeforeInitialization(wrappedBean, beanName);
+			StartupStep postProcessingStep = startPostProcessingStep(beanName, "before-initialization");
+			try {
+				wrappedBean = applyBeanPostProcessorsBeforeInitialization(wrappedBean, beanName);
+			}
+			finally {
+				postProcessingStep.end();
+			}
 		}
 
 		if (wrappedBean != null) {
+			StartupStep initializationStep = startBeanStep("spring.beans.init", beanName);
 			try {
 				invokeInitMethods(beanName, wrappedBean, mbd);
 			}
@@ -1717,14 +1756,45 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
 						(mbd != null ? mbd.getResourceDescription() : null),
 						beanName, "Invocation of init method failed", ex);
 			}
+			finally {
+				initializationStep.end();
+			}
 			if (mbd == null || !mbd.isSynthetic()) {
-				wrappedBean = applyBeanPostProcessorsAfterInitialization(wrappedBean, beanName);
+				StartupStep postProcessingStep = startPostProcessingStep(beanName, "after-initialization");
+				try {
+					wrappedBean = applyBeanPostProcessorsAfterInitialization(wrappedBean, beanName);
+				}
+				finally {
+					postProcessingStep.end();
+				}
 			}
 		}
 
 		return wrappedBean;
 	}
 
+	/**
+	 * Start a {@link StartupStep} for the given bean on this factory's
+	 * {@link #getApplicationStartup() ApplicationStartup}.
+	 * @param stepName the name of the step, e.g. "spring.beans.populate"
+	 * @param beanName the name of the bean, to be exposed as "beanName" tag
+	 * @return the started step
+	 */
+	private StartupStep startBeanStep(String stepName, String beanName) {
+		return getApplicationStartup().start(stepName).tag("beanName", beanName);
+	}
+
+	/**
+	 * Start a "spring.beans.post-process" {@link StartupStep} for the given bean,
+	 * covering the post-processor callbacks of the given phase.
+	 * @param beanName the name of the bean, to be exposed as "beanName" tag
+	 * @param phase the post-processing phase, to be exposed as "phase" tag
+	 * @return the started step
+	 */
+	private StartupStep startPostProcessingStep(String beanName, String phase) {
+		return startBeanStep("spring.beans.post-process", beanName).tag("phase", phase);
+	}
+
 	private void invokeAwareMethods(final String beanName, final Object bean) {
 		if (bean instanceof Aware) {
 			if (bean instanceof BeanNameAware) {
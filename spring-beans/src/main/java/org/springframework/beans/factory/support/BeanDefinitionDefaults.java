@@ -27,7 +27,7 @@ import org.springframework.util.StringUtils;
  */
 public class BeanDefinitionDefaults {
 
-	private boolean lazyInit;
+	private Boolean lazyInit;
 
 	private int dependencyCheck = AbstractBeanDefinition.DEPENDENCY_CHECK_NONE;
 
@@ -43,6 +43,17 @@ public class BeanDefinitionDefaults {
 	}
 
 	public boolean isLazyInit() {
+		return (this.lazyInit != null && this.lazyInit);
+	}
+
+	/**
+	 * Return the lazy-init flag to apply, if explicitly set.
+	 * @return the lazy-init flag, or {@code null} for leaving it up to the
+	 * bean factory's default
+	 * @since 5.0
+	 */
+	@Nullable
+	public Boolean getLazyInit() {
 		return this.lazyInit;
 	}
 
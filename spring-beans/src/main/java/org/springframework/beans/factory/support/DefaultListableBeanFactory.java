@@ -40,11 +40,15 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import javax.inject.Provider;
 
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.BeansException;
+import org.springframework.beans.PropertyValue;
 import org.springframework.beans.TypeConverter;
 import org.springframework.beans.factory.BeanCreationException;
 import org.springframework.beans.factory.BeanCurrentlyInCreationException;
@@ -65,8 +69,10 @@ import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.config.BeanDefinitionHolder;
+import org.springframework.beans.factory.config.BeanReference;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.ConstructorArgumentValues;
 import org.springframework.beans.factory.config.DependencyDescriptor;
 import org.springframework.beans.factory.config.NamedBeanHolder;
 import org.springframework.core.OrderComparator;
@@ -149,6 +155,12 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	/** Resolver to use for checking if a bean definition is an autowire candidate */
 	private AutowireCandidateResolver autowireCandidateResolver = new SimpleAutowireCandidateResolver();
 
+	/** Optional Executor for pre-instantiating independent singletons in parallel */
+	private Executor preInstantiationExecutor;
+
+	/** Whether singletons without explicit lazy-init flag are to be lazily initialized */
+	private boolean lazyInitByDefault = false;
+
 	/** Map from dependency type to corresponding autowired value */
 	private final Map<Class<?>, Object> resolvableDependencies = new ConcurrentHashMap<>(16);
 
@@ -303,6 +315,72 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		return this.autowireCandidateResolver;
 	}
 
+	/**
+	 * Specify an {@link Executor} for pre-instantiating non-lazy singletons
+	 * in parallel, e.g. a {@link java.util.concurrent.ForkJoinPool}.
+	 * <p>Default is none, creating all singletons sequentially on the calling thread.
+	 * If specified, singletons are split into groups which are independent according
+	 * to their bean definition metadata (depends-on declarations, bean references,
+	 * factory beans) and to previously registered dependencies, with each group
+	 * being created in registration order on a separate task. Dependencies only
+	 * discovered at creation time (e.g. through autowiring) are waited for if
+	 * another thread is creating them already.
+	 * <p>Since annotation-driven injection points are not part of the bean definition
+	 * metadata, beans wired through {@code @Autowired} or {@code @Resource} usually
+	 * end up in separate groups. For a circular reference between such beans, which
+	 * bean receives an early reference to the other then depends on thread timing
+	 * rather than on registration order. If one of them gets proxied, creation may
+	 * thus fail with a {@link BeanCurrentlyInCreationException} in some runs only.
+	 * Parallel pre-instantiation is therefore only recommended for applications
+	 * without circular references.
+	 * <p>Note that singletons may then be instantiated in a different order than
+	 * they have been registered in. If several singletons fail to be created,
+	 * the failure of the first one in registration order is reported.
+	 * @since 5.0
+	 * @see #preInstantiateSingletons()
+	 */
+	public void setPreInstantiationExecutor(@Nullable Executor preInstantiationExecutor) {
+		this.preInstantiationExecutor = preInstantiationExecutor;
+	}
+
+	/**
+	 * Return the Executor for pre-instantiating singletons in parallel, if any.
+	 * @since 5.0
+	 */
+	@Nullable
+	public Executor getPreInstantiationExecutor() {
+		return this.preInstantiationExecutor;
+	}
+
+	/**
+	 * Set whether singletons without an explicit lazy-init flag should be lazily
+	 * initialized, i.e. only get created on first access rather than on
+	 * {@link #preInstantiateSingletons() pre-instantiation}. Default is "false".
+	 * <p>Infrastructure beans as well as {@link SmartInitializingSingleton} beans
+	 * (as far as their type can be predicted from the bean definition) keep being
+	 * pre-instantiated, in order for their post-initialization callbacks to get
+	 * invoked. Lifecycle beans are started in the order of their phases anyway,
+	 * since an application context creates {@code SmartLifecycle} beans on startup.
+	 * <p>Note that explicit lazy-init flags, e.g. from {@code @Lazy(false)}, take
+	 * precedence, while XML bean definitions always carry an explicit flag. As
+	 * before, a child bean definition does not inherit the flag of its parent.
+	 * @since 5.0
+	 * @see AbstractBeanDefinition#getLazyInit()
+	 * @see #preInstantiateSingletons()
+	 */
+	public void setLazyInitByDefault(boolean lazyInitByDefault) {
+		this.lazyInitByDefault = lazyInitByDefault;
+	}
+
+	/**
+	 * Return whether singletons without an explicit lazy-init flag should be
+	 * lazily initialized.
+	 * @since 5.0
+	 */
+	public boolean isLazyInitByDefault() {
+		return this.lazyInitByDefault;
+	}
+
 
 	@Override
 	public void copyConfigurationFrom(ConfigurableBeanFactory otherFactory) {
@@ -312,6 +390,8 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 			this.allowBeanDefinitionOverriding = otherListableFactory.allowBeanDefinitionOverriding;
 			this.allowEagerClassLoading = otherListableFactory.allowEagerClassLoading;
 			this.dependencyComparator = otherListableFactory.dependencyComparator;
+			this.preInstantiationExecutor = otherListableFactory.preInstantiationExecutor;
+			this.lazyInitByDefault = otherListableFactory.lazyInitByDefault;
 			// A clone of the AutowireCandidateResolver since it is potentially BeanFactoryAware...
 			setAutowireCandidateResolver(BeanUtils.instantiateClass(getAutowireCandidateResolver().getClass()));
 			// Make resolvable dependencies (e.g. ResourceLoader) available here as well...
@@ -408,14 +488,14 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 					RootBeanDefinition mbd = getMergedLocalBeanDefinition(beanName);
 					// Only check bean definition if it is complete.
 					if (!mbd.isAbstract() && (allowEagerInit ||
-							((mbd.hasBeanClass() || !mbd.isLazyInit() || isAllowEagerClassLoading())) &&
+							((mbd.hasBeanClass() || !isLazyInit(beanName, mbd, false) || isAllowEagerClassLoading())) &&
 									!requiresEagerInitForType(mbd.getFactoryBeanName()))) {
 						// In case of FactoryBean, match object created by FactoryBean.
 						boolean isFactoryBean = isFactoryBean(beanName, mbd);
 						BeanDefinitionHolder dbd = mbd.getDecoratedDefinition();
 						boolean matchFound =
 								(allowEagerInit || !isFactoryBean ||
-										(dbd != null && !mbd.isLazyInit()) || containsSingleton(beanName)) &&
+										(dbd != null && !isLazyInit(beanName, mbd, true)) || containsSingleton(beanName)) &&
 								(includeNonSingletons ||
 										(dbd != null ? mbd.isSingleton() : isSingleton(beanName))) &&
 								isTypeMatch(beanName, type);
@@ -724,28 +804,13 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		List<String> beanNames = new ArrayList<>(this.beanDefinitionNames);
 
 		// Trigger initialization of all non-lazy singleton beans...
-		for (String beanName : beanNames) {
-			RootBeanDefinition bd = getMergedLocalBeanDefinition(beanName);
-			if (!bd.isAbstract() && bd.isSingleton() && !bd.isLazyInit()) {
-				if (isFactoryBean(beanName)) {
-					final FactoryBean<?> factory = (FactoryBean<?>) getBean(FACTORY_BEAN_PREFIX + beanName);
-					boolean isEagerInit;
-					if (System.getSecurityManager() != null && factory instanceof SmartFactoryBean) {
-						isEagerInit = AccessController.doPrivileged((PrivilegedAction<Boolean>) () ->
-								((SmartFactoryBean<?>) factory).isEagerInit(),
-								getAccessControlContext());
-					}
-					else {
-						isEagerInit = (factory instanceof SmartFactoryBean &&
-								((SmartFactoryBean<?>) factory).isEagerInit());
-					}
-					if (isEagerInit) {
-						getBean(beanName);
-					}
-				}
-				else {
-					getBean(beanName);
-				}
+		Executor executor = getPreInstantiationExecutor();
+		if (executor != null) {
+			preInstantiateSingletonsInParallel(beanNames, executor);
+		}
+		else {
+			for (String beanName : beanNames) {
+				preInstantiateSingleton(beanName);
 			}
 		}
 
@@ -768,6 +833,234 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	}
 
 
+	/**
+	 * Trigger initialization of the given singleton bean, if it is a non-lazy singleton.
+	 * @param beanName the name of the bean
+	 */
+	private void preInstantiateSingleton(String beanName) {
+		RootBeanDefinition bd = getMergedLocalBeanDefinition(beanName);
+		if (isEagerSingleton(beanName, bd)) {
+			if (isFactoryBean(beanName)) {
+				final FactoryBean<?> factory = (FactoryBean<?>) getBean(FACTORY_BEAN_PREFIX + beanName);
+				boolean isEagerInit;
+				if (System.getSecurityManager() != null && factory instanceof SmartFactoryBean) {
+					isEagerInit = AccessController.doPrivileged((PrivilegedAction<Boolean>) () ->
+							((SmartFactoryBean<?>) factory).isEagerInit(),
+							getAccessControlContext());
+				}
+				else {
+					isEagerInit = (factory instanceof SmartFactoryBean &&
+							((SmartFactoryBean<?>) factory).isEagerInit());
+				}
+				if (isEagerInit) {
+					getBean(beanName);
+				}
+			}
+			else {
+				getBean(beanName);
+			}
+		}
+	}
+
+	/**
+	 * Determine whether the given bean is a singleton to be pre-instantiated,
+	 * taking {@link #setLazyInitByDefault "lazyInitByDefault"} into account.
+	 * @param beanName the name of the bean
+	 * @param bd the merged bean definition of the bean
+	 */
+	private boolean isEagerSingleton(String beanName, RootBeanDefinition bd) {
+		return (!bd.isAbstract() && bd.isSingleton() && !isLazyInit(beanName, bd, true));
+	}
+
+	/**
+	 * Determine whether the given bean is effectively lazy-init, taking
+	 * {@link #setLazyInitByDefault "lazyInitByDefault"} into account.
+	 * @param beanName the name of the bean
+	 * @param bd the merged bean definition of the bean
+	 * @param predictType whether the bean type may be predicted in order to detect
+	 * a {@link SmartInitializingSingleton}, which is never lazy by default; if not,
+	 * such a bean is considered lazy unless its lazy-init flag is set explicitly
+	 */
+	private boolean isLazyInit(String beanName, RootBeanDefinition bd, boolean predictType) {
+		Boolean lazyInit = bd.getLazyInit();
+		if (lazyInit != null) {
+			return lazyInit;
+		}
+		if (!this.lazyInitByDefault || !bd.isSingleton() || bd.getRole() == BeanDefinition.ROLE_INFRASTRUCTURE) {
+			return false;
+		}
+		if (!predictType) {
+			return true;
+		}
+		Class<?> beanType = predictBeanType(beanName, bd);
+		return (beanType == null || !SmartInitializingSingleton.class.isAssignableFrom(beanType));
+	}
+
+	/**
+	 * Trigger initialization of the given non-lazy singleton beans in parallel,
+	 * creating each group of interdependent beans on a separate task.
+	 * <p>Waits for all tasks to complete, rethrowing the failure of the first
+	 * bean in the given order (if any), with further failures added as related causes.
+	 * @param beanNames the names of all beans, in registration order
+	 * @param executor the Executor to create the groups of singletons on
+	 * @see #setPreInstantiationExecutor
+	 */
+	private void preInstantiateSingletonsInParallel(List<String> beanNames, Executor executor) {
+		List<List<String>> groups = groupInterdependentSingletons(beanNames);
+		if (this.logger.isDebugEnabled()) {
+			this.logger.debug("Pre-instantiating " + groups.size() + " groups of singletons in parallel");
+		}
+		Map<String, RuntimeException> failures = new ConcurrentHashMap<>();
+		List<CompletableFuture<Void>> futures = new ArrayList<>(groups.size());
+		setSingletonCreationInParallel(true);
+		try {
+			for (List<String> group : groups) {
+				futures.add(CompletableFuture.runAsync(() -> {
+					for (String beanName : group) {
+						try {
+							preInstantiateSingleton(beanName);
+						}
+						catch (RuntimeException ex) {
+							// Stop this group, just like a sequential bootstrap stops at the first failure
+							failures.put(beanName, ex);
+							return;
+						}
+					}
+				}, executor));
+			}
+			CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[futures.size()])).join();
+		}
+		catch (CompletionException ex) {
+			// Not a bean creation failure (these are collected above) but rather an Error
+			Throwable cause = ex.getCause();
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw ex;
+		}
+		finally {
+			setSingletonCreationInParallel(false);
+		}
+
+		RuntimeException firstFailure = null;
+		for (String beanName : beanNames) {
+			RuntimeException failure = failures.get(beanName);
+			if (failure != null) {
+				if (firstFailure == null) {
+					firstFailure = failure;
+				}
+				else if (firstFailure instanceof BeanCreationException) {
+					((BeanCreationException) firstFailure).addRelatedCause(failure);
+				}
+			}
+		}
+		if (firstFailure != null) {
+			throw firstFailure;
+		}
+	}
+
+	/**
+	 * Split the non-lazy singletons among the given beans into groups that do not
+	 * depend on each other according to their bean definitions and to the dependencies
+	 * registered so far. Each group retains the registration order of its beans,
+	 * and the groups are ordered by their first bean.
+	 * @param beanNames the names of all beans, in registration order
+	 * @return the groups of interdependent singleton bean names
+	 */
+	private List<List<String>> groupInterdependentSingletons(List<String> beanNames) {
+		// Union-find over the candidate beans: bean name --> parent bean name
+		Map<String, String> parents = new LinkedHashMap<>(beanNames.size());
+		for (String beanName : beanNames) {
+			RootBeanDefinition bd = getMergedLocalBeanDefinition(beanName);
+			if (isEagerSingleton(beanName, bd)) {
+				parents.put(beanName, beanName);
+			}
+		}
+		for (String beanName : parents.keySet()) {
+			Set<String> dependencies = new LinkedHashSet<>();
+			collectDeclaredDependencies(getMergedLocalBeanDefinition(beanName), dependencies);
+			dependencies.addAll(Arrays.asList(getDependenciesForBean(beanName)));
+			dependencies.addAll(Arrays.asList(getDependentBeans(beanName)));
+			for (String dependency : dependencies) {
+				String dependencyName = canonicalName(transformedBeanName(dependency));
+				if (parents.containsKey(dependencyName)) {
+					String root = findGroupRoot(parents, beanName);
+					String dependencyRoot = findGroupRoot(parents, dependencyName);
+					if (!root.equals(dependencyRoot)) {
+						parents.put(dependencyRoot, root);
+					}
+				}
+			}
+		}
+		Map<String, List<String>> groups = new LinkedHashMap<>();
+		for (String beanName : parents.keySet()) {
+			groups.computeIfAbsent(findGroupRoot(parents, beanName), root -> new ArrayList<>()).add(beanName);
+		}
+		return new ArrayList<>(groups.values());
+	}
+
+	private static String findGroupRoot(Map<String, String> parents, String beanName) {
+		String root = beanName;
+		while (!root.equals(parents.get(root))) {
+			root = parents.get(root);
+		}
+		// Path compression for subsequent lookups
+		String current = beanName;
+		while (!current.equals(root)) {
+			current = parents.put(current, root);
+		}
+		return root;
+	}
+
+	/**
+	 * Collect the names of the beans that the given bean definition explicitly
+	 * refers to: depends-on declarations, its factory bean and bean references
+	 * among its property values and constructor arguments.
+	 */
+	private void collectDeclaredDependencies(BeanDefinition bd, Set<String> dependencies) {
+		String[] dependsOn = bd.getDependsOn();
+		if (dependsOn != null) {
+			dependencies.addAll(Arrays.asList(dependsOn));
+		}
+		if (bd.getFactoryBeanName() != null) {
+			dependencies.add(bd.getFactoryBeanName());
+		}
+		for (PropertyValue pv : bd.getPropertyValues().getPropertyValues()) {
+			collectReferencedBeans(pv.getValue(), dependencies);
+		}
+		ConstructorArgumentValues args = bd.getConstructorArgumentValues();
+		for (ConstructorArgumentValues.ValueHolder valueHolder : args.getIndexedArgumentValues().values()) {
+			collectReferencedBeans(valueHolder.getValue(), dependencies);
+		}
+		for (ConstructorArgumentValues.ValueHolder valueHolder : args.getGenericArgumentValues()) {
+			collectReferencedBeans(valueHolder.getValue(), dependencies);
+		}
+	}
+
+	private void collectReferencedBeans(@Nullable Object value, Set<String> dependencies) {
+		if (value instanceof BeanReference) {
+			dependencies.add(((BeanReference) value).getBeanName());
+		}
+		else if (value instanceof BeanDefinitionHolder) {
+			collectDeclaredDependencies(((BeanDefinitionHolder) value).getBeanDefinition(), dependencies);
+		}
+		else if (value instanceof BeanDefinition) {
+			collectDeclaredDependencies((BeanDefinition) value, dependencies);
+		}
+		else if (value instanceof Collection) {
+			for (Object element : (Collection<?>) value) {
+				collectReferencedBeans(element, dependencies);
+			}
+		}
+		else if (value instanceof Map) {
+			for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+				collectReferencedBeans(entry.getKey(), dependencies);
+				collectReferencedBeans(entry.getValue(), dependencies);
+			}
+		}
+	}
+
+
 	//---------------------------------------------------------------------
 	// Implementation of BeanDefinitionRegistry interface
 	//---------------------------------------------------------------------
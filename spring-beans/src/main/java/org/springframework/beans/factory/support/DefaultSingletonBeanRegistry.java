@@ -103,6 +103,15 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	private final Set<String> inCreationCheckExclusions =
 			Collections.newSetFromMap(new ConcurrentHashMap<>(16));
 
+	/** Threads that are currently creating singletons in parallel: bean name --> creating thread */
+	private final Map<String, Thread> singletonCreationThreads = new ConcurrentHashMap<>(16);
+
+	/** Threads waiting for a singleton created by another thread: waiting thread --> bean name */
+	private final Map<Thread, String> singletonWaitingThreads = new ConcurrentHashMap<>(16);
+
+	/** Whether singletons may currently be created by several threads in parallel */
+	private volatile boolean singletonCreationInParallel = false;
+
 	/** List of suppressed Exceptions, available for associating related causes */
 	private Set<Exception> suppressedExceptions;
 
@@ -212,6 +221,9 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	@Nullable
 	public Object getSingleton(String beanName, ObjectFactory<?> singletonFactory) {
 		Assert.notNull(beanName, "'beanName' must not be null");
+		if (this.singletonCreationInParallel) {
+			return getSingletonInParallel(beanName, singletonFactory);
+		}
 		synchronized (this.singletonObjects) {
 			Object singletonObject = this.singletonObjects.get(beanName);
 			if (singletonObject == null) {
@@ -263,6 +275,136 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 		}
 	}
 
+	/**
+	 * Variant of {@link #getSingleton(String, ObjectFactory)} for the parallel
+	 * creation phase: the registry monitor is only held for bookkeeping, with the
+	 * actual creation happening outside of it. Callers asking for a singleton
+	 * that another thread is currently creating wait for that thread to finish,
+	 * unless this would close a cycle between waiting threads, in which case the
+	 * circular reference is resolved just like within a single thread.
+	 */
+	@Nullable
+	private Object getSingletonInParallel(String beanName, ObjectFactory<?> singletonFactory) {
+		Thread currentThread = Thread.currentThread();
+		synchronized (this.singletonObjects) {
+			while (true) {
+				Object singletonObject = this.singletonObjects.get(beanName);
+				if (singletonObject != null) {
+					return (singletonObject != NULL_OBJECT ? singletonObject : null);
+				}
+				Thread creationThread = this.singletonCreationThreads.get(beanName);
+				if (creationThread == null || creationThread == currentThread) {
+					break;
+				}
+				if (isWaitingForCurrentThread(creationThread)) {
+					singletonObject = getSingleton(beanName, true);
+					if (singletonObject == null) {
+						throw new BeanCurrentlyInCreationException(beanName);
+					}
+					return singletonObject;
+				}
+				this.singletonWaitingThreads.put(currentThread, beanName);
+				try {
+					this.singletonObjects.wait();
+				}
+				catch (InterruptedException ex) {
+					currentThread.interrupt();
+					throw new BeanCreationException(beanName,
+							"Interrupted while waiting for singleton creation in another thread", ex);
+				}
+				finally {
+					this.singletonWaitingThreads.remove(currentThread);
+				}
+			}
+			if (this.singletonsCurrentlyInDestruction) {
+				throw new BeanCreationNotAllowedException(beanName,
+						"Singleton bean creation not allowed while singletons of this factory are in destruction " +
+						"(Do not request a bean from a BeanFactory in a destroy method implementation!)");
+			}
+			if (logger.isDebugEnabled()) {
+				logger.debug("Creating shared instance of singleton bean '" + beanName + "' in parallel");
+			}
+			// Claim the singleton for the current thread before marking it as in creation,
+			// so that other threads never see it in creation without a creation thread.
+			boolean claimed = (this.singletonCreationThreads.putIfAbsent(beanName, currentThread) == null);
+			try {
+				beforeSingletonCreation(beanName);
+			}
+			catch (BeanCurrentlyInCreationException ex) {
+				if (claimed) {
+					this.singletonCreationThreads.remove(beanName);
+				}
+				throw ex;
+			}
+		}
+
+		Object singletonObject = null;
+		boolean newSingleton = false;
+		try {
+			singletonObject = singletonFactory.getObject();
+			newSingleton = true;
+		}
+		catch (IllegalStateException ex) {
+			// Has the singleton object implicitly appeared in the meantime ->
+			// if yes, proceed with it since the exception indicates that state.
+			singletonObject = this.singletonObjects.get(beanName);
+			if (singletonObject == null) {
+				throw ex;
+			}
+		}
+		finally {
+			synchronized (this.singletonObjects) {
+				try {
+					if (newSingleton) {
+						addSingleton(beanName, singletonObject);
+					}
+					afterSingletonCreation(beanName);
+				}
+				finally {
+					// Wake up threads waiting for this singleton, even if its creation failed
+					this.singletonCreationThreads.remove(beanName);
+					this.singletonObjects.notifyAll();
+				}
+			}
+		}
+		return (singletonObject != NULL_OBJECT ? singletonObject : null);
+	}
+
+	/**
+	 * Determine whether the given thread, which is creating a singleton, is
+	 * (directly or through further threads) waiting for a singleton that the
+	 * current thread is creating.
+	 */
+	private boolean isWaitingForCurrentThread(Thread creationThread) {
+		Thread currentThread = Thread.currentThread();
+		Thread thread = creationThread;
+		for (int i = 0; thread != null && i <= this.singletonWaitingThreads.size(); i++) {
+			if (thread == currentThread) {
+				return true;
+			}
+			String awaitedBean = this.singletonWaitingThreads.get(thread);
+			if (awaitedBean == null) {
+				return false;
+			}
+			thread = this.singletonCreationThreads.get(awaitedBean);
+		}
+		return false;
+	}
+
+	/**
+	 * Switch this registry into (or out of) parallel singleton creation.
+	 * <p>While active, singleton creation does not hold the registry monitor,
+	 * and singletons currently in creation in another thread are not exposed
+	 * as early references but rather waited for.
+	 * @param inParallel whether singletons may be created by several threads
+	 * @since 5.0
+	 * @see #getSingleton(String, ObjectFactory)
+	 * @see #isSingletonCurrentlyInCreation(String)
+	 */
+	protected void setSingletonCreationInParallel(boolean inParallel) {
+		this.singletonCreationInParallel = inParallel;
+	}
+
 	/**
 	 * Register an Exception that happened to get suppressed during the creation of a
 	 * singleton bean instance, e.g. a temporary circular reference resolution problem.
@@ -333,9 +475,35 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	/**
 	 * Return whether the specified singleton bean is currently in creation
 	 * (within the entire factory).
+	 * <p>During parallel singleton creation, only singletons created by the
+	 * current thread (or by a thread that the current thread is transitively
+	 * waiting on) are considered in creation, since singletons in creation
+	 * in unrelated threads will simply be waited for.
 	 * @param beanName the name of the bean
 	 */
 	public boolean isSingletonCurrentlyInCreation(String beanName) {
+		if (!this.singletonsCurrentlyInCreation.contains(beanName)) {
+			return false;
+		}
+		if (this.singletonCreationInParallel) {
+			Thread creationThread = this.singletonCreationThreads.get(beanName);
+			return (creationThread == null || isWaitingForCurrentThread(creationThread));
+		}
+		return true;
+	}
+
+	/**
+	 * Return whether the specified singleton bean is currently in creation in
+	 * any thread. Unlike {@link #isSingletonCurrentlyInCreation(String)}, this
+	 * includes singletons that another thread creates in parallel, e.g. in order
+	 * to not create a bean instance for a type check meanwhile.
+	 * <p>Needs to be called with the {@link #getSingletonMutex() singleton mutex}
+	 * held, which all threads hold when marking a singleton as in creation.
+	 * @param beanName the name of the bean
+	 * @since 5.0
+	 * @see #setSingletonCreationInParallel
+	 */
+	protected boolean isSingletonCurrentlyInCreationInAnyThread(String beanName) {
 		return this.singletonsCurrentlyInCreation.contains(beanName);
 	}
 
@@ -35,6 +35,9 @@ import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 import javax.annotation.Priority;
 import javax.security.auth.Subject;
 
@@ -56,6 +59,7 @@ import org.springframework.beans.TypeConverter;
 import org.springframework.beans.TypeMismatchException;
 import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
 import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinitionHolder;
 import org.springframework.beans.factory.config.BeanExpressionContext;
 import org.springframework.beans.factory.config.BeanExpressionResolver;
 import org.springframework.beans.factory.config.BeanPostProcessor;
@@ -71,6 +75,7 @@ import org.springframework.beans.factory.support.BeanDefinitionBuilder;
 import org.springframework.beans.factory.support.ChildBeanDefinition;
 import org.springframework.beans.factory.support.DefaultListableBeanFactory;
 import org.springframework.beans.factory.support.ManagedList;
+import org.springframework.beans.factory.support.ManagedMap;
 import org.springframework.beans.factory.support.PropertiesBeanDefinitionReader;
 import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.beans.factory.xml.ConstructorDependenciesBean;
@@ -2185,6 +2190,214 @@ public class DefaultListableBeanFactoryTests {
 		lbf.preInstantiateSingletons();
 	}
 
+	@Test
+	public void testParallelPreInstantiation() {
+		DefaultListableBeanFactory lbf = new DefaultListableBeanFactory();
+		CountDownLatch latch = new CountDownLatch(2);
+		RootBeanDefinition bd1 = new RootBeanDefinition(ParallelInitBean.class);
+		bd1.getConstructorArgumentValues().addGenericArgumentValue(latch);
+		lbf.registerBeanDefinition("bean1", bd1);
+		RootBeanDefinition bd2 = new RootBeanDefinition(ParallelInitBean.class);
+		bd2.getConstructorArgumentValues().addGenericArgumentValue(latch);
+		lbf.registerBeanDefinition("bean2", bd2);
+		RootBeanDefinition dependent = new RootBeanDefinition(TestBean.class);
+		ManagedMap<String, Object> someMap = new ManagedMap<>();
+		someMap.put("key", new RuntimeBeanReference("bean1"));
+		dependent.getPropertyValues().add("someMap", someMap);
+		lbf.registerBeanDefinition("dependent", dependent);
+		RootBeanDefinition lazy = new RootBeanDefinition(TestBean.class);
+		lazy.setLazyInit(true);
+		lbf.registerBeanDefinition("lazy", lazy);
+
+		ForkJoinPool executor = new ForkJoinPool(4);
+		try {
+			lbf.setPreInstantiationExecutor(executor);
+			lbf.preInstantiateSingletons();
+		}
+		finally {
+			executor.shutdown();
+		}
+
+		assertTrue(lbf.getBean("bean1", ParallelInitBean.class).initializedInParallel);
+		assertTrue(lbf.getBean("bean2", ParallelInitBean.class).initializedInParallel);
+		assertSame(lbf.getBean("bean1"), lbf.getBean("dependent", TestBean.class).getSomeMap().get("key"));
+		assertTrue(lbf.containsSingleton("dependent"));
+		assertFalse(lbf.containsSingleton("lazy"));
+	}
+
+	@Test
+	public void testParallelPreInstantiationWithCircularReferenceAcrossThreads() {
+		for (int i = 0; i < 10; i++) {
+			DefaultListableBeanFactory lbf = new DefaultListableBeanFactory();
+			CountDownLatch latch = new CountDownLatch(2);
+			RootBeanDefinition bd1 = new RootBeanDefinition(CircularParallelInitBean.class);
+			bd1.getConstructorArgumentValues().addGenericArgumentValue(latch);
+			bd1.setAutowireMode(AbstractBeanDefinition.AUTOWIRE_BY_TYPE);
+			lbf.registerBeanDefinition("bean1", bd1);
+			RootBeanDefinition bd2 = new RootBeanDefinition(OtherCircularParallelInitBean.class);
+			bd2.getConstructorArgumentValues().addGenericArgumentValue(latch);
+			bd2.setAutowireMode(AbstractBeanDefinition.AUTOWIRE_BY_TYPE);
+			lbf.registerBeanDefinition("bean2", bd2);
+
+			ForkJoinPool executor = new ForkJoinPool(2);
+			try {
+				lbf.setPreInstantiationExecutor(executor);
+				lbf.preInstantiateSingletons();
+			}
+			finally {
+				executor.shutdown();
+			}
+
+			CircularParallelInitBean bean1 = lbf.getBean(CircularParallelInitBean.class);
+			OtherCircularParallelInitBean bean2 = lbf.getBean(OtherCircularParallelInitBean.class);
+			assertSame(bean2, bean1.other);
+			assertSame(bean1, bean2.other);
+		}
+	}
+
+	@Test
+	public void testParallelPreInstantiationWithTypeLookupDuringFactoryBeanCreation() {
+		for (int i = 0; i < 10; i++) {
+			DefaultListableBeanFactory lbf = new DefaultListableBeanFactory();
+			lbf.registerBeanDefinition("fb", new RootBeanDefinition(SlowFactoryBean.class));
+			for (int j = 0; j < 3; j++) {
+				lbf.registerBeanDefinition("lookup" + j, new RootBeanDefinition(TypeLookupBean.class));
+			}
+
+			ForkJoinPool executor = new ForkJoinPool(4);
+			try {
+				lbf.setPreInstantiationExecutor(executor);
+				lbf.preInstantiateSingletons();
+			}
+			finally {
+				executor.shutdown();
+			}
+
+			assertEquals("slow", lbf.getBean("fb"));
+			assertTrue(lbf.containsSingleton("lookup0"));
+		}
+	}
+
+	@Test
+	public void testParallelPreInstantiationReportsFirstFailureInRegistrationOrder() {
+		for (int i = 0; i < 10; i++) {
+			DefaultListableBeanFactory lbf = new DefaultListableBeanFactory();
+			lbf.registerBeanDefinition("ok", new RootBeanDefinition(TestBean.class));
+			RootBeanDefinition bd1 = new RootBeanDefinition(BeanWithFailingInitMethod.class);
+			bd1.setInitMethodName("init");
+			lbf.registerBeanDefinition("first", bd1);
+			RootBeanDefinition bd2 = new RootBeanDefinition(BeanWithFailingInitMethod.class);
+			bd2.setInitMethodName("init");
+			lbf.registerBeanDefinition("second", bd2);
+
+			ForkJoinPool executor = new ForkJoinPool(4);
+			try {
+				lbf.setPreInstantiationExecutor(executor);
+				lbf.preInstantiateSingletons();
+				fail("Should have thrown BeanCreationException");
+			}
+			catch (BeanCreationException ex) {
+				assertEquals("first", ex.getBeanName());
+				assertEquals(1, ex.getRelatedCauses().length);
+				assertEquals("second", ((BeanCreationException) ex.getRelatedCauses()[0]).getBeanName());
+			}
+			finally {
+				executor.shutdown();
+			}
+		}
+	}
+
+	@Test
+	public void testLazyInitByDefault() {
+		DefaultListableBeanFactory lbf = new DefaultListableBeanFactory();
+		lbf.registerBeanDefinition("plain", new RootBeanDefinition(TestBean.class));
+		RootBeanDefinition eager = new RootBeanDefinition(TestBean.class);
+		eager.setLazyInit(false);
+		lbf.registerBeanDefinition("eager", eager);
+		RootBeanDefinition eagerParent = new RootBeanDefinition(TestBean.class);
+		eagerParent.setAbstract(true);
+		eagerParent.setLazyInit(false);
+		lbf.registerBeanDefinition("eagerParent", eagerParent);
+		lbf.registerBeanDefinition("plainChild", new ChildBeanDefinition("eagerParent"));
+		ChildBeanDefinition eagerChild = new ChildBeanDefinition("eagerParent");
+		eagerChild.setLazyInit(false);
+		lbf.registerBeanDefinition("eagerChild", eagerChild);
+		RootBeanDefinition infrastructure = new RootBeanDefinition(TestBean.class);
+		infrastructure.setRole(BeanDefinition.ROLE_INFRASTRUCTURE);
+		lbf.registerBeanDefinition("infrastructure", infrastructure);
+		lbf.registerBeanDefinition("smart", new RootBeanDefinition(SmartInitBean.class));
+		assertNull(((AbstractBeanDefinition) lbf.getBeanDefinition("plain")).getLazyInit());
+
+		lbf.setLazyInitByDefault(true);
+		lbf.preInstantiateSingletons();
+
+		assertFalse(lbf.containsSingleton("plain"));
+		assertTrue(lbf.containsSingleton("eager"));
+		assertFalse(lbf.containsSingleton("plainChild"));
+		assertTrue(lbf.containsSingleton("eagerChild"));
+		assertTrue(lbf.containsSingleton("infrastructure"));
+		assertTrue(lbf.containsSingleton("smart"));
+		assertTrue(lbf.getBean("smart", SmartInitBean.class).afterSingletonsInstantiatedCalled);
+		assertNotNull(lbf.getBean("plain"));
+		assertTrue(lbf.containsSingleton("plain"));
+	}
+
+	@Test
+	public void testLazyInitByDefaultWithoutEagerInitForTypeCheck() {
+		DefaultListableBeanFactory lbf = new DefaultListableBeanFactory();
+		RootBeanDefinition fb = new RootBeanDefinition(DummyFactory.class);
+		fb.setDecoratedDefinition(new BeanDefinitionHolder(new RootBeanDefinition(DummyFactory.class), "fb"));
+		lbf.registerBeanDefinition("fb", fb);
+		RootBeanDefinition eagerFb = new RootBeanDefinition(DummyFactory.class);
+		eagerFb.setDecoratedDefinition(new BeanDefinitionHolder(new RootBeanDefinition(DummyFactory.class), "eagerFb"));
+		eagerFb.setLazyInit(false);
+		lbf.registerBeanDefinition("eagerFb", eagerFb);
+		lbf.setLazyInitByDefault(true);
+
+		String[] beanNames = lbf.getBeanNamesForType(TestBean.class, true, false);
+		assertEquals(1, beanNames.length);
+		assertEquals("eagerFb", beanNames[0]);
+	}
+
+	@Test
+	public void testChildWithoutLazyInitFlagOverridesLazyParent() {
+		DefaultListableBeanFactory lbf = new DefaultListableBeanFactory();
+		RootBeanDefinition lazyParent = new RootBeanDefinition(TestBean.class);
+		lazyParent.setLazyInit(true);
+		lbf.registerBeanDefinition("lazyParent", lazyParent);
+		lbf.registerBeanDefinition("child", new ChildBeanDefinition("lazyParent"));
+
+		lbf.preInstantiateSingletons();
+
+		assertFalse(lbf.containsSingleton("lazyParent"));
+		assertFalse(lbf.getMergedBeanDefinition("child").isLazyInit());
+		assertTrue(lbf.containsSingleton("child"));
+	}
+
+	@Test
+	public void testLazyInitByDefaultWithParallelPreInstantiation() {
+		DefaultListableBeanFactory lbf = new DefaultListableBeanFactory();
+		lbf.registerBeanDefinition("plain", new RootBeanDefinition(TestBean.class));
+		RootBeanDefinition eager = new RootBeanDefinition(TestBean.class);
+		eager.setLazyInit(false);
+		lbf.registerBeanDefinition("eager", eager);
+		lbf.registerBeanDefinition("smart", new RootBeanDefinition(SmartInitBean.class));
+
+		ForkJoinPool executor = new ForkJoinPool(2);
+		try {
+			lbf.setLazyInitByDefault(true);
+			lbf.setPreInstantiationExecutor(executor);
+			lbf.preInstantiateSingletons();
+		}
+		finally {
+			executor.shutdown();
+		}
+
+		assertFalse(lbf.containsSingleton("plain"));
+		assertTrue(lbf.containsSingleton("eager"));
+		assertTrue(lbf.getBean("smart", SmartInitBean.class).afterSingletonsInstantiatedCalled);
+	}
+
 	@Test
 	public void testPrototypeStringCreatedRepeatedly() {
 		DefaultListableBeanFactory lbf = new DefaultListableBeanFactory();
@@ -2800,6 +3013,97 @@ public class DefaultListableBeanFactoryTests {
 	}
 
 
+	public static class ParallelInitBean {
+
+		public final boolean initializedInParallel;
+
+		public ParallelInitBean(CountDownLatch latch) throws InterruptedException {
+			latch.countDown();
+			this.initializedInParallel = latch.await(5, TimeUnit.SECONDS);
+		}
+	}
+
+
+	public static class CircularParallelInitBean extends ParallelInitBean {
+
+		public OtherCircularParallelInitBean other;
+
+		public CircularParallelInitBean(CountDownLatch latch) throws InterruptedException {
+			super(latch);
+		}
+
+		public void setOther(OtherCircularParallelInitBean other) {
+			this.other = other;
+		}
+	}
+
+
+	public static class OtherCircularParallelInitBean extends ParallelInitBean {
+
+		public CircularParallelInitBean other;
+
+		public OtherCircularParallelInitBean(CountDownLatch latch) throws InterruptedException {
+			super(latch);
+		}
+
+		public void setOther(CircularParallelInitBean other) {
+			this.other = other;
+		}
+	}
+
+
+	public static class SlowFactoryBean implements FactoryBean<String> {
+
+		public SlowFactoryBean() throws InterruptedException {
+			Thread.sleep(100);
+		}
+
+		@Override
+		public String getObject() {
+			return "slow";
+		}
+
+		@Override
+		public Class<?> getObjectType() {
+			return String.class;
+		}
+	}
+
+
+	public static class TypeLookupBean implements BeanFactoryAware {
+
+		@Override
+		public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+			try {
+				Thread.sleep(20);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			((ListableBeanFactory) beanFactory).getBeanNamesForType(String.class);
+		}
+	}
+
+
+	public static class BeanWithFailingInitMethod {
+
+		public void init() {
+			throw new IllegalStateException("Init failed");
+		}
+	}
+
+
+	public static class SmartInitBean implements SmartInitializingSingleton {
+
+		public boolean afterSingletonsInstantiatedCalled;
+
+		@Override
+		public void afterSingletonsInstantiated() {
+			this.afterSingletonsInstantiatedCalled = true;
+		}
+	}
+
+
 	public static class ConstructorDependency implements BeanNameAware {
 
 		public TestBean spouse;
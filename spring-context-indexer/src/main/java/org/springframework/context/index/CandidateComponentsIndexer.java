@@ -36,6 +36,10 @@ import javax.lang.model.element.TypeElement;
  * Annotation {@link Processor} that writes {@link CandidateComponentsMetadata}
  * file for spring components.
  *
+ * <p>Alongside the candidate types, a metadata snapshot of each candidate is
+ * written so that the annotation metadata of indexed components can be obtained
+ * at runtime without reading their class files.
+ *
  * @author Stephane Nicoll
  * @author Juergen Hoeller
  * @since 5.0
@@ -48,6 +52,8 @@ public class CandidateComponentsIndexer implements Processor {
 
 	private TypeHelper typeHelper;
 
+	private MetadataSnapshotWriter snapshotWriter;
+
 	private List<StereotypesProvider> stereotypesProviders;
 
 
@@ -70,6 +76,7 @@ public class CandidateComponentsIndexer implements Processor {
 	public synchronized void init(ProcessingEnvironment env) {
 		this.stereotypesProviders = getStereotypesProviders(env);
 		this.typeHelper = new TypeHelper(env);
+		this.snapshotWriter = new MetadataSnapshotWriter(env);
 		this.metadataStore = new MetadataStore(env);
 		this.metadataCollector = new MetadataCollector(env, this.metadataStore.readMetadata());
 	}
@@ -105,7 +112,8 @@ public class CandidateComponentsIndexer implements Processor {
 		Set<String> stereotypes = new LinkedHashSet<>();
 		this.stereotypesProviders.forEach(p -> stereotypes.addAll(p.getStereotypes(element)));
 		if (!stereotypes.isEmpty()) {
-			this.metadataCollector.add(new ItemMetadata(this.typeHelper.getType(element), stereotypes));
+			this.metadataCollector.add(new ItemMetadata(
+					this.typeHelper.getType(element), stereotypes, this.snapshotWriter.write(element)));
 		}
 	}
 
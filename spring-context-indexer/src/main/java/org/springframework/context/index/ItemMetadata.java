@@ -34,10 +34,17 @@ class ItemMetadata {
 
 	private final Set<String> stereotypes;
 
+	private final byte[] snapshot;
+
 
 	public ItemMetadata(String type, Set<String> stereotypes) {
+		this(type, stereotypes, null);
+	}
+
+	public ItemMetadata(String type, Set<String> stereotypes, byte[] snapshot) {
 		this.type = type;
 		this.stereotypes = new HashSet<>(stereotypes);
+		this.snapshot = snapshot;
 	}
 
 
@@ -49,4 +56,13 @@ class ItemMetadata {
 		return this.stereotypes;
 	}
 
+	/**
+	 * Return the metadata snapshot of the candidate, or {@code null} if none
+	 * could be recorded.
+	 * @see MetadataSnapshotWriter
+	 */
+	public byte[] getSnapshot() {
+		return this.snapshot;
+	}
+
 }
@@ -0,0 +1,397 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.index;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+/**
+ * Record the annotation-relevant structure of a type as a metadata snapshot,
+ * in the format that {@code org.springframework.core.type.classreading.MetadataSnapshot}
+ * replays at runtime: the class declaration, its inner class entries, and the
+ * class-retained annotations on the type and on its methods and constructors,
+ * with their explicitly specified values only (just like in the class file).
+ *
+ * @author agent
+ * @since 5.0
+ */
+class MetadataSnapshotWriter {
+
+	private static final int ACC_PUBLIC = 0x0001;
+
+	private static final int ACC_PRIVATE = 0x0002;
+
+	private static final int ACC_PROTECTED = 0x0004;
+
+	private static final int ACC_STATIC = 0x0008;
+
+	private static final int ACC_FINAL = 0x0010;
+
+	private static final int ACC_SYNCHRONIZED = 0x0020;
+
+	private static final int ACC_VARARGS = 0x0080;
+
+	private static final int ACC_NATIVE = 0x0100;
+
+	private static final int ACC_INTERFACE = 0x0200;
+
+	private static final int ACC_ABSTRACT = 0x0400;
+
+	private static final int ACC_ANNOTATION = 0x2000;
+
+	private static final int ACC_ENUM = 0x4000;
+
+	private static final String RETENTION_TYPE = "java.lang.annotation.Retention";
+
+
+	private final Elements elements;
+
+	private final Types types;
+
+
+	public MetadataSnapshotWriter(ProcessingEnvironment env) {
+		this.elements = env.getElementUtils();
+		this.types = env.getTypeUtils();
+	}
+
+
+	/**
+	 * Record a snapshot for the specified element.
+	 * @param element the element to handle
+	 * @return the snapshot content, or {@code null} if the element is not a type
+	 * or cannot be fully resolved in the current compilation
+	 */
+	public byte[] write(Element element) {
+		if (!(element instanceof TypeElement)) {
+			return null;
+		}
+		try {
+			ByteArrayOutputStream content = new ByteArrayOutputStream(256);
+			DataOutputStream out = new DataOutputStream(content);
+			writeType((TypeElement) element, out);
+			out.flush();
+			return content.toByteArray();
+		}
+		catch (IOException | UnresolvableTypeException ex) {
+			// Leave it to the runtime to read the class file instead
+			return null;
+		}
+	}
+
+	private void writeType(TypeElement type, DataOutputStream out) throws IOException {
+		out.writeInt(getClassAccess(type));
+		out.writeUTF(getInternalName(type));
+		TypeMirror superclass = type.getSuperclass();
+		out.writeUTF(superclass.getKind() == TypeKind.DECLARED ?
+				getInternalName((TypeElement) ((DeclaredType) superclass).asElement()) :
+				(type.getKind().isInterface() ? "java/lang/Object" : ""));
+		List<? extends TypeMirror> interfaces = type.getInterfaces();
+		out.writeShort(interfaces.size());
+		for (TypeMirror ifc : interfaces) {
+			out.writeUTF(getInternalName(asTypeElement(ifc)));
+		}
+
+		Element enclosing = type.getEnclosingElement();
+		if (enclosing instanceof TypeElement) {
+			writeInnerClass(type, (TypeElement) enclosing, out);
+		}
+		for (Element member : type.getEnclosedElements()) {
+			if (member instanceof TypeElement) {
+				writeInnerClass((TypeElement) member, type, out);
+			}
+		}
+
+		for (AnnotationMirror annotation : getRetainedAnnotations(type)) {
+			out.writeByte('A');
+			writeAnnotation(annotation, true, out);
+		}
+
+		for (Element member : type.getEnclosedElements()) {
+			if (member.getKind() == ElementKind.METHOD || member.getKind() == ElementKind.CONSTRUCTOR) {
+				List<AnnotationMirror> annotations = getRetainedAnnotations(member);
+				if (!annotations.isEmpty()) {
+					ExecutableElement method = (ExecutableElement) member;
+					out.writeByte('M');
+					out.writeInt(getMethodAccess(method, type));
+					out.writeUTF(method.getKind() == ElementKind.CONSTRUCTOR ?
+							"<init>" : method.getSimpleName().toString());
+					out.writeUTF(getMethodDescriptor(method));
+					out.writeShort(annotations.size());
+					for (AnnotationMirror annotation : annotations) {
+						writeAnnotation(annotation, true, out);
+					}
+				}
+			}
+		}
+		out.writeByte('E');
+	}
+
+	private void writeInnerClass(TypeElement inner, TypeElement outer, DataOutputStream out) throws IOException {
+		int access = getClassAccess(inner);
+		Set<Modifier> modifiers = inner.getModifiers();
+		if (modifiers.contains(Modifier.STATIC) || inner.getKind() != ElementKind.CLASS ||
+				outer.getKind().isInterface()) {
+			access |= ACC_STATIC;
+		}
+		if (modifiers.contains(Modifier.PRIVATE)) {
+			access |= ACC_PRIVATE;
+		}
+		if (modifiers.contains(Modifier.PROTECTED)) {
+			access |= ACC_PROTECTED;
+		}
+		out.writeByte('N');
+		out.writeInt(access);
+		out.writeUTF(getInternalName(inner));
+		out.writeUTF(getInternalName(outer));
+		out.writeUTF(inner.getSimpleName().toString());
+	}
+
+	private void writeAnnotation(AnnotationMirror annotation, boolean withVisibility, DataOutputStream out)
+			throws IOException {
+
+		out.writeUTF(getDescriptor(annotation.getAnnotationType()));
+		if (withVisibility) {
+			out.writeBoolean("RUNTIME".equals(getRetention(annotation)));
+		}
+		Map<? extends ExecutableElement, ? extends AnnotationValue> values = annotation.getElementValues();
+		out.writeShort(values.size());
+		for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : values.entrySet()) {
+			out.writeUTF(entry.getKey().getSimpleName().toString());
+			writeValue(entry.getValue().getValue(), out);
+		}
+	}
+
+	private void writeValue(Object value, DataOutputStream out) throws IOException {
+		if (value instanceof Boolean) {
+			out.writeByte('Z');
+			out.writeBoolean((Boolean) value);
+		}
+		else if (value instanceof Byte) {
+			out.writeByte('B');
+			out.writeByte((Byte) value);
+		}
+		else if (value instanceof Character) {
+			out.writeByte('C');
+			out.writeChar((Character) value);
+		}
+		else if (value instanceof Short) {
+			out.writeByte('S');
+			out.writeShort((Short) value);
+		}
+		else if (value instanceof Integer) {
+			out.writeByte('I');
+			out.writeInt((Integer) value);
+		}
+		else if (value instanceof Long) {
+			out.writeByte('J');
+			out.writeLong((Long) value);
+		}
+		else if (value instanceof Float) {
+			out.writeByte('F');
+			out.writeFloat((Float) value);
+		}
+		else if (value instanceof Double) {
+			out.writeByte('D');
+			out.writeDouble((Double) value);
+		}
+		else if (value instanceof String) {
+			out.writeByte('s');
+			out.writeUTF((String) value);
+		}
+		else if (value instanceof TypeMirror) {
+			out.writeByte('c');
+			out.writeUTF(getDescriptor((TypeMirror) value));
+		}
+		else if (value instanceof VariableElement) {
+			out.writeByte('e');
+			out.writeUTF(getDescriptor(((VariableElement) value).asType()));
+			out.writeUTF(((VariableElement) value).getSimpleName().toString());
+		}
+		else if (value instanceof AnnotationMirror) {
+			out.writeByte('@');
+			writeAnnotation((AnnotationMirror) value, false, out);
+		}
+		else if (value instanceof List) {
+			List<?> elements = (List<?>) value;
+			out.writeByte('[');
+			out.writeShort(elements.size());
+			for (Object element : elements) {
+				writeValue(((AnnotationValue) element).getValue(), out);
+			}
+		}
+		else {
+			// Erroneous value, e.g. referring to a type that does not exist (yet)
+			throw new UnresolvableTypeException();
+		}
+	}
+
+	private List<AnnotationMirror> getRetainedAnnotations(Element element) {
+		List<AnnotationMirror> annotations = new ArrayList<>();
+		for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+			if (!"SOURCE".equals(getRetention(annotation))) {
+				annotations.add(annotation);
+			}
+		}
+		return annotations;
+	}
+
+	private String getRetention(AnnotationMirror annotation) {
+		Element annotationType = annotation.getAnnotationType().asElement();
+		for (AnnotationMirror metaAnnotation : annotationType.getAnnotationMirrors()) {
+			if (RETENTION_TYPE.equals(asTypeElement(metaAnnotation.getAnnotationType()).getQualifiedName().toString())) {
+				for (AnnotationValue value : metaAnnotation.getElementValues().values()) {
+					return ((VariableElement) value.getValue()).getSimpleName().toString();
+				}
+			}
+		}
+		return "CLASS";
+	}
+
+	private int getClassAccess(TypeElement type) {
+		Set<Modifier> modifiers = type.getModifiers();
+		int access = 0;
+		if (modifiers.contains(Modifier.PUBLIC)) {
+			access |= ACC_PUBLIC;
+		}
+		if (modifiers.contains(Modifier.FINAL)) {
+			access |= ACC_FINAL;
+		}
+		if (modifiers.contains(Modifier.ABSTRACT)) {
+			access |= ACC_ABSTRACT;
+		}
+		if (type.getKind().isInterface()) {
+			access |= ACC_INTERFACE | ACC_ABSTRACT;
+		}
+		if (type.getKind() == ElementKind.ANNOTATION_TYPE) {
+			access |= ACC_ANNOTATION;
+		}
+		if (type.getKind() == ElementKind.ENUM) {
+			access |= ACC_ENUM;
+		}
+		return access;
+	}
+
+	private int getMethodAccess(ExecutableElement method, TypeElement declaringType) {
+		Set<Modifier> modifiers = method.getModifiers();
+		int access = 0;
+		if (modifiers.contains(Modifier.PUBLIC)) {
+			access |= ACC_PUBLIC;
+		}
+		if (modifiers.contains(Modifier.PRIVATE)) {
+			access |= ACC_PRIVATE;
+		}
+		if (modifiers.contains(Modifier.PROTECTED)) {
+			access |= ACC_PROTECTED;
+		}
+		if (modifiers.contains(Modifier.STATIC)) {
+			access |= ACC_STATIC;
+		}
+		if (modifiers.contains(Modifier.FINAL)) {
+			access |= ACC_FINAL;
+		}
+		if (modifiers.contains(Modifier.SYNCHRONIZED)) {
+			access |= ACC_SYNCHRONIZED;
+		}
+		if (modifiers.contains(Modifier.NATIVE)) {
+			access |= ACC_NATIVE;
+		}
+		if (modifiers.contains(Modifier.ABSTRACT)) {
+			access |= ACC_ABSTRACT;
+		}
+		if (declaringType.getKind().isInterface() && method.getKind() == ElementKind.METHOD &&
+				!modifiers.contains(Modifier.DEFAULT) && !modifiers.contains(Modifier.STATIC) &&
+				!modifiers.contains(Modifier.PRIVATE)) {
+			access |= ACC_PUBLIC | ACC_ABSTRACT;
+		}
+		if (method.isVarArgs()) {
+			access |= ACC_VARARGS;
+		}
+		return access;
+	}
+
+	private String getMethodDescriptor(ExecutableElement method) {
+		StringBuilder descriptor = new StringBuilder("(");
+		for (VariableElement parameter : method.getParameters()) {
+			descriptor.append(getDescriptor(parameter.asType()));
+		}
+		descriptor.append(')');
+		descriptor.append(method.getKind() == ElementKind.CONSTRUCTOR ? "V" : getDescriptor(method.getReturnType()));
+		return descriptor.toString();
+	}
+
+	private String getDescriptor(TypeMirror type) {
+		if (type == null) {
+			throw new UnresolvableTypeException();
+		}
+		TypeMirror erasure = this.types.erasure(type);
+		switch (erasure.getKind()) {
+			case BOOLEAN: return "Z";
+			case BYTE: return "B";
+			case SHORT: return "S";
+			case INT: return "I";
+			case LONG: return "J";
+			case CHAR: return "C";
+			case FLOAT: return "F";
+			case DOUBLE: return "D";
+			case VOID: return "V";
+			case ARRAY: return "[" + getDescriptor(((ArrayType) erasure).getComponentType());
+			case DECLARED: return "L" + getInternalName(asTypeElement(erasure)) + ";";
+			default: throw new UnresolvableTypeException();
+		}
+	}
+
+	private TypeElement asTypeElement(TypeMirror type) {
+		if (type.getKind() != TypeKind.DECLARED) {
+			throw new UnresolvableTypeException();
+		}
+		return (TypeElement) ((DeclaredType) type).asElement();
+	}
+
+	private String getInternalName(TypeElement type) {
+		return this.elements.getBinaryName(type).toString().replace('.', '/');
+	}
+
+
+	/**
+	 * Thrown if a type cannot be resolved, e.g. since it is about to be
+	 * generated by another annotation processor.
+	 */
+	@SuppressWarnings("serial")
+	private static class UnresolvableTypeException extends RuntimeException {
+	}
+
+}
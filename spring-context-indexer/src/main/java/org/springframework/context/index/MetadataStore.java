@@ -19,12 +19,14 @@ package org.springframework.context.index;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.Map;
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.tools.FileObject;
 import javax.tools.StandardLocation;
 
 /**
- * Store {@link CandidateComponentsMetadata} on the filesystem.
+ * Store {@link CandidateComponentsMetadata} on the filesystem, with the
+ * metadata snapshots of the candidates being stored in a separate file.
  *
  * @author Stephane Nicoll
  * @since 5.0
@@ -33,6 +35,8 @@ class MetadataStore {
 
 	static final String METADATA_PATH = "META-INF/spring.components";
 
+	static final String SNAPSHOT_PATH = "META-INF/spring.components.snapshot";
+
 	private final ProcessingEnvironment environment;
 
 
@@ -42,13 +46,27 @@ class MetadataStore {
 
 
 	public CandidateComponentsMetadata readMetadata() {
+		CandidateComponentsMetadata metadata;
 		try {
-			return readMetadata(getMetadataResource().openInputStream());
+			metadata = readMetadata(getMetadataResource().openInputStream());
 		}
 		catch (IOException ex) {
 			// Failed to read metadata -> ignore.
 			return null;
 		}
+		Map<String, byte[]> snapshots;
+		try (InputStream in = getResource(SNAPSHOT_PATH).openInputStream()) {
+			snapshots = SnapshotMarshaller.read(in);
+		}
+		catch (IOException ex) {
+			// Failed to read snapshots -> keep the metadata without them.
+			return metadata;
+		}
+		CandidateComponentsMetadata result = new CandidateComponentsMetadata();
+		for (ItemMetadata item : metadata.getItems()) {
+			result.add(new ItemMetadata(item.getType(), item.getStereotypes(), snapshots.get(item.getType())));
+		}
+		return result;
 	}
 
 	public void writeMetadata(CandidateComponentsMetadata metadata) throws IOException {
@@ -56,6 +74,9 @@ class MetadataStore {
 			try (OutputStream outputStream = createMetadataResource().openOutputStream()) {
 				PropertiesMarshaller.write(metadata, outputStream);
 			}
+			try (OutputStream outputStream = createResource(SNAPSHOT_PATH).openOutputStream()) {
+				SnapshotMarshaller.write(metadata, outputStream);
+			}
 		}
 	}
 
@@ -70,11 +91,19 @@ class MetadataStore {
 	}
 
 	private FileObject getMetadataResource() throws IOException {
-		return this.environment.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", METADATA_PATH);
+		return getResource(METADATA_PATH);
 	}
 
 	private FileObject createMetadataResource() throws IOException {
-		return this.environment.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", METADATA_PATH);
+		return createResource(METADATA_PATH);
+	}
+
+	private FileObject getResource(String path) throws IOException {
+		return this.environment.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", path);
+	}
+
+	private FileObject createResource(String path) throws IOException {
+		return this.environment.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", path);
 	}
 
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.index;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Marshaller to write the metadata snapshots of {@link CandidateComponentsMetadata}
+ * in the binary format read by {@code MetadataSnapshot.readSnapshots} at runtime.
+ *
+ * @author agent
+ * @since 5.0
+ */
+abstract class SnapshotMarshaller {
+
+	static final short FORMAT_VERSION = 1;
+
+
+	public static void write(CandidateComponentsMetadata metadata, OutputStream out) throws IOException {
+		DataOutputStream output = new DataOutputStream(out);
+		output.writeShort(FORMAT_VERSION);
+		for (ItemMetadata item : metadata.getItems()) {
+			byte[] snapshot = item.getSnapshot();
+			if (snapshot != null) {
+				output.writeUTF(item.getType());
+				output.writeInt(snapshot.length);
+				output.write(snapshot);
+			}
+		}
+		output.flush();
+	}
+
+	public static Map<String, byte[]> read(InputStream in) throws IOException {
+		Map<String, byte[]> result = new LinkedHashMap<>();
+		DataInputStream input = new DataInputStream(in);
+		if (input.readShort() != FORMAT_VERSION) {
+			// Written by a different version of the indexer -> ignore.
+			return result;
+		}
+		while (true) {
+			String type;
+			try {
+				type = input.readUTF();
+			}
+			catch (EOFException ex) {
+				return result;
+			}
+			byte[] snapshot = new byte[input.readInt()];
+			input.readFully(snapshot);
+			result.put(type, snapshot);
+		}
+	}
+
+}
@@ -19,6 +19,9 @@ package org.springframework.context.index;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import javax.annotation.ManagedBean;
 import javax.inject.Named;
 import javax.persistence.Converter;
@@ -32,9 +35,11 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
 
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.index.sample.AbstractController;
 import org.springframework.context.index.sample.MetaControllerIndexed;
 import org.springframework.context.index.sample.SampleComponent;
+import org.springframework.context.index.sample.SampleConfiguration;
 import org.springframework.context.index.sample.SampleController;
 import org.springframework.context.index.sample.SampleMetaController;
 import org.springframework.context.index.sample.SampleMetaIndexedController;
@@ -54,7 +59,16 @@ import org.springframework.context.index.sample.type.SampleSpecializedRepo;
 import org.springframework.context.index.sample.type.SmartRepo;
 import org.springframework.context.index.sample.type.SpecializedRepo;
 import org.springframework.context.index.test.TestCompiler;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.MethodMetadata;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataSnapshot;
+import org.springframework.core.type.classreading.SimpleMetadataReaderFactory;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ObjectUtils;
 
 import static org.hamcrest.Matchers.*;
 import static org.junit.Assert.*;
@@ -198,6 +212,37 @@ public class CandidateComponentsIndexerTests {
 		testSingleComponent(Repo.class, Repo.class);
 	}
 
+	@Test
+	public void metadataSnapshotMatchesClassFile() throws IOException {
+		compile(SampleConfiguration.class);
+		List<MetadataSnapshot> snapshots = readGeneratedSnapshots(this.compiler.getOutputLocation());
+		assertThat(snapshots, hasSize(1));
+		for (MetadataSnapshot snapshot : snapshots) {
+			Resource resource = new FileSystemResource(new File(this.compiler.getOutputLocation(),
+					ClassUtils.convertClassNameToResourcePath(snapshot.getClassName()) + ClassUtils.CLASS_FILE_SUFFIX));
+			MetadataReader expected = new SimpleMetadataReaderFactory().getMetadataReader(resource);
+			MetadataReader actual = snapshot.getMetadataReader(resource, getClass().getClassLoader());
+			assertSameMetadata(expected.getAnnotationMetadata(), actual.getAnnotationMetadata());
+		}
+	}
+
+	@Test
+	public void metadataSnapshotWithBeanMethods() throws IOException {
+		compile(SampleConfiguration.class);
+		MetadataSnapshot snapshot = readGeneratedSnapshots(this.compiler.getOutputLocation()).get(0);
+		assertEquals(SampleConfiguration.class.getName(), snapshot.getClassName());
+		AnnotationMetadata metadata = snapshot.getMetadataReader(
+				new FileSystemResource("SampleConfiguration.class"), getClass().getClassLoader()).getAnnotationMetadata();
+		Set<MethodMetadata> beanMethods = metadata.getAnnotatedMethods(Bean.class.getName());
+		assertThat(beanMethods, hasSize(2));
+		MethodMetadata one = beanMethods.iterator().next();
+		assertEquals("one", one.getMethodName());
+		assertArrayEquals(new String[] {"one", "first"},
+				(String[]) one.getAnnotationAttributes(Bean.class.getName()).get("name"));
+		assertEquals("init", one.getAnnotationAttributes(Bean.class.getName()).get("initMethod"));
+		assertThat(metadata.getMemberClassNames(), arrayContaining(SampleConfiguration.Nested.class.getName()));
+	}
+
 
 	private void testComponent(Class<?>... classes) throws IOException {
 		CandidateComponentsMetadata metadata = compile(classes);
@@ -225,6 +270,53 @@ public class CandidateComponentsIndexerTests {
 		return readGeneratedMetadata(this.compiler.getOutputLocation());
 	}
 
+	private List<MetadataSnapshot> readGeneratedSnapshots(File outputLocation) throws IOException {
+		return MetadataSnapshot.readSnapshots(
+				new FileInputStream(new File(outputLocation, MetadataStore.SNAPSHOT_PATH)));
+	}
+
+	private void assertSameMetadata(AnnotationMetadata expected, AnnotationMetadata actual) {
+		assertEquals(expected.getClassName(), actual.getClassName());
+		assertEquals(expected.getSuperClassName(), actual.getSuperClassName());
+		assertArrayEquals(expected.getInterfaceNames(), actual.getInterfaceNames());
+		assertEquals(expected.getEnclosingClassName(), actual.getEnclosingClassName());
+		assertArrayEquals(expected.getMemberClassNames(), actual.getMemberClassNames());
+		assertEquals(expected.isInterface(), actual.isInterface());
+		assertEquals(expected.isAbstract(), actual.isAbstract());
+		assertEquals(expected.isFinal(), actual.isFinal());
+		assertEquals(expected.isIndependent(), actual.isIndependent());
+		assertEquals(expected.getAnnotationTypes(), actual.getAnnotationTypes());
+		for (String annotationType : expected.getAnnotationTypes()) {
+			assertEquals(expected.getMetaAnnotationTypes(annotationType), actual.getMetaAnnotationTypes(annotationType));
+			assertSameAttributes(expected.getAnnotationAttributes(annotationType, true),
+					actual.getAnnotationAttributes(annotationType, true));
+			assertSameAttributes(expected.getAnnotationAttributes(annotationType, false),
+					actual.getAnnotationAttributes(annotationType, false));
+		}
+		Set<MethodMetadata> expectedMethods = expected.getAnnotatedMethods(Bean.class.getName());
+		Set<MethodMetadata> actualMethods = actual.getAnnotatedMethods(Bean.class.getName());
+		assertEquals(expectedMethods.size(), actualMethods.size());
+		for (MethodMetadata expectedMethod : expectedMethods) {
+			MethodMetadata actualMethod = actualMethods.stream()
+					.filter(method -> method.getMethodName().equals(expectedMethod.getMethodName()))
+					.findFirst().orElseThrow(() -> new AssertionError(expectedMethod.getMethodName()));
+			assertEquals(expectedMethod.getReturnTypeName(), actualMethod.getReturnTypeName());
+			assertEquals(expectedMethod.isStatic(), actualMethod.isStatic());
+			assertEquals(expectedMethod.isFinal(), actualMethod.isFinal());
+			assertEquals(expectedMethod.isOverridable(), actualMethod.isOverridable());
+			assertSameAttributes(expectedMethod.getAnnotationAttributes(Bean.class.getName(), true),
+					actualMethod.getAnnotationAttributes(Bean.class.getName(), true));
+		}
+	}
+
+	private void assertSameAttributes(Map<String, Object> expected, Map<String, Object> actual) {
+		assertEquals(expected.keySet(), actual.keySet());
+		for (String name : expected.keySet()) {
+			assertTrue("Mismatch for attribute '" + name + "': expected " + expected + " but was " + actual,
+					ObjectUtils.nullSafeEquals(expected.get(name), actual.get(name)));
+		}
+	}
+
 	private CandidateComponentsMetadata readGeneratedMetadata(File outputLocation) {
 		try {
 			File metadataFile = new File(outputLocation,
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.index.sample;
+
+import java.lang.annotation.ElementType;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.annotation.Scope;
+import org.springframework.context.annotation.ScopedProxyMode;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Test candidate for {@link Configuration}, exercising a variety of
+ * annotation attribute types.
+ *
+ * @author agent
+ */
+@Configuration
+@Import(SampleComponent.class)
+@SampleAttributes(numbers = {1, 2}, separator = ';', timeout = 10L, flags = true,
+		types = {SampleService.class, String[].class, int.class}, target = ElementType.METHOD,
+		orders = {@Order(1), @Order}, names = {})
+@Profile({"dev", "test"})
+@Scope(proxyMode = ScopedProxyMode.TARGET_CLASS)
+public class SampleConfiguration {
+
+	@Bean(name = {"one", "first"}, initMethod = "init")
+	@Order(5)
+	public String one() {
+		return "one";
+	}
+
+	@Bean
+	@Lazy(false)
+	static Integer two() {
+		return 2;
+	}
+
+	public SampleConfiguration() {
+	}
+
+
+	@Configuration
+	public static class Nested {
+
+		@Bean
+		protected Long three() {
+			return 3L;
+		}
+	}
+
+}
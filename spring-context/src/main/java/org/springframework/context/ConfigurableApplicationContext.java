@@ -24,6 +24,7 @@ import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.core.env.Environment;
 import org.springframework.core.io.ProtocolResolver;
+import org.springframework.core.metrics.ApplicationStartup;
 import org.springframework.lang.Nullable;
 
 /**
@@ -118,6 +119,26 @@ public interface ConfigurableApplicationContext extends ApplicationContext, Life
 	@Override
 	ConfigurableEnvironment getEnvironment();
 
+	/**
+	 * Set the {@link ApplicationStartup} for this application context.
+	 * <p>This allows the application context to record metrics during startup:
+	 * a "spring.context.refresh" step with nested steps for the refresh phases
+	 * (e.g. "spring.context.beanfactory.post-process" and
+	 * "spring.context.singletons.instantiate"), each post-processor invocation,
+	 * and each bean creation as recorded by the internal bean factory.
+	 * To be invoked during context configuration, i.e. before refresh.
+	 * @param applicationStartup the new application startup
+	 * @since 5.0
+	 * @see org.springframework.beans.factory.config.ConfigurableBeanFactory#setApplicationStartup
+	 */
+	void setApplicationStartup(ApplicationStartup applicationStartup);
+
+	/**
+	 * Return the {@link ApplicationStartup} for this application context.
+	 * @since 5.0
+	 */
+	ApplicationStartup getApplicationStartup();
+
 	/**
 	 * Add a new BeanFactoryPostProcessor that will get applied to the internal
 	 * bean factory of this application context on refresh, before any of the
@@ -18,11 +18,15 @@ package org.springframework.context.annotation;
 
 import java.io.IOException;
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -42,12 +46,15 @@ import org.springframework.core.env.EnvironmentCapable;
 import org.springframework.core.env.StandardEnvironment;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.core.io.support.ResourcePatternResolver;
 import org.springframework.core.io.support.ResourcePatternUtils;
 import org.springframework.core.type.AnnotationMetadata;
 import org.springframework.core.type.classreading.CachingMetadataReaderFactory;
 import org.springframework.core.type.classreading.MetadataReader;
 import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.core.type.classreading.MetadataSnapshot;
+import org.springframework.core.type.classreading.PersistentMetadataReaderFactory;
 import org.springframework.core.type.filter.AnnotationTypeFilter;
 import org.springframework.core.type.filter.AssignableTypeFilter;
 import org.springframework.core.type.filter.TypeFilter;
@@ -107,6 +114,8 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 
 	private CandidateComponentsIndex componentsIndex;
 
+	private Executor scanningExecutor;
+
 
 	/**
 	 * Protected constructor for flexible subclass initialization.
@@ -283,6 +292,33 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 		return this.metadataReaderFactory;
 	}
 
+	/**
+	 * Set an {@link Executor} for reading and filtering the class files of a
+	 * base package concurrently. Default is none, scanning in the calling thread.
+	 * <p>Candidate components are returned in the same order as for sequential
+	 * scanning, i.e. in the order of the underlying class path resources.
+	 * Exclude and include filters, {@code @Conditional} conditions and the
+	 * {@link MetadataReaderFactory} need to be thread-safe, which is the case
+	 * for the default filters and for the common factory implementations.
+	 * <p>In order to also traverse several jar files for the same base package
+	 * concurrently, specify a {@link PathMatchingResourcePatternResolver} with
+	 * an {@link PathMatchingResourcePatternResolver#setExecutor executor} as
+	 * {@link #setResourceLoader resource loader}.
+	 * @since 5.0
+	 */
+	public void setScanningExecutor(@Nullable Executor scanningExecutor) {
+		this.scanningExecutor = scanningExecutor;
+	}
+
+	/**
+	 * Return the {@link Executor} for scanning class files concurrently, if any.
+	 * @since 5.0
+	 */
+	@Nullable
+	public Executor getScanningExecutor() {
+		return this.scanningExecutor;
+	}
+
 
 	/**
 	 * Scan the class path for candidate components.
@@ -368,7 +404,7 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 			boolean traceEnabled = logger.isTraceEnabled();
 			boolean debugEnabled = logger.isDebugEnabled();
 			for (String type : types) {
-				MetadataReader metadataReader = this.metadataReaderFactory.getMetadataReader(type);
+				MetadataReader metadataReader = getIndexedMetadataReader(type);
 				if (isCandidateComponent(metadataReader)) {
 					AnnotatedGenericBeanDefinition sbd = new AnnotatedGenericBeanDefinition(
 							metadataReader.getAnnotationMetadata());
@@ -397,51 +433,63 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 		return candidates;
 	}
 
+	/**
+	 * Obtain a {@link MetadataReader} for the given indexed type, replaying the
+	 * {@link MetadataSnapshot} recorded at build time if available and falling
+	 * back to reading the class file otherwise.
+	 * @param type the fully qualified name of the indexed type
+	 */
+	private MetadataReader getIndexedMetadataReader(String type) throws IOException {
+		MetadataSnapshot snapshot = this.componentsIndex.getMetadataSnapshot(type);
+		if (snapshot != null) {
+			Resource resource = this.resourcePatternResolver.getResource(ResourceLoader.CLASSPATH_URL_PREFIX +
+					ClassUtils.convertClassNameToResourcePath(type) + ClassUtils.CLASS_FILE_SUFFIX);
+			return snapshot.getMetadataReader(resource, this.resourcePatternResolver.getClassLoader());
+		}
+		return this.metadataReaderFactory.getMetadataReader(type);
+	}
+
 	private Set<BeanDefinition> scanCandidateComponents(String basePackage) {
 		Set<BeanDefinition> candidates = new LinkedHashSet<>();
 		try {
 			String packageSearchPath = ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX +
 					resolveBasePackage(basePackage) + '/' + this.resourcePattern;
 			Resource[] resources = this.resourcePatternResolver.getResources(packageSearchPath);
-			boolean traceEnabled = logger.isTraceEnabled();
-			boolean debugEnabled = logger.isDebugEnabled();
-			for (Resource resource : resources) {
-				if (traceEnabled) {
-					logger.trace("Scanning " + resource);
+			if (this.scanningExecutor != null && resources.length > 1) {
+				if (this.conditionEvaluator == null) {
+					// Initialize upfront rather than lazily from several scanning threads
+					this.conditionEvaluator =
+							new ConditionEvaluator(getRegistry(), getEnvironment(), getResourceLoader());
+				}
+				List<CompletableFuture<ScannedGenericBeanDefinition>> futures = new ArrayList<>(resources.length);
+				for (Resource resource : resources) {
+					futures.add(CompletableFuture.supplyAsync(
+							() -> scanCandidateComponent(resource), this.scanningExecutor));
 				}
-				if (resource.isReadable()) {
+				for (CompletableFuture<ScannedGenericBeanDefinition> future : futures) {
 					try {
-						MetadataReader metadataReader = this.metadataReaderFactory.getMetadataReader(resource);
-						if (isCandidateComponent(metadataReader)) {
-							ScannedGenericBeanDefinition sbd = new ScannedGenericBeanDefinition(metadataReader);
-							sbd.setResource(resource);
-							sbd.setSource(resource);
-							if (isCandidateComponent(sbd)) {
-								if (debugEnabled) {
-									logger.debug("Identified candidate component class: " + resource);
-								}
-								candidates.add(sbd);
-							}
-							else {
-								if (debugEnabled) {
-									logger.debug("Ignored because not a concrete top-level class: " + resource);
-								}
-							}
-						}
-						else {
-							if (traceEnabled) {
-								logger.trace("Ignored because not matching any filter: " + resource);
-							}
+						ScannedGenericBeanDefinition candidate = future.join();
+						if (candidate != null) {
+							candidates.add(candidate);
 						}
 					}
-					catch (Throwable ex) {
-						throw new BeanDefinitionStoreException(
-								"Failed to read candidate component class: " + resource, ex);
+					catch (CompletionException ex) {
+						Throwable cause = ex.getCause();
+						if (cause instanceof RuntimeException) {
+							throw (RuntimeException) cause;
+						}
+						if (cause instanceof Error) {
+							throw (Error) cause;
+						}
+						throw ex;
 					}
 				}
-				else {
-					if (traceEnabled) {
-						logger.trace("Ignored because not readable: " + resource);
+			}
+			else {
+				for (Resource resource : resources) {
+					ScannedGenericBeanDefinition candidate = scanCandidateComponent(resource);
+					if (candidate != null) {
+						candidates.add(candidate);
 					}
 				}
 			}
@@ -452,6 +500,57 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 		return candidates;
 	}
 
+	/**
+	 * Read and check the given class path resource, as part of a scan.
+	 * @param resource the class file resource
+	 * @return the corresponding bean definition, or {@code null} if the
+	 * resource does not qualify as candidate component
+	 */
+	@Nullable
+	private ScannedGenericBeanDefinition scanCandidateComponent(Resource resource) {
+		boolean traceEnabled = logger.isTraceEnabled();
+		boolean debugEnabled = logger.isDebugEnabled();
+		if (traceEnabled) {
+			logger.trace("Scanning " + resource);
+		}
+		if (resource.isReadable()) {
+			try {
+				MetadataReader metadataReader = this.metadataReaderFactory.getMetadataReader(resource);
+				if (isCandidateComponent(metadataReader)) {
+					ScannedGenericBeanDefinition sbd = new ScannedGenericBeanDefinition(metadataReader);
+					sbd.setResource(resource);
+					sbd.setSource(resource);
+					if (isCandidateComponent(sbd)) {
+						if (debugEnabled) {
+							logger.debug("Identified candidate component class: " + resource);
+						}
+						return sbd;
+					}
+					else {
+						if (debugEnabled) {
+							logger.debug("Ignored because not a concrete top-level class: " + resource);
+						}
+					}
+				}
+				else {
+					if (traceEnabled) {
+						logger.trace("Ignored because not matching any filter: " + resource);
+					}
+				}
+			}
+			catch (Throwable ex) {
+				throw new BeanDefinitionStoreException(
+						"Failed to read candidate component class: " + resource, ex);
+			}
+		}
+		else {
+			if (traceEnabled) {
+				logger.trace("Ignored because not readable: " + resource);
+			}
+		}
+		return null;
+	}
+
 
 	/**
 	 * Resolve the specified base package into a pattern specification for
@@ -515,6 +614,7 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 
 	/**
 	 * Clear the local metadata cache, if any, removing all cached class metadata.
+	 * <p>A {@link PersistentMetadataReaderFactory} gets its metadata persisted instead.
 	 */
 	public void clearCache() {
 		if (this.metadataReaderFactory instanceof CachingMetadataReaderFactory) {
@@ -522,6 +622,14 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 			// for a shared cache since it'll be cleared by the ApplicationContext.
 			((CachingMetadataReaderFactory) this.metadataReaderFactory).clearCache();
 		}
+		else if (this.metadataReaderFactory instanceof PersistentMetadataReaderFactory) {
+			try {
+				((PersistentMetadataReaderFactory) this.metadataReaderFactory).persist();
+			}
+			catch (IOException ex) {
+				logger.warn("Failed to persist class metadata cache", ex);
+			}
+		}
 	}
 
 }
@@ -32,6 +32,8 @@ import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.core.annotation.AnnotationAttributes;
 import org.springframework.core.env.Environment;
 import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.core.type.classreading.PersistentMetadataReaderFactory;
 import org.springframework.core.type.filter.AbstractTypeHierarchyTraversingFilter;
 import org.springframework.core.type.filter.AnnotationTypeFilter;
 import org.springframework.core.type.filter.AspectJTypeFilter;
@@ -62,20 +64,28 @@ class ComponentScanAnnotationParser {
 
 	private final BeanDefinitionRegistry registry;
 
+	private final MetadataReaderFactory metadataReaderFactory;
+
 
 	public ComponentScanAnnotationParser(Environment environment, ResourceLoader resourceLoader,
-			BeanNameGenerator beanNameGenerator, BeanDefinitionRegistry registry) {
+			BeanNameGenerator beanNameGenerator, BeanDefinitionRegistry registry,
+			MetadataReaderFactory metadataReaderFactory) {
 
 		this.environment = environment;
 		this.resourceLoader = resourceLoader;
 		this.beanNameGenerator = beanNameGenerator;
 		this.registry = registry;
+		this.metadataReaderFactory = metadataReaderFactory;
 	}
 
 
 	public Set<BeanDefinitionHolder> parse(AnnotationAttributes componentScan, final String declaringClass) {
 		ClassPathBeanDefinitionScanner scanner = new ClassPathBeanDefinitionScanner(this.registry,
 				componentScan.getBoolean("useDefaultFilters"), this.environment, this.resourceLoader);
+		if (this.metadataReaderFactory instanceof PersistentMetadataReaderFactory) {
+			// Let the persistent cache see all scanned classes, not just configuration classes
+			scanner.setMetadataReaderFactory(this.metadataReaderFactory);
+		}
 
 		Class<? extends BeanNameGenerator> generatorClass = componentScan.getClass("nameGenerator");
 		boolean useInheritedGenerator = (BeanNameGenerator.class == generatorClass);
@@ -17,6 +17,7 @@
 package org.springframework.context.annotation;
 
 import java.beans.PropertyDescriptor;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
@@ -59,6 +60,7 @@ import org.springframework.core.io.ResourceLoader;
 import org.springframework.core.type.AnnotationMetadata;
 import org.springframework.core.type.classreading.CachingMetadataReaderFactory;
 import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.core.type.classreading.PersistentMetadataReaderFactory;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
@@ -354,6 +356,15 @@ public class ConfigurationClassPostProcessor implements BeanDefinitionRegistryPo
 			// for a shared cache since it'll be cleared by the ApplicationContext.
 			((CachingMetadataReaderFactory) this.metadataReaderFactory).clearCache();
 		}
+		else if (this.metadataReaderFactory instanceof PersistentMetadataReaderFactory) {
+			// Write metadata of newly read classes for the next startup
+			try {
+				((PersistentMetadataReaderFactory) this.metadataReaderFactory).persist();
+			}
+			catch (IOException ex) {
+				logger.warn("Failed to persist class metadata cache", ex);
+			}
+		}
 	}
 
 	/**
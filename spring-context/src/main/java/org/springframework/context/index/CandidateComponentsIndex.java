@@ -17,11 +17,15 @@
 package org.springframework.context.index;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.core.type.classreading.MetadataSnapshot;
+import org.springframework.lang.Nullable;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 
@@ -41,6 +45,10 @@ import org.springframework.util.MultiValueMap;
  * not a rule. Similarly, the {@code stereotype} is usually the fully qualified name of
  * a target type but it can be any marker really.
  *
+ * <p>Candidate types may come with a {@link MetadataSnapshot} recorded at build time
+ * ({@code META-INF/spring.components.snapshot}), allowing to obtain their annotation
+ * metadata without reading their class files.
+ *
  * @author Stephane Nicoll
  * @since 5.0
  */
@@ -48,9 +56,19 @@ public class CandidateComponentsIndex {
 
 	private final MultiValueMap<String, String> index;
 
+	private final Map<String, MetadataSnapshot> snapshots;
+
 
 	CandidateComponentsIndex(List<Properties> content) {
+		this(content, Collections.emptyList());
+	}
+
+	CandidateComponentsIndex(List<Properties> content, List<MetadataSnapshot> snapshots) {
 		this.index = parseIndex(content);
+		this.snapshots = new HashMap<>(snapshots.size());
+		for (MetadataSnapshot snapshot : snapshots) {
+			this.snapshots.putIfAbsent(snapshot.getClassName(), snapshot);
+		}
 	}
 
 
@@ -71,6 +89,17 @@ public class CandidateComponentsIndex {
 		return Collections.emptySet();
 	}
 
+	/**
+	 * Return the metadata snapshot recorded for the specified candidate type, if any.
+	 * @param type the fully qualified name of the candidate type
+	 * @return the corresponding snapshot, or {@code null} if none is available
+	 * @since 5.0
+	 */
+	@Nullable
+	public MetadataSnapshot getMetadataSnapshot(String type) {
+		return this.snapshots.get(type);
+	}
+
 	private static MultiValueMap<String, String> parseIndex(List<Properties> content) {
 		MultiValueMap<String, String> index = new LinkedMultiValueMap<>();
 		for (Properties entry : content) {
@@ -17,6 +17,7 @@
 package org.springframework.context.index;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Enumeration;
@@ -30,6 +31,7 @@ import org.apache.commons.logging.LogFactory;
 import org.springframework.core.SpringProperties;
 import org.springframework.core.io.UrlResource;
 import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.core.type.classreading.MetadataSnapshot;
 import org.springframework.lang.Nullable;
 import org.springframework.util.ConcurrentReferenceHashMap;
 
@@ -47,6 +49,13 @@ public class CandidateComponentsIndexLoader {
 	 */
 	public static final String COMPONENTS_RESOURCE_LOCATION = "META-INF/spring.components";
 
+	/**
+	 * The location to look for metadata snapshots of the components.
+	 * <p>Can be present in multiple JAR files, next to the components index.
+	 * @see MetadataSnapshot
+	 */
+	public static final String SNAPSHOTS_RESOURCE_LOCATION = "META-INF/spring.components.snapshot";
+
 	/**
 	 * System property that instructs Spring to ignore the index, i.e.
 	 * to always return {@code null} from {@link #loadIndex(ClassLoader)}.
@@ -106,7 +115,7 @@ public class CandidateComponentsIndexLoader {
 				logger.debug("Loaded " + result.size() + "] index(es)");
 			}
 			int totalCount = result.stream().mapToInt(Properties::size).sum();
-			return (totalCount > 0 ? new CandidateComponentsIndex(result) : null);
+			return (totalCount > 0 ? new CandidateComponentsIndex(result, loadSnapshots(classLoader)) : null);
 		}
 		catch (IOException ex) {
 			throw new IllegalStateException("Unable to load indexes from location [" +
@@ -114,4 +123,25 @@ public class CandidateComponentsIndexLoader {
 		}
 	}
 
+	private static List<MetadataSnapshot> loadSnapshots(ClassLoader classLoader) throws IOException {
+		List<MetadataSnapshot> result = new ArrayList<>();
+		Enumeration<URL> urls = classLoader.getResources(SNAPSHOTS_RESOURCE_LOCATION);
+		while (urls.hasMoreElements()) {
+			URL url = urls.nextElement();
+			try (InputStream in = new UrlResource(url).getInputStream()) {
+				result.addAll(MetadataSnapshot.readSnapshots(in));
+			}
+			catch (IOException ex) {
+				// Unsupported or corrupt snapshots -> regular class file reading for those components
+				if (logger.isWarnEnabled()) {
+					logger.warn("Ignoring metadata snapshots from [" + url + "]: " + ex.getMessage());
+				}
+			}
+		}
+		if (logger.isDebugEnabled() && !result.isEmpty()) {
+			logger.debug("Loaded " + result.size() + " metadata snapshot(s) for indexed components");
+		}
+		return result;
+	}
+
 }
@@ -76,6 +76,8 @@ import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
@@ -208,6 +210,9 @@ public abstract class AbstractApplicationContext extends DefaultResourceLoader
 	/** ApplicationEvents published early */
 	private Set<ApplicationEvent> earlyApplicationEvents;
 
+	/** Application startup metrics */
+	private ApplicationStartup applicationStartup = ApplicationStartup.DEFAULT;
+
 
 	/**
 	 * Create a new AbstractApplicationContext with no parent.
@@ -315,6 +320,17 @@ public abstract class AbstractApplicationContext extends DefaultResourceLoader
 		return new StandardEnvironment();
 	}
 
+	@Override
+	public void setApplicationStartup(ApplicationStartup applicationStartup) {
+		Assert.notNull(applicationStartup, "ApplicationStartup must not be null");
+		this.applicationStartup = applicationStartup;
+	}
+
+	@Override
+	public ApplicationStartup getApplicationStartup() {
+		return this.applicationStartup;
+	}
+
 	/**
 	 * Return this context's internal bean factory as AutowireCapableBeanFactory,
 	 * if already available.
@@ -507,6 +523,8 @@ public abstract class AbstractApplicationContext extends DefaultResourceLoader
 	@Override
 	public void refresh() throws BeansException, IllegalStateException {
 		synchronized (this.startupShutdownMonitor) {
+			StartupStep contextRefresh = this.applicationStartup.start("spring.context.refresh");
+
 			// Prepare this context for refreshing.
 			prepareRefresh();
 
@@ -521,10 +539,16 @@ public abstract class AbstractApplicationContext extends DefaultResourceLoader
 				postProcessBeanFactory(beanFactory);
 
 				// Invoke factory processors registered as beans in the context.
+				StartupStep beanFactoryPostProcess =
+						this.applicationStartup.start("spring.context.beanfactory.post-process");
 				invokeBeanFactoryPostProcessors(beanFactory);
+				beanFactoryPostProcess.end();
 
 				// Register bean processors that intercept bean creation.
+				StartupStep beanPostProcessorRegistration =
+						this.applicationStartup.start("spring.context.beanpostprocessors.register");
 				registerBeanPostProcessors(beanFactory);
+				beanPostProcessorRegistration.end();
 
 				// Initialize message source for this context.
 				initMessageSource();
@@ -539,10 +563,15 @@ public abstract class AbstractApplicationContext extends DefaultResourceLoader
 				registerListeners();
 
 				// Instantiate all remaining (non-lazy-init) singletons.
+				StartupStep singletonInstantiation =
+						this.applicationStartup.start("spring.context.singletons.instantiate");
 				finishBeanFactoryInitialization(beanFactory);
+				singletonInstantiation.end();
 
 				// Last step: publish corresponding event.
+				StartupStep refreshFinish = this.applicationStartup.start("spring.context.refresh.finish");
 				finishRefresh();
+				refreshFinish.end();
 			}
 
 			catch (BeansException ex) {
@@ -565,6 +594,7 @@ public abstract class AbstractApplicationContext extends DefaultResourceLoader
 				// Reset common introspection caches in Spring's core, since we
 				// might not ever need metadata for singleton beans anymore...
 				resetCommonCaches();
+				contextRefresh.end();
 			}
 		}
 	}
@@ -626,6 +656,7 @@ public abstract class AbstractApplicationContext extends DefaultResourceLoader
 	protected void prepareBeanFactory(ConfigurableListableBeanFactory beanFactory) {
 		// Tell the internal bean factory to use the context's class loader etc.
 		beanFactory.setBeanClassLoader(getClassLoader());
+		beanFactory.setApplicationStartup(getApplicationStartup());
 		beanFactory.setBeanExpressionResolver(new StandardBeanExpressionResolver(beanFactory.getBeanClassLoader()));
 		beanFactory.addPropertyEditorRegistrar(new ResourceEditorRegistrar(this, getEnvironment()));
 
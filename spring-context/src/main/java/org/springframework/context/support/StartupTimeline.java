@@ -0,0 +1,345 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.support;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.core.NamedThreadLocal;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ApplicationStartup} implementation that records all {@link StartupStep steps}
+ * in memory, as a timeline of the application startup which can be inspected or
+ * exported as JSON once the application context has been refreshed.
+ *
+ * <p>In addition to its name, tags and parent step, each recorded step exposes its
+ * start offset from the creation of this timeline, its duration, and the thread it
+ * ran on. For example, the "spring.context.refresh" step contains a step for each
+ * refresh phase, and each "spring.beans.instantiate" step covers the creation of
+ * the bean in its "beanName" tag, with nested steps for the individual creation
+ * phases as well as for any dependent beans created along the way.
+ *
+ * <pre class="code">
+ * StartupTimeline timeline = new StartupTimeline();
+ * AnnotationConfigApplicationContext ctx = new AnnotationConfigApplicationContext();
+ * ctx.setApplicationStartup(timeline);
+ * ctx.register(AppConfig.class);
+ * ctx.refresh();
+ * timeline.writeJson(writer);</pre>
+ *
+ * <p>Steps are recorded once they have ended; steps which never end, e.g. because of
+ * a failed refresh, are not part of the timeline. This implementation is thread-safe:
+ * steps started on different threads, e.g. for singletons pre-instantiated in parallel,
+ * are recorded independently from each other.
+ *
+ * <p>The timeline keeps recording after the refresh, e.g. for lazy singletons created
+ * on first access, up to a maximum number of steps; any further steps are discarded.
+ * Call {@link #clear()} to release the recorded steps once they have been exported.
+ *
+ * @author agent
+ * @since 5.0
+ * @see org.springframework.context.ConfigurableApplicationContext#setApplicationStartup
+ * @see org.springframework.core.metrics.DefaultApplicationStartup
+ */
+public class StartupTimeline implements ApplicationStartup {
+
+	/**
+	 * The default maximum number of steps to record.
+	 * @see #StartupTimeline(int)
+	 */
+	public static final int DEFAULT_CAPACITY = 10000;
+
+
+	private final int capacity;
+
+	private final long startTime = System.currentTimeMillis();
+
+	private final long startNanos = System.nanoTime();
+
+	private final AtomicLong currentSequenceId = new AtomicLong();
+
+	private final ThreadLocal<TimelineStep> currentStep = new NamedThreadLocal<>("Current startup timeline step");
+
+	private final Queue<TimelineStep> recordedSteps = new ConcurrentLinkedQueue<>();
+
+	private final AtomicInteger recordedCount = new AtomicInteger();
+
+
+	/**
+	 * Create a new timeline recording up to {@link #DEFAULT_CAPACITY} steps.
+	 */
+	public StartupTimeline() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Create a new timeline recording up to the given number of steps.
+	 * @param capacity the maximum number of steps to keep in memory
+	 */
+	public StartupTimeline(int capacity) {
+		Assert.isTrue(capacity > 0, "Capacity must be greater than 0");
+		this.capacity = capacity;
+	}
+
+
+	@Override
+	public TimelineStep start(String name) {
+		TimelineStep step = new TimelineStep(this.currentSequenceId.incrementAndGet(), name, this.currentStep.get());
+		this.currentStep.set(step);
+		return step;
+	}
+
+	/**
+	 * Return the maximum number of steps to record.
+	 */
+	public int getCapacity() {
+		return this.capacity;
+	}
+
+	/**
+	 * Return the timestamp (ms) when this timeline was created.
+	 */
+	public long getStartTime() {
+		return this.startTime;
+	}
+
+	/**
+	 * Return all steps recorded so far, in the order of their start.
+	 */
+	public List<TimelineStep> getSteps() {
+		List<TimelineStep> steps = new ArrayList<>(this.recordedSteps);
+		steps.sort(Comparator.comparingLong(TimelineStep::getId));
+		return steps;
+	}
+
+	/**
+	 * Remove all steps recorded so far.
+	 */
+	public void clear() {
+		this.recordedSteps.clear();
+		this.recordedCount.set(0);
+	}
+
+	/**
+	 * Export the steps recorded so far as a JSON document.
+	 * @see #writeJson(Writer)
+	 */
+	public String toJson() {
+		StringWriter writer = new StringWriter();
+		try {
+			writeJson(writer);
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException(ex);
+		}
+		return writer.toString();
+	}
+
+	/**
+	 * Write the steps recorded so far as a JSON document to the given Writer:
+	 * an object with the "startTime" of this timeline (epoch milliseconds) and
+	 * a "steps" array of objects with "id", "parentId", "name", "thread",
+	 * "startOffsetNanos", "durationNanos" and "tags" fields.
+	 * @param writer the Writer to write to (left open)
+	 * @throws IOException in case of I/O errors
+	 */
+	public void writeJson(Writer writer) throws IOException {
+		writer.write("{\"startTime\":" + this.startTime + ",\"steps\":[");
+		for (Iterator<TimelineStep> it = getSteps().iterator(); it.hasNext();) {
+			TimelineStep step = it.next();
+			writer.write("\n{\"id\":" + step.getId() + ",\"parentId\":" + step.getParentId() + ",\"name\":");
+			writeJsonString(writer, step.getName());
+			writer.write(",\"thread\":");
+			writeJsonString(writer, step.getThreadName());
+			writer.write(",\"startOffsetNanos\":" + step.getStartOffset().toNanos() +
+					",\"durationNanos\":" + step.getDuration().toNanos() + ",\"tags\":{");
+			for (Iterator<Map.Entry<String, String>> tags = step.getTags().entrySet().iterator(); tags.hasNext();) {
+				Map.Entry<String, String> tag = tags.next();
+				writeJsonString(writer, tag.getKey());
+				writer.write(':');
+				writeJsonString(writer, tag.getValue());
+				if (tags.hasNext()) {
+					writer.write(',');
+				}
+			}
+			writer.write("}}");
+			if (it.hasNext()) {
+				writer.write(',');
+			}
+		}
+		writer.write("\n]}\n");
+	}
+
+	private void record(TimelineStep step) {
+		if (this.recordedCount.incrementAndGet() > this.capacity) {
+			this.recordedCount.decrementAndGet();
+			return;
+		}
+		this.recordedSteps.add(step);
+	}
+
+	private static void writeJsonString(Writer writer, @Nullable String value) throws IOException {
+		if (value == null) {
+			writer.write("null");
+			return;
+		}
+		writer.write('"');
+		for (int i = 0; i < value.length(); i++) {
+			char ch = value.charAt(i);
+			if (ch == '"' || ch == '\\') {
+				writer.write('\\');
+				writer.write(ch);
+			}
+			else if (ch < 0x20) {
+				writer.write(String.format("\\u%04x", (int) ch));
+			}
+			else {
+				writer.write(ch);
+			}
+		}
+		writer.write('"');
+	}
+
+
+	/**
+	 * A {@link StartupStep} recorded by a {@link StartupTimeline}.
+	 */
+	public final class TimelineStep implements StartupStep {
+
+		private final long id;
+
+		private final String name;
+
+		private final TimelineStep parent;
+
+		private final String threadName = Thread.currentThread().getName();
+
+		private final Map<String, String> tags = new LinkedHashMap<>();
+
+		private final long startNanos = System.nanoTime();
+
+		private long endNanos;
+
+		private volatile boolean ended;
+
+		TimelineStep(long id, String name, @Nullable TimelineStep parent) {
+			this.id = id;
+			this.name = name;
+			this.parent = parent;
+		}
+
+		@Override
+		public String getName() {
+			return this.name;
+		}
+
+		@Override
+		public long getId() {
+			return this.id;
+		}
+
+		@Override
+		@Nullable
+		public Long getParentId() {
+			return (this.parent != null ? this.parent.id : null);
+		}
+
+		/**
+		 * Return the name of the thread that this step ran on.
+		 */
+		public String getThreadName() {
+			return this.threadName;
+		}
+
+		@Override
+		public StartupStep tag(String key, String value) {
+			Assert.state(!this.ended, "StartupStep has already ended");
+			this.tags.put(key, value);
+			return this;
+		}
+
+		@Override
+		public StartupStep tag(String key, Supplier<String> value) {
+			return tag(key, value.get());
+		}
+
+		@Override
+		public Map<String, String> getTags() {
+			return Collections.unmodifiableMap(this.tags);
+		}
+
+		/**
+		 * Return the time between the creation of the timeline and the start of this step.
+		 */
+		public Duration getStartOffset() {
+			return Duration.ofNanos(this.startNanos - StartupTimeline.this.startNanos);
+		}
+
+		/**
+		 * Return the time between the start and the end of this step,
+		 * including the time spent on any nested steps.
+		 * <p>For a step which has not ended yet, this is the time elapsed so far.
+		 */
+		public Duration getDuration() {
+			return Duration.ofNanos((this.ended ? this.endNanos : System.nanoTime()) - this.startNanos);
+		}
+
+		@Override
+		public void end() {
+			Assert.state(!this.ended, "StartupStep has already ended");
+			this.endNanos = System.nanoTime();
+			this.ended = true;
+			// Restore the parent as current step, skipping any nested steps which did not end
+			for (TimelineStep step = currentStep.get(); step != null; step = step.parent) {
+				if (step == this) {
+					if (this.parent != null) {
+						currentStep.set(this.parent);
+					}
+					else {
+						currentStep.remove();
+					}
+					break;
+				}
+			}
+			record(this);
+		}
+
+		@Override
+		public String toString() {
+			return "TimelineStep '" + this.name + "' " + this.tags;
+		}
+	}
+
+}
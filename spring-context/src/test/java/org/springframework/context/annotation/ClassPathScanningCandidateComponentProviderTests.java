@@ -18,7 +18,11 @@ package org.springframework.context.annotation;
 
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.regex.Pattern;
 
 import example.profilescan.DevComponent;
@@ -82,6 +86,23 @@ public class ClassPathScanningCandidateComponentProviderTests {
 		testDefault(provider, ScannedGenericBeanDefinition.class);
 	}
 
+	@Test
+	public void defaultsWithConcurrentScan() {
+		ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(true);
+		provider.setResourceLoader(new DefaultResourceLoader(
+				CandidateComponentsTestClassLoader.disableIndex(getClass().getClassLoader())));
+		List<String> expected = getBeanClassNames(provider.findCandidateComponents(TEST_BASE_PACKAGE));
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			provider.setScanningExecutor(executor);
+			testDefault(provider, ScannedGenericBeanDefinition.class);
+			assertEquals(expected, getBeanClassNames(provider.findCandidateComponents(TEST_BASE_PACKAGE)));
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
 	@Test
 	public void defaultsWithIndex() {
 		ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(true);
@@ -480,6 +501,14 @@ public class ClassPathScanningCandidateComponentProviderTests {
 		return false;
 	}
 
+	private List<String> getBeanClassNames(Set<BeanDefinition> candidates) {
+		List<String> beanClassNames = new ArrayList<>(candidates.size());
+		for (BeanDefinition candidate : candidates) {
+			beanClassNames.add(candidate.getBeanClassName());
+		}
+		return beanClassNames;
+	}
+
 	private void assertBeanDefinitionType(Set<BeanDefinition> candidates,
 			Class<? extends BeanDefinition> expectedType) {
 		candidates.forEach(c -> {
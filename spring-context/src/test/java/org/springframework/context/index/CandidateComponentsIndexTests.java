@@ -23,6 +23,8 @@ import java.util.Set;
 
 import org.junit.Test;
 
+import org.springframework.core.type.classreading.MetadataSnapshot;
+
 import static org.hamcrest.Matchers.*;
 import static org.junit.Assert.*;
 
@@ -77,6 +79,25 @@ public class CandidateComponentsIndexTests {
 				contains("com.example.Foo"));
 	}
 
+	@Test
+	public void getMetadataSnapshot() {
+		MetadataSnapshot snapshot = new MetadataSnapshot("com.example.service.One", new byte[0]);
+		CandidateComponentsIndex index = new CandidateComponentsIndex(
+				Collections.singletonList(createSampleProperties()), Collections.singletonList(snapshot));
+		assertSame(snapshot, index.getMetadataSnapshot("com.example.service.One"));
+		assertNull(index.getMetadataSnapshot("com.example.service.sub.Two"));
+	}
+
+	@Test
+	public void getMetadataSnapshotFirstWins() {
+		MetadataSnapshot first = new MetadataSnapshot("com.example.Foo", new byte[0]);
+		MetadataSnapshot second = new MetadataSnapshot("com.example.Foo", new byte[0]);
+		CandidateComponentsIndex index = new CandidateComponentsIndex(
+				Collections.singletonList(createProperties("com.example.Foo", "service")),
+				Arrays.asList(first, second));
+		assertSame(first, index.getMetadataSnapshot("com.example.Foo"));
+	}
+
 	private static Properties createProperties(String key, String stereotypes) {
 		Properties properties = new Properties();
 		properties.put(key, String.join(",", stereotypes));
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import org.springframework.beans.factory.config.RuntimeBeanReference;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.support.StartupTimeline.TimelineStep;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.tests.sample.beans.TestBean;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link StartupTimeline}.
+ *
+ * @author agent
+ */
+public class StartupTimelineTests {
+
+	private final StartupTimeline timeline = new StartupTimeline();
+
+
+	@Test
+	public void nestedStepsOnSameThread() {
+		StartupStep outer = this.timeline.start("outer");
+		StartupStep first = this.timeline.start("first");
+		first.end();
+		StartupStep second = this.timeline.start("second").tag("key", "value");
+		StartupStep unfinished = this.timeline.start("unfinished");
+		second.end();
+		outer.end();
+
+		List<TimelineStep> steps = this.timeline.getSteps();
+		assertEquals(3, steps.size());
+		assertEquals("outer", steps.get(0).getName());
+		assertNull(steps.get(0).getParentId());
+		assertEquals("first", steps.get(1).getName());
+		assertEquals(Long.valueOf(outer.getId()), steps.get(1).getParentId());
+		assertEquals("second", steps.get(2).getName());
+		assertEquals(Long.valueOf(outer.getId()), steps.get(2).getParentId());
+		assertEquals("value", steps.get(2).getTags().get("key"));
+		assertEquals(Thread.currentThread().getName(), steps.get(2).getThreadName());
+		assertTrue(steps.get(0).getDuration().compareTo(steps.get(1).getDuration()) >= 0);
+		assertTrue(steps.get(2).getStartOffset().compareTo(steps.get(1).getStartOffset()) >= 0);
+		assertNull(this.timeline.start("next").getParentId());
+		assertEquals(Long.valueOf(second.getId()), ((TimelineStep) unfinished).getParentId());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void stepEndedTwice() {
+		StartupStep step = this.timeline.start("step");
+		step.end();
+		step.end();
+	}
+
+	@Test
+	public void stepsAboveCapacityDiscarded() {
+		StartupTimeline timeline = new StartupTimeline(2);
+		timeline.start("first").end();
+		timeline.start("second").end();
+		timeline.start("third").end();
+		assertEquals(Arrays.asList("first", "second"), getNames(timeline.getSteps()));
+
+		timeline.clear();
+		timeline.start("fourth").end();
+		assertEquals(Collections.singletonList("fourth"), getNames(timeline.getSteps()));
+	}
+
+	@Test
+	public void refreshPhases() {
+		GenericApplicationContext context = new GenericApplicationContext();
+		context.setApplicationStartup(this.timeline);
+		context.registerBeanDefinition("testBean", new RootBeanDefinition(TestBean.class));
+		context.refresh();
+
+		List<TimelineStep> steps = this.timeline.getSteps();
+		TimelineStep refresh = steps.get(0);
+		assertEquals("spring.context.refresh", refresh.getName());
+		assertNull(refresh.getParentId());
+		assertEquals(Arrays.asList("spring.context.beanfactory.post-process",
+				"spring.context.beanpostprocessors.register", "spring.context.singletons.instantiate",
+				"spring.context.refresh.finish"), getChildNames(steps, refresh));
+		assertSame(this.timeline, context.getBeanFactory().getApplicationStartup());
+		context.close();
+	}
+
+	@Test
+	public void beanCreationPhases() {
+		GenericApplicationContext context = new GenericApplicationContext();
+		context.setApplicationStartup(this.timeline);
+		RootBeanDefinition bd = new RootBeanDefinition(TestBean.class);
+		bd.getPropertyValues().add("spouse", new RuntimeBeanReference("spouse"));
+		context.registerBeanDefinition("testBean", bd);
+		context.registerBeanDefinition("spouse", new RootBeanDefinition(TestBean.class));
+		context.refresh();
+
+		List<TimelineStep> steps = this.timeline.getSteps();
+		TimelineStep creation = getBeanStep(steps, "spring.beans.instantiate", "testBean");
+		List<String> phases = getChildNames(steps, creation);
+		assertEquals(Arrays.asList("spring.beans.construct", "spring.beans.post-process", "spring.beans.populate",
+				"spring.beans.post-process", "spring.beans.init", "spring.beans.post-process"), phases);
+
+		TimelineStep dependencyCreation = getBeanStep(steps, "spring.beans.instantiate", "spouse");
+		TimelineStep population = getBeanStep(steps, "spring.beans.populate", "testBean");
+		assertEquals(Long.valueOf(population.getId()), dependencyCreation.getParentId());
+		assertTrue(population.getDuration().compareTo(dependencyCreation.getDuration()) >= 0);
+		context.close();
+	}
+
+	@Test
+	public void beanFactoryPostProcessorInvocations() {
+		GenericApplicationContext context = new GenericApplicationContext();
+		context.setApplicationStartup(this.timeline);
+		context.registerBeanDefinition("configurer",
+				new RootBeanDefinition(PropertySourcesPlaceholderConfigurer.class));
+		context.refresh();
+
+		List<TimelineStep> steps = this.timeline.getSteps();
+		TimelineStep postProcessing = getStep(steps, "spring.context.beanfactory.post-process");
+		TimelineStep invocation = getStep(steps, "spring.context.bean-factory.post-process");
+		assertEquals(Long.valueOf(postProcessing.getId()), invocation.getParentId());
+		assertTrue(invocation.getTags().get("postProcessor").startsWith(
+				PropertySourcesPlaceholderConfigurer.class.getName()));
+		context.close();
+	}
+
+	@Test
+	public void jsonExport() {
+		StartupStep outer = this.timeline.start("outer");
+		this.timeline.start("inner").tag("key", "a \"quoted\"\\value\n").tag("other", "").end();
+		outer.end();
+
+		String json = this.timeline.toJson();
+		assertTrue(json.startsWith("{\"startTime\":" + this.timeline.getStartTime() + ",\"steps\":[\n"));
+		assertTrue(json.contains("{\"id\":1,\"parentId\":null,\"name\":\"outer\",\"thread\":"));
+		assertTrue(json.contains("{\"id\":2,\"parentId\":1,\"name\":\"inner\",\"thread\":"));
+		assertTrue(json.contains(
+				"\"tags\":{\"key\":\"a \\\"quoted\\\"\\\\value\\u000a\",\"other\":\"\"}}\n]}\n"));
+		assertTrue(json.contains("\"tags\":{}},\n"));
+
+		this.timeline.clear();
+		assertEquals("{\"startTime\":" + this.timeline.getStartTime() + ",\"steps\":[\n]}\n", this.timeline.toJson());
+	}
+
+
+	private static TimelineStep getStep(List<TimelineStep> steps, String name) {
+		for (TimelineStep step : steps) {
+			if (step.getName().equals(name)) {
+				return step;
+			}
+		}
+		throw new AssertionError("No step named '" + name + "' in " + steps);
+	}
+
+	private static TimelineStep getBeanStep(List<TimelineStep> steps, String name, String beanName) {
+		for (TimelineStep step : steps) {
+			if (step.getName().equals(name) && beanName.equals(step.getTags().get("beanName"))) {
+				return step;
+			}
+		}
+		throw new AssertionError("No step named '" + name + "' for bean '" + beanName + "' in " + steps);
+	}
+
+	private static List<String> getNames(List<TimelineStep> steps) {
+		List<String> names = new ArrayList<>();
+		for (TimelineStep step : steps) {
+			names.add(step.getName());
+		}
+		return names;
+	}
+
+	private static List<String> getChildNames(List<TimelineStep> steps, TimelineStep parent) {
+		List<String> names = new ArrayList<>();
+		for (TimelineStep step : steps) {
+			if (Long.valueOf(parent.getId()).equals(step.getParentId())) {
+				names.add(step.getName());
+			}
+		}
+		return names;
+	}
+
+}
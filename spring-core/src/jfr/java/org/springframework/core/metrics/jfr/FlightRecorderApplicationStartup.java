@@ -0,0 +1,73 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.metrics.jfr;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.core.NamedThreadLocal;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+/**
+ * {@link ApplicationStartup} implementation for the Java Flight Recorder.
+ *
+ * <p>This variant records {@link StartupStep} as Flight Recorder events;
+ * each event is committed with its start time and duration once its step
+ * has {@link StartupStep#end() ended}. Events are only actually recorded
+ * while a Flight Recorder recording is running.
+ *
+ * <p>Requires a JDK with the {@code jdk.jfr} API, i.e. JDK 8u262 or higher,
+ * at runtime. Note that this class is only included in {@code spring-core}
+ * if the JDK used for the build provides that API as well.
+ *
+ * @author agent
+ * @since 5.0
+ */
+public class FlightRecorderApplicationStartup implements ApplicationStartup {
+
+	private final AtomicLong currentSequenceId = new AtomicLong();
+
+	private final ThreadLocal<FlightRecorderStartupStep> currentStep =
+			new NamedThreadLocal<>("Current startup step");
+
+
+	@Override
+	public StartupStep start(String name) {
+		FlightRecorderStartupStep parent = this.currentStep.get();
+		FlightRecorderStartupStep step = new FlightRecorderStartupStep(
+				this.currentSequenceId.incrementAndGet(), name, parent, this::stepEnded);
+		this.currentStep.set(step);
+		return step;
+	}
+
+	private void stepEnded(FlightRecorderStartupStep endedStep) {
+		// Restore the parent as current step, skipping any nested steps which did not end
+		for (FlightRecorderStartupStep step = this.currentStep.get(); step != null; step = step.getParent()) {
+			if (step == endedStep) {
+				FlightRecorderStartupStep parent = endedStep.getParent();
+				if (parent != null) {
+					this.currentStep.set(parent);
+				}
+				else {
+					this.currentStep.remove();
+				}
+				break;
+			}
+		}
+	}
+
+}
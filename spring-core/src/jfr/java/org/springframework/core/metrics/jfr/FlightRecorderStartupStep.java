@@ -0,0 +1,111 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.metrics.jfr;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link StartupStep} implementation for the Java Flight Recorder.
+ *
+ * <p>This variant delegates to a {@link FlightRecorderStartupEvent JFR event extension}
+ * to collect and record data in Java Flight Recorder.
+ *
+ * @author agent
+ * @since 5.0
+ */
+class FlightRecorderStartupStep implements StartupStep {
+
+	private final FlightRecorderStartupEvent event;
+
+	private final FlightRecorderStartupStep parent;
+
+	private final Consumer<FlightRecorderStartupStep> recordingCallback;
+
+	private final Map<String, String> tags = new LinkedHashMap<>();
+
+	private boolean ended;
+
+
+	public FlightRecorderStartupStep(long id, String name, @Nullable FlightRecorderStartupStep parent,
+			Consumer<FlightRecorderStartupStep> recordingCallback) {
+
+		this.event = new FlightRecorderStartupEvent(id, name, (parent != null ? parent.getId() : -1));
+		this.event.begin();
+		this.parent = parent;
+		this.recordingCallback = recordingCallback;
+	}
+
+
+	@Override
+	public String getName() {
+		return this.event.name;
+	}
+
+	@Override
+	public long getId() {
+		return this.event.eventId;
+	}
+
+	@Override
+	@Nullable
+	public Long getParentId() {
+		return (this.parent != null ? this.parent.getId() : null);
+	}
+
+	@Nullable
+	FlightRecorderStartupStep getParent() {
+		return this.parent;
+	}
+
+	@Override
+	public StartupStep tag(String key, String value) {
+		Assert.state(!this.ended, "StartupStep has already ended");
+		this.tags.put(key, value);
+		return this;
+	}
+
+	@Override
+	public StartupStep tag(String key, Supplier<String> value) {
+		return tag(key, value.get());
+	}
+
+	@Override
+	public Map<String, String> getTags() {
+		return Collections.unmodifiableMap(this.tags);
+	}
+
+	@Override
+	public void end() {
+		Assert.state(!this.ended, "StartupStep has already ended");
+		this.ended = true;
+		this.event.end();
+		if (this.event.shouldCommit()) {
+			this.event.tags = this.tags.toString();
+			this.event.commit();
+		}
+		this.recordingCallback.accept(this);
+	}
+
+}
@@ -0,0 +1,7 @@
+/**
+ * Support package for recording startup metrics using Java Flight Recorder.
+ */
+@NonNullApi
+package org.springframework.core.metrics.jfr;
+
+import org.springframework.lang.NonNullApi;
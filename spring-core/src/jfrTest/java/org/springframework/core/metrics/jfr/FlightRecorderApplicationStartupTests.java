@@ -0,0 +1,93 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.metrics.jfr;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.springframework.core.metrics.StartupStep;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link FlightRecorderApplicationStartup}.
+ *
+ * @author agent
+ */
+public class FlightRecorderApplicationStartupTests {
+
+	@Rule
+	public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private final FlightRecorderApplicationStartup applicationStartup = new FlightRecorderApplicationStartup();
+
+
+	@Test
+	public void nestedSteps() {
+		StartupStep outer = this.applicationStartup.start("outer");
+		StartupStep inner = this.applicationStartup.start("inner").tag("key", () -> "value");
+		assertEquals(Long.valueOf(outer.getId()), inner.getParentId());
+		assertEquals("value", inner.getTags().get("key"));
+		inner.end();
+		StartupStep sibling = this.applicationStartup.start("sibling");
+		assertEquals(Long.valueOf(outer.getId()), sibling.getParentId());
+		sibling.end();
+		outer.end();
+		assertNull(outer.getParentId());
+		assertNull(this.applicationStartup.start("next").getParentId());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void stepEndedTwice() {
+		StartupStep step = this.applicationStartup.start("step");
+		step.end();
+		step.end();
+	}
+
+	@Test
+	public void stepsRecordedAsEvents() throws IOException {
+		Assume.assumeTrue("Flight Recorder not available", FlightRecorder.isAvailable());
+		Path file = this.temporaryFolder.newFile("startup.jfr").toPath();
+		StartupStep outer;
+		try (Recording recording = new Recording()) {
+			recording.enable(FlightRecorderStartupEvent.class);
+			recording.start();
+			outer = this.applicationStartup.start("outer");
+			this.applicationStartup.start("inner").tag("beanName", "testBean").end();
+			outer.end();
+			recording.stop();
+			recording.dump(file);
+		}
+
+		List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+		assertEquals(2, events.size());
+		RecordedEvent inner = events.get(0).getString("name").equals("inner") ? events.get(0) : events.get(1);
+		assertEquals(outer.getId(), inner.getLong("parentId"));
+		assertEquals("{beanName=testBean}", inner.getString("tags"));
+	}
+
+}
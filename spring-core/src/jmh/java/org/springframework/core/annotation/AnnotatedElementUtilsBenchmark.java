@@ -0,0 +1,111 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.lang.reflect.Method;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for {@link AnnotatedElementUtils}, resolving composed
+ * annotations on types and methods as done for handler detection.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.Throughput)
+public class AnnotatedElementUtilsBenchmark {
+
+	@Benchmark
+	public void hasAnnotationOnType(Blackhole bh) {
+		bh.consume(AnnotatedElementUtils.hasAnnotation(AnnotatedType.class, Base.class));
+	}
+
+	@Benchmark
+	public void findMergedAnnotationOnType(Blackhole bh) {
+		bh.consume(AnnotatedElementUtils.findMergedAnnotation(AnnotatedType.class, Base.class));
+	}
+
+	@Benchmark
+	public void findMergedAnnotationOnMethod(AnnotatedState state, Blackhole bh) {
+		bh.consume(AnnotatedElementUtils.findMergedAnnotation(state.method, Base.class));
+	}
+
+	@Benchmark
+	public void findMissingAnnotation(AnnotatedState state, Blackhole bh) {
+		bh.consume(AnnotatedElementUtils.findMergedAnnotation(state.method, Deprecated.class));
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class AnnotatedState {
+
+		public Method method;
+
+		@Setup(Level.Trial)
+		public void setup() throws NoSuchMethodException {
+			this.method = AnnotatedType.class.getMethod("handle");
+		}
+	}
+
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target({ElementType.TYPE, ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+	@Inherited
+	public @interface Base {
+
+		String value() default "";
+	}
+
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target({ElementType.TYPE, ElementType.METHOD})
+	@Base
+	public @interface Composed {
+
+		@AliasFor(annotation = Base.class, attribute = "value")
+		String name() default "";
+	}
+
+
+	public interface AnnotatedInterface {
+
+		@Composed(name = "handle")
+		void handle();
+	}
+
+
+	@Composed(name = "type")
+	public static class AnnotatedType implements AnnotatedInterface {
+
+		@Override
+		public void handle() {
+		}
+	}
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.publisher.Flux;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * Benchmarks for {@link StringDecoder}, splitting lines that span
+ * buffer boundaries.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.Throughput)
+public class StringDecoderBenchmark {
+
+	@Benchmark
+	public void decodeLines(DecodeState state, Blackhole bh) {
+		state.decoder.decode(state.chunks(), ResolvableType.forClass(String.class),
+				MimeTypeUtils.TEXT_PLAIN, Collections.emptyMap()).subscribe(bh::consume);
+	}
+
+	@Benchmark
+	public void decodeToMono(DecodeState state, Blackhole bh) {
+		bh.consume(state.decoder.decodeToMono(state.chunks(), ResolvableType.forClass(String.class),
+				MimeTypeUtils.TEXT_PLAIN, Collections.emptyMap()).block());
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class DecodeState {
+
+		@Param({"64", "8192"})
+		public int chunkSize;
+
+		@Param({"1000"})
+		public int lineCount;
+
+		public StringDecoder decoder;
+
+		private final DefaultDataBufferFactory bufferFactory = new DefaultDataBufferFactory();
+
+		private byte[] content;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			this.decoder = StringDecoder.allMimeTypes(true);
+			StringBuilder builder = new StringBuilder();
+			for (int i = 0; i < this.lineCount; i++) {
+				builder.append("Line ").append(i).append(": Lorem ipsum dolor sit amet, consectetur adipiscing\n");
+			}
+			this.content = builder.toString().getBytes(StandardCharsets.UTF_8);
+		}
+
+		public Flux<DataBuffer> chunks() {
+			List<DataBuffer> buffers = new ArrayList<>();
+			for (int i = 0; i < this.content.length; i += this.chunkSize) {
+				int length = Math.min(this.chunkSize, this.content.length - i);
+				buffers.add(this.bufferFactory.allocateBuffer(length).write(this.content, i, length));
+			}
+			return Flux.fromIterable(buffers);
+		}
+	}
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for {@link AntPathMatcher}, matching typical request paths
+ * against handler mapping patterns.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.Throughput)
+public class AntPathMatcherBenchmark {
+
+	@Benchmark
+	public void matchAll(PatternsState state, Blackhole bh) {
+		for (String pattern : state.patterns) {
+			for (String path : state.paths) {
+				bh.consume(state.matcher.match(pattern, path));
+			}
+		}
+	}
+
+	@Benchmark
+	public void extractUriTemplateVariables(PatternsState state, Blackhole bh) {
+		bh.consume(state.matcher.extractUriTemplateVariables(
+				"/hotels/{hotel}/bookings/{booking}", "/hotels/1/bookings/42"));
+	}
+
+	@Benchmark
+	public void comparePatterns(PatternsState state, Blackhole bh) {
+		bh.consume(state.matcher.getPatternComparator("/hotels/1/bookings/42")
+				.compare("/hotels/{hotel}/bookings/{booking}", "/hotels/**"));
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class PatternsState {
+
+		public final AntPathMatcher matcher = new AntPathMatcher();
+
+		public final String[] patterns = {
+				"/", "/hotels", "/hotels/{hotel}", "/hotels/{hotel}/bookings/{booking}",
+				"/hotels/*/reviews", "/static/**", "/static/**/*.css", "/api/v{version:\\d+}/users/{id}"};
+
+		public final String[] paths = {
+				"/", "/hotels/1", "/hotels/1/bookings/42", "/static/css/main.css",
+				"/api/v2/users/42", "/unknown/path/to/resource"};
+	}
+
+}
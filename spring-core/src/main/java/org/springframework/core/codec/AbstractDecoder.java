@@ -25,6 +25,7 @@ import reactor.core.publisher.Mono;
 
 import org.springframework.core.ResolvableType;
 import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.lang.Nullable;
 import org.springframework.util.MimeType;
 
@@ -58,11 +59,18 @@ public abstract class AbstractDecoder<T> implements Decoder<T> {
 		return this.decodableMimeTypes.stream().anyMatch(candidate -> candidate.isCompatibleWith(mimeType));
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>This implementation {@linkplain DataBufferUtils#join joins} the input
+	 * buffers into a single, possibly composite, buffer without copying them,
+	 * and decodes that buffer via {@link #decode}, expecting at most one value.
+	 */
 	@Override
 	public Mono<T> decodeToMono(Publisher<DataBuffer> inputStream, ResolvableType elementType,
 			@Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
 
-		throw new UnsupportedOperationException();
+		return DataBufferUtils.join(inputStream)
+				.flatMap(dataBuffer -> decode(Mono.just(dataBuffer), elementType, mimeType, hints).singleOrEmpty());
 	}
 
 }
@@ -48,6 +48,8 @@ public class ResourceEncoder extends AbstractSingleValueEncoder<Resource> {
 
 	private final int bufferSize;
 
+	private long memoryMappingThreshold = -1;
+
 
 	public ResourceEncoder() {
 		this(DEFAULT_BUFFER_SIZE);
@@ -60,6 +62,25 @@ public class ResourceEncoder extends AbstractSingleValueEncoder<Resource> {
 	}
 
 
+	/**
+	 * Set the file size, in bytes, from which file-based resources are mapped
+	 * into memory via {@link DataBufferUtils#mmap} rather than copied into
+	 * buffers chunk by chunk.
+	 * <p>By default this is set to -1, i.e. files are never memory-mapped.
+	 * @param memoryMappingThreshold the threshold in bytes, or -1 to disable
+	 */
+	public void setMemoryMappingThreshold(long memoryMappingThreshold) {
+		this.memoryMappingThreshold = memoryMappingThreshold;
+	}
+
+	/**
+	 * Return the configured memory mapping threshold.
+	 */
+	public long getMemoryMappingThreshold() {
+		return this.memoryMappingThreshold;
+	}
+
+
 	@Override
 	public boolean canEncode(ResolvableType elementType, @Nullable MimeType mimeType) {
 		Class<?> clazz = elementType.resolve(Object.class);
@@ -73,6 +94,10 @@ public class ResourceEncoder extends AbstractSingleValueEncoder<Resource> {
 		try {
 			if (resource.isFile()) {
 				File file = resource.getFile();
+				long length = file.length();
+				if (this.memoryMappingThreshold >= 0 && length >= this.memoryMappingThreshold) {
+					return DataBufferUtils.mmap(file.toPath(), 0, length, dataBufferFactory);
+				}
 				AsynchronousFileChannel channel =
 						AsynchronousFileChannel.open(file.toPath(), StandardOpenOption.READ);
 				return DataBufferUtils.read(channel, dataBufferFactory, this.bufferSize);
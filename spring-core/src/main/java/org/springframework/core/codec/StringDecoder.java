@@ -16,13 +16,20 @@
 
 package org.springframework.core.codec;
 
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
 import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.function.IntPredicate;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
@@ -32,6 +39,7 @@ import org.springframework.core.ResolvableType;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 import org.springframework.util.MimeType;
 import org.springframework.util.MimeTypeUtils;
 
@@ -42,6 +50,12 @@ import org.springframework.util.MimeTypeUtils;
  * along newline characters ({@code \r\n}), but this can be changed by
  * passing {@code false} as a constructor argument.
  *
+ * <p>Alternatively, the decoder can be created with a list of (multi-byte)
+ * delimiters, see {@link #textPlainOnly(List, boolean)}. In both cases, a frame
+ * that spans several data buffers is reassembled before it is emitted, and the
+ * data buffers are released as soon as they have been scanned. Frames can be
+ * limited in size through {@link #setMaxFrameLength(int)}.
+ *
  * @author Sebastien Deleuze
  * @author Brian Clozel
  * @author Arjen Poutsma
@@ -53,20 +67,55 @@ public class StringDecoder extends AbstractDecoder<String> {
 
 	public static final Charset DEFAULT_CHARSET = StandardCharsets.UTF_8;
 
-	private static final IntPredicate NEWLINE_DELIMITER = b -> b == '\n' || b == '\r';
+	/**
+	 * The default delimiters used by {@link #textPlainOnly(List, boolean)} and
+	 * {@link #allMimeTypes(List, boolean)} when none are specified:
+	 * {@code \r\n} and {@code \n}.
+	 */
+	public static final List<String> DEFAULT_DELIMITERS =
+			Collections.unmodifiableList(Arrays.asList("\r\n", "\n"));
+
+	private static final List<String> NEWLINE_DELIMITERS = Arrays.asList("\r", "\n");
+
+
+	private final List<String> delimiters;
 
+	private final boolean stripDelimiter;
 
-	private final boolean splitOnNewline;
+	private final Map<Charset, byte[][]> delimitersCache = new ConcurrentHashMap<>(4);
+
+	private int maxFrameLength = -1;
 
 
 	/**
 	 * Create a {@code StringDecoder} that decodes a bytes stream to a String stream
-	 * @param splitOnNewline whether this decoder should split the received data buffers
-	 * along newline characters
+	 * @param delimiters the delimiters to split the received data buffers along,
+	 * or {@code null} to not split
+	 * @param stripDelimiter whether to remove the delimiters from the decoded frames
 	 */
-	private StringDecoder(boolean splitOnNewline, MimeType... mimeTypes) {
+	private StringDecoder(@Nullable List<String> delimiters, boolean stripDelimiter, MimeType... mimeTypes) {
 		super(mimeTypes);
-		this.splitOnNewline = splitOnNewline;
+		this.delimiters = delimiters;
+		this.stripDelimiter = stripDelimiter;
+	}
+
+
+	/**
+	 * Set the maximum length, in bytes, of a single decoded frame, excluding
+	 * the delimiter. A {@link DecodingException} is raised when a frame
+	 * exceeds this limit.
+	 * <p>By default this is set to -1, i.e. frames are unbounded.
+	 * @param maxFrameLength the maximum frame length, or -1 for unbounded
+	 */
+	public void setMaxFrameLength(int maxFrameLength) {
+		this.maxFrameLength = maxFrameLength;
+	}
+
+	/**
+	 * Return the configured maximum frame length.
+	 */
+	public int getMaxFrameLength() {
+		return this.maxFrameLength;
 	}
 
 
@@ -80,37 +129,33 @@ public class StringDecoder extends AbstractDecoder<String> {
 	public Flux<String> decode(Publisher<DataBuffer> inputStream, ResolvableType elementType,
 			@Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
 
-		Flux<DataBuffer> inputFlux = Flux.from(inputStream);
-		if (this.splitOnNewline) {
-			inputFlux = Flux.from(inputStream).flatMap(StringDecoder::splitOnNewline);
+		if (this.delimiters == null) {
+			return Flux.from(inputStream).map(buffer -> decodeDataBuffer(buffer, mimeType));
 		}
-		return inputFlux.map(buffer ->  decodeDataBuffer(buffer, mimeType));
+
+		Charset charset = getCharset(mimeType);
+		byte[][] delimiterBytes = getDelimiterBytes(this.delimiters, charset);
+		return Flux.defer(() -> {
+			DelimiterSplitter splitter =
+					new DelimiterSplitter(delimiterBytes, this.stripDelimiter, this.maxFrameLength, charset);
+			return Flux.from(inputStream)
+					.flatMapIterable(splitter::split)
+					.concatWith(Mono.defer(() -> Mono.justOrEmpty(splitter.flush())))
+					.doFinally(signalType -> splitter.release());
+		});
 	}
 
 	@Override
 	public Mono<String> decodeToMono(Publisher<DataBuffer> inputStream, ResolvableType elementType,
 			@Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
 
-		return Flux.from(inputStream)
-				.reduce(DataBuffer::write)
+		return DataBufferUtils.join(inputStream)
 				.map(buffer -> decodeDataBuffer(buffer, mimeType));
 	}
 
-	private static Flux<DataBuffer> splitOnNewline(DataBuffer dataBuffer) {
-		List<DataBuffer> results = new ArrayList<>();
-		int startIdx = 0;
-		int endIdx;
-		final int limit = dataBuffer.readableByteCount();
-		do {
-			endIdx = dataBuffer.indexOf(NEWLINE_DELIMITER, startIdx);
-			int length = endIdx != -1 ? endIdx - startIdx + 1 : limit - startIdx;
-			DataBuffer token = dataBuffer.slice(startIdx, length);
-			results.add(DataBufferUtils.retain(token));
-			startIdx = endIdx + 1;
-		}
-		while (startIdx < limit && endIdx != -1);
-		DataBufferUtils.release(dataBuffer);
-		return Flux.fromIterable(results);
+	private byte[][] getDelimiterBytes(List<String> delimiters, Charset charset) {
+		return this.delimitersCache.computeIfAbsent(charset, key ->
+				delimiters.stream().map(delimiter -> delimiter.getBytes(key)).toArray(byte[][]::new));
 	}
 
 	private String decodeDataBuffer(DataBuffer dataBuffer, @Nullable MimeType mimeType) {
@@ -135,7 +180,20 @@ public class StringDecoder extends AbstractDecoder<String> {
 	 * @param splitOnNewline whether to split the byte stream into lines
 	 */
 	public static StringDecoder textPlainOnly(boolean splitOnNewline) {
-		return new StringDecoder(splitOnNewline, new MimeType("text", "plain", DEFAULT_CHARSET));
+		return new StringDecoder(splitOnNewline ? NEWLINE_DELIMITERS : null, false,
+				new MimeType("text", "plain", DEFAULT_CHARSET));
+	}
+
+	/**
+	 * Create a {@code StringDecoder} for {@code "text/plain"} that splits the
+	 * byte stream along the given delimiters.
+	 * @param delimiters the delimiters to use for splitting the input
+	 * @param stripDelimiter whether to remove delimiters from the resulting strings
+	 * @see #DEFAULT_DELIMITERS
+	 */
+	public static StringDecoder textPlainOnly(List<String> delimiters, boolean stripDelimiter) {
+		return new StringDecoder(checkDelimiters(delimiters), stripDelimiter,
+				new MimeType("text", "plain", DEFAULT_CHARSET));
 	}
 
 	/**
@@ -143,8 +201,290 @@ public class StringDecoder extends AbstractDecoder<String> {
 	 * @param splitOnNewline whether to split the byte stream into lines
 	 */
 	public static StringDecoder allMimeTypes(boolean splitOnNewline) {
-		return new StringDecoder(splitOnNewline,
+		return new StringDecoder(splitOnNewline ? NEWLINE_DELIMITERS : null, false,
+				new MimeType("text", "plain", DEFAULT_CHARSET), MimeTypeUtils.ALL);
+	}
+
+	/**
+	 * Create a {@code StringDecoder} that supports all MIME types, and splits
+	 * the byte stream along the given delimiters.
+	 * @param delimiters the delimiters to use for splitting the input
+	 * @param stripDelimiter whether to remove delimiters from the resulting strings
+	 * @see #DEFAULT_DELIMITERS
+	 */
+	public static StringDecoder allMimeTypes(List<String> delimiters, boolean stripDelimiter) {
+		return new StringDecoder(checkDelimiters(delimiters), stripDelimiter,
 				new MimeType("text", "plain", DEFAULT_CHARSET), MimeTypeUtils.ALL);
 	}
 
+	private static List<String> checkDelimiters(List<String> delimiters) {
+		Assert.notEmpty(delimiters, "'delimiters' must not be empty");
+		for (String delimiter : delimiters) {
+			Assert.hasLength(delimiter, "'delimiters' must not contain empty elements");
+		}
+		return Collections.unmodifiableList(delimiters);
+	}
+
+
+	/**
+	 * Splits a stream of data buffers into decoded frames, for a single
+	 * subscription. Delimiters are matched byte by byte (including across
+	 * buffer boundaries), frames contained in a single buffer are decoded
+	 * directly from that buffer, and only the trailing part of a frame that
+	 * spans buffers is copied into a reusable carry-over buffer.
+	 * <p>Acts as the {@code Iterable} returned for each data buffer, which
+	 * lazily scans for the next frame; {@code flatMapIterable} only asks for
+	 * the next data buffer once the previous iterator has been exhausted.
+	 */
+	private static class DelimiterSplitter implements Iterable<String>, Iterator<String> {
+
+		private static final ByteBuffer EMPTY_BUFFER = ByteBuffer.allocate(0);
+
+		private final byte[][] delimiters;
+
+		private final int[][] partialMatchTables;
+
+		private final int[] matchCounts;
+
+		private final boolean stripDelimiter;
+
+		private final int maxFrameLength;
+
+		private final CharsetDecoder charsetDecoder;
+
+		private CharBuffer charBuffer = CharBuffer.allocate(0);
+
+		private ByteBuffer carryOver = EMPTY_BUFFER;
+
+		private DataBuffer dataBuffer;
+
+		private ByteBuffer input;
+
+		private int frameStart;
+
+		private int index;
+
+		private String next;
+
+		private boolean received;
+
+		private boolean emitted;
+
+		public DelimiterSplitter(byte[][] delimiters, boolean stripDelimiter, int maxFrameLength, Charset charset) {
+			this.delimiters = delimiters;
+			this.partialMatchTables = new int[delimiters.length][];
+			for (int i = 0; i < delimiters.length; i++) {
+				this.partialMatchTables[i] = partialMatchTable(delimiters[i]);
+			}
+			this.matchCounts = new int[delimiters.length];
+			this.stripDelimiter = stripDelimiter;
+			this.maxFrameLength = maxFrameLength;
+			this.charsetDecoder = charset.newDecoder()
+					.onMalformedInput(CodingErrorAction.REPLACE)
+					.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		}
+
+		/**
+		 * Compute the Knuth-Morris-Pratt table for the given delimiter: the
+		 * length of the longest proper prefix that is also a suffix of each
+		 * prefix of the delimiter.
+		 */
+		private static int[] partialMatchTable(byte[] delimiter) {
+			int[] table = new int[delimiter.length];
+			int length = 0;
+			for (int i = 1; i < delimiter.length; i++) {
+				while (length > 0 && delimiter[i] != delimiter[length]) {
+					length = table[length - 1];
+				}
+				if (delimiter[i] == delimiter[length]) {
+					length++;
+				}
+				table[i] = length;
+			}
+			return table;
+		}
+
+		public Iterable<String> split(DataBuffer dataBuffer) {
+			this.received = true;
+			this.dataBuffer = dataBuffer;
+			this.input = dataBuffer.asByteBuffer();
+			this.frameStart = this.input.position();
+			this.index = this.frameStart;
+			return this;
+		}
+
+		@Override
+		public Iterator<String> iterator() {
+			return this;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (this.next == null && this.input != null) {
+				this.next = nextFrame();
+			}
+			return (this.next != null);
+		}
+
+		@Override
+		public String next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			String frame = this.next;
+			this.next = null;
+			this.emitted = true;
+			return frame;
+		}
+
+		@Nullable
+		private String nextFrame() {
+			ByteBuffer input = this.input;
+			int limit = input.limit();
+			while (this.index < limit) {
+				int delimiterLength = match(input.get(this.index++));
+				if (delimiterLength > 0) {
+					return delimitedFrame(delimiterLength);
+				}
+			}
+			// No further delimiter in this buffer: carry over the start of the next frame
+			try {
+				int length = limit - this.frameStart;
+				if (length > 0) {
+					appendToCarryOver(input, this.frameStart, length);
+					checkFrameLength(this.carryOver.position() - maxMatchCount());
+				}
+			}
+			finally {
+				release();
+			}
+			return null;
+		}
+
+		/**
+		 * Advance all delimiter matchers with the given byte.
+		 * @return the length of the longest delimiter that ends at this byte,
+		 * or 0 if none
+		 */
+		private int match(byte b) {
+			int delimiterLength = 0;
+			for (int i = 0; i < this.delimiters.length; i++) {
+				byte[] delimiter = this.delimiters[i];
+				int count = this.matchCounts[i];
+				while (count > 0 && b != delimiter[count]) {
+					count = this.partialMatchTables[i][count - 1];
+				}
+				if (b == delimiter[count]) {
+					count++;
+				}
+				if (count == delimiter.length) {
+					delimiterLength = Math.max(delimiterLength, count);
+					count = 0;
+				}
+				this.matchCounts[i] = count;
+			}
+			if (delimiterLength > 0) {
+				Arrays.fill(this.matchCounts, 0);
+			}
+			return delimiterLength;
+		}
+
+		private int maxMatchCount() {
+			int max = 0;
+			for (int count : this.matchCounts) {
+				max = Math.max(max, count);
+			}
+			return max;
+		}
+
+		private String delimitedFrame(int delimiterLength) {
+			int length = this.index - this.frameStart;
+			int frameLength = this.carryOver.position() + length;
+			if (this.stripDelimiter) {
+				frameLength -= delimiterLength;
+			}
+			checkFrameLength(frameLength);
+			String frame;
+			if (this.carryOver.position() == 0) {
+				frame = decode(this.input, this.frameStart, frameLength);
+			}
+			else {
+				appendToCarryOver(this.input, this.frameStart, length);
+				frame = decode(this.carryOver, 0, frameLength);
+				((Buffer) this.carryOver).clear();
+			}
+			this.frameStart = this.index;
+			return frame;
+		}
+
+		private void checkFrameLength(int frameLength) {
+			if (this.maxFrameLength >= 0 && frameLength > this.maxFrameLength) {
+				throw new DecodingException(
+						"Frame exceeds the maximum length of " + this.maxFrameLength + " bytes");
+			}
+		}
+
+		private void appendToCarryOver(ByteBuffer source, int offset, int length) {
+			if (this.carryOver.remaining() < length) {
+				int capacity = Math.max(this.carryOver.capacity() * 2, this.carryOver.position() + length);
+				ByteBuffer newCarryOver = ByteBuffer.allocate(capacity);
+				((Buffer) this.carryOver).flip();
+				newCarryOver.put(this.carryOver);
+				this.carryOver = newCarryOver;
+			}
+			int limit = source.limit();
+			// Explicit cast for compatibility with covariant return type on JDK 9's ByteBuffer
+			((Buffer) source).limit(offset + length);
+			((Buffer) source).position(offset);
+			this.carryOver.put(source);
+			((Buffer) source).limit(limit);
+		}
+
+		private String decode(ByteBuffer source, int offset, int length) {
+			int position = source.position();
+			int limit = source.limit();
+			// Explicit cast for compatibility with covariant return type on JDK 9's ByteBuffer
+			((Buffer) source).limit(offset + length);
+			((Buffer) source).position(offset);
+			int capacity = (int) Math.ceil(length * (double) this.charsetDecoder.maxCharsPerByte());
+			if (this.charBuffer.capacity() < capacity) {
+				this.charBuffer = CharBuffer.allocate(capacity);
+			}
+			((Buffer) this.charBuffer).clear();
+			this.charsetDecoder.reset();
+			this.charsetDecoder.decode(source, this.charBuffer, true);
+			this.charsetDecoder.flush(this.charBuffer);
+			((Buffer) this.charBuffer).flip();
+			((Buffer) source).limit(limit);
+			((Buffer) source).position(position);
+			return this.charBuffer.toString();
+		}
+
+		/**
+		 * Return the remaining bytes as the last frame, if any. A stream that
+		 * did not contain any delimiter results in a single, possibly empty, frame.
+		 */
+		@Nullable
+		public String flush() {
+			int length = this.carryOver.position();
+			if (length == 0 && (!this.received || this.emitted)) {
+				return null;
+			}
+			checkFrameLength(length);
+			String frame = decode(this.carryOver, 0, length);
+			((Buffer) this.carryOver).clear();
+			this.emitted = true;
+			return frame;
+		}
+
+		public void release() {
+			DataBuffer dataBuffer = this.dataBuffer;
+			this.dataBuffer = null;
+			this.input = null;
+			if (dataBuffer != null) {
+				DataBufferUtils.release(dataBuffer);
+			}
+		}
+	}
+
 }
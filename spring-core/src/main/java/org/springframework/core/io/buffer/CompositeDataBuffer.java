@@ -0,0 +1,435 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.buffer;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.function.IntPredicate;
+
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * {@link DataBuffer} that presents a number of component buffers as a single,
+ * contiguous buffer without copying their contents. Created through
+ * {@link DefaultDataBufferFactory#join(List)}.
+ *
+ * <p>Data written to a composite buffer is appended in a new component that
+ * is owned by the composite. {@link #slice(int, int) Slices} are composites
+ * as well, sharing the components of this buffer. Note that
+ * {@link #asByteBuffer()} can only expose the data without copying if the
+ * readable bytes reside within a single component; otherwise a copy is made,
+ * in line with Netty's {@code CompositeByteBuf}.
+ *
+ * <p>A composite buffer takes over one reference to each of the given buffers,
+ * and releases them once its own reference count drops to zero.
+ *
+ * @author agent
+ * @since 5.0
+ * @see DataBufferFactory#join(List)
+ */
+public class CompositeDataBuffer implements PooledDataBuffer {
+
+	private static final AtomicIntegerFieldUpdater<CompositeDataBuffer> REF_COUNT_UPDATER =
+			AtomicIntegerFieldUpdater.newUpdater(CompositeDataBuffer.class, "refCount");
+
+	private static final int MIN_COMPONENT_CAPACITY = 256;
+
+
+	private final DataBufferFactory dataBufferFactory;
+
+	private final List<DataBuffer> dataBuffers;
+
+	private final CompositeDataBuffer root;
+
+	private ByteBuffer[] components;
+
+	private int[] offsets;
+
+	private int componentCount;
+
+	private int capacity;
+
+	private int readPosition;
+
+	private int writePosition;
+
+	private volatile int refCount = 1;
+
+
+	/**
+	 * Create a new {@code CompositeDataBuffer} for the readable bytes of the
+	 * given buffers.
+	 * @param dataBufferFactory the factory that created this buffer
+	 * @param dataBuffers the buffers to compose
+	 */
+	public CompositeDataBuffer(DataBufferFactory dataBufferFactory, List<? extends DataBuffer> dataBuffers) {
+		Assert.notNull(dataBufferFactory, "'dataBufferFactory' must not be null");
+		Assert.notNull(dataBuffers, "'dataBuffers' must not be null");
+		this.dataBufferFactory = dataBufferFactory;
+		this.dataBuffers = new ArrayList<>(dataBuffers);
+		this.root = this;
+		this.components = new ByteBuffer[Math.max(dataBuffers.size(), 1)];
+		this.offsets = new int[this.components.length];
+		for (DataBuffer dataBuffer : dataBuffers) {
+			if (dataBuffer.readableByteCount() > 0) {
+				addComponent(dataBuffer.asByteBuffer().slice());
+			}
+		}
+		this.writePosition = this.capacity;
+	}
+
+	private CompositeDataBuffer(CompositeDataBuffer root, ByteBuffer[] components) {
+		this.dataBufferFactory = root.dataBufferFactory;
+		this.dataBuffers = root.dataBuffers;
+		this.root = root;
+		this.components = new ByteBuffer[Math.max(components.length, 1)];
+		this.offsets = new int[this.components.length];
+		for (ByteBuffer component : components) {
+			addComponent(component);
+		}
+		this.writePosition = this.capacity;
+	}
+
+
+	@Override
+	public DataBufferFactory factory() {
+		return this.dataBufferFactory;
+	}
+
+	/**
+	 * Return the number of components of this buffer.
+	 */
+	public int getComponentCount() {
+		return this.componentCount;
+	}
+
+	@Override
+	public int indexOf(IntPredicate predicate, int fromIndex) {
+		Assert.notNull(predicate, "'predicate' must not be null");
+		if (fromIndex < 0) {
+			fromIndex = 0;
+		}
+		else if (fromIndex >= this.writePosition) {
+			return -1;
+		}
+		for (int i = componentIndex(fromIndex); i < this.componentCount; i++) {
+			ByteBuffer component = this.components[i];
+			int offset = this.offsets[i];
+			int end = Math.min(component.limit(), this.writePosition - offset);
+			for (int j = Math.max(fromIndex - offset, 0); j < end; j++) {
+				if (predicate.test(component.get(j))) {
+					return offset + j;
+				}
+			}
+		}
+		return -1;
+	}
+
+	@Override
+	public int lastIndexOf(IntPredicate predicate, int fromIndex) {
+		Assert.notNull(predicate, "'predicate' must not be null");
+		int index = Math.min(fromIndex, this.writePosition - 1);
+		if (index < 0) {
+			return -1;
+		}
+		for (int i = componentIndex(index); i >= 0; i--) {
+			ByteBuffer component = this.components[i];
+			int offset = this.offsets[i];
+			for (int j = Math.min(index - offset, component.limit() - 1); j >= 0; j--) {
+				if (predicate.test(component.get(j))) {
+					return offset + j;
+				}
+			}
+		}
+		return -1;
+	}
+
+	@Override
+	public int readableByteCount() {
+		return this.writePosition - this.readPosition;
+	}
+
+	@Override
+	public byte read() {
+		if (this.readPosition >= this.writePosition) {
+			throw new IndexOutOfBoundsException("No readable bytes left in " + this);
+		}
+		int i = componentIndex(this.readPosition);
+		byte b = this.components[i].get(this.readPosition - this.offsets[i]);
+		this.readPosition++;
+		return b;
+	}
+
+	@Override
+	public CompositeDataBuffer read(byte[] destination) {
+		Assert.notNull(destination, "'destination' must not be null");
+		return read(destination, 0, destination.length);
+	}
+
+	@Override
+	public CompositeDataBuffer read(byte[] destination, int offset, int length) {
+		Assert.notNull(destination, "'destination' must not be null");
+		if (length > readableByteCount()) {
+			throw new IndexOutOfBoundsException("Cannot read " + length + " bytes from " + this);
+		}
+		int remaining = length;
+		int i = componentIndex(this.readPosition);
+		while (remaining > 0) {
+			ByteBuffer component = this.components[i];
+			int position = this.readPosition - this.offsets[i];
+			int count = Math.min(remaining, component.limit() - position);
+			// Explicit cast for compatibility with covariant return type on JDK 9's ByteBuffer
+			((Buffer) component).position(position);
+			component.get(destination, offset + length - remaining, count);
+			this.readPosition += count;
+			remaining -= count;
+			i++;
+		}
+		return this;
+	}
+
+	@Override
+	public CompositeDataBuffer write(byte b) {
+		ensureExtraCapacity(1);
+		int i = componentIndex(this.writePosition);
+		this.components[i].put(this.writePosition - this.offsets[i], b);
+		this.writePosition++;
+		return this;
+	}
+
+	@Override
+	public CompositeDataBuffer write(byte[] source) {
+		Assert.notNull(source, "'source' must not be null");
+		return write(source, 0, source.length);
+	}
+
+	@Override
+	public CompositeDataBuffer write(byte[] source, int offset, int length) {
+		Assert.notNull(source, "'source' must not be null");
+		return write(ByteBuffer.wrap(source, offset, length));
+	}
+
+	@Override
+	public CompositeDataBuffer write(DataBuffer... buffers) {
+		if (!ObjectUtils.isEmpty(buffers)) {
+			write(Arrays.stream(buffers).map(DataBuffer::asByteBuffer).toArray(ByteBuffer[]::new));
+		}
+		return this;
+	}
+
+	@Override
+	public CompositeDataBuffer write(ByteBuffer... byteBuffers) {
+		Assert.notEmpty(byteBuffers, "'byteBuffers' must not be empty");
+		int extraCapacity = Arrays.stream(byteBuffers).mapToInt(ByteBuffer::remaining).sum();
+		ensureExtraCapacity(extraCapacity);
+		for (ByteBuffer byteBuffer : byteBuffers) {
+			ByteBuffer source = byteBuffer.duplicate();
+			while (source.hasRemaining()) {
+				int i = componentIndex(this.writePosition);
+				ByteBuffer component = this.components[i];
+				int position = this.writePosition - this.offsets[i];
+				int count = Math.min(source.remaining(), component.limit() - position);
+				ByteBuffer chunk = source.duplicate();
+				// Explicit cast for compatibility with covariant return type on JDK 9's ByteBuffer
+				((Buffer) chunk).limit(chunk.position() + count);
+				((Buffer) component).position(position);
+				component.put(chunk);
+				((Buffer) source).position(source.position() + count);
+				this.writePosition += count;
+			}
+		}
+		return this;
+	}
+
+	private void ensureExtraCapacity(int extraCapacity) {
+		int neededCapacity = this.writePosition + extraCapacity;
+		if (neededCapacity > this.capacity) {
+			if (this.root != this) {
+				throw new UnsupportedOperationException(
+						"Growing the capacity of a sliced buffer is not supported");
+			}
+			addComponent(ByteBuffer.allocate(Math.max(neededCapacity - this.capacity, MIN_COMPONENT_CAPACITY)));
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>The returned slice shares the components, as well as the reference
+	 * count, of this buffer.
+	 */
+	@Override
+	public CompositeDataBuffer slice(int index, int length) {
+		if (index < 0 || length < 0 || index + length > this.capacity) {
+			throw new IndexOutOfBoundsException(
+					"Slice [" + index + ", " + (index + length) + ") out of bounds for " + this);
+		}
+		List<ByteBuffer> slices = new ArrayList<>();
+		int remaining = length;
+		for (int i = componentIndex(index); remaining > 0; i++) {
+			ByteBuffer component = this.components[i].duplicate();
+			int position = index + length - remaining - this.offsets[i];
+			int count = Math.min(remaining, component.limit() - position);
+			// Explicit cast for compatibility with covariant return type on JDK 9's ByteBuffer
+			((Buffer) component).position(position).limit(position + count);
+			slices.add(component.slice());
+			remaining -= count;
+		}
+		return new CompositeDataBuffer(this.root, slices.toArray(new ByteBuffer[slices.size()]));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>Note that the returned buffer only shares data with this buffer
+	 * if the readable bytes reside in a single component.
+	 */
+	@Override
+	public ByteBuffer asByteBuffer() {
+		int readable = readableByteCount();
+		if (readable == 0) {
+			return ByteBuffer.allocate(0);
+		}
+		int i = componentIndex(this.readPosition);
+		int position = this.readPosition - this.offsets[i];
+		if (position + readable <= this.components[i].limit()) {
+			ByteBuffer duplicate = this.components[i].duplicate();
+			// Explicit cast for compatibility with covariant return type on JDK 9's ByteBuffer
+			((Buffer) duplicate).position(position).limit(position + readable);
+			return duplicate;
+		}
+		int readPosition = this.readPosition;
+		byte[] bytes = new byte[readable];
+		read(bytes);
+		this.readPosition = readPosition;
+		return ByteBuffer.wrap(bytes);
+	}
+
+	@Override
+	public InputStream asInputStream() {
+		return new CompositeDataBufferInputStream();
+	}
+
+	@Override
+	public OutputStream asOutputStream() {
+		return new CompositeDataBufferOutputStream();
+	}
+
+	@Override
+	public CompositeDataBuffer retain() {
+		for (;;) {
+			int count = this.root.refCount;
+			if (count <= 0) {
+				throw new IllegalStateException("Cannot retain a released buffer: " + this);
+			}
+			if (REF_COUNT_UPDATER.compareAndSet(this.root, count, count + 1)) {
+				return this;
+			}
+		}
+	}
+
+	@Override
+	public boolean release() {
+		for (;;) {
+			int count = this.root.refCount;
+			if (count <= 0) {
+				throw new IllegalStateException("Buffer has already been released: " + this);
+			}
+			if (REF_COUNT_UPDATER.compareAndSet(this.root, count, count - 1)) {
+				if (count == 1) {
+					this.dataBuffers.forEach(DataBufferUtils::release);
+					return true;
+				}
+				return false;
+			}
+		}
+	}
+
+	private void addComponent(ByteBuffer component) {
+		if (this.componentCount == this.components.length) {
+			this.components = Arrays.copyOf(this.components, this.componentCount * 2);
+			this.offsets = Arrays.copyOf(this.offsets, this.componentCount * 2);
+		}
+		this.components[this.componentCount] = component;
+		this.offsets[this.componentCount] = this.capacity;
+		this.componentCount++;
+		this.capacity += component.limit();
+	}
+
+	/**
+	 * Return the index of the component that contains the given index,
+	 * which must be smaller than {@link #capacity}.
+	 */
+	private int componentIndex(int index) {
+		int i = Arrays.binarySearch(this.offsets, 0, this.componentCount, index);
+		return (i >= 0 ? i : -i - 2);
+	}
+
+
+	@Override
+	public String toString() {
+		return "CompositeDataBuffer (components=" + this.componentCount + ", readPosition=" +
+				this.readPosition + ", writePosition=" + this.writePosition + ")";
+	}
+
+
+	private class CompositeDataBufferInputStream extends InputStream {
+
+		@Override
+		public int available() {
+			return readableByteCount();
+		}
+
+		@Override
+		public int read() {
+			return (readableByteCount() > 0 ? CompositeDataBuffer.this.read() & 0xFF : -1);
+		}
+
+		@Override
+		public int read(byte[] bytes, int off, int len) {
+			int count = readableByteCount();
+			if (count > 0) {
+				int minLen = Math.min(len, count);
+				CompositeDataBuffer.this.read(bytes, off, minLen);
+				return minLen;
+			}
+			else {
+				return -1;
+			}
+		}
+	}
+
+
+	private class CompositeDataBufferOutputStream extends OutputStream {
+
+		@Override
+		public void write(int b) {
+			CompositeDataBuffer.this.write((byte) b);
+		}
+
+		@Override
+		public void write(byte[] bytes, int off, int len) {
+			CompositeDataBuffer.this.write(bytes, off, len);
+		}
+	}
+
+}
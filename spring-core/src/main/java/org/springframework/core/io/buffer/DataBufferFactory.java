@@ -17,6 +17,9 @@
 package org.springframework.core.io.buffer;
 
 import java.nio.ByteBuffer;
+import java.util.List;
+
+import org.springframework.util.Assert;
 
 /**
  * A factory for {@link DataBuffer}s,allowing for allocation and wrapping of
@@ -59,4 +62,32 @@ public interface DataBufferFactory {
 	 */
 	DataBuffer wrap(byte[] bytes);
 
+	/**
+	 * Return a new {@code DataBuffer} composed of the given data buffers,
+	 * without copying their contents where possible. The returned buffer takes
+	 * over the given buffers: releasing it releases them as well, and they
+	 * should not be used independently afterwards.
+	 * <p>The default implementation allocates a new buffer, copies the readable
+	 * bytes of the given buffers into it, and releases them.
+	 * @param dataBuffers the data buffers to be composed
+	 * @return a buffer that contains all readable bytes of {@code dataBuffers},
+	 * in the given order
+	 */
+	default DataBuffer join(List<? extends DataBuffer> dataBuffers) {
+		Assert.notEmpty(dataBuffers, "'dataBuffers' must not be empty");
+		int capacity = 0;
+		for (DataBuffer dataBuffer : dataBuffers) {
+			capacity += dataBuffer.readableByteCount();
+		}
+		DataBuffer result = allocateBuffer(capacity);
+		for (DataBuffer dataBuffer : dataBuffers) {
+			// Copy the bytes, since write(DataBuffer...) may compose rather than copy
+			byte[] bytes = new byte[dataBuffer.readableByteCount()];
+			dataBuffer.read(bytes);
+			result.write(bytes);
+			DataBufferUtils.release(dataBuffer);
+		}
+		return result;
+	}
+
 }
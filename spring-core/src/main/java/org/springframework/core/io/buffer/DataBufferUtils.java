@@ -23,13 +23,19 @@ import java.nio.channels.AsynchronousFileChannel;
 import java.nio.channels.Channel;
 import java.nio.channels.Channels;
 import java.nio.channels.CompletionHandler;
+import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiFunction;
 
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
 import reactor.core.publisher.SynchronousSink;
 
 import org.springframework.lang.Nullable;
@@ -44,6 +50,9 @@ import org.springframework.util.Assert;
  */
 public abstract class DataBufferUtils {
 
+	private static final int DEFAULT_MAPPED_REGION_SIZE = 1024 * 1024;
+
+
 	/**
 	 * Read the given {@code InputStream} into a {@code Flux} of
 	 * {@code DataBuffer}s. Closes the input stream when the flux is terminated.
@@ -123,6 +132,52 @@ public abstract class DataBufferUtils {
 		});
 	}
 
+	/**
+	 * Map the given region of the file at the given {@code Path} into memory,
+	 * and expose it as a {@code Flux} of read-only {@code DataBuffer}s, each
+	 * backed by a {@link java.nio.MappedByteBuffer} of at most 1 MB.
+	 * <p>In contrast to the {@code read} variants, file contents are not copied
+	 * into heap buffers; pages are loaded by the operating system on access.
+	 * @param path the path of the file to map
+	 * @param position the position within the file at which the region starts
+	 * @param count the number of bytes to map; truncated at the end of the file
+	 * @param dataBufferFactory the factory to wrap the mapped buffers with
+	 * @return a flux of read-only data buffers mapped from the given file
+	 * @see #mmap(Path, long, long, DataBufferFactory, int)
+	 */
+	public static Flux<DataBuffer> mmap(Path path, long position, long count,
+			DataBufferFactory dataBufferFactory) {
+
+		return mmap(path, position, count, dataBufferFactory, DEFAULT_MAPPED_REGION_SIZE);
+	}
+
+	/**
+	 * Map the given region of the file at the given {@code Path} into memory,
+	 * and expose it as a {@code Flux} of read-only {@code DataBuffer}s, each
+	 * backed by a {@link java.nio.MappedByteBuffer}. The underlying file channel
+	 * is closed when the flux is terminated; the mapped buffers remain valid
+	 * until garbage collected.
+	 * @param path the path of the file to map
+	 * @param position the position within the file at which the region starts
+	 * @param count the number of bytes to map; truncated at the end of the file
+	 * @param dataBufferFactory the factory to wrap the mapped buffers with
+	 * @param regionSize the maximum size of each mapped buffer
+	 * @return a flux of read-only data buffers mapped from the given file
+	 */
+	public static Flux<DataBuffer> mmap(Path path, long position, long count,
+			DataBufferFactory dataBufferFactory, int regionSize) {
+
+		Assert.notNull(path, "'path' must not be null");
+		Assert.notNull(dataBufferFactory, "'dataBufferFactory' must not be null");
+		Assert.isTrue(position >= 0, "'position' must be >= 0");
+		Assert.isTrue(count >= 0, "'count' must be >= 0");
+		Assert.isTrue(regionSize > 0, "'regionSize' must be larger than 0");
+
+		return Flux.generate(() -> FileChannel.open(path, StandardOpenOption.READ),
+				new MappedRegionGenerator(dataBufferFactory, position, count, regionSize),
+				DataBufferUtils::closeChannel);
+	}
+
 	private static void closeChannel(@Nullable Channel channel) {
 		try {
 			if (channel != null) {
@@ -201,6 +256,27 @@ public abstract class DataBufferUtils {
 				});
 	}
 
+	/**
+	 * Compose all data buffers emitted by the given publisher into a single
+	 * buffer, using {@link DataBufferFactory#join(List)} of the factory that
+	 * created the first buffer. Depending on that factory, the result is a
+	 * composite buffer that does not copy the data of the received buffers.
+	 * @param dataBuffers the data buffers to be composed
+	 * @return a mono with the composed buffer, or an empty mono if the publisher
+	 * did not emit any buffers
+	 */
+	public static Mono<DataBuffer> join(Publisher<DataBuffer> dataBuffers) {
+		Assert.notNull(dataBuffers, "'dataBuffers' must not be null");
+		return Mono.defer(() -> {
+			JoinedBuffers joined = new JoinedBuffers();
+			return Flux.from(dataBuffers)
+					.collect(() -> joined, JoinedBuffers::add)
+					.doOnError(ex -> joined.releaseAll())
+					.doOnCancel(joined::releaseAll)
+					.flatMap(JoinedBuffers::join);
+		});
+	}
+
 	/**
 	 * Retain the given data buffer, it it is a {@link PooledDataBuffer}.
 	 * @param dataBuffer the data buffer to retain
@@ -229,6 +305,42 @@ public abstract class DataBufferUtils {
 	}
 
 
+	/**
+	 * Buffers collected by {@link #join(Publisher)}, released if the join
+	 * does not complete, including buffers that arrive after a cancellation.
+	 */
+	private static class JoinedBuffers {
+
+		private final List<DataBuffer> buffers = new ArrayList<>();
+
+		private boolean released;
+
+		public synchronized void add(DataBuffer dataBuffer) {
+			if (this.released) {
+				release(dataBuffer);
+			}
+			else {
+				this.buffers.add(dataBuffer);
+			}
+		}
+
+		public synchronized void releaseAll() {
+			this.released = true;
+			this.buffers.forEach(DataBufferUtils::release);
+			this.buffers.clear();
+		}
+
+		public synchronized Mono<DataBuffer> join() {
+			if (this.released || this.buffers.isEmpty()) {
+				return Mono.empty();
+			}
+			List<DataBuffer> list = new ArrayList<>(this.buffers);
+			this.buffers.clear();
+			return Mono.just(list.get(0).factory().join(list));
+		}
+	}
+
+
 	private static class ReadableByteChannelGenerator
 			implements BiFunction<ReadableByteChannel, SynchronousSink<DataBuffer>, ReadableByteChannel> {
 
@@ -272,6 +384,54 @@ public abstract class DataBufferUtils {
 		}
 	}
 
+	private static class MappedRegionGenerator
+			implements BiFunction<FileChannel, SynchronousSink<DataBuffer>, FileChannel> {
+
+		private final DataBufferFactory dataBufferFactory;
+
+		private final int regionSize;
+
+		private long position;
+
+		private long remaining;
+
+		private boolean initialized;
+
+		public MappedRegionGenerator(DataBufferFactory dataBufferFactory,
+				long position, long count, int regionSize) {
+
+			this.dataBufferFactory = dataBufferFactory;
+			this.regionSize = regionSize;
+			this.position = position;
+			this.remaining = count;
+		}
+
+		@Override
+		public FileChannel apply(FileChannel channel, SynchronousSink<DataBuffer> sub) {
+			try {
+				if (!this.initialized) {
+					// Read-only mappings cannot extend past the end of the file
+					this.remaining = Math.min(this.remaining, Math.max(0, channel.size() - this.position));
+					this.initialized = true;
+				}
+				if (this.remaining > 0) {
+					int size = (int) Math.min(this.remaining, this.regionSize);
+					ByteBuffer byteBuffer = channel.map(FileChannel.MapMode.READ_ONLY, this.position, size);
+					this.position += size;
+					this.remaining -= size;
+					sub.next(this.dataBufferFactory.wrap(byteBuffer));
+				}
+				else {
+					sub.complete();
+				}
+			}
+			catch (IOException ex) {
+				sub.error(ex);
+			}
+			return channel;
+		}
+	}
+
 	private static class AsynchronousFileChannelCompletionHandler
 			implements CompletionHandler<Integer, AsynchronousFileChannel> {
 
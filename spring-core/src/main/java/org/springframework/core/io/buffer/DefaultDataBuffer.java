@@ -301,9 +301,7 @@ public class DefaultDataBuffer implements DataBuffer {
 
 	void grow(int capacity) {
 		ByteBuffer oldBuffer = this.byteBuffer;
-		ByteBuffer newBuffer =
-				(oldBuffer.isDirect() ? ByteBuffer.allocateDirect(capacity) :
-						ByteBuffer.allocate(capacity));
+		ByteBuffer newBuffer = allocateNativeBuffer(capacity, oldBuffer.isDirect());
 
 		final int remaining = readableByteCount();
 		// Explicit cast for compatibility with covariant return type on JDK 9's ByteBuffer
@@ -315,6 +313,28 @@ public class DefaultDataBuffer implements DataBuffer {
 		this.writePosition = remaining;
 		// Explicit cast for compatibility with covariant return type on JDK 9's ByteBuffer
 		((Buffer) oldBuffer).clear();
+		releaseNativeBuffer(oldBuffer);
+	}
+
+	/**
+	 * Allocate a new native buffer of the given capacity when growing.
+	 * Subclasses may override this to obtain the buffer from a pool.
+	 * @param capacity the capacity of the buffer to allocate
+	 * @param direct whether to allocate a direct buffer
+	 * @see #releaseNativeBuffer(ByteBuffer)
+	 */
+	ByteBuffer allocateNativeBuffer(int capacity, boolean direct) {
+		return (direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity));
+	}
+
+	/**
+	 * Callback for a native buffer that has been replaced by a larger one
+	 * when growing. The default implementation does nothing, leaving the
+	 * buffer to the garbage collector.
+	 * @param byteBuffer the native buffer that is no longer used
+	 * @see #allocateNativeBuffer(int, boolean)
+	 */
+	void releaseNativeBuffer(ByteBuffer byteBuffer) {
 	}
 
 
@@ -17,9 +17,11 @@
 package org.springframework.core.io.buffer;
 
 import java.nio.ByteBuffer;
+import java.util.List;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 
 import org.springframework.util.Assert;
@@ -83,6 +85,32 @@ public class NettyDataBufferFactory implements DataBufferFactory {
 		return new NettyDataBuffer(byteBuf, this);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>This implementation returns the given buffer if there is only one,
+	 * and a buffer based on a Netty {@link CompositeByteBuf} otherwise. The
+	 * contents of buffers other than {@link NettyDataBuffer}s are copied, and
+	 * those buffers released.
+	 */
+	@Override
+	public DataBuffer join(List<? extends DataBuffer> dataBuffers) {
+		Assert.notEmpty(dataBuffers, "'dataBuffers' must not be empty");
+		if (dataBuffers.size() == 1) {
+			return dataBuffers.get(0);
+		}
+		CompositeByteBuf composite = this.byteBufAllocator.compositeBuffer(dataBuffers.size());
+		for (DataBuffer dataBuffer : dataBuffers) {
+			if (dataBuffer instanceof NettyDataBuffer) {
+				composite.addComponent(true, ((NettyDataBuffer) dataBuffer).getNativeBuffer());
+			}
+			else {
+				composite.addComponent(true, Unpooled.copiedBuffer(dataBuffer.asByteBuffer()));
+				DataBufferUtils.release(dataBuffer);
+			}
+		}
+		return new NettyDataBuffer(composite, this);
+	}
+
 	/**
 	 * Return the given Netty {@link DataBuffer} as a {@link ByteBuf}. Returns the
 	 * {@linkplain NettyDataBuffer#getNativeBuffer() native buffer} if {@code buffer} is
@@ -0,0 +1,524 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.buffer;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Extension of {@link DefaultDataBufferFactory} that recycles the underlying
+ * {@link ByteBuffer}s of the data buffers it allocates, without depending on
+ * Netty. Buffers returned from {@link #allocateBuffer(int)} implement
+ * {@link PooledDataBuffer} and are returned to the pool once their reference
+ * count drops to zero, e.g. through {@link DataBufferUtils#release(DataBuffer)}.
+ *
+ * <p>Capacities are rounded up to power-of-two size classes, starting at 64
+ * bytes. Released buffers are first kept in a small per-thread cache, and
+ * overflow into a shared arena whose total capacity is bounded by
+ * {@link #setMaxArenaCapacity}. Requests above {@link #setMaxPooledCapacity}
+ * are served by regular, unpooled allocations.
+ *
+ * <p>Buffers created through {@link #wrap(ByteBuffer)} or {@link #wrap(byte[])}
+ * are never pooled.
+ *
+ * @author agent
+ * @since 5.0
+ * @see PooledDataBuffer
+ */
+public class PooledDataBufferFactory extends DefaultDataBufferFactory {
+
+	/**
+	 * The default maximum capacity of buffers that are pooled.
+	 * @see #setMaxPooledCapacity(int)
+	 */
+	public static final int DEFAULT_MAX_POOLED_CAPACITY = 64 * 1024;
+
+	/**
+	 * The default maximum number of buffers per size class kept in a thread cache.
+	 * @see #setMaxCachedBuffersPerThread(int)
+	 */
+	public static final int DEFAULT_MAX_CACHED_BUFFERS_PER_THREAD = 16;
+
+	/**
+	 * The default maximum number of bytes held by the shared arena.
+	 * @see #setMaxArenaCapacity(long)
+	 */
+	public static final long DEFAULT_MAX_ARENA_CAPACITY = 32 * 1024 * 1024;
+
+	private static final int MIN_SIZE_CLASS_SHIFT = 6;
+
+	private static final int MAX_SIZE_CLASS_SHIFT = 22;
+
+	private static final int SIZE_CLASS_COUNT = MAX_SIZE_CLASS_SHIFT - MIN_SIZE_CLASS_SHIFT + 1;
+
+	private static final Log logger = LogFactory.getLog(PooledDataBufferFactory.class);
+
+
+	private final boolean preferDirect;
+
+	private final Queue<ByteBuffer>[] arena;
+
+	private final AtomicLong arenaCapacity = new AtomicLong();
+
+	private final ThreadLocal<ThreadCache> threadCache = ThreadLocal.withInitial(ThreadCache::new);
+
+	private volatile int maxPooledCapacity = DEFAULT_MAX_POOLED_CAPACITY;
+
+	private volatile int maxCachedBuffersPerThread = DEFAULT_MAX_CACHED_BUFFERS_PER_THREAD;
+
+	private volatile long maxArenaCapacity = DEFAULT_MAX_ARENA_CAPACITY;
+
+	private volatile boolean leakDetection;
+
+	private final ReferenceQueue<PooledDefaultDataBuffer> leakQueue = new ReferenceQueue<>();
+
+	private final Set<LeakTracker> leakTrackers = ConcurrentHashMap.newKeySet();
+
+	private final LongAdder allocationCount = new LongAdder();
+
+	private final LongAdder threadCacheHitCount = new LongAdder();
+
+	private final LongAdder arenaHitCount = new LongAdder();
+
+	private final LongAdder unpooledAllocationCount = new LongAdder();
+
+	private final LongAdder releaseCount = new LongAdder();
+
+	private final LongAdder activeBufferCount = new LongAdder();
+
+	private final LongAdder leakCount = new LongAdder();
+
+
+	/**
+	 * Creates a new {@code PooledDataBufferFactory} with default settings.
+	 */
+	public PooledDataBufferFactory() {
+		this(false);
+	}
+
+	/**
+	 * Creates a new {@code PooledDataBufferFactory}, indicating whether direct
+	 * buffers should be pooled and created by {@link #allocateBuffer()} and
+	 * {@link #allocateBuffer(int)}.
+	 * @param preferDirect {@code true} if direct buffers are to be preferred;
+	 * {@code false} otherwise
+	 */
+	public PooledDataBufferFactory(boolean preferDirect) {
+		this(preferDirect, DEFAULT_INITIAL_CAPACITY);
+	}
+
+	/**
+	 * Creates a new {@code PooledDataBufferFactory}, indicating whether direct
+	 * buffers should be pooled and created by {@link #allocateBuffer()} and
+	 * {@link #allocateBuffer(int)}, and what the capacity is to be used for
+	 * {@link #allocateBuffer()}.
+	 * @param preferDirect {@code true} if direct buffers are to be preferred;
+	 * {@code false} otherwise
+	 */
+	@SuppressWarnings("unchecked")
+	public PooledDataBufferFactory(boolean preferDirect, int defaultInitialCapacity) {
+		super(preferDirect, defaultInitialCapacity);
+		this.preferDirect = preferDirect;
+		this.arena = new Queue[SIZE_CLASS_COUNT];
+		for (int i = 0; i < SIZE_CLASS_COUNT; i++) {
+			this.arena[i] = new ConcurrentLinkedQueue<>();
+		}
+	}
+
+
+	/**
+	 * Set the maximum capacity of buffers that are pooled. Larger buffers are
+	 * allocated and released without pooling. The value is rounded up to the
+	 * next size class, and may not exceed 4 MB.
+	 * <p>By default this is set to {@value #DEFAULT_MAX_POOLED_CAPACITY}.
+	 */
+	public void setMaxPooledCapacity(int maxPooledCapacity) {
+		Assert.isTrue(maxPooledCapacity >= 0 && maxPooledCapacity <= (1 << MAX_SIZE_CLASS_SHIFT),
+				"'maxPooledCapacity' must be between 0 and 4 MB");
+		this.maxPooledCapacity = maxPooledCapacity;
+	}
+
+	/**
+	 * Return the configured maximum capacity of pooled buffers.
+	 */
+	public int getMaxPooledCapacity() {
+		return this.maxPooledCapacity;
+	}
+
+	/**
+	 * Set the maximum number of released buffers that each thread keeps per
+	 * size class before handing them over to the shared arena. Set this to 0
+	 * in order to disable thread-local caching.
+	 * <p>By default this is set to {@value #DEFAULT_MAX_CACHED_BUFFERS_PER_THREAD}.
+	 */
+	public void setMaxCachedBuffersPerThread(int maxCachedBuffersPerThread) {
+		Assert.isTrue(maxCachedBuffersPerThread >= 0, "'maxCachedBuffersPerThread' must be 0 or higher");
+		this.maxCachedBuffersPerThread = maxCachedBuffersPerThread;
+	}
+
+	/**
+	 * Return the configured maximum number of cached buffers per thread and size class.
+	 */
+	public int getMaxCachedBuffersPerThread() {
+		return this.maxCachedBuffersPerThread;
+	}
+
+	/**
+	 * Set the maximum number of bytes that the shared arena holds on to.
+	 * Released buffers that do not fit are left to the garbage collector.
+	 * <p>By default this is set to 32 MB.
+	 */
+	public void setMaxArenaCapacity(long maxArenaCapacity) {
+		Assert.isTrue(maxArenaCapacity >= 0, "'maxArenaCapacity' must be 0 or higher");
+		this.maxArenaCapacity = maxArenaCapacity;
+	}
+
+	/**
+	 * Return the configured maximum number of bytes held by the shared arena.
+	 */
+	public long getMaxArenaCapacity() {
+		return this.maxArenaCapacity;
+	}
+
+	/**
+	 * Specify whether to detect buffers that are garbage collected without
+	 * having been released. Leaks are logged at warn level, together with the
+	 * stack trace of the allocation.
+	 * <p>Note that recording allocation sites is expensive: this is meant as a
+	 * diagnostic aid during development and testing. Default is {@code false}.
+	 */
+	public void setLeakDetection(boolean leakDetection) {
+		this.leakDetection = leakDetection;
+	}
+
+	/**
+	 * Return whether leak detection is enabled.
+	 */
+	public boolean isLeakDetection() {
+		return this.leakDetection;
+	}
+
+
+	@Override
+	public DefaultDataBuffer allocateBuffer(int initialCapacity) {
+		Assert.isTrue(initialCapacity >= 0, "'initialCapacity' must be 0 or higher");
+		ByteBuffer byteBuffer = acquire(initialCapacity, this.preferDirect);
+		PooledDefaultDataBuffer dataBuffer = new PooledDefaultDataBuffer(byteBuffer, this);
+		if (this.leakDetection) {
+			detectLeaks();
+			LeakTracker leakTracker = new LeakTracker(dataBuffer, this.leakQueue);
+			this.leakTrackers.add(leakTracker);
+			dataBuffer.setLeakTracker(leakTracker);
+		}
+		this.activeBufferCount.increment();
+		return dataBuffer;
+	}
+
+	/**
+	 * Return a snapshot of the statistics of this pool.
+	 */
+	public PoolStatistics getStatistics() {
+		detectLeaks();
+		return new PoolStatistics(this.allocationCount.sum(), this.threadCacheHitCount.sum(),
+				this.arenaHitCount.sum(), this.unpooledAllocationCount.sum(), this.releaseCount.sum(),
+				this.activeBufferCount.sum(), this.arenaCapacity.get(), this.leakCount.sum());
+	}
+
+	/**
+	 * Remove all buffers from the shared arena, leaving them to the garbage
+	 * collector. Thread-local caches are not affected.
+	 */
+	public void trimArena() {
+		for (Queue<ByteBuffer> queue : this.arena) {
+			ByteBuffer byteBuffer;
+			while ((byteBuffer = queue.poll()) != null) {
+				this.arenaCapacity.addAndGet(-byteBuffer.capacity());
+			}
+		}
+	}
+
+
+	/**
+	 * Obtain a native buffer with at least the given capacity, from the thread
+	 * cache, the shared arena, or through a new allocation.
+	 */
+	ByteBuffer acquire(int capacity, boolean direct) {
+		this.allocationCount.increment();
+		int index = sizeClassIndex(capacity);
+		if (index < 0 || direct != this.preferDirect) {
+			this.unpooledAllocationCount.increment();
+			return allocate(capacity, direct);
+		}
+		ByteBuffer byteBuffer = this.threadCache.get().poll(index);
+		if (byteBuffer != null) {
+			this.threadCacheHitCount.increment();
+			return byteBuffer;
+		}
+		byteBuffer = this.arena[index].poll();
+		if (byteBuffer != null) {
+			this.arenaCapacity.addAndGet(-byteBuffer.capacity());
+			this.arenaHitCount.increment();
+			return byteBuffer;
+		}
+		return allocate(1 << (index + MIN_SIZE_CLASS_SHIFT), direct);
+	}
+
+	/**
+	 * Return the given native buffer to the pool, if it fits one of the size classes.
+	 */
+	void recycle(ByteBuffer byteBuffer) {
+		int capacity = byteBuffer.capacity();
+		int index = sizeClassIndex(capacity);
+		if (index < 0 || capacity != (1 << (index + MIN_SIZE_CLASS_SHIFT)) ||
+				byteBuffer.isDirect() != this.preferDirect || byteBuffer.isReadOnly()) {
+			return;
+		}
+		// Explicit cast for compatibility with covariant return type on JDK 9's ByteBuffer
+		((Buffer) byteBuffer).clear();
+		if (this.threadCache.get().offer(index, byteBuffer, this.maxCachedBuffersPerThread)) {
+			return;
+		}
+		if (this.arenaCapacity.addAndGet(capacity) <= this.maxArenaCapacity) {
+			this.arena[index].offer(byteBuffer);
+		}
+		else {
+			this.arenaCapacity.addAndGet(-capacity);
+		}
+	}
+
+	/**
+	 * Called by a {@link PooledDefaultDataBuffer} once its reference count
+	 * reaches zero.
+	 */
+	void deallocate(PooledDefaultDataBuffer dataBuffer) {
+		LeakTracker leakTracker = dataBuffer.getLeakTracker();
+		if (leakTracker != null) {
+			leakTracker.clear();
+			this.leakTrackers.remove(leakTracker);
+		}
+		this.releaseCount.increment();
+		this.activeBufferCount.decrement();
+		recycle(dataBuffer.getNativeBuffer());
+	}
+
+	private int sizeClassIndex(int capacity) {
+		if (capacity > this.maxPooledCapacity) {
+			return -1;
+		}
+		if (capacity <= (1 << MIN_SIZE_CLASS_SHIFT)) {
+			return 0;
+		}
+		int shift = 32 - Integer.numberOfLeadingZeros(capacity - 1);
+		return (shift <= MAX_SIZE_CLASS_SHIFT ? shift - MIN_SIZE_CLASS_SHIFT : -1);
+	}
+
+	private static ByteBuffer allocate(int capacity, boolean direct) {
+		return (direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity));
+	}
+
+	private void detectLeaks() {
+		Reference<? extends PooledDefaultDataBuffer> reference;
+		while ((reference = this.leakQueue.poll()) != null) {
+			LeakTracker leakTracker = (LeakTracker) reference;
+			if (this.leakTrackers.remove(leakTracker)) {
+				this.leakCount.increment();
+				this.activeBufferCount.decrement();
+				if (logger.isWarnEnabled()) {
+					logger.warn("DataBuffer was garbage collected before being released. " +
+							"Use DataBufferUtils.release(DataBuffer) once it is no longer needed.",
+							leakTracker.allocationSite);
+				}
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "PooledDataBufferFactory (preferDirect=" + this.preferDirect + ")";
+	}
+
+
+	/**
+	 * Per-thread cache of released buffers, indexed by size class.
+	 * Only accessed by its owning thread, so no synchronization is needed.
+	 */
+	private static class ThreadCache {
+
+		@SuppressWarnings("unchecked")
+		private final ArrayDeque<ByteBuffer>[] queues = new ArrayDeque[SIZE_CLASS_COUNT];
+
+		@Nullable
+		public ByteBuffer poll(int index) {
+			ArrayDeque<ByteBuffer> queue = this.queues[index];
+			return (queue != null ? queue.pollLast() : null);
+		}
+
+		public boolean offer(int index, ByteBuffer byteBuffer, int maxSize) {
+			if (maxSize <= 0) {
+				return false;
+			}
+			ArrayDeque<ByteBuffer> queue = this.queues[index];
+			if (queue == null) {
+				queue = new ArrayDeque<>(maxSize);
+				this.queues[index] = queue;
+			}
+			else if (queue.size() >= maxSize) {
+				return false;
+			}
+			queue.addLast(byteBuffer);
+			return true;
+		}
+	}
+
+
+	/**
+	 * Weak reference to an allocated buffer, enqueued if that buffer becomes
+	 * unreachable without having been released.
+	 */
+	static class LeakTracker extends WeakReference<PooledDefaultDataBuffer> {
+
+		private final Throwable allocationSite = new Throwable("DataBuffer allocation site");
+
+		LeakTracker(PooledDefaultDataBuffer referent, ReferenceQueue<PooledDefaultDataBuffer> queue) {
+			super(referent, queue);
+		}
+	}
+
+
+	/**
+	 * Snapshot of the statistics of a {@link PooledDataBufferFactory}.
+	 */
+	public static class PoolStatistics {
+
+		private final long allocationCount;
+
+		private final long threadCacheHitCount;
+
+		private final long arenaHitCount;
+
+		private final long unpooledAllocationCount;
+
+		private final long releaseCount;
+
+		private final long activeBufferCount;
+
+		private final long arenaCapacity;
+
+		private final long leakCount;
+
+		PoolStatistics(long allocationCount, long threadCacheHitCount, long arenaHitCount,
+				long unpooledAllocationCount, long releaseCount, long activeBufferCount,
+				long arenaCapacity, long leakCount) {
+
+			this.allocationCount = allocationCount;
+			this.threadCacheHitCount = threadCacheHitCount;
+			this.arenaHitCount = arenaHitCount;
+			this.unpooledAllocationCount = unpooledAllocationCount;
+			this.releaseCount = releaseCount;
+			this.activeBufferCount = activeBufferCount;
+			this.arenaCapacity = arenaCapacity;
+			this.leakCount = leakCount;
+		}
+
+		/**
+		 * Return the number of native buffer allocations requested, including
+		 * those needed for growing a buffer.
+		 */
+		public long getAllocationCount() {
+			return this.allocationCount;
+		}
+
+		/**
+		 * Return the number of allocations served from a thread-local cache.
+		 */
+		public long getThreadCacheHitCount() {
+			return this.threadCacheHitCount;
+		}
+
+		/**
+		 * Return the number of allocations served from the shared arena.
+		 */
+		public long getArenaHitCount() {
+			return this.arenaHitCount;
+		}
+
+		/**
+		 * Return the number of allocations that were too large to be pooled.
+		 */
+		public long getUnpooledAllocationCount() {
+			return this.unpooledAllocationCount;
+		}
+
+		/**
+		 * Return the number of buffers whose reference count dropped to zero.
+		 */
+		public long getReleaseCount() {
+			return this.releaseCount;
+		}
+
+		/**
+		 * Return the number of buffers that were allocated but not released yet.
+		 */
+		public long getActiveBufferCount() {
+			return this.activeBufferCount;
+		}
+
+		/**
+		 * Return the number of bytes currently held by the shared arena.
+		 */
+		public long getArenaCapacity() {
+			return this.arenaCapacity;
+		}
+
+		/**
+		 * Return the number of leaked buffers detected so far. Only tracked
+		 * if {@linkplain PooledDataBufferFactory#setLeakDetection leak detection} is enabled.
+		 */
+		public long getLeakCount() {
+			return this.leakCount;
+		}
+
+		@Override
+		public String toString() {
+			return "PoolStatistics [allocations=" + this.allocationCount +
+					", threadCacheHits=" + this.threadCacheHitCount +
+					", arenaHits=" + this.arenaHitCount +
+					", unpooledAllocations=" + this.unpooledAllocationCount +
+					", releases=" + this.releaseCount +
+					", activeBuffers=" + this.activeBufferCount +
+					", arenaCapacity=" + this.arenaCapacity +
+					", leaks=" + this.leakCount + "]";
+		}
+	}
+
+}
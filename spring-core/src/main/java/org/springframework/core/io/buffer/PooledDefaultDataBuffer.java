@@ -0,0 +1,156 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.buffer;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Reference-counted {@link DefaultDataBuffer} whose underlying {@link ByteBuffer}
+ * is obtained from, and returned to, a {@link PooledDataBufferFactory}.
+ *
+ * <p>Slices share the reference count of the buffer they were created from,
+ * in line with Netty's {@code ByteBuf#slice} semantics.
+ *
+ * @author agent
+ * @since 5.0
+ * @see PooledDataBufferFactory
+ */
+class PooledDefaultDataBuffer extends DefaultDataBuffer implements PooledDataBuffer {
+
+	private static final AtomicIntegerFieldUpdater<PooledDefaultDataBuffer> REF_COUNT_UPDATER =
+			AtomicIntegerFieldUpdater.newUpdater(PooledDefaultDataBuffer.class, "refCount");
+
+
+	private final PooledDataBufferFactory dataBufferFactory;
+
+	private volatile int refCount = 1;
+
+	private volatile boolean sliced;
+
+	private PooledDataBufferFactory.LeakTracker leakTracker;
+
+
+	PooledDefaultDataBuffer(ByteBuffer byteBuffer, PooledDataBufferFactory dataBufferFactory) {
+		super(byteBuffer, dataBufferFactory);
+		this.dataBufferFactory = dataBufferFactory;
+	}
+
+
+	void setLeakTracker(PooledDataBufferFactory.LeakTracker leakTracker) {
+		this.leakTracker = leakTracker;
+	}
+
+	@Nullable
+	PooledDataBufferFactory.LeakTracker getLeakTracker() {
+		return this.leakTracker;
+	}
+
+	@Override
+	public PooledDataBufferFactory factory() {
+		return this.dataBufferFactory;
+	}
+
+	@Override
+	public PooledDefaultDataBuffer retain() {
+		for (;;) {
+			int count = this.refCount;
+			if (count <= 0) {
+				throw new IllegalStateException("Cannot retain a released buffer: " + this);
+			}
+			if (REF_COUNT_UPDATER.compareAndSet(this, count, count + 1)) {
+				return this;
+			}
+		}
+	}
+
+	@Override
+	public boolean release() {
+		for (;;) {
+			int count = this.refCount;
+			if (count <= 0) {
+				throw new IllegalStateException("Buffer has already been released: " + this);
+			}
+			if (REF_COUNT_UPDATER.compareAndSet(this, count, count - 1)) {
+				if (count == 1) {
+					this.dataBufferFactory.deallocate(this);
+					return true;
+				}
+				return false;
+			}
+		}
+	}
+
+	@Override
+	public DataBuffer slice(int index, int length) {
+		ByteBuffer duplicate = getNativeBuffer().duplicate();
+		// Explicit cast for compatibility with covariant return type on JDK 9's ByteBuffer
+		((Buffer) duplicate).position(index);
+		ByteBuffer slice = duplicate.slice();
+		((Buffer) slice).limit(length);
+		this.sliced = true;
+		return new SlicedPooledDataBuffer(slice, length, this);
+	}
+
+	@Override
+	ByteBuffer allocateNativeBuffer(int capacity, boolean direct) {
+		return this.dataBufferFactory.acquire(capacity, direct);
+	}
+
+	@Override
+	void releaseNativeBuffer(ByteBuffer byteBuffer) {
+		// Slices might still point to the old buffer: leave it to the garbage collector
+		if (!this.sliced) {
+			this.dataBufferFactory.recycle(byteBuffer);
+		}
+	}
+
+
+	/**
+	 * Slice of a {@link PooledDefaultDataBuffer}, sharing its reference count.
+	 */
+	private static class SlicedPooledDataBuffer extends DefaultDataBuffer implements PooledDataBuffer {
+
+		private final PooledDefaultDataBuffer parent;
+
+		SlicedPooledDataBuffer(ByteBuffer byteBuffer, int length, PooledDefaultDataBuffer parent) {
+			super(byteBuffer, 0, length, parent.factory());
+			this.parent = parent;
+		}
+
+		@Override
+		public PooledDataBuffer retain() {
+			this.parent.retain();
+			return this;
+		}
+
+		@Override
+		public boolean release() {
+			return this.parent.release();
+		}
+
+		@Override
+		void grow(int capacity) {
+			throw new UnsupportedOperationException(
+					"Growing the capacity of a sliced buffer is not supported");
+		}
+	}
+
+}
@@ -26,11 +26,16 @@ import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.net.URLConnection;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.zip.ZipException;
@@ -202,6 +207,8 @@ public class PathMatchingResourcePatternResolver implements ResourcePatternResol
 
 	private PathMatcher pathMatcher = new AntPathMatcher();
 
+	private Executor executor;
+
 
 	/**
 	 * Create a new PathMatchingResourcePatternResolver with a DefaultResourceLoader.
@@ -264,6 +271,32 @@ public class PathMatchingResourcePatternResolver implements ResourcePatternResol
 		return this.pathMatcher;
 	}
 
+	/**
+	 * Set an {@link Executor} for traversing the root directories of a
+	 * pattern concurrently, e.g. the jar files of several class path entries
+	 * that all contain the root package of a "classpath*:" pattern.
+	 * <p>Matching resources are returned in the same order as for sequential
+	 * traversal, i.e. grouped by root directory in class path order.
+	 * Default is none, traversing all root directories in the calling thread.
+	 * <p>Note that the configured {@link PathMatcher} needs to be thread-safe
+	 * (which the default {@link AntPathMatcher} is), and that the executor
+	 * should not be bounded by any task which waits for this resolver.
+	 * @since 5.0
+	 * @see #findPathMatchingResources
+	 */
+	public void setExecutor(@Nullable Executor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * Return the {@link Executor} for traversing root directories concurrently, if any.
+	 * @since 5.0
+	 */
+	@Nullable
+	public Executor getExecutor() {
+		return this.executor;
+	}
+
 
 	@Override
 	public Resource getResource(String location) {
@@ -460,26 +493,40 @@ public class PathMatchingResourcePatternResolver implements ResourcePatternResol
 		String subPattern = locationPattern.substring(rootDirPath.length());
 		Resource[] rootDirResources = getResources(rootDirPath);
 		Set<Resource> result = new LinkedHashSet<>(16);
-		for (Resource rootDirResource : rootDirResources) {
-			rootDirResource = resolveRootDirResource(rootDirResource);
-			URL rootDirUrl = rootDirResource.getURL();
-			if (equinoxResolveMethod != null) {
-				if (rootDirUrl.getProtocol().startsWith("bundle")) {
-					URL resolvedUrl = (URL) ReflectionUtils.invokeMethod(equinoxResolveMethod, null, rootDirUrl);
-					if (resolvedUrl != null) {
-						rootDirUrl = resolvedUrl;
+		if (this.executor != null && rootDirResources.length > 1) {
+			List<CompletableFuture<Set<Resource>>> futures = new ArrayList<>(rootDirResources.length);
+			for (Resource rootDirResource : rootDirResources) {
+				futures.add(CompletableFuture.supplyAsync(() -> {
+					try {
+						return findMatchingResourcesInRootDir(rootDirResource, subPattern);
 					}
-					rootDirResource = new UrlResource(rootDirUrl);
-				}
-			}
-			if (rootDirUrl.getProtocol().startsWith(ResourceUtils.URL_PROTOCOL_VFS)) {
-				result.addAll(VfsResourceMatchingDelegate.findMatchingResources(rootDirUrl, subPattern, getPathMatcher()));
+					catch (IOException ex) {
+						throw new CompletionException(ex);
+					}
+				}, this.executor));
 			}
-			else if (ResourceUtils.isJarURL(rootDirUrl) || isJarResource(rootDirResource)) {
-				result.addAll(doFindPathMatchingJarResources(rootDirResource, rootDirUrl, subPattern));
+			for (CompletableFuture<Set<Resource>> future : futures) {
+				try {
+					result.addAll(future.join());
+				}
+				catch (CompletionException ex) {
+					Throwable cause = ex.getCause();
+					if (cause instanceof IOException) {
+						throw (IOException) cause;
+					}
+					if (cause instanceof RuntimeException) {
+						throw (RuntimeException) cause;
+					}
+					if (cause instanceof Error) {
+						throw (Error) cause;
+					}
+					throw ex;
+				}
 			}
-			else {
-				result.addAll(doFindPathMatchingFileResources(rootDirResource, subPattern));
+		}
+		else {
+			for (Resource rootDirResource : rootDirResources) {
+				result.addAll(findMatchingResourcesInRootDir(rootDirResource, subPattern));
 			}
 		}
 		if (logger.isDebugEnabled()) {
@@ -488,6 +535,39 @@ public class PathMatchingResourcePatternResolver implements ResourcePatternResol
 		return result.toArray(new Resource[result.size()]);
 	}
 
+	/**
+	 * Find all resources underneath the given root directory that match
+	 * the given sub pattern, as part of {@link #findPathMatchingResources}.
+	 * @param rootDirResource the root directory as Resource
+	 * @param subPattern the sub pattern to match (below the root directory)
+	 * @return the Set of matching Resource instances
+	 * @throws IOException in case of I/O errors
+	 */
+	private Set<Resource> findMatchingResourcesInRootDir(Resource rootDirResource, String subPattern)
+			throws IOException {
+
+		rootDirResource = resolveRootDirResource(rootDirResource);
+		URL rootDirUrl = rootDirResource.getURL();
+		if (equinoxResolveMethod != null) {
+			if (rootDirUrl.getProtocol().startsWith("bundle")) {
+				URL resolvedUrl = (URL) ReflectionUtils.invokeMethod(equinoxResolveMethod, null, rootDirUrl);
+				if (resolvedUrl != null) {
+					rootDirUrl = resolvedUrl;
+				}
+				rootDirResource = new UrlResource(rootDirUrl);
+			}
+		}
+		if (rootDirUrl.getProtocol().startsWith(ResourceUtils.URL_PROTOCOL_VFS)) {
+			return VfsResourceMatchingDelegate.findMatchingResources(rootDirUrl, subPattern, getPathMatcher());
+		}
+		else if (ResourceUtils.isJarURL(rootDirUrl) || isJarResource(rootDirResource)) {
+			return doFindPathMatchingJarResources(rootDirResource, rootDirUrl, subPattern);
+		}
+		else {
+			return doFindPathMatchingFileResources(rootDirResource, subPattern);
+		}
+	}
+
 	/**
 	 * Determine the root directory for the given location.
 	 * <p>Used for determining the starting point for file matching,
@@ -0,0 +1,7 @@
+/**
+ * Support package for recording metrics during application startup.
+ */
+@NonNullApi
+package org.springframework.core.metrics;
+
+import org.springframework.lang.NonNullApi;
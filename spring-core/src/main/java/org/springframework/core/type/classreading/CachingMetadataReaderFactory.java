@@ -125,14 +125,21 @@ public class CachingMetadataReaderFactory extends SimpleMetadataReaderFactory {
 			return metadataReader;
 		}
 		else if (this.metadataReaderCache != null) {
+			MetadataReader metadataReader;
 			synchronized (this.metadataReaderCache) {
-				MetadataReader metadataReader = this.metadataReaderCache.get(resource);
-				if (metadataReader == null) {
-					metadataReader = super.getMetadataReader(resource);
-					this.metadataReaderCache.put(resource, metadataReader);
+				metadataReader = this.metadataReaderCache.get(resource);
+			}
+			if (metadataReader == null) {
+				// Read outside of the lock, allowing for concurrent class file parsing
+				metadataReader = super.getMetadataReader(resource);
+				synchronized (this.metadataReaderCache) {
+					MetadataReader existing = this.metadataReaderCache.putIfAbsent(resource, metadataReader);
+					if (existing != null) {
+						metadataReader = existing;
+					}
 				}
-				return metadataReader;
 			}
+			return metadataReader;
 		}
 		else {
 			return super.getMetadataReader(resource);
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.type.classreading;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Pre-recorded snapshot of the parts of a class file that annotation metadata
+ * is derived from: the class declaration, its inner class entries, and the
+ * annotations declared on the class and on its methods and constructors.
+ *
+ * <p>A snapshot is replayed into the same ASM visitors that back the regular
+ * {@link MetadataReader} implementation, resulting in identical metadata without
+ * having to locate and parse the class file. Snapshots are typically recorded
+ * at build time, e.g. by the {@code spring-context-indexer} annotation processor.
+ *
+ * <p>The content of a snapshot is a sequence of records written through a
+ * {@link java.io.DataOutput}, following the structure of the class file:
+ * <ul>
+ * <li>class header: {@code int access}, {@code UTF name} (internal form),
+ * {@code UTF superName} (empty if none), {@code short count}, {@code UTF interface}*</li>
+ * <li>any number of records, each starting with a tag byte:
+ * {@code 'O'} outer class ({@code UTF owner}),
+ * {@code 'N'} inner class ({@code int access}, {@code UTF name}, {@code UTF outerName},
+ * {@code UTF innerName}, with empty names standing for {@code null}),
+ * {@code 'A'} class annotation ({@code UTF descriptor}, {@code boolean visible}, values),
+ * {@code 'M'} method or constructor ({@code int access}, {@code UTF name},
+ * {@code UTF descriptor}, {@code short count}, annotation*)</li>
+ * <li>a terminating {@code 'E'} tag</li>
+ * </ul>
+ * Annotation values are written as {@code short count} followed by
+ * {@code UTF name} and element value pairs, with element values tagged
+ * as in the class file format ({@code B C D F I J S Z s e c @ [}).
+ *
+ * <p>A file containing several snapshots starts with a {@code short}
+ * format version and consists of {@code UTF className}, {@code int length}
+ * and {@code byte[] content} entries.
+ *
+ * @author agent
+ * @since 5.0
+ * @see #getMetadataReader
+ * @see #readSnapshots
+ */
+public final class MetadataSnapshot {
+
+	/**
+	 * The version of the format written by {@link #writeSnapshots}.
+	 */
+	public static final short FORMAT_VERSION = 1;
+
+
+	private final String className;
+
+	private final byte[] content;
+
+
+	/**
+	 * Create a new {@code MetadataSnapshot} for the given class.
+	 * @param className the fully qualified name of the class
+	 * @param content the recorded class file structures, as described above
+	 */
+	public MetadataSnapshot(String className, byte[] content) {
+		Assert.hasText(className, "Class name must not be empty");
+		Assert.notNull(content, "Content must not be null");
+		this.className = className;
+		this.content = content;
+	}
+
+
+	/**
+	 * Return the fully qualified name of the recorded class.
+	 */
+	public String getClassName() {
+		return this.className;
+	}
+
+	/**
+	 * Return the recorded class file structures.
+	 */
+	public byte[] getContent() {
+		return this.content;
+	}
+
+	/**
+	 * Replay this snapshot into a {@link MetadataReader}.
+	 * @param resource the resource that the class file would be read from
+	 * (exposed through the reader but not actually read)
+	 * @param classLoader the ClassLoader to use for resolving annotation types
+	 * @return the metadata reader for the recorded class
+	 * @throws IOException if the snapshot content is corrupt
+	 */
+	public MetadataReader getMetadataReader(Resource resource, @Nullable ClassLoader classLoader)
+			throws IOException {
+
+		return new SnapshotMetadataReader(resource, classLoader, this.content);
+	}
+
+	@Override
+	public String toString() {
+		return "MetadataSnapshot for class [" + this.className + "]";
+	}
+
+
+	/**
+	 * Read all snapshots from the given stream, closing it afterwards.
+	 * @param in the stream to read from
+	 * @return the snapshots, in the order they have been written
+	 * @throws IOException in case of I/O errors or an unsupported format version
+	 */
+	public static List<MetadataSnapshot> readSnapshots(InputStream in) throws IOException {
+		List<MetadataSnapshot> snapshots = new ArrayList<>();
+		try (DataInputStream input = new DataInputStream(in)) {
+			short version = input.readShort();
+			if (version != FORMAT_VERSION) {
+				throw new IOException("Unsupported metadata snapshot format version: " + version);
+			}
+			while (true) {
+				String className;
+				try {
+					className = input.readUTF();
+				}
+				catch (EOFException ex) {
+					break;
+				}
+				byte[] content = new byte[input.readInt()];
+				input.readFully(content);
+				snapshots.add(new MetadataSnapshot(className, content));
+			}
+		}
+		return snapshots;
+	}
+
+	/**
+	 * Write the given snapshots to the given stream, leaving it open.
+	 * @param snapshots the snapshots to write
+	 * @param out the stream to write to
+	 * @throws IOException in case of I/O errors
+	 */
+	public static void writeSnapshots(Collection<MetadataSnapshot> snapshots, OutputStream out)
+			throws IOException {
+
+		DataOutputStream output = new DataOutputStream(out);
+		output.writeShort(FORMAT_VERSION);
+		for (MetadataSnapshot snapshot : snapshots) {
+			output.writeUTF(snapshot.getClassName());
+			output.writeInt(snapshot.getContent().length);
+			output.write(snapshot.getContent());
+		}
+		output.flush();
+	}
+
+}
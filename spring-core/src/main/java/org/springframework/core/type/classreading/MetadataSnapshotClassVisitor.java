@@ -0,0 +1,346 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.type.classreading;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Array;
+
+import org.springframework.asm.AnnotationVisitor;
+import org.springframework.asm.ClassVisitor;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.SpringAsmInfo;
+import org.springframework.asm.Type;
+import org.springframework.lang.Nullable;
+
+/**
+ * ASM class visitor that records the visited class file structures
+ * in the {@link MetadataSnapshot} content format.
+ *
+ * <p>Only the structures that {@link AnnotationMetadataReadingVisitor} takes
+ * into account are recorded: the class header, outer and inner class entries,
+ * class-level annotations, and annotated non-bridge methods and constructors.
+ *
+ * @author agent
+ * @since 5.0
+ * @see MetadataSnapshot
+ * @see SnapshotMetadataReader
+ */
+final class MetadataSnapshotClassVisitor extends ClassVisitor {
+
+	private final ByteArrayOutputStream content = new ByteArrayOutputStream(256);
+
+	private final DataOutputStream output = new DataOutputStream(this.content);
+
+
+	public MetadataSnapshotClassVisitor() {
+		super(SpringAsmInfo.ASM_VERSION);
+	}
+
+
+	/**
+	 * Return the recorded content, available once the class has been visited.
+	 * <p>Note that visiting a class which cannot be represented in the snapshot
+	 * format (e.g. because of a string value exceeding the limits of modified
+	 * UTF-8) results in an {@link UncheckedIOException}.
+	 */
+	public byte[] getContent() {
+		return this.content.toByteArray();
+	}
+
+
+	@Override
+	public void visit(int version, int access, String name, String signature,
+			@Nullable String superName, String[] interfaces) {
+
+		write(() -> {
+			this.output.writeInt(access);
+			this.output.writeUTF(name);
+			this.output.writeUTF(superName != null ? superName : "");
+			this.output.writeShort(interfaces.length);
+			for (String ifc : interfaces) {
+				this.output.writeUTF(ifc);
+			}
+		});
+	}
+
+	@Override
+	public void visitOuterClass(String owner, String name, String desc) {
+		write(() -> {
+			this.output.writeByte('O');
+			this.output.writeUTF(owner);
+		});
+	}
+
+	@Override
+	public void visitInnerClass(String name, @Nullable String outerName, @Nullable String innerName, int access) {
+		write(() -> {
+			this.output.writeByte('N');
+			this.output.writeInt(access);
+			this.output.writeUTF(name);
+			this.output.writeUTF(outerName != null ? outerName : "");
+			this.output.writeUTF(innerName != null ? innerName : "");
+		});
+	}
+
+	@Override
+	public AnnotationVisitor visitAnnotation(String desc, boolean visible) {
+		return new RecordingAnnotationVisitor(values -> {
+			this.output.writeByte('A');
+			this.output.writeUTF(desc);
+			this.output.writeBoolean(visible);
+			values.writeTo(this.output);
+		});
+	}
+
+	@Override
+	public MethodVisitor visitMethod(int access, String name, String desc, String signature, String[] exceptions) {
+		if ((access & Opcodes.ACC_BRIDGE) != 0) {
+			// Not exposed through AnnotationMetadataReadingVisitor anyway
+			return null;
+		}
+		return new RecordingMethodVisitor(access, name, desc);
+	}
+
+	@Override
+	public void visitEnd() {
+		write(() -> {
+			this.output.writeByte('E');
+			this.output.flush();
+		});
+	}
+
+
+	private static void write(IoAction action) {
+		try {
+			action.run();
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+
+	@FunctionalInterface
+	private interface IoAction {
+
+		void run() throws IOException;
+	}
+
+
+	@FunctionalInterface
+	private interface ValuesCallback {
+
+		void recorded(RecordedValues values) throws IOException;
+	}
+
+
+	/**
+	 * Buffer for a sequence of values, written once their count is known.
+	 */
+	private static class RecordedValues {
+
+		private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+
+		private final DataOutputStream output = new DataOutputStream(this.content);
+
+		private int count;
+
+		public void writeTo(DataOutputStream target) throws IOException {
+			target.writeShort(this.count);
+			this.content.writeTo(target);
+		}
+	}
+
+
+	private class RecordingMethodVisitor extends MethodVisitor {
+
+		private final int access;
+
+		private final String name;
+
+		private final String desc;
+
+		private final RecordedValues annotations = new RecordedValues();
+
+		public RecordingMethodVisitor(int access, String name, String desc) {
+			super(SpringAsmInfo.ASM_VERSION);
+			this.access = access;
+			this.name = name;
+			this.desc = desc;
+		}
+
+		@Override
+		public AnnotationVisitor visitAnnotation(String desc, boolean visible) {
+			this.annotations.count++;
+			return new RecordingAnnotationVisitor(values -> {
+				this.annotations.output.writeUTF(desc);
+				this.annotations.output.writeBoolean(visible);
+				values.writeTo(this.annotations.output);
+			});
+		}
+
+		@Override
+		public void visitEnd() {
+			if (this.annotations.count > 0) {
+				write(() -> {
+					output.writeByte('M');
+					output.writeInt(this.access);
+					output.writeUTF(this.name);
+					output.writeUTF(this.desc);
+					this.annotations.writeTo(output);
+				});
+			}
+		}
+	}
+
+
+	/**
+	 * Records name and value pairs of an annotation, or the elements of an
+	 * array value (with {@code null} names), handing them to a callback
+	 * once complete.
+	 */
+	private static class RecordingAnnotationVisitor extends AnnotationVisitor {
+
+		private final RecordedValues values = new RecordedValues();
+
+		private final boolean array;
+
+		private final ValuesCallback callback;
+
+		public RecordingAnnotationVisitor(ValuesCallback callback) {
+			this(false, callback);
+		}
+
+		private RecordingAnnotationVisitor(boolean array, ValuesCallback callback) {
+			super(SpringAsmInfo.ASM_VERSION);
+			this.array = array;
+			this.callback = callback;
+		}
+
+		@Override
+		public void visit(String name, Object value) {
+			write(() -> {
+				writeName(name);
+				DataOutputStream output = this.values.output;
+				if (value.getClass().isArray()) {
+					// Non-empty array of primitives, as exposed by ASM's ClassReader
+					int length = Array.getLength(value);
+					output.writeByte('[');
+					output.writeShort(length);
+					for (int i = 0; i < length; i++) {
+						writeSimpleValue(output, Array.get(value, i));
+					}
+				}
+				else {
+					writeSimpleValue(output, value);
+				}
+			});
+		}
+
+		@Override
+		public void visitEnum(String name, String desc, String value) {
+			write(() -> {
+				writeName(name);
+				this.values.output.writeByte('e');
+				this.values.output.writeUTF(desc);
+				this.values.output.writeUTF(value);
+			});
+		}
+
+		@Override
+		public AnnotationVisitor visitAnnotation(String name, String desc) {
+			write(() -> writeName(name));
+			return new RecordingAnnotationVisitor(nested -> {
+				this.values.output.writeByte('@');
+				this.values.output.writeUTF(desc);
+				nested.writeTo(this.values.output);
+			});
+		}
+
+		@Override
+		public AnnotationVisitor visitArray(String name) {
+			write(() -> writeName(name));
+			return new RecordingAnnotationVisitor(true, elements -> {
+				this.values.output.writeByte('[');
+				elements.writeTo(this.values.output);
+			});
+		}
+
+		@Override
+		public void visitEnd() {
+			write(() -> this.callback.recorded(this.values));
+		}
+
+		private void writeName(String name) throws IOException {
+			this.values.count++;
+			if (!this.array) {
+				this.values.output.writeUTF(name);
+			}
+		}
+
+		private static void writeSimpleValue(DataOutputStream output, Object value) throws IOException {
+			if (value instanceof Byte) {
+				output.writeByte('B');
+				output.writeByte((Byte) value);
+			}
+			else if (value instanceof Character) {
+				output.writeByte('C');
+				output.writeChar((Character) value);
+			}
+			else if (value instanceof Double) {
+				output.writeByte('D');
+				output.writeDouble((Double) value);
+			}
+			else if (value instanceof Float) {
+				output.writeByte('F');
+				output.writeFloat((Float) value);
+			}
+			else if (value instanceof Integer) {
+				output.writeByte('I');
+				output.writeInt((Integer) value);
+			}
+			else if (value instanceof Long) {
+				output.writeByte('J');
+				output.writeLong((Long) value);
+			}
+			else if (value instanceof Short) {
+				output.writeByte('S');
+				output.writeShort((Short) value);
+			}
+			else if (value instanceof Boolean) {
+				output.writeByte('Z');
+				output.writeBoolean((Boolean) value);
+			}
+			else if (value instanceof String) {
+				output.writeByte('s');
+				output.writeUTF((String) value);
+			}
+			else if (value instanceof Type) {
+				output.writeByte('c');
+				output.writeUTF(((Type) value).getDescriptor());
+			}
+			else {
+				throw new IOException("Unsupported annotation value: " + value);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,452 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.type.classreading;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.asm.ClassReader;
+import org.springframework.core.NestedIOException;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ResourceUtils;
+
+/**
+ * {@link MetadataReaderFactory} implementation that persists the metadata of
+ * every class it reads to a cache file, allowing subsequent runs to obtain
+ * that metadata without locating and parsing the class files again.
+ *
+ * <p>The metadata is stored in the {@link MetadataSnapshot} format, grouped
+ * by origin: the jar file (or outermost archive) that a class has been read
+ * from, or the class file itself for classes in a directory. Each origin is
+ * stamped with its last-modified timestamp and length; all entries of an
+ * origin are discarded as soon as the origin itself has changed. Resources
+ * that are neither files nor archive entries are not cached at all.
+ *
+ * <p>The cache file gets read into memory in one go on startup, with individual
+ * snapshots only being copied out on demand. It is deliberately not memory-mapped,
+ * since a mapped file cannot be replaced on some platforms (e.g. Windows) until
+ * the mapping has been garbage-collected. Newly read classes are kept in memory
+ * until {@link #persist()} is called, which writes a new cache file and
+ * atomically replaces the previous one where possible.
+ *
+ * <p>Note that the cached metadata is independent from the {@link ClassLoader}
+ * in use, so a cache file may be shared between applications that read the
+ * same jar files. Concurrent use of the same cache file by several running
+ * processes is supported on a last-writer-wins basis.
+ *
+ * @author agent
+ * @since 5.0
+ * @see MetadataSnapshot
+ * @see CachingMetadataReaderFactory
+ */
+public class PersistentMetadataReaderFactory extends SimpleMetadataReaderFactory {
+
+	private static final int CACHE_FILE_MAGIC = 0x53504D52;
+
+	private static final short CACHE_FILE_VERSION = MetadataSnapshot.FORMAT_VERSION;
+
+	private static final Log logger = LogFactory.getLog(PersistentMetadataReaderFactory.class);
+
+
+	private final File cacheFile;
+
+	private final Map<String, Origin> origins = new ConcurrentHashMap<>(64);
+
+	private volatile boolean modified;
+
+
+	/**
+	 * Create a new PersistentMetadataReaderFactory for the default class loader.
+	 * @param cacheFile the file to load the cached metadata from and to persist it to
+	 */
+	public PersistentMetadataReaderFactory(File cacheFile) {
+		super();
+		this.cacheFile = cacheFile;
+		load();
+	}
+
+	/**
+	 * Create a new PersistentMetadataReaderFactory for the given resource loader.
+	 * @param cacheFile the file to load the cached metadata from and to persist it to
+	 * @param resourceLoader the Spring ResourceLoader to use
+	 * (also determines the ClassLoader to use)
+	 */
+	public PersistentMetadataReaderFactory(File cacheFile, @Nullable ResourceLoader resourceLoader) {
+		super(resourceLoader);
+		this.cacheFile = cacheFile;
+		load();
+	}
+
+	/**
+	 * Create a new PersistentMetadataReaderFactory for the given class loader.
+	 * @param cacheFile the file to load the cached metadata from and to persist it to
+	 * @param classLoader the ClassLoader to use
+	 */
+	public PersistentMetadataReaderFactory(File cacheFile, @Nullable ClassLoader classLoader) {
+		super(classLoader);
+		this.cacheFile = cacheFile;
+		load();
+	}
+
+
+	/**
+	 * Return the file that the cached metadata is loaded from and persisted to.
+	 */
+	public final File getCacheFile() {
+		return this.cacheFile;
+	}
+
+	@Override
+	public MetadataReader getMetadataReader(Resource resource) throws IOException {
+		URL url = getURL(resource);
+		File originFile = (url != null ? determineOriginFile(url) : null);
+		if (originFile == null) {
+			return super.getMetadataReader(resource);
+		}
+		Origin origin = getValidOrigin(originFile);
+		String key = url.toString();
+		byte[] content = origin.getContent(key);
+		if (content == null) {
+			content = recordSnapshot(resource);
+			if (content == null) {
+				return super.getMetadataReader(resource);
+			}
+			origin.addContent(key, content);
+			this.modified = true;
+		}
+		return new SnapshotMetadataReader(resource, getResourceLoader().getClassLoader(), content);
+	}
+
+	/**
+	 * Write all cached metadata to the cache file, if anything has been added
+	 * or discarded since the cache file was loaded or last written.
+	 * <p>Origins which do not exist anymore are dropped in the process.
+	 * @throws IOException if the cache file could not be written
+	 */
+	public void persist() throws IOException {
+		if (!this.modified) {
+			return;
+		}
+		synchronized (this.origins) {
+			this.modified = false;
+			try {
+				writeCacheFile();
+			}
+			catch (IOException ex) {
+				this.modified = true;
+				throw ex;
+			}
+			if (logger.isDebugEnabled()) {
+				logger.debug("Persisted class metadata for " + this.origins.size() +
+						" origin(s) to " + this.cacheFile);
+			}
+		}
+	}
+
+
+	private void writeCacheFile() throws IOException {
+		File parent = this.cacheFile.getAbsoluteFile().getParentFile();
+		if (parent != null && !parent.exists() && !parent.mkdirs()) {
+			throw new IOException("Could not create directory for metadata cache file: " + parent);
+		}
+		// A unique temp file, so that concurrent writers never interleave their content
+		Path tempFile = Files.createTempFile(parent.toPath(), this.cacheFile.getName(), ".tmp");
+		try {
+			try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(
+					Files.newOutputStream(tempFile)))) {
+				output.writeInt(CACHE_FILE_MAGIC);
+				output.writeShort(CACHE_FILE_VERSION);
+				for (Origin origin : this.origins.values()) {
+					if (origin.file.exists()) {
+						origin.writeTo(output);
+					}
+				}
+				output.writeUTF("");
+			}
+			try {
+				Files.move(tempFile, this.cacheFile.toPath(),
+						StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			}
+			catch (AtomicMoveNotSupportedException ex) {
+				Files.move(tempFile, this.cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+		catch (IOException ex) {
+			Files.deleteIfExists(tempFile);
+			throw ex;
+		}
+	}
+
+	@Nullable
+	private URL getURL(Resource resource) {
+		try {
+			return resource.getURL();
+		}
+		catch (IOException ex) {
+			// Not resolvable to a URL -> no persistent caching.
+			return null;
+		}
+	}
+
+	@Nullable
+	private File determineOriginFile(URL url) {
+		try {
+			if (ResourceUtils.isJarURL(url)) {
+				URL archiveUrl = ResourceUtils.extractArchiveURL(url);
+				if (ResourceUtils.isFileURL(archiveUrl)) {
+					return ResourceUtils.getFile(archiveUrl).getAbsoluteFile();
+				}
+			}
+			else if (ResourceUtils.isFileURL(url)) {
+				return ResourceUtils.getFile(url).getAbsoluteFile();
+			}
+		}
+		catch (IOException ex) {
+			// Not resolvable to a file -> no persistent caching.
+		}
+		return null;
+	}
+
+	private Origin getValidOrigin(File originFile) {
+		String path = originFile.getPath();
+		Origin origin = this.origins.get(path);
+		if (origin != null && origin.isValid()) {
+			return origin;
+		}
+		// Not known yet or changed since it has been cached -> start over.
+		Origin newOrigin = new Origin(originFile);
+		if (origin == null) {
+			Origin existing = this.origins.putIfAbsent(path, newOrigin);
+			return (existing != null ? existing : newOrigin);
+		}
+		if (logger.isDebugEnabled()) {
+			logger.debug("Discarding cached class metadata for modified " + originFile);
+		}
+		this.origins.replace(path, origin, newOrigin);
+		this.modified = true;
+		return this.origins.getOrDefault(path, newOrigin);
+	}
+
+	@Nullable
+	private byte[] recordSnapshot(Resource resource) throws IOException {
+		ClassReader classReader;
+		try (InputStream is = new BufferedInputStream(resource.getInputStream())) {
+			classReader = new ClassReader(is);
+		}
+		catch (IllegalArgumentException ex) {
+			throw new NestedIOException("ASM ClassReader failed to parse class file - " +
+					"probably due to a new Java class file version that isn't supported yet: " + resource, ex);
+		}
+		MetadataSnapshotClassVisitor visitor = new MetadataSnapshotClassVisitor();
+		try {
+			classReader.accept(visitor, ClassReader.SKIP_DEBUG | ClassReader.SKIP_CODE | ClassReader.SKIP_FRAMES);
+		}
+		catch (UncheckedIOException ex) {
+			// Not representable as a snapshot -> regular (non-persistent) reading.
+			if (logger.isDebugEnabled()) {
+				logger.debug("Cannot cache class metadata for " + resource + ": " + ex.getCause().getMessage());
+			}
+			return null;
+		}
+		return visitor.getContent();
+	}
+
+	private void load() {
+		Assert.notNull(this.cacheFile, "Cache file must not be null");
+		if (!this.cacheFile.isFile() || this.cacheFile.length() == 0) {
+			return;
+		}
+		try {
+			ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(this.cacheFile.toPath()));
+			DataInputStream input = new DataInputStream(new ByteBufferInputStream(buffer));
+			if (input.readInt() != CACHE_FILE_MAGIC || input.readShort() != CACHE_FILE_VERSION) {
+				// Written by a different version -> start over.
+				this.modified = true;
+				return;
+			}
+			String path = input.readUTF();
+			while (!path.isEmpty()) {
+				Origin origin = new Origin(new File(path), input.readLong(), input.readLong());
+				int entryCount = input.readInt();
+				for (int i = 0; i < entryCount; i++) {
+					String key = input.readUTF();
+					int length = input.readInt();
+					origin.entries.put(key, new LoadedContent(buffer, buffer.position(), length));
+					buffer.position(buffer.position() + length);
+				}
+				this.origins.put(path, origin);
+				path = input.readUTF();
+			}
+			if (logger.isDebugEnabled()) {
+				logger.debug("Loaded class metadata for " + this.origins.size() + " origin(s) from " + this.cacheFile);
+			}
+		}
+		catch (IOException | RuntimeException ex) {
+			// Truncated or otherwise corrupt -> start over.
+			if (logger.isWarnEnabled()) {
+				logger.warn("Ignoring corrupt metadata cache file " + this.cacheFile + ": " + ex);
+			}
+			this.origins.clear();
+			this.modified = true;
+		}
+	}
+
+
+	/**
+	 * A jar file or class file that cached metadata has been read from,
+	 * along with the stamp that it had at that time.
+	 */
+	private static class Origin {
+
+		final File file;
+
+		final long lastModified;
+
+		final long length;
+
+		final Map<String, Object> entries = new ConcurrentHashMap<>();
+
+		private volatile boolean validated;
+
+		public Origin(File file) {
+			this(file, file.lastModified(), file.length());
+			this.validated = true;
+		}
+
+		public Origin(File file, long lastModified, long length) {
+			this.file = file;
+			this.lastModified = lastModified;
+			this.length = length;
+		}
+
+		/**
+		 * Check the stamp against the current state of the file,
+		 * once per factory lifetime.
+		 */
+		public boolean isValid() {
+			if (!this.validated) {
+				if (this.file.lastModified() != this.lastModified || this.file.length() != this.length) {
+					return false;
+				}
+				this.validated = true;
+			}
+			return true;
+		}
+
+		@Nullable
+		public byte[] getContent(String key) {
+			Object content = this.entries.get(key);
+			return (content instanceof LoadedContent ? ((LoadedContent) content).getBytes() : (byte[]) content);
+		}
+
+		public void addContent(String key, byte[] content) {
+			this.entries.put(key, content);
+		}
+
+		public void writeTo(DataOutputStream output) throws IOException {
+			output.writeUTF(this.file.getPath());
+			output.writeLong(this.lastModified);
+			output.writeLong(this.length);
+			Map<String, Object> entries = new LinkedHashMap<>(this.entries);
+			output.writeInt(entries.size());
+			for (Map.Entry<String, Object> entry : entries.entrySet()) {
+				Object value = entry.getValue();
+				byte[] content = (value instanceof LoadedContent ? ((LoadedContent) value).getBytes() : (byte[]) value);
+				output.writeUTF(entry.getKey());
+				output.writeInt(content.length);
+				output.write(content);
+			}
+		}
+	}
+
+
+	/**
+	 * Snapshot content within the loaded cache file.
+	 */
+	private static class LoadedContent {
+
+		private final ByteBuffer buffer;
+
+		private final int offset;
+
+		private final int length;
+
+		public LoadedContent(ByteBuffer buffer, int offset, int length) {
+			this.buffer = buffer;
+			this.offset = offset;
+			this.length = length;
+		}
+
+		public byte[] getBytes() {
+			byte[] bytes = new byte[this.length];
+			ByteBuffer view = this.buffer.duplicate();
+			view.position(this.offset);
+			view.get(bytes);
+			return bytes;
+		}
+	}
+
+
+	/**
+	 * Unbuffered {@link InputStream} over a {@link ByteBuffer}, advancing its position.
+	 */
+	private static class ByteBufferInputStream extends InputStream {
+
+		private final ByteBuffer buffer;
+
+		public ByteBufferInputStream(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		@Override
+		public int read() {
+			return (this.buffer.hasRemaining() ? (this.buffer.get() & 0xFF) : -1);
+		}
+
+		@Override
+		public int read(byte[] bytes, int off, int len) {
+			if (!this.buffer.hasRemaining()) {
+				return -1;
+			}
+			int count = Math.min(len, this.buffer.remaining());
+			this.buffer.get(bytes, off, count);
+			return count;
+		}
+	}
+
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.type.classreading;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.lang.reflect.Array;
+
+import org.springframework.asm.AnnotationVisitor;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Type;
+import org.springframework.core.io.Resource;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.ClassMetadata;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link MetadataReader} implementation that replays a {@link MetadataSnapshot}
+ * into an {@link AnnotationMetadataReadingVisitor}, mirroring the visitor events
+ * that an ASM {@link org.springframework.asm.ClassReader} would emit.
+ *
+ * <p>Package-visible in order to allow for repackaging the ASM library
+ * without effect on users of the {@code core.type} package.
+ *
+ * @author agent
+ * @since 5.0
+ * @see SimpleMetadataReader
+ */
+final class SnapshotMetadataReader implements MetadataReader {
+
+	private final Resource resource;
+
+	private final AnnotationMetadataReadingVisitor metadata;
+
+
+	SnapshotMetadataReader(Resource resource, @Nullable ClassLoader classLoader, byte[] content)
+			throws IOException {
+
+		this.resource = resource;
+		this.metadata = new AnnotationMetadataReadingVisitor(classLoader);
+		replay(new DataInputStream(new ByteArrayInputStream(content)), this.metadata);
+	}
+
+
+	@Override
+	public Resource getResource() {
+		return this.resource;
+	}
+
+	@Override
+	public ClassMetadata getClassMetadata() {
+		return this.metadata;
+	}
+
+	@Override
+	public AnnotationMetadata getAnnotationMetadata() {
+		return this.metadata;
+	}
+
+
+	private static void replay(DataInputStream input, AnnotationMetadataReadingVisitor visitor) throws IOException {
+		int access = input.readInt();
+		String name = input.readUTF();
+		String superName = readOptionalName(input);
+		String[] interfaces = new String[input.readUnsignedShort()];
+		for (int i = 0; i < interfaces.length; i++) {
+			interfaces[i] = input.readUTF();
+		}
+		visitor.visit(0, access, name, null, superName, interfaces);
+
+		while (true) {
+			byte tag = input.readByte();
+			switch (tag) {
+				case 'O':
+					visitor.visitOuterClass(input.readUTF(), null, null);
+					break;
+				case 'N':
+					int innerAccess = input.readInt();
+					String innerName = input.readUTF();
+					visitor.visitInnerClass(innerName, readOptionalName(input), readOptionalName(input), innerAccess);
+					break;
+				case 'A':
+					replayAnnotation(input, visitor.visitAnnotation(input.readUTF(), input.readBoolean()));
+					break;
+				case 'M':
+					MethodVisitor methodVisitor = visitor.visitMethod(
+							input.readInt(), input.readUTF(), input.readUTF(), null, null);
+					int annotationCount = input.readUnsignedShort();
+					for (int i = 0; i < annotationCount; i++) {
+						replayAnnotation(input, methodVisitor.visitAnnotation(input.readUTF(), input.readBoolean()));
+					}
+					methodVisitor.visitEnd();
+					break;
+				case 'E':
+					visitor.visitEnd();
+					return;
+				default:
+					throw new IOException("Corrupt metadata snapshot for class [" + name + "]: unexpected tag " + tag);
+			}
+		}
+	}
+
+	@Nullable
+	private static String readOptionalName(DataInputStream input) throws IOException {
+		String name = input.readUTF();
+		return (name.isEmpty() ? null : name);
+	}
+
+	private static void replayAnnotation(DataInputStream input, AnnotationVisitor visitor) throws IOException {
+		int count = input.readUnsignedShort();
+		for (int i = 0; i < count; i++) {
+			replayValue(input, input.readUTF(), visitor);
+		}
+		visitor.visitEnd();
+	}
+
+	private static void replayValue(DataInputStream input, @Nullable String name, AnnotationVisitor visitor)
+			throws IOException {
+
+		byte tag = input.readByte();
+		switch (tag) {
+			case 'e':
+				visitor.visitEnum(name, input.readUTF(), input.readUTF());
+				break;
+			case '@':
+				replayAnnotation(input, visitor.visitAnnotation(name, input.readUTF()));
+				break;
+			case '[':
+				replayArray(input, name, visitor);
+				break;
+			default:
+				visitor.visit(name, readSimpleValue(input, tag));
+		}
+	}
+
+	private static void replayArray(DataInputStream input, @Nullable String name, AnnotationVisitor visitor)
+			throws IOException {
+
+		int length = input.readUnsignedShort();
+		if (length == 0) {
+			visitor.visitArray(name).visitEnd();
+			return;
+		}
+		byte tag = input.readByte();
+		Class<?> primitiveType = getPrimitiveType(tag);
+		if (primitiveType != null) {
+			// Like ASM's ClassReader, expose non-empty arrays of primitives as a single value
+			Object array = Array.newInstance(primitiveType, length);
+			Array.set(array, 0, readSimpleValue(input, tag));
+			for (int i = 1; i < length; i++) {
+				Array.set(array, i, readSimpleValue(input, input.readByte()));
+			}
+			visitor.visit(name, array);
+			return;
+		}
+		AnnotationVisitor arrayVisitor = visitor.visitArray(name);
+		for (int i = 0; i < length; i++) {
+			byte elementTag = (i == 0 ? tag : input.readByte());
+			switch (elementTag) {
+				case 'e':
+					arrayVisitor.visitEnum(null, input.readUTF(), input.readUTF());
+					break;
+				case '@':
+					replayAnnotation(input, arrayVisitor.visitAnnotation(null, input.readUTF()));
+					break;
+				default:
+					arrayVisitor.visit(null, readSimpleValue(input, elementTag));
+			}
+		}
+		arrayVisitor.visitEnd();
+	}
+
+	private static Object readSimpleValue(DataInputStream input, byte tag) throws IOException {
+		switch (tag) {
+			case 'B': return input.readByte();
+			case 'C': return input.readChar();
+			case 'D': return input.readDouble();
+			case 'F': return input.readFloat();
+			case 'I': return input.readInt();
+			case 'J': return input.readLong();
+			case 'S': return input.readShort();
+			case 'Z': return input.readBoolean();
+			case 's': return input.readUTF();
+			case 'c': return Type.getType(input.readUTF());
+			default: throw new IOException("Corrupt metadata snapshot: unexpected value tag " + tag);
+		}
+	}
+
+	@Nullable
+	private static Class<?> getPrimitiveType(byte tag) {
+		switch (tag) {
+			case 'B': return byte.class;
+			case 'C': return char.class;
+			case 'D': return double.class;
+			case 'F': return float.class;
+			case 'I': return int.class;
+			case 'J': return long.class;
+			case 'S': return short.class;
+			case 'Z': return boolean.class;
+			default: return null;
+		}
+	}
+
+}
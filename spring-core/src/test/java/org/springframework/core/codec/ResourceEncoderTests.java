@@ -26,6 +26,7 @@ import reactor.test.StepVerifier;
 
 import org.springframework.core.ResolvableType;
 import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.buffer.AbstractDataBufferAllocatingTestCase;
@@ -74,4 +75,19 @@ public class ResourceEncoderTests extends AbstractDataBufferAllocatingTestCase {
 				.verify();
 	}
 
-}
\ No newline at end of file
+	@Test
+	public void encodeMemoryMapped() throws Exception {
+		this.encoder.setMemoryMappingThreshold(0);
+		Resource resource = new ClassPathResource("DataBufferUtilsTests.txt", DataBuffer.class);
+
+		Flux<DataBuffer> output = this.encoder.encode(Mono.just(resource), this.bufferFactory,
+				ResolvableType.forClass(Resource.class),
+				null, Collections.emptyMap());
+
+		StepVerifier.create(output)
+				.consumeNextWith(stringConsumer("foobarbazqux"))
+				.expectComplete()
+				.verify();
+	}
+
+}
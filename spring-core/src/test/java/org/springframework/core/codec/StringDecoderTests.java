@@ -16,6 +16,8 @@
 
 package org.springframework.core.codec;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Collections;
 
 import org.junit.Test;
@@ -84,6 +86,75 @@ public class StringDecoderTests extends AbstractDataBufferAllocatingTestCase {
 
 	}
 
+	@Test
+	public void decodeNewLineAcrossBuffers() throws InterruptedException {
+		Flux<DataBuffer> source = Flux.just(stringBuffer("foo\nb"), stringBuffer("a"), stringBuffer("r\nbaz"));
+		Flux<String> output = this.decoder.decode(source, ResolvableType.forClass(String.class),
+				null, Collections.emptyMap());
+
+		StepVerifier.create(output)
+				.expectNext("foo\n", "bar\n", "baz")
+				.expectComplete()
+				.verify();
+	}
+
+	@Test
+	public void decodeDelimiters() throws InterruptedException {
+		this.decoder = StringDecoder.allMimeTypes(StringDecoder.DEFAULT_DELIMITERS, true);
+		Flux<DataBuffer> source = Flux.just(stringBuffer("foo\r"), stringBuffer("\nbar\nb"),
+				stringBuffer("az\r\n\r\nqux"));
+		Flux<String> output = this.decoder.decode(source, ResolvableType.forClass(String.class),
+				null, Collections.emptyMap());
+
+		StepVerifier.create(output)
+				.expectNext("foo", "bar", "baz", "", "qux")
+				.expectComplete()
+				.verify();
+	}
+
+	@Test
+	public void decodeMultiByteDelimiter() throws InterruptedException {
+		this.decoder = StringDecoder.allMimeTypes(Collections.singletonList("--"), false);
+		Flux<DataBuffer> source = Flux.just(stringBuffer("foo-"), stringBuffer("-bar-baz-"),
+				stringBuffer("--"));
+		Flux<String> output = this.decoder.decode(source, ResolvableType.forClass(String.class),
+				null, Collections.emptyMap());
+
+		StepVerifier.create(output)
+				.expectNext("foo--", "bar-baz--", "-")
+				.expectComplete()
+				.verify();
+	}
+
+	@Test
+	public void decodeCharacterAcrossBuffers() throws InterruptedException {
+		this.decoder = StringDecoder.allMimeTypes(StringDecoder.DEFAULT_DELIMITERS, true);
+		byte[] bytes = "\u00e9t\u00e9\n".getBytes(StandardCharsets.UTF_8);
+		Flux<DataBuffer> source = Flux.just(
+				bytesBuffer(Arrays.copyOfRange(bytes, 0, 1)), bytesBuffer(Arrays.copyOfRange(bytes, 1, 6)));
+		Flux<String> output = this.decoder.decode(source, ResolvableType.forClass(String.class),
+				null, Collections.emptyMap());
+
+		StepVerifier.create(output)
+				.expectNext("\u00e9t\u00e9")
+				.expectComplete()
+				.verify();
+	}
+
+	@Test
+	public void decodeMaxFrameLength() throws InterruptedException {
+		this.decoder = StringDecoder.allMimeTypes(StringDecoder.DEFAULT_DELIMITERS, true);
+		this.decoder.setMaxFrameLength(3);
+		Flux<DataBuffer> source = Flux.just(stringBuffer("foo\r\nba"), stringBuffer("rbaz\n"));
+		Flux<String> output = this.decoder.decode(source, ResolvableType.forClass(String.class),
+				null, Collections.emptyMap());
+
+		StepVerifier.create(output)
+				.expectNext("foo")
+				.expectError(DecodingException.class)
+				.verify();
+	}
+
 	@Test
 	public void decodeEmptyFlux() throws InterruptedException {
 		Flux<DataBuffer> source = Flux.empty();
@@ -109,6 +180,18 @@ public class StringDecoderTests extends AbstractDataBufferAllocatingTestCase {
 
 	}
 
+	@Test
+	public void decodeEmptyStringWithDelimiters() throws InterruptedException {
+		this.decoder = StringDecoder.allMimeTypes(StringDecoder.DEFAULT_DELIMITERS, true);
+		Flux<DataBuffer> source = Flux.just(stringBuffer(""));
+		Flux<String> output = this.decoder.decode(source,
+				ResolvableType.forClass(String.class), null, Collections.emptyMap());
+
+		StepVerifier.create(output)
+				.expectNext("")
+				.expectComplete().verify();
+	}
+
 	@Test
 	public void decodeToMono() throws InterruptedException {
 		this.decoder = StringDecoder.allMimeTypes(false);
@@ -134,4 +217,11 @@ public class StringDecoderTests extends AbstractDataBufferAllocatingTestCase {
 				.verify();
 	}
 
+
+	private DataBuffer bytesBuffer(byte[] bytes) {
+		DataBuffer buffer = createDataBuffer(bytes.length);
+		buffer.write(bytes);
+		return buffer;
+	}
+
 }
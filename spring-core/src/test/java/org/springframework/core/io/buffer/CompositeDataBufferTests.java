@@ -0,0 +1,131 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.buffer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import org.springframework.util.StreamUtils;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for {@link CompositeDataBuffer}.
+ *
+ * @author agent
+ */
+public class CompositeDataBufferTests {
+
+	private final PooledDataBufferFactory bufferFactory = new PooledDataBufferFactory();
+
+
+	@Test
+	public void joinDoesNotCopy() {
+		DataBuffer foo = stringBuffer("foo");
+		DataBuffer bar = stringBuffer("bar");
+		CompositeDataBuffer composite = (CompositeDataBuffer) this.bufferFactory.join(Arrays.asList(foo, bar));
+		assertEquals(2, composite.getComponentCount());
+
+		ByteBuffer byteBuffer = composite.slice(3, 3).asByteBuffer();
+		byteBuffer.put(0, (byte) 'B');
+		assertEquals("Bar", toString(bar));
+
+		composite.release();
+	}
+
+	@Test
+	public void asByteBufferSpanningComponents() {
+		CompositeDataBuffer composite = join("foo", "bar");
+		composite.read();
+
+		ByteBuffer byteBuffer = composite.asByteBuffer();
+		assertEquals(5, byteBuffer.remaining());
+		assertEquals(5, composite.readableByteCount());
+		assertEquals("oobar", StandardCharsets.UTF_8.decode(byteBuffer).toString());
+
+		composite.release();
+	}
+
+	@Test
+	public void writeAppendsComponent() {
+		CompositeDataBuffer composite = join("foo", "bar");
+		composite.write("baz".getBytes(StandardCharsets.UTF_8));
+		composite.write((byte) '!');
+
+		assertEquals(3, composite.getComponentCount());
+		assertEquals("foobarbaz!", toString(composite));
+
+		composite.release();
+	}
+
+	@Test
+	public void inputStream() throws IOException {
+		CompositeDataBuffer composite = join("foo", "bar", "baz");
+		InputStream inputStream = composite.asInputStream();
+
+		assertEquals("foobarbaz", StreamUtils.copyToString(inputStream, StandardCharsets.UTF_8));
+		assertEquals(0, composite.readableByteCount());
+		assertEquals(-1, inputStream.read());
+
+		composite.release();
+	}
+
+	@Test
+	public void releaseReleasesComponents() {
+		PooledDataBuffer foo = (PooledDataBuffer) stringBuffer("foo");
+		PooledDataBuffer bar = (PooledDataBuffer) stringBuffer("bar");
+		CompositeDataBuffer composite = (CompositeDataBuffer) this.bufferFactory.join(Arrays.asList(foo, bar));
+
+		DataBuffer slice = composite.slice(1, 4);
+		DataBufferUtils.retain(slice);
+		assertFalse(composite.release());
+		assertEquals(2, this.bufferFactory.getStatistics().getActiveBufferCount());
+
+		assertTrue(DataBufferUtils.release(slice));
+		assertEquals(0, this.bufferFactory.getStatistics().getActiveBufferCount());
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void sliceCannotGrow() {
+		CompositeDataBuffer composite = join("foo", "bar");
+		composite.slice(1, 4).write((byte) 'a');
+	}
+
+
+	private CompositeDataBuffer join(String... values) {
+		return (CompositeDataBuffer) this.bufferFactory.join(
+				Arrays.stream(values).map(this::stringBuffer).collect(Collectors.toList()));
+	}
+
+	private DataBuffer stringBuffer(String value) {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		DataBuffer buffer = this.bufferFactory.allocateBuffer(bytes.length);
+		buffer.write(bytes);
+		return buffer;
+	}
+
+	private static String toString(DataBuffer dataBuffer) {
+		return StandardCharsets.UTF_8.decode(dataBuffer.asByteBuffer()).toString();
+	}
+
+}
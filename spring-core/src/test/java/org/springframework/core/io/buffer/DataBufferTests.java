@@ -23,6 +23,7 @@ import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 
+import io.netty.buffer.UnpooledByteBufAllocator;
 import org.junit.Test;
 
 import static org.junit.Assert.*;
@@ -282,5 +283,96 @@ public class DataBufferTests extends AbstractDataBufferAllocatingTestCase {
 		assertArrayEquals(" World!!!".getBytes(StandardCharsets.UTF_8), bytes);
 	}
 
+	@Test
+	public void join() {
+		DataBuffer composite = this.bufferFactory.join(Arrays.asList(stringBuffer("a"),
+				stringBuffer("b"), stringBuffer("c")));
+		assertEquals(3, composite.readableByteCount());
+		byte[] bytes = new byte[3];
+		composite.read(bytes);
+
+		assertArrayEquals(new byte[] {'a','b','c'}, bytes);
+
+		release(composite);
+	}
+
+	@Test
+	public void joinWithDefaultMethod() {
+		DataBufferFactory factory = new DataBufferFactory() {
+			@Override
+			public DataBuffer allocateBuffer() {
+				return bufferFactory.allocateBuffer();
+			}
+			@Override
+			public DataBuffer allocateBuffer(int initialCapacity) {
+				return bufferFactory.allocateBuffer(initialCapacity);
+			}
+			@Override
+			public DataBuffer wrap(ByteBuffer byteBuffer) {
+				return bufferFactory.wrap(byteBuffer);
+			}
+			@Override
+			public DataBuffer wrap(byte[] bytes) {
+				return bufferFactory.wrap(bytes);
+			}
+		};
+		DataBuffer foo = stringBuffer("foo");
+		DataBuffer bar = stringBuffer("bar");
+		DataBuffer joined = factory.join(Arrays.asList(foo, bar));
+		assertReleased(foo);
+		assertReleased(bar);
+
+		byte[] bytes = new byte[6];
+		joined.read(bytes);
+		assertArrayEquals("foobar".getBytes(StandardCharsets.UTF_8), bytes);
+
+		release(joined);
+	}
+
+	@Test
+	public void joinIntoNettyBuffer() {
+		NettyDataBufferFactory nettyFactory = new NettyDataBufferFactory(new UnpooledByteBufAllocator(false));
+		DataBuffer foo = stringBuffer("foo");
+		DataBuffer bar = nettyFactory.wrap("bar".getBytes(StandardCharsets.UTF_8));
+		DataBuffer joined = nettyFactory.join(Arrays.asList(foo, bar));
+		if (!(foo instanceof NettyDataBuffer)) {
+			assertReleased(foo);
+		}
+
+		byte[] bytes = new byte[6];
+		joined.read(bytes);
+		assertArrayEquals("foobar".getBytes(StandardCharsets.UTF_8), bytes);
+
+		release(joined);
+	}
+
+	@Test
+	public void joinAndSlice() {
+		DataBuffer composite = this.bufferFactory.join(Arrays.asList(stringBuffer("foo"),
+				stringBuffer("bar"), stringBuffer("baz")));
+
+		assertEquals(3, composite.indexOf(b -> b == 'b', 0));
+		assertEquals(6, composite.indexOf(b -> b == 'b', 4));
+		assertEquals(7, composite.lastIndexOf(b -> b == 'a', 8));
+
+		DataBuffer slice = composite.slice(2, 5);
+		byte[] bytes = new byte[5];
+		slice.read(bytes);
+		assertArrayEquals("obarb".getBytes(StandardCharsets.UTF_8), bytes);
+
+		release(composite);
+	}
+
+	private static void assertReleased(DataBuffer buffer) {
+		if (buffer instanceof PooledDataBuffer) {
+			try {
+				((PooledDataBuffer) buffer).retain();
+				fail("Expected " + buffer + " to be released");
+			}
+			catch (IllegalStateException ex) {
+				// expected
+			}
+		}
+	}
 
-}
\ No newline at end of file
+}
@@ -25,9 +25,11 @@ import java.nio.file.StandardOpenOption;
 
 import org.junit.Test;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author Arjen Poutsma
@@ -98,6 +100,33 @@ public class DataBufferUtilsTests extends AbstractDataBufferAllocatingTestCase {
 		assertFalse(channel.isOpen());
 	}
 
+	@Test
+	public void mmap() throws Exception {
+		URI uri = DataBufferUtilsTests.class.getResource("DataBufferUtilsTests.txt").toURI();
+		Flux<DataBuffer> flux = DataBufferUtils.mmap(Paths.get(uri), 3, 100, this.bufferFactory, 4);
+
+		StepVerifier.create(flux)
+				.consumeNextWith(stringConsumer("barb"))
+				.consumeNextWith(stringConsumer("azqu"))
+				.consumeNextWith(stringConsumer("x"))
+				.expectComplete()
+				.verify();
+	}
+
+	@Test
+	public void mmapIsReadOnly() throws Exception {
+		URI uri = DataBufferUtilsTests.class.getResource("DataBufferUtilsTests.txt").toURI();
+		Flux<DataBuffer> flux = DataBufferUtils.mmap(Paths.get(uri), 0, 3, this.bufferFactory);
+
+		StepVerifier.create(flux)
+				.consumeNextWith(dataBuffer -> {
+					assertTrue(dataBuffer.asByteBuffer().isReadOnly());
+					stringConsumer("foo").accept(dataBuffer);
+				})
+				.expectComplete()
+				.verify();
+	}
+
 	@Test
 	public void readInputStream() throws Exception {
 		InputStream is = DataBufferUtilsTests.class.getResourceAsStream("DataBufferUtilsTests.txt");
@@ -157,4 +186,56 @@ public class DataBufferUtilsTests extends AbstractDataBufferAllocatingTestCase {
 				.verify();
 	}
 
+	@Test
+	public void join() {
+		DataBuffer foo = stringBuffer("foo");
+		DataBuffer bar = stringBuffer("bar");
+		DataBuffer baz = stringBuffer("baz");
+		Flux<DataBuffer> flux = Flux.just(foo, bar, baz);
+		Mono<DataBuffer> result = DataBufferUtils.join(flux);
+
+		StepVerifier.create(result)
+				.consumeNextWith(stringConsumer("foobarbaz"))
+				.expectComplete()
+				.verify();
+	}
+
+	@Test
+	public void joinEmpty() {
+		StepVerifier.create(DataBufferUtils.join(Flux.empty()))
+				.expectComplete()
+				.verify();
+	}
+
+	@Test
+	public void joinErrorReleasesCollectedBuffers() {
+		DataBuffer foo = DataBufferUtils.retain(stringBuffer("foo"));
+		DataBuffer bar = DataBufferUtils.retain(stringBuffer("bar"));
+		Flux<DataBuffer> flux = Flux.concat(Flux.just(foo, bar), Flux.error(new IllegalStateException()));
+
+		StepVerifier.create(DataBufferUtils.join(flux))
+				.expectError(IllegalStateException.class)
+				.verify();
+
+		assertReleasedByJoin(foo);
+		assertReleasedByJoin(bar);
+	}
+
+	@Test
+	public void joinCancelReleasesCollectedBuffers() {
+		DataBuffer foo = DataBufferUtils.retain(stringBuffer("foo"));
+		Flux<DataBuffer> flux = Flux.concat(Flux.just(foo), Flux.never());
+
+		DataBufferUtils.join(flux).subscribe().dispose();
+
+		assertReleasedByJoin(foo);
+	}
+
+	private void assertReleasedByJoin(DataBuffer dataBuffer) {
+		// Only the reference retained by the test should be left
+		if (dataBuffer instanceof PooledDataBuffer) {
+			assertTrue(DataBufferUtils.release(dataBuffer));
+		}
+	}
+
 }
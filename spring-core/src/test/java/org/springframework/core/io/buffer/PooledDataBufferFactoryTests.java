@@ -0,0 +1,133 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.buffer;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for {@link PooledDataBufferFactory}.
+ *
+ * @author agent
+ */
+public class PooledDataBufferFactoryTests {
+
+	private final PooledDataBufferFactory bufferFactory = new PooledDataBufferFactory();
+
+
+	@Test
+	public void allocateReturnsPooledBuffer() {
+		DataBuffer buffer = this.bufferFactory.allocateBuffer(10);
+		assertTrue(buffer instanceof PooledDataBuffer);
+		assertSame(this.bufferFactory, buffer.factory());
+		assertTrue(DataBufferUtils.release(buffer));
+	}
+
+	@Test
+	public void releasedBufferIsReused() {
+		DefaultDataBuffer buffer = this.bufferFactory.allocateBuffer(100);
+		ByteBuffer nativeBuffer = buffer.getNativeBuffer();
+		assertEquals(128, nativeBuffer.capacity());
+		DataBufferUtils.release(buffer);
+
+		DefaultDataBuffer other = this.bufferFactory.allocateBuffer(120);
+		assertSame(nativeBuffer, other.getNativeBuffer());
+		assertEquals(0, other.readableByteCount());
+		DataBufferUtils.release(other);
+
+		PooledDataBufferFactory.PoolStatistics statistics = this.bufferFactory.getStatistics();
+		assertEquals(2, statistics.getAllocationCount());
+		assertEquals(1, statistics.getThreadCacheHitCount());
+		assertEquals(2, statistics.getReleaseCount());
+		assertEquals(0, statistics.getActiveBufferCount());
+	}
+
+	@Test
+	public void releasedBufferOverflowsIntoArena() {
+		this.bufferFactory.setMaxCachedBuffersPerThread(0);
+
+		DefaultDataBuffer buffer = this.bufferFactory.allocateBuffer(64);
+		DataBufferUtils.release(buffer);
+		assertEquals(64, this.bufferFactory.getStatistics().getArenaCapacity());
+
+		DefaultDataBuffer other = this.bufferFactory.allocateBuffer(64);
+		assertSame(buffer.getNativeBuffer(), other.getNativeBuffer());
+		assertEquals(1, this.bufferFactory.getStatistics().getArenaHitCount());
+		assertEquals(0, this.bufferFactory.getStatistics().getArenaCapacity());
+		DataBufferUtils.release(other);
+
+		this.bufferFactory.trimArena();
+		assertEquals(0, this.bufferFactory.getStatistics().getArenaCapacity());
+	}
+
+	@Test
+	public void largeBufferIsNotPooled() {
+		this.bufferFactory.setMaxPooledCapacity(1024);
+
+		DefaultDataBuffer buffer = this.bufferFactory.allocateBuffer(2000);
+		assertEquals(2000, buffer.getNativeBuffer().capacity());
+		DataBufferUtils.release(buffer);
+
+		PooledDataBufferFactory.PoolStatistics statistics = this.bufferFactory.getStatistics();
+		assertEquals(1, statistics.getUnpooledAllocationCount());
+		assertEquals(0, statistics.getArenaCapacity());
+	}
+
+	@Test
+	public void growReturnsOldBufferToPool() {
+		DefaultDataBuffer buffer = this.bufferFactory.allocateBuffer(64);
+		ByteBuffer nativeBuffer = buffer.getNativeBuffer();
+		buffer.write(new byte[100]);
+		assertEquals(128, buffer.getNativeBuffer().capacity());
+
+		DefaultDataBuffer other = this.bufferFactory.allocateBuffer(64);
+		assertSame(nativeBuffer, other.getNativeBuffer());
+
+		DataBufferUtils.release(buffer);
+		DataBufferUtils.release(other);
+	}
+
+	@Test
+	public void sliceSharesReferenceCount() {
+		DataBuffer buffer = this.bufferFactory.allocateBuffer(8);
+		buffer.write(new byte[] {'a', 'b', 'c'});
+		DataBuffer slice = buffer.slice(1, 2);
+		assertTrue(slice instanceof PooledDataBuffer);
+
+		DataBufferUtils.retain(slice);
+		assertFalse(DataBufferUtils.release(buffer));
+		assertTrue(DataBufferUtils.release(slice));
+		assertEquals(0, this.bufferFactory.getStatistics().getActiveBufferCount());
+	}
+
+	@Test
+	public void wrappedBufferIsNotPooled() {
+		DataBuffer buffer = this.bufferFactory.wrap(new byte[] {'a'});
+		assertFalse(buffer instanceof PooledDataBuffer);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void retainAfterRelease() {
+		PooledDataBuffer buffer = (PooledDataBuffer) this.bufferFactory.allocateBuffer(1);
+		buffer.release();
+		buffer.retain();
+	}
+
+}
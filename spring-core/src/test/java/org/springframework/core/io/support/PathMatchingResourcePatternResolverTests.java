@@ -21,6 +21,8 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.Ignore;
 import org.junit.Test;
@@ -118,6 +120,21 @@ public class PathMatchingResourcePatternResolverTests {
 		assertTrue("Could not find aspectj_1_5_0.dtd in the root of the aspectjweaver jar", found);
 	}
 
+	@Test
+	public void rootDirectoriesTraversedConcurrently() throws IOException {
+		String pattern = "classpath*:META-INF/**/*.*";
+		Resource[] expected = resolver.getResources(pattern);
+		assertTrue(expected.length > 1);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			resolver.setExecutor(executor);
+			assertArrayEquals(expected, resolver.getResources(pattern));
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
 
 	private void assertProtocolAndFilenames(Resource[] resources, String protocol, String... filenames)
 			throws IOException {
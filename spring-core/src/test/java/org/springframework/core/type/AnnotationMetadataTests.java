@@ -16,6 +16,7 @@
 
 package org.springframework.core.type;
 
+import java.io.File;
 import java.io.Serializable;
 import java.lang.annotation.Annotation;
 import java.lang.annotation.Documented;
@@ -28,12 +29,15 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import org.springframework.core.annotation.AliasFor;
 import org.springframework.core.annotation.AnnotationAttributes;
 import org.springframework.core.type.classreading.MetadataReader;
 import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.core.type.classreading.PersistentMetadataReaderFactory;
 import org.springframework.core.type.classreading.SimpleMetadataReaderFactory;
 import org.springframework.stereotype.Component;
 
@@ -51,6 +55,10 @@ import static org.junit.Assert.*;
  */
 public class AnnotationMetadataTests {
 
+	@Rule
+	public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+
 	@Test
 	public void standardAnnotationMetadata() throws Exception {
 		AnnotationMetadata metadata = new StandardAnnotationMetadata(AnnotatedComponent.class, true);
@@ -67,6 +75,20 @@ public class AnnotationMetadataTests {
 		doTestMethodAnnotationInfo(metadata);
 	}
 
+	@Test
+	public void persistentAnnotationMetadata() throws Exception {
+		File cacheFile = new File(this.temporaryFolder.getRoot(), "metadata.cache");
+		PersistentMetadataReaderFactory metadataReaderFactory = new PersistentMetadataReaderFactory(cacheFile);
+		metadataReaderFactory.getMetadataReader(AnnotatedComponent.class.getName());
+		metadataReaderFactory.persist();
+
+		metadataReaderFactory = new PersistentMetadataReaderFactory(cacheFile);
+		MetadataReader metadataReader = metadataReaderFactory.getMetadataReader(AnnotatedComponent.class.getName());
+		AnnotationMetadata metadata = metadataReader.getAnnotationMetadata();
+		doTestAnnotationInfo(metadata);
+		doTestMethodAnnotationInfo(metadata);
+	}
+
 	@Test
 	public void standardAnnotationMetadataForSubclass() throws Exception {
 		AnnotationMetadata metadata = new StandardAnnotationMetadata(AnnotatedComponentSubClass.class, true);
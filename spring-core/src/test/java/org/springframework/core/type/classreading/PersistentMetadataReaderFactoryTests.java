@@ -0,0 +1,238 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.type.classreading;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.UrlResource;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.FileCopyUtils;
+import org.springframework.util.StreamUtils;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link PersistentMetadataReaderFactory}.
+ *
+ * @author agent
+ */
+public class PersistentMetadataReaderFactoryTests {
+
+	@Rule
+	public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private final AtomicInteger reads = new AtomicInteger();
+
+	private File cacheFile;
+
+
+	@Before
+	public void setup() {
+		this.cacheFile = new File(this.temporaryFolder.getRoot(), "metadata.cache");
+	}
+
+
+	@Test
+	public void classFileMetadataServedFromCacheFile() throws IOException {
+		File classFile = copyClassFile(SampleComponent.class, this.temporaryFolder.newFolder());
+		PersistentMetadataReaderFactory factory = new PersistentMetadataReaderFactory(this.cacheFile);
+		assertSampleComponent(factory.getMetadataReader(new CountingFileResource(classFile)));
+		assertEquals(1, this.reads.get());
+		factory.persist();
+		assertTrue(this.cacheFile.isFile());
+
+		factory = new PersistentMetadataReaderFactory(this.cacheFile);
+		assertSampleComponent(factory.getMetadataReader(new CountingFileResource(classFile)));
+		assertEquals(1, this.reads.get());
+	}
+
+	@Test
+	public void modifiedClassFileInvalidatesCachedMetadata() throws IOException {
+		File classFile = copyClassFile(SampleComponent.class, this.temporaryFolder.newFolder());
+		PersistentMetadataReaderFactory factory = new PersistentMetadataReaderFactory(this.cacheFile);
+		factory.getMetadataReader(new CountingFileResource(classFile));
+		factory.persist();
+
+		try (OutputStream out = new FileOutputStream(classFile, true)) {
+			out.write(0);
+		}
+		factory = new PersistentMetadataReaderFactory(this.cacheFile);
+		assertSampleComponent(factory.getMetadataReader(new CountingFileResource(classFile)));
+		assertEquals(2, this.reads.get());
+	}
+
+	@Test
+	public void jarEntriesInvalidatedPerJar() throws IOException {
+		File jar = createJar(SampleComponent.class, OtherComponent.class);
+		PersistentMetadataReaderFactory factory = new PersistentMetadataReaderFactory(this.cacheFile);
+		factory.getMetadataReader(jarEntry(jar, SampleComponent.class));
+		factory.getMetadataReader(jarEntry(jar, OtherComponent.class));
+		factory.persist();
+		assertEquals(2, this.reads.get());
+
+		factory = new PersistentMetadataReaderFactory(this.cacheFile);
+		assertSampleComponent(factory.getMetadataReader(jarEntry(jar, SampleComponent.class)));
+		assertEquals(OtherComponent.class.getName(),
+				factory.getMetadataReader(jarEntry(jar, OtherComponent.class)).getClassMetadata().getClassName());
+		assertEquals(2, this.reads.get());
+
+		assertTrue(jar.setLastModified(jar.lastModified() - 10000));
+		factory = new PersistentMetadataReaderFactory(this.cacheFile);
+		factory.getMetadataReader(jarEntry(jar, SampleComponent.class));
+		factory.getMetadataReader(jarEntry(jar, OtherComponent.class));
+		assertEquals(4, this.reads.get());
+	}
+
+	@Test
+	public void loadedCacheFileReplacedWithoutLeftovers() throws IOException {
+		File classFile = copyClassFile(SampleComponent.class, this.temporaryFolder.newFolder());
+		File otherClassFile = copyClassFile(SampleComponent.class, this.temporaryFolder.newFolder());
+		PersistentMetadataReaderFactory factory = new PersistentMetadataReaderFactory(this.cacheFile);
+		factory.getMetadataReader(new CountingFileResource(classFile));
+		factory.persist();
+
+		factory = new PersistentMetadataReaderFactory(this.cacheFile);
+		factory.getMetadataReader(new CountingFileResource(otherClassFile));
+		factory.persist();
+		assertEquals(2, this.reads.get());
+		String[] cacheFiles = this.temporaryFolder.getRoot().list((dir, name) -> name.startsWith("metadata.cache"));
+		assertArrayEquals(new String[] {"metadata.cache"}, cacheFiles);
+
+		factory = new PersistentMetadataReaderFactory(this.cacheFile);
+		assertSampleComponent(factory.getMetadataReader(new CountingFileResource(classFile)));
+		assertSampleComponent(factory.getMetadataReader(new CountingFileResource(otherClassFile)));
+		assertEquals(2, this.reads.get());
+	}
+
+	@Test
+	public void corruptCacheFileIgnored() throws IOException {
+		Files.write(this.cacheFile.toPath(), new byte[] {1, 2, 3});
+		File classFile = copyClassFile(SampleComponent.class, this.temporaryFolder.newFolder());
+		PersistentMetadataReaderFactory factory = new PersistentMetadataReaderFactory(this.cacheFile);
+		assertSampleComponent(factory.getMetadataReader(new CountingFileResource(classFile)));
+		factory.persist();
+
+		factory = new PersistentMetadataReaderFactory(this.cacheFile);
+		assertSampleComponent(factory.getMetadataReader(new CountingFileResource(classFile)));
+		assertEquals(1, this.reads.get());
+	}
+
+	@Test
+	public void nonFileResourceNotCached() throws IOException {
+		byte[] content = FileCopyUtils.copyToByteArray(getClassFile(SampleComponent.class).getInputStream());
+		PersistentMetadataReaderFactory factory = new PersistentMetadataReaderFactory(this.cacheFile);
+		assertSampleComponent(factory.getMetadataReader(new ByteArrayResource(content)));
+		factory.persist();
+		assertFalse(this.cacheFile.exists());
+	}
+
+
+	private void assertSampleComponent(MetadataReader metadataReader) {
+		AnnotationMetadata metadata = metadataReader.getAnnotationMetadata();
+		assertEquals(SampleComponent.class.getName(), metadata.getClassName());
+		assertEquals(getClass().getName(), metadata.getEnclosingClassName());
+		assertTrue(metadata.isIndependent());
+		assertEquals(5, metadata.getAnnotationAttributes(Order.class.getName()).get("value"));
+		assertEquals(1, metadata.getAnnotatedMethods(Order.class.getName()).size());
+		assertEquals("run", metadata.getAnnotatedMethods(Order.class.getName()).iterator().next().getMethodName());
+	}
+
+	private Resource getClassFile(Class<?> clazz) {
+		return new UrlResource(clazz.getResource(ClassUtils.getClassFileName(clazz)));
+	}
+
+	private File copyClassFile(Class<?> clazz, File directory) throws IOException {
+		File file = new File(directory, ClassUtils.getClassFileName(clazz));
+		FileCopyUtils.copy(getClassFile(clazz).getInputStream(), new FileOutputStream(file));
+		return file;
+	}
+
+	private File createJar(Class<?>... classes) throws IOException {
+		File jar = this.temporaryFolder.newFile("sample.jar");
+		try (JarOutputStream out = new JarOutputStream(new FileOutputStream(jar))) {
+			for (Class<?> clazz : classes) {
+				out.putNextEntry(new JarEntry(ClassUtils.convertClassNameToResourcePath(clazz.getName()) +
+						ClassUtils.CLASS_FILE_SUFFIX));
+				try (InputStream in = getClassFile(clazz).getInputStream()) {
+					StreamUtils.copy(in, out);
+				}
+			}
+		}
+		return jar;
+	}
+
+	private Resource jarEntry(File jar, Class<?> clazz) throws IOException {
+		return new UrlResource("jar:" + jar.toURI() + "!/" +
+				ClassUtils.convertClassNameToResourcePath(clazz.getName()) + ClassUtils.CLASS_FILE_SUFFIX) {
+			@Override
+			public InputStream getInputStream() throws IOException {
+				reads.incrementAndGet();
+				return super.getInputStream();
+			}
+		};
+	}
+
+
+	private class CountingFileResource extends FileSystemResource {
+
+		public CountingFileResource(File file) {
+			super(file);
+		}
+
+		@Override
+		public InputStream getInputStream() throws IOException {
+			reads.incrementAndGet();
+			return super.getInputStream();
+		}
+	}
+
+
+	@Order(5)
+	public static class SampleComponent {
+
+		@Order(1)
+		public void run() {
+		}
+
+		public void skip() {
+		}
+	}
+
+
+	@Deprecated
+	public static class OtherComponent {
+	}
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http;
+
+import java.util.Arrays;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for {@link HttpHeaders}, populating request headers and parsing
+ * the typed values used by content negotiation.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.Throughput)
+public class HttpHeadersBenchmark {
+
+	@Benchmark
+	public void populate(Blackhole bh) {
+		HttpHeaders headers = new HttpHeaders();
+		headers.add("Host", "spring.io");
+		headers.add("Accept", "text/html,application/xhtml+xml,application/xml;q=0.9,*/*;q=0.8");
+		headers.add("Accept-Language", "en-US,en;q=0.5");
+		headers.add("Accept-Encoding", "gzip, deflate, br");
+		headers.add("Content-Type", "application/json;charset=UTF-8");
+		headers.add("Content-Length", "348");
+		headers.add("Connection", "keep-alive");
+		bh.consume(headers);
+	}
+
+	@Benchmark
+	public void getContentType(HeadersState state, Blackhole bh) {
+		bh.consume(state.headers.getContentType());
+	}
+
+	@Benchmark
+	public void getAccept(HeadersState state, Blackhole bh) {
+		bh.consume(state.headers.getAccept());
+	}
+
+	@Benchmark
+	public void getContentLength(HeadersState state, Blackhole bh) {
+		bh.consume(state.headers.getContentLength());
+	}
+
+	@Benchmark
+	public void getFirstCaseInsensitive(HeadersState state, Blackhole bh) {
+		bh.consume(state.headers.getFirst("accept-encoding"));
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class HeadersState {
+
+		public HttpHeaders headers;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			this.headers = new HttpHeaders();
+			this.headers.set("Host", "spring.io");
+			this.headers.set("Accept", "text/html,application/xhtml+xml,application/xml;q=0.9,*/*;q=0.8");
+			this.headers.set("Accept-Encoding", "gzip, deflate, br");
+			this.headers.set("Content-Type", "application/json;charset=UTF-8");
+			this.headers.set("Content-Length", "348");
+			this.headers.put("Cache-Control", Arrays.asList("no-cache", "no-store"));
+		}
+	}
+
+}
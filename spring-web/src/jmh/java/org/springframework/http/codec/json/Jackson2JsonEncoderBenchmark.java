@@ -0,0 +1,104 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.codec.json;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.Pojo;
+
+/**
+ * Benchmarks for {@link Jackson2JsonEncoder}, encoding single values, arrays
+ * and streams of values.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.Throughput)
+public class Jackson2JsonEncoderBenchmark {
+
+	@Benchmark
+	public void encodeMono(EncoderState state, Blackhole bh) {
+		state.encoder.encode(Mono.just(state.pojos.get(0)), state.bufferFactory, state.pojoType,
+				MediaType.APPLICATION_JSON, Collections.emptyMap())
+				.subscribe(buffer -> {
+					bh.consume(buffer);
+					DataBufferUtils.release(buffer);
+				});
+	}
+
+	@Benchmark
+	public void encodeArray(EncoderState state, Blackhole bh) {
+		state.encoder.encode(Flux.fromIterable(state.pojos), state.bufferFactory, state.pojoType,
+				MediaType.APPLICATION_JSON, Collections.emptyMap())
+				.subscribe(buffer -> {
+					bh.consume(buffer);
+					DataBufferUtils.release(buffer);
+				});
+	}
+
+	@Benchmark
+	public void encodeStream(EncoderState state, Blackhole bh) {
+		state.encoder.encode(Flux.fromIterable(state.pojos), state.bufferFactory, state.pojoType,
+				MediaType.APPLICATION_STREAM_JSON, Collections.emptyMap())
+				.subscribe(buffer -> {
+					bh.consume(buffer);
+					DataBufferUtils.release(buffer);
+				});
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class EncoderState {
+
+		@Param({"1", "100"})
+		public int elementCount;
+
+		public final Jackson2JsonEncoder encoder = new Jackson2JsonEncoder();
+
+		public final DefaultDataBufferFactory bufferFactory = new DefaultDataBufferFactory();
+
+		public final ResolvableType pojoType = ResolvableType.forClass(Pojo.class);
+
+		public List<Pojo> pojos;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			this.pojos = new ArrayList<>(this.elementCount);
+			for (int i = 0; i < this.elementCount; i++) {
+				this.pojos.add(new Pojo("foo" + i, "bar" + i));
+			}
+		}
+	}
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.util.pattern;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.http.server.reactive.PathSegmentContainer;
+import org.springframework.util.AntPathMatcher;
+
+/**
+ * Benchmarks for {@link PathPattern} matching, compared with
+ * {@link AntPathMatcher} for the same patterns and paths.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.Throughput)
+public class PathPatternBenchmark {
+
+	@Benchmark
+	public void parse(RoutesState state, Blackhole bh) {
+		for (String route : state.routes) {
+			bh.consume(state.parser.parse(route));
+		}
+	}
+
+	@Benchmark
+	public void matchPathPatterns(RoutesState state, Blackhole bh) {
+		for (String path : state.paths) {
+			for (PathPattern pattern : state.patterns) {
+				bh.consume(pattern.matches(path));
+			}
+		}
+	}
+
+	@Benchmark
+	public void matchAndExtractPathPatterns(RoutesState state, Blackhole bh) {
+		for (String path : state.paths) {
+			for (PathPattern pattern : state.patterns) {
+				if (pattern.matches(path)) {
+					bh.consume(pattern.matchAndExtract(path));
+				}
+			}
+		}
+	}
+
+	@Benchmark
+	public void matchAndExtractParsedPaths(RoutesState state, Blackhole bh) {
+		for (String path : state.paths) {
+			PathSegmentContainer parsedPath = PathSegmentContainer.parse(path, StandardCharsets.UTF_8);
+			for (PathPattern pattern : state.patterns) {
+				if (pattern.matchesParsedPath(parsedPath)) {
+					bh.consume(pattern.matchAndExtractParsedPath(parsedPath));
+				}
+			}
+		}
+	}
+
+	@Benchmark
+	public void matchAntPathMatcher(RoutesState state, Blackhole bh) {
+		for (String path : state.paths) {
+			for (String route : state.routes) {
+				bh.consume(state.antPathMatcher.match(route, path));
+			}
+		}
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class RoutesState {
+
+		public final String[] routes = {
+				"/", "/why-spring", "/microservices", "/reactive", "/cloud", "/web-applications",
+				"/serverless", "/batch", "/learn", "/guides", "/guides/gs/{name}", "/guides/tutorials/{name}",
+				"/projects", "/projects/{project}", "/projects/{project}/learn", "/blog", "/blog/category/{category}",
+				"/blog/{year}/{month}/{day}/{slug}", "/team", "/team/{username}", "/events", "/events/{id}",
+				"/resources/**", "/api/v1/projects/{project}/releases", "/api/v1/projects/{project}/releases/{id}"};
+
+		public final String[] paths = {
+				"/", "/learn", "/guides/gs/rest-service", "/projects/spring-framework/learn",
+				"/blog/2017/09/28/spring-framework-5-0-goes-ga", "/resources/css/main.css",
+				"/api/v1/projects/spring-boot/releases/2.0.0", "/unknown/route"};
+
+		public final PathPatternParser parser = new PathPatternParser();
+
+		public final AntPathMatcher antPathMatcher = new AntPathMatcher();
+
+		public List<PathPattern> patterns;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			this.patterns = new ArrayList<>(this.routes.length);
+			for (String route : this.routes) {
+				this.patterns.add(this.parser.parse(route));
+			}
+		}
+	}
+
+}
@@ -33,7 +33,6 @@ import java.util.Collections;
 import java.util.EnumSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -402,26 +401,28 @@ public class HttpHeaders implements MultiValueMap<String, String>, Serializable
 	 * Constructs a new, empty instance of the {@code HttpHeaders} object.
 	 */
 	public HttpHeaders() {
-		this(new LinkedCaseInsensitiveMap<>(8, Locale.ENGLISH), false);
+		this(new LinkedCaseInsensitiveMap<>(8, Locale.ENGLISH));
 	}
 
 	/**
-	 * Private constructor that can create read-only {@code HttpHeader} instances.
+	 * Construct a new {@code HttpHeaders} instance backed by the given headers,
+	 * without copying them. This is an optimization for adapting to the native
+	 * headers of an underlying server or client, primarily for internal use
+	 * within the framework.
+	 * <p>The given map is expected to treat header names case-insensitively.
+	 * @param headers the headers to expose
+	 * @since 5.0
 	 */
-	private HttpHeaders(Map<String, List<String>> headers, boolean readOnly) {
+	public HttpHeaders(MultiValueMap<String, String> headers) {
+		this((Map<String, List<String>>) headers);
+	}
+
+	/**
+	 * Package-private constructor for an instance backed by the given map.
+	 */
+	HttpHeaders(Map<String, List<String>> headers) {
 		Assert.notNull(headers, "'headers' must not be null");
-		if (readOnly) {
-			Map<String, List<String>> map =
-					new LinkedCaseInsensitiveMap<>(headers.size(), Locale.ENGLISH);
-			for (Entry<String, List<String>> entry : headers.entrySet()) {
-				List<String> values = Collections.unmodifiableList(entry.getValue());
-				map.put(entry.getKey(), values);
-			}
-			this.headers = Collections.unmodifiableMap(map);
-		}
-		else {
-			this.headers = headers;
-		}
+		this.headers = headers;
 	}
 
 
@@ -1388,6 +1389,9 @@ public class HttpHeaders implements MultiValueMap<String, String>, Serializable
 	 */
 	@Override
 	public String getFirst(String headerName) {
+		if (this.headers instanceof MultiValueMap) {
+			return getMultiValueMap().getFirst(headerName);
+		}
 		List<String> headerValues = this.headers.get(headerName);
 		return (headerValues != null ? headerValues.get(0) : null);
 	}
@@ -1402,13 +1406,21 @@ public class HttpHeaders implements MultiValueMap<String, String>, Serializable
 	 */
 	@Override
 	public void add(String headerName, @Nullable String headerValue) {
-		List<String> headerValues = this.headers.computeIfAbsent(headerName, k -> new LinkedList<>());
+		if (this.headers instanceof MultiValueMap) {
+			getMultiValueMap().add(headerName, headerValue);
+			return;
+		}
+		List<String> headerValues = this.headers.computeIfAbsent(headerName, k -> new ArrayList<>(1));
 		headerValues.add(headerValue);
 	}
 
 	@Override
 	public void addAll(String key, List<? extends String> values) {
-		List<String> currentValues = this.headers.computeIfAbsent(key, k -> new LinkedList<>());
+		if (this.headers instanceof MultiValueMap) {
+			getMultiValueMap().addAll(key, values);
+			return;
+		}
+		List<String> currentValues = this.headers.computeIfAbsent(key, k -> new ArrayList<>(values.size()));
 		currentValues.addAll(values);
 	}
 
@@ -1429,7 +1441,11 @@ public class HttpHeaders implements MultiValueMap<String, String>, Serializable
 	 */
 	@Override
 	public void set(String headerName, String headerValue) {
-		List<String> headerValues = new LinkedList<>();
+		if (this.headers instanceof MultiValueMap) {
+			getMultiValueMap().set(headerName, headerValue);
+			return;
+		}
+		List<String> headerValues = new ArrayList<>(1);
 		headerValues.add(headerValue);
 		this.headers.put(headerName, headerValues);
 	}
@@ -1443,6 +1459,9 @@ public class HttpHeaders implements MultiValueMap<String, String>, Serializable
 
 	@Override
 	public Map<String, String> toSingleValueMap() {
+		if (this.headers instanceof MultiValueMap) {
+			return getMultiValueMap().toSingleValueMap();
+		}
 		LinkedHashMap<String, String> singleValueMap = new LinkedHashMap<>(this.headers.size());
 		for (Entry<String, List<String>> entry : this.headers.entrySet()) {
 			singleValueMap.put(entry.getKey(), entry.getValue().get(0));
@@ -1537,12 +1556,39 @@ public class HttpHeaders implements MultiValueMap<String, String>, Serializable
 		return this.headers.toString();
 	}
 
+	@SuppressWarnings("unchecked")
+	private MultiValueMap<String, String> getMultiValueMap() {
+		return (MultiValueMap<String, String>) this.headers;
+	}
+
 
 	/**
 	 * Return a {@code HttpHeaders} object that can only be read, not written to.
 	 */
 	public static HttpHeaders readOnlyHttpHeaders(HttpHeaders headers) {
-		return new HttpHeaders(headers, true);
+		Assert.notNull(headers, "'headers' must not be null");
+		if (headers instanceof ReadOnlyHttpHeaders) {
+			return headers;
+		}
+		Map<String, List<String>> map = new LinkedCaseInsensitiveMap<>(headers.size(), Locale.ENGLISH);
+		for (Entry<String, List<String>> entry : headers.entrySet()) {
+			map.put(entry.getKey(), Collections.unmodifiableList(entry.getValue()));
+		}
+		return new ReadOnlyHttpHeaders(Collections.unmodifiableMap(map));
+	}
+
+	/**
+	 * Return a read-only view of the given {@code HttpHeaders}.
+	 * <p>Unlike {@link #readOnlyHttpHeaders(HttpHeaders)}, the headers are not
+	 * copied, and any later changes to the given headers are visible through
+	 * the returned object. The given headers must therefore remain readable for
+	 * as long as the view is in use.
+	 * @param headers the headers to expose
+	 * @since 5.0
+	 */
+	public static HttpHeaders readOnlyHttpHeadersView(HttpHeaders headers) {
+		Assert.notNull(headers, "'headers' must not be null");
+		return (headers instanceof ReadOnlyHttpHeaders ? headers : new ReadOnlyHttpHeaders(headers.headers));
 	}
 
 }
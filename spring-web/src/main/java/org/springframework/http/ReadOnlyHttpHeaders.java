@@ -0,0 +1,160 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.MultiValueMap;
+
+/**
+ * {@code HttpHeaders} object that can only be read, not written to, backed
+ * by the given map of headers.
+ *
+ * @author agent
+ * @since 5.0
+ * @see HttpHeaders#readOnlyHttpHeaders(HttpHeaders)
+ * @see HttpHeaders#readOnlyHttpHeadersView(HttpHeaders)
+ */
+class ReadOnlyHttpHeaders extends HttpHeaders {
+
+	private static final long serialVersionUID = -8578554704772377437L;
+
+
+	ReadOnlyHttpHeaders(Map<String, List<String>> headers) {
+		super(headers);
+	}
+
+
+	@Override
+	@Nullable
+	public List<String> get(Object key) {
+		List<String> values = super.get(key);
+		return (values != null ? Collections.unmodifiableList(values) : null);
+	}
+
+	@Override
+	public void add(String headerName, @Nullable String headerValue) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void addAll(String key, List<? extends String> values) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void addAll(MultiValueMap<String, String> values) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void set(String headerName, String headerValue) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void setAll(Map<String, String> values) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public List<String> put(String key, List<String> value) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public List<String> remove(Object key) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void putAll(Map<? extends String, ? extends List<String>> map) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void clear() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public Set<String> keySet() {
+		return Collections.unmodifiableSet(super.keySet());
+	}
+
+	@Override
+	public Collection<List<String>> values() {
+		Collection<List<String>> values = super.values();
+		return new AbstractCollection<List<String>>() {
+			@Override
+			public Iterator<List<String>> iterator() {
+				Iterator<List<String>> iterator = values.iterator();
+				return new Iterator<List<String>>() {
+					@Override
+					public boolean hasNext() {
+						return iterator.hasNext();
+					}
+					@Override
+					public List<String> next() {
+						return Collections.unmodifiableList(iterator.next());
+					}
+				};
+			}
+			@Override
+			public int size() {
+				return values.size();
+			}
+		};
+	}
+
+	@Override
+	public Set<Entry<String, List<String>>> entrySet() {
+		Set<Entry<String, List<String>>> entries = super.entrySet();
+		return new AbstractSet<Entry<String, List<String>>>() {
+			@Override
+			public Iterator<Entry<String, List<String>>> iterator() {
+				Iterator<Entry<String, List<String>>> iterator = entries.iterator();
+				return new Iterator<Entry<String, List<String>>>() {
+					@Override
+					public boolean hasNext() {
+						return iterator.hasNext();
+					}
+					@Override
+					public Entry<String, List<String>> next() {
+						Entry<String, List<String>> entry = iterator.next();
+						return new AbstractMap.SimpleImmutableEntry<>(
+								entry.getKey(), Collections.unmodifiableList(entry.getValue()));
+					}
+				};
+			}
+			@Override
+			public int size() {
+				return entries.size();
+			}
+		};
+	}
+
+}
@@ -17,6 +17,10 @@
 package org.springframework.http;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
 
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -34,6 +38,9 @@ import org.springframework.util.StringUtils;
  */
 public final class ResponseCookie extends HttpCookie {
 
+	private static final DateTimeFormatter DATE_FORMATTER =
+			DateTimeFormatter.ofPattern("EEE, dd MMM yyyy HH:mm:ss zzz", Locale.US).withZone(ZoneId.of("GMT"));
+
 	private final Duration maxAge;
 
 	private final String domain;
@@ -44,20 +51,77 @@ public final class ResponseCookie extends HttpCookie {
 
 	private final boolean httpOnly;
 
+	private final String encodedPrefix;
+
+	private final String encodedSuffix;
+
 
 	/**
 	 * Private constructor. See {@link #from(String, String)}.
 	 */
 	private ResponseCookie(String name, String value, Duration maxAge, String domain,
-			String path, boolean secure, boolean httpOnly) {
+			String path, boolean secure, boolean httpOnly, boolean validate) {
 
 		super(name, value);
 		Assert.notNull(maxAge, "Max age must not be null");
+		if (validate) {
+			Rfc6265Utils.validateCookieName(name);
+			Rfc6265Utils.validateCookieValue(value);
+			Rfc6265Utils.validateDomain(domain);
+			Rfc6265Utils.validatePath(path);
+		}
 		this.maxAge = maxAge;
 		this.domain = domain;
 		this.path = path;
 		this.secure = secure;
 		this.httpOnly = httpOnly;
+		this.encodedPrefix = encodePrefix();
+		this.encodedSuffix = encodeSuffix();
+	}
+
+	/**
+	 * Encode the "Set-Cookie" header value up to the "Expires" attribute, or
+	 * the complete value if the "Expires" date does not depend on when the
+	 * header is written.
+	 */
+	private String encodePrefix() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(getName()).append('=').append(getValue());
+		if (StringUtils.hasText(this.path)) {
+			sb.append("; Path=").append(this.path);
+		}
+		if (StringUtils.hasText(this.domain)) {
+			sb.append("; Domain=").append(this.domain);
+		}
+		if (!this.maxAge.isNegative()) {
+			sb.append("; Max-Age=").append(this.maxAge.getSeconds());
+			sb.append("; Expires=");
+			if (this.maxAge.getSeconds() == 0) {
+				sb.append(formatDate(0));
+				sb.append(encodeSuffix());
+			}
+		}
+		else {
+			sb.append(encodeSuffix());
+		}
+		return sb.toString();
+	}
+
+	private String encodeSuffix() {
+		if (this.secure && this.httpOnly) {
+			return "; Secure; HttpOnly";
+		}
+		else if (this.secure) {
+			return "; Secure";
+		}
+		else if (this.httpOnly) {
+			return "; HttpOnly";
+		}
+		return "";
+	}
+
+	private static String formatDate(long date) {
+		return DATE_FORMATTER.format(Instant.ofEpochMilli(date));
 	}
 
 
@@ -126,43 +190,50 @@ public final class ResponseCookie extends HttpCookie {
 		return result;
 	}
 
+	/**
+	 * Return the value for the "Set-Cookie" response header. The attributes
+	 * are encoded once when the cookie is created, so only the "Expires" date,
+	 * if any, is formatted on each call.
+	 */
 	@Override
 	public String toString() {
-		StringBuilder sb = new StringBuilder();
-		sb.append(getName()).append('=').append(getValue());
-		if (StringUtils.hasText(getPath())) {
-			sb.append("; Path=").append(getPath());
+		long seconds = this.maxAge.getSeconds();
+		if (this.maxAge.isNegative() || seconds == 0) {
+			return this.encodedPrefix;
 		}
-		if (StringUtils.hasText(this.domain)) {
-			sb.append("; Domain=").append(this.domain);
-		}
-		if (!this.maxAge.isNegative()) {
-			sb.append("; Max-Age=").append(this.maxAge);
-			sb.append("; Expires=");
-			HttpHeaders headers = new HttpHeaders();
-			long seconds = this.maxAge.getSeconds();
-			headers.setExpires(seconds > 0 ? System.currentTimeMillis() + seconds : 0);
-			sb.append(headers.getFirst(HttpHeaders.EXPIRES));
-		}
-
-		if (this.secure) {
-			sb.append("; Secure");
-		}
-		if (this.httpOnly) {
-			sb.append("; HttpOnly");
-		}
-		return sb.toString();
+		return this.encodedPrefix + formatDate(System.currentTimeMillis() + seconds * 1000) + this.encodedSuffix;
 	}
 
 
 	/**
 	 * Factory method to obtain a builder for a server-defined cookie that starts
 	 * with a name-value pair and may also include attributes.
+	 * <p>The name, value, domain and path are validated against
+	 * RFC 6265 when the cookie is {@link ResponseCookieBuilder#build() built},
+	 * since the "Set-Cookie" header is written as is by all server responses.
+	 * Use {@link #fromClientResponse} for cookies that are not written back.
 	 * @param name the cookie name
 	 * @param value the cookie value
 	 * @return the created cookie instance
 	 */
 	public static ResponseCookieBuilder from(final String name, final String value) {
+		return from(name, value, true);
+	}
+
+	/**
+	 * Factory method to obtain a builder for a cookie received in a client
+	 * response. Unlike {@link #from(String, String)}, the name and attributes
+	 * are not validated, since they come from the remote server and are not
+	 * written to a "Set-Cookie" header again.
+	 * @param name the cookie name
+	 * @param value the cookie value
+	 * @return the created cookie instance
+	 */
+	public static ResponseCookieBuilder fromClientResponse(final String name, final String value) {
+		return from(name, value, false);
+	}
+
+	private static ResponseCookieBuilder from(final String name, final String value, final boolean validate) {
 
 		return new ResponseCookieBuilder() {
 
@@ -215,7 +286,7 @@ public final class ResponseCookie extends HttpCookie {
 			@Override
 			public ResponseCookie build() {
 				return new ResponseCookie(name, value, this.maxAge, this.domain, this.path,
-						this.secure, this.httpOnly);
+						this.secure, this.httpOnly, validate);
 			}
 		};
 	}
@@ -264,8 +335,99 @@ public final class ResponseCookie extends HttpCookie {
 
 		/**
 		 * Create the HttpCookie.
+		 * <p>Note that, unless the builder was obtained through
+		 * {@link ResponseCookie#fromClientResponse}, this rejects invalid
+		 * attributes that were previously accepted and written to the
+		 * "Set-Cookie" header as is.
+		 * @throws IllegalArgumentException if the name, value, domain or path
+		 * contain characters not allowed by RFC 6265
 		 */
 		ResponseCookie build();
 	}
 
+
+	/**
+	 * Validation of cookie attributes, since the "Set-Cookie" header value is
+	 * written as is by all server responses.
+	 */
+	private static class Rfc6265Utils {
+
+		private static final String SEPARATOR_CHARS = new String(new char[] {
+				'(', ')', '<', '>', '@', ',', ';', ':', '\\', '"', '/', '[', ']', '?', '=', '{', '}', ' '
+		});
+
+		private static final String DOMAIN_CHARS =
+				"0123456789.-abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ";
+
+		public static void validateCookieName(String name) {
+			for (int i = 0; i < name.length(); i++) {
+				char c = name.charAt(i);
+				// CTL = <US-ASCII control chars (octets 0 - 31) and DEL (127)>
+				if (c <= 0x1F || c == 0x7F) {
+					throw new IllegalArgumentException(name + ": RFC 6265 cookie name cannot have control chars");
+				}
+				if (SEPARATOR_CHARS.indexOf(c) >= 0) {
+					throw new IllegalArgumentException(
+							name + ": RFC 6265 cookie name cannot have separator chars such as '" + c + "'");
+				}
+				if (c >= 0x80) {
+					throw new IllegalArgumentException(
+							name + ": RFC 6265 cookie name can only have US-ASCII: 0x" + Integer.toHexString(c));
+				}
+			}
+		}
+
+		public static void validateCookieValue(@Nullable String value) {
+			if (value == null) {
+				return;
+			}
+			int start = 0;
+			int end = value.length();
+			if (end > 1 && value.charAt(0) == '"' && value.charAt(end - 1) == '"') {
+				start = 1;
+				end--;
+			}
+			for (int i = start; i < end; i++) {
+				char c = value.charAt(i);
+				if (c < 0x21 || c == 0x22 || c == 0x2c || c == 0x3b || c == 0x5c || c == 0x7f) {
+					throw new IllegalArgumentException("RFC 6265 cookie value cannot have '" + c + "'");
+				}
+				if (c >= 0x80) {
+					throw new IllegalArgumentException(
+							"RFC 6265 cookie value can only have US-ASCII chars: 0x" + Integer.toHexString(c));
+				}
+			}
+		}
+
+		public static void validateDomain(@Nullable String domain) {
+			if (!StringUtils.hasLength(domain)) {
+				return;
+			}
+			int char1 = domain.charAt(0);
+			int charN = domain.charAt(domain.length() - 1);
+			if (char1 == '-' || charN == '.' || charN == '-') {
+				throw new IllegalArgumentException("Invalid first/last char in cookie domain: " + domain);
+			}
+			for (int i = 0, c = -1; i < domain.length(); i++) {
+				int p = c;
+				c = domain.charAt(i);
+				if (DOMAIN_CHARS.indexOf(c) == -1 || (p == '.' && (c == '.' || c == '-')) || (p == '-' && c == '.')) {
+					throw new IllegalArgumentException(domain + ": invalid cookie domain char '" + (char) c + "'");
+				}
+			}
+		}
+
+		public static void validatePath(@Nullable String path) {
+			if (path == null) {
+				return;
+			}
+			for (int i = 0; i < path.length(); i++) {
+				char c = path.charAt(i);
+				if (c < 0x20 || c > 0x7E || c == ';') {
+					throw new IllegalArgumentException(path + ": Invalid cookie path char '" + c + "'");
+				}
+			}
+		}
+	}
+
 }
@@ -77,7 +77,7 @@ public class ReactorClientHttpResponse implements ClientHttpResponse {
 		MultiValueMap<String, ResponseCookie> result = new LinkedMultiValueMap<>();
 		this.response.cookies().values().stream().flatMap(Collection::stream)
 				.forEach(cookie -> {
-					ResponseCookie responseCookie = ResponseCookie.from(cookie.name(), cookie.value())
+					ResponseCookie responseCookie = ResponseCookie.fromClientResponse(cookie.name(), cookie.value())
 							.domain(cookie.domain())
 							.path(cookie.path())
 							.maxAge(cookie.maxAge())
@@ -21,6 +21,7 @@ import java.util.List;
 
 import org.springframework.core.codec.Encoder;
 import org.springframework.http.codec.multipart.MultipartHttpMessageReader;
+import org.springframework.http.codec.multipart.Part;
 import org.springframework.http.codec.multipart.SynchronossPartHttpMessageReader;
 import org.springframework.util.ClassUtils;
 
@@ -56,12 +57,19 @@ class DefaultServerCodecConfigurer extends AbstractCodecConfigurer implements Se
 
 		private Encoder<?> sseEncoder;
 
+		private HttpMessageReader<Part> multipartReader;
+
 
 		@Override
 		public void serverSentEventEncoder(Encoder<?> encoder) {
 			this.sseEncoder = encoder;
 		}
 
+		@Override
+		public void multipartReader(HttpMessageReader<Part> reader) {
+			this.multipartReader = reader;
+		}
+
 
 		@Override
 		protected boolean splitTextOnNewLine() {
@@ -75,8 +83,8 @@ class DefaultServerCodecConfigurer extends AbstractCodecConfigurer implements Se
 			}
 			List<HttpMessageReader<?>> result = super.getTypedReaders();
 			result.add(new FormHttpMessageReader());
-			if (synchronossMultipartPresent) {
-				SynchronossPartHttpMessageReader partReader = new SynchronossPartHttpMessageReader();
+			HttpMessageReader<Part> partReader = getMultipartReader();
+			if (partReader != null) {
 				result.add(partReader);
 				result.add(new MultipartHttpMessageReader(partReader));
 			}
@@ -93,6 +101,13 @@ class DefaultServerCodecConfigurer extends AbstractCodecConfigurer implements Se
 			return result;
 		}
 
+		private HttpMessageReader<Part> getMultipartReader() {
+			if (this.multipartReader != null) {
+				return this.multipartReader;
+			}
+			return (synchronossMultipartPresent ? new SynchronossPartHttpMessageReader() : null);
+		}
+
 		private Encoder<?> getSseEncoder() {
 			if (this.sseEncoder != null) {
 				return this.sseEncoder;
@@ -92,6 +92,18 @@ public class ResourceHttpMessageWriter implements HttpMessageWriter<Resource> {
 	}
 
 
+	/**
+	 * Set the file size, in bytes, from which file-based resources that cannot
+	 * be transferred with {@link ZeroCopyHttpOutputMessage zero-copy} are
+	 * memory-mapped rather than read into buffers chunk by chunk.
+	 * <p>By default this is set to -1, i.e. files are never memory-mapped.
+	 * @see ResourceEncoder#setMemoryMappingThreshold(long)
+	 */
+	public void setMemoryMappingThreshold(long memoryMappingThreshold) {
+		this.encoder.setMemoryMappingThreshold(memoryMappingThreshold);
+	}
+
+
 	@Override
 	public boolean canWrite(ResolvableType elementType, @Nullable MediaType mediaType) {
 		return this.encoder.canEncode(elementType, mediaType);
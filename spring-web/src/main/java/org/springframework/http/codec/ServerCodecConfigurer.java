@@ -17,6 +17,7 @@
 package org.springframework.http.codec;
 
 import org.springframework.core.codec.Encoder;
+import org.springframework.http.codec.multipart.Part;
 
 /**
  * Helps to configure a list of server-side HTTP message readers and writers
@@ -60,6 +61,19 @@ public interface ServerCodecConfigurer extends CodecConfigurer {
 		 * if you want to further customize the SSE encoder.
 		 */
 		void serverSentEventEncoder(Encoder<?> encoder);
+
+		/**
+		 * Configure the {@code HttpMessageReader} to use for the parts of
+		 * multipart requests, e.g. a
+		 * {@link org.springframework.http.codec.multipart.DefaultPartHttpMessageReader}.
+		 * The given reader is also used for reading multipart data as a whole.
+		 * <p>By default if this is not set, and the Synchronoss NIO Multipart
+		 * library is available, a
+		 * {@link org.springframework.http.codec.multipart.SynchronossPartHttpMessageReader}
+		 * is used.
+		 * @param reader the reader to use for multipart parts
+		 */
+		void multipartReader(HttpMessageReader<Part> reader);
 	}
 
 }
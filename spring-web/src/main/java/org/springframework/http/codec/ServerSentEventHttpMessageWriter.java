@@ -18,13 +18,21 @@ package org.springframework.http.codec;
 
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
 import reactor.core.publisher.Mono;
 
 import org.springframework.core.ResolvableType;
@@ -32,15 +40,25 @@ import org.springframework.core.codec.CodecException;
 import org.springframework.core.codec.Encoder;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.http.MediaType;
 import org.springframework.http.ReactiveHttpOutputMessage;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
 /**
  * {@code HttpMessageWriter} for {@code "text/event-stream"} responses.
  *
+ * <p>Each event is written into a single {@code DataBuffer}, with the field
+ * names pre-encoded. When the response is not consumed as fast as events are
+ * produced, up to {@link #setMaxEventsPerFlush maxEventsPerFlush} pending
+ * events are written together and flushed once. Heartbeat comments can be
+ * sent to keep idle connections open through
+ * {@link #setHeartbeatInterval(Duration)}.
+ *
  * @author Sebastien Deleuze
  * @author Arjen Poutsma
  * @author Rossen Stoyanchev
@@ -51,9 +69,27 @@ public class ServerSentEventHttpMessageWriter implements HttpMessageWriter<Objec
 	private static final List<MediaType> WRITABLE_MEDIA_TYPES =
 			Collections.singletonList(MediaType.TEXT_EVENT_STREAM);
 
+	private static final byte[] ID_FIELD = "id:".getBytes(StandardCharsets.UTF_8);
+
+	private static final byte[] EVENT_FIELD = "event:".getBytes(StandardCharsets.UTF_8);
+
+	private static final byte[] RETRY_FIELD = "retry:".getBytes(StandardCharsets.UTF_8);
+
+	private static final byte[] DATA_FIELD = "data:".getBytes(StandardCharsets.UTF_8);
+
+	private static final byte[] COMMENT_FIELD = ":".getBytes(StandardCharsets.UTF_8);
+
+	private static final byte[] NEWLINE = "\n".getBytes(StandardCharsets.UTF_8);
+
 
 	private final Encoder<?> encoder;
 
+	private int maxEventsPerFlush = 16;
+
+	private Duration heartbeatInterval;
+
+	private byte[] heartbeat = encodeHeartbeat("");
+
 
 	/**
 	 * Constructor without an {@code Encoder}. In this mode only {@code String}
@@ -81,6 +117,66 @@ public class ServerSentEventHttpMessageWriter implements HttpMessageWriter<Objec
 		return this.encoder;
 	}
 
+	/**
+	 * Set the maximum number of pending events to write together, with a single
+	 * flush, when the response is consumed slower than events are produced.
+	 * Events are still flushed one by one as long as the response keeps up.
+	 * <p>By default this is set to 16. A value of 1 disables coalescing.
+	 * @param maxEventsPerFlush the maximum number of events per flush
+	 */
+	public void setMaxEventsPerFlush(int maxEventsPerFlush) {
+		Assert.isTrue(maxEventsPerFlush > 0, "'maxEventsPerFlush' must be positive");
+		this.maxEventsPerFlush = maxEventsPerFlush;
+	}
+
+	/**
+	 * Return the {@link #setMaxEventsPerFlush configured} maximum number of
+	 * events per flush.
+	 */
+	public int getMaxEventsPerFlush() {
+		return this.maxEventsPerFlush;
+	}
+
+	/**
+	 * Set the interval at which to send a heartbeat comment on streams that
+	 * have not written an event for that long, e.g. to prevent proxies from
+	 * closing idle connections.
+	 * <p>By default this is not set, and no heartbeats are sent.
+	 * @param heartbeatInterval the heartbeat interval, or {@code null} to disable
+	 * @see #setHeartbeatComment(String)
+	 */
+	public void setHeartbeatInterval(@Nullable Duration heartbeatInterval) {
+		Assert.isTrue(heartbeatInterval == null || !heartbeatInterval.isNegative() && !heartbeatInterval.isZero(),
+				"'heartbeatInterval' must be positive");
+		this.heartbeatInterval = heartbeatInterval;
+	}
+
+	/**
+	 * Return the {@link #setHeartbeatInterval configured} heartbeat interval.
+	 */
+	@Nullable
+	public Duration getHeartbeatInterval() {
+		return this.heartbeatInterval;
+	}
+
+	/**
+	 * Set the text of the comment sent as heartbeat.
+	 * <p>By default, an empty comment is sent.
+	 * @param heartbeatComment the heartbeat comment
+	 */
+	public void setHeartbeatComment(String heartbeatComment) {
+		Assert.notNull(heartbeatComment, "'heartbeatComment' must not be null");
+		this.heartbeat = encodeHeartbeat(heartbeatComment);
+	}
+
+	private static byte[] encodeHeartbeat(String comment) {
+		DataBuffer buffer = writeEvent(ServerSentEvent.builder().comment(comment).build(), null,
+				Collections.emptyList(), new DefaultDataBufferFactory());
+		byte[] bytes = new byte[buffer.readableByteCount()];
+		buffer.read(bytes);
+		return bytes;
+	}
+
 	@Override
 	public List<MediaType> getWritableMediaTypes() {
 		return WRITABLE_MEDIA_TYPES;
@@ -108,72 +204,128 @@ public class ServerSentEventHttpMessageWriter implements HttpMessageWriter<Objec
 		ResolvableType valueType = (elementClass != null && ServerSentEvent.class.isAssignableFrom(elementClass) ?
 				elementType.getGeneric() : elementType);
 
-		return Flux.from(input).map(element -> {
-
+		Flux<DataBuffer> events = Flux.from(input).concatMap(element -> {
 			ServerSentEvent<?> sse = (element instanceof ServerSentEvent ?
 					(ServerSentEvent<?>) element : ServerSentEvent.builder().data(element).build());
-
-			StringBuilder sb = new StringBuilder();
-			String id = sse.id();
-			String event = sse.event();
-			Duration retry = sse.retry();
-			String comment = sse.comment();
-			Object data = sse.data();
-			if (id != null) {
-				writeField("id", id, sb);
-			}
-			if (event != null) {
-				writeField("event", event, sb);
-			}
-			if (retry != null) {
-				writeField("retry", retry.toMillis(), sb);
-			}
-			if (comment != null) {
-				sb.append(':').append(comment.replaceAll("\\n", "\n:")).append("\n");
-			}
-			if (data != null) {
-				sb.append("data:");
-			}
-
-			return Flux.concat(encodeText(sb, factory),
-					encodeData(data, valueType, factory, hints),
-					encodeText("\n", factory));
+			return encodeEvent(sse, valueType, factory, hints);
 		});
+		if (this.heartbeatInterval != null) {
+			events = withHeartbeats(events, this.heartbeatInterval, this.heartbeat, factory);
+		}
+
+		return coalesce(events, this.maxEventsPerFlush);
 	}
 
-	private void writeField(String fieldName, Object fieldValue, StringBuilder stringBuilder) {
-		stringBuilder.append(fieldName);
-		stringBuilder.append(':');
-		stringBuilder.append(fieldValue.toString());
-		stringBuilder.append("\n");
+	private static Flux<Publisher<DataBuffer>> coalesce(Flux<DataBuffer> events, int maxEvents) {
+		if (maxEvents == 1) {
+			return events.map(Mono::just);
+		}
+		return Flux.create(sink -> events.subscribe(new CoalescingSubscriber(sink, maxEvents)));
 	}
 
 	@SuppressWarnings("unchecked")
-	private <T> Flux<DataBuffer> encodeData(@Nullable T data, ResolvableType valueType,
+	private <T> Mono<DataBuffer> encodeEvent(ServerSentEvent<T> sse, ResolvableType valueType,
 			DataBufferFactory factory, Map<String, Object> hints) {
 
-		if (data == null) {
-			return Flux.empty();
-		}
-
-		if (data instanceof String) {
-			String text = (String) data;
-			return Flux.from(encodeText(text.replaceAll("\\n", "\ndata:") + "\n", factory));
+		T data = sse.data();
+		if (data == null || data instanceof String) {
+			return Mono.just(writeEvent(sse, (String) data, Collections.emptyList(), factory));
 		}
 
 		if (this.encoder == null) {
-			return Flux.error(new CodecException("No SSE encoder configured and the data is not String."));
+			return Mono.error(new CodecException("No SSE encoder configured and the data is not String."));
 		}
 
 		return ((Encoder<T>) this.encoder)
 				.encode(Mono.just(data), factory, valueType, MediaType.TEXT_EVENT_STREAM, hints)
-				.concatWith(encodeText("\n", factory));
+				.collectList()
+				.map(encodedData -> writeEvent(sse, null, encodedData, factory));
+	}
+
+	/**
+	 * Write all fields of the given event into a single buffer, followed by
+	 * either the given text or the given encoded data.
+	 */
+	private static DataBuffer writeEvent(ServerSentEvent<?> sse, @Nullable String text,
+			List<DataBuffer> encodedData, DataBufferFactory factory) {
+
+		byte[] id = getBytes(sse.id());
+		byte[] event = getBytes(sse.event());
+		byte[] retry = (sse.retry() != null ? getBytes(Long.toString(sse.retry().toMillis())) : null);
+		byte[] comment = getBytes(sse.comment());
+		byte[] data = getBytes(text);
+
+		int capacity = 32 + length(id) + length(event) + length(retry) + length(comment) + length(data);
+		for (DataBuffer dataBuffer : encodedData) {
+			capacity += dataBuffer.readableByteCount();
+		}
+
+		DataBuffer buffer = factory.allocateBuffer(capacity);
+		if (id != null) {
+			writeLines(buffer, ID_FIELD, id);
+		}
+		if (event != null) {
+			writeLines(buffer, EVENT_FIELD, event);
+		}
+		if (retry != null) {
+			writeLines(buffer, RETRY_FIELD, retry);
+		}
+		if (comment != null) {
+			writeLines(buffer, COMMENT_FIELD, comment);
+		}
+		if (data != null) {
+			writeLines(buffer, DATA_FIELD, data);
+		}
+		else if (!encodedData.isEmpty()) {
+			buffer.write(DATA_FIELD);
+			for (DataBuffer dataBuffer : encodedData) {
+				buffer.write(dataBuffer);
+				DataBufferUtils.release(dataBuffer);
+			}
+			buffer.write(NEWLINE);
+		}
+		buffer.write(NEWLINE);
+		return buffer;
+	}
+
+	@Nullable
+	private static byte[] getBytes(@Nullable String value) {
+		return (value != null ? value.getBytes(StandardCharsets.UTF_8) : null);
 	}
 
-	private Mono<DataBuffer> encodeText(CharSequence text, DataBufferFactory bufferFactory) {
-		byte[] bytes = text.toString().getBytes(StandardCharsets.UTF_8);
-		DataBuffer buffer = bufferFactory.allocateBuffer(bytes.length).write(bytes);
-		return Mono.just(buffer);
+	private static int length(@Nullable byte[] bytes) {
+		return (bytes != null ? bytes.length : 0);
+	}
+
+	/**
+	 * Write the given value, repeating the field prefix for each line.
+	 */
+	private static void writeLines(DataBuffer buffer, byte[] field, byte[] value) {
+		buffer.write(field);
+		int start = 0;
+		for (int i = 0; i < value.length; i++) {
+			if (value[i] == '\n') {
+				buffer.write(value, start, i + 1 - start);
+				buffer.write(field);
+				start = i + 1;
+			}
+		}
+		buffer.write(value, start, value.length - start);
+		buffer.write(NEWLINE);
+	}
+
+	private static Flux<DataBuffer> withHeartbeats(Flux<DataBuffer> events, Duration interval,
+			byte[] heartbeat, DataBufferFactory factory) {
+
+		return Flux.defer(() -> {
+			AtomicBoolean eventWritten = new AtomicBoolean();
+			return events.doOnNext(buffer -> eventWritten.set(true)).publish(shared -> Flux.merge(shared,
+					Flux.interval(interval, interval)
+							.onBackpressureDrop()
+							.filter(tick -> !eventWritten.getAndSet(false))
+							.map(tick -> factory.allocateBuffer(heartbeat.length).write(heartbeat))
+							.takeUntilOther(shared.then())));
+		});
 	}
 
 	@Override
@@ -198,4 +350,107 @@ public class ServerSentEventHttpMessageWriter implements HttpMessageWriter<Objec
 		return Collections.emptyMap();
 	}
 
+
+	/**
+	 * Prefetches up to {@code maxEvents} encoded events, and emits all events
+	 * that are pending when the downstream requests the next write as a single
+	 * {@code Publisher}, i.e. as one write followed by one flush.
+	 */
+	private static class CoalescingSubscriber extends BaseSubscriber<DataBuffer> {
+
+		private final FluxSink<Publisher<DataBuffer>> sink;
+
+		private final int maxEvents;
+
+		private final Queue<DataBuffer> pending = new ConcurrentLinkedQueue<>();
+
+		private final AtomicInteger wip = new AtomicInteger();
+
+		private volatile boolean done;
+
+		private volatile boolean cancelled;
+
+		private Throwable error;
+
+		private boolean completed;
+
+		public CoalescingSubscriber(FluxSink<Publisher<DataBuffer>> sink, int maxEvents) {
+			this.sink = sink;
+			this.maxEvents = maxEvents;
+			sink.onRequest(n -> drain());
+			sink.onCancel(() -> {
+				this.cancelled = true;
+				cancel();
+				drain();
+			});
+		}
+
+		@Override
+		protected void hookOnSubscribe(Subscription subscription) {
+			subscription.request(this.maxEvents);
+		}
+
+		@Override
+		protected void hookOnNext(DataBuffer buffer) {
+			this.pending.offer(buffer);
+			drain();
+		}
+
+		@Override
+		protected void hookOnComplete() {
+			this.done = true;
+			drain();
+		}
+
+		@Override
+		protected void hookOnError(Throwable throwable) {
+			this.error = throwable;
+			this.done = true;
+			drain();
+		}
+
+		private void drain() {
+			if (this.wip.getAndIncrement() != 0) {
+				return;
+			}
+			do {
+				if (this.cancelled) {
+					DataBuffer buffer;
+					while ((buffer = this.pending.poll()) != null) {
+						DataBufferUtils.release(buffer);
+					}
+					continue;
+				}
+				while (this.sink.requestedFromDownstream() > 0) {
+					DataBuffer first = this.pending.poll();
+					if (first == null) {
+						break;
+					}
+					List<DataBuffer> group = null;
+					DataBuffer next;
+					while ((group == null || group.size() < this.maxEvents) && (next = this.pending.poll()) != null) {
+						if (group == null) {
+							group = new ArrayList<>(this.maxEvents);
+							group.add(first);
+						}
+						group.add(next);
+					}
+					this.sink.next(group != null ? Flux.fromIterable(group) : Mono.just(first));
+					request(group != null ? group.size() : 1);
+				}
+				boolean terminated = this.done;
+				if (terminated && this.pending.isEmpty() && !this.completed) {
+					this.completed = true;
+					if (this.error != null) {
+						this.sink.error(this.error);
+					}
+					else {
+						this.sink.complete();
+					}
+				}
+			}
+			while (this.wip.decrementAndGet() != 0);
+		}
+	}
+
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.codec.cbor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.codec.json.AbstractJackson2Decoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.MimeType;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Decode bytes into CBOR and convert to Object's with Jackson 2.9.
+ *
+ * <p>Jackson 2.9 does not provide a non-blocking CBOR parser, so the input is
+ * aggregated before it is parsed. A top-level array, or a sequence of
+ * top-level values, is decoded to a stream of elements.
+ *
+ * @author agent
+ * @since 5.0
+ * @see Jackson2CborEncoder
+ */
+public class Jackson2CborDecoder extends AbstractJackson2Decoder {
+
+	private static final MimeType[] CBOR_MIME_TYPES = {
+			new MimeType("application", "cbor"),
+			new MimeType("application", "*+cbor")};
+
+
+	public Jackson2CborDecoder() {
+		this(Jackson2ObjectMapperBuilder.cbor().build(), CBOR_MIME_TYPES);
+	}
+
+	public Jackson2CborDecoder(ObjectMapper mapper, MimeType... mimeTypes) {
+		super(mapper, (ObjectUtils.isEmpty(mimeTypes) ? CBOR_MIME_TYPES : mimeTypes));
+		Assert.isAssignable(CBORFactory.class, mapper.getFactory().getClass());
+	}
+
+
+	@Override
+	public Flux<Object> decode(Publisher<DataBuffer> input, ResolvableType elementType,
+			@Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
+
+		ObjectReader reader = getObjectReader(elementType, mimeType, hints);
+		return DataBufferUtils.join(input).flatMapMany(dataBuffer -> {
+			try {
+				InputStream inputStream = dataBuffer.asInputStream();
+				MappingIterator<Object> iterator = reader.readValues(inputStream);
+				return Flux.fromIterable(iterator.readAll());
+			}
+			catch (IOException ex) {
+				return Flux.error(processException(ex));
+			}
+			finally {
+				DataBufferUtils.release(dataBuffer);
+			}
+		});
+	}
+
+	@Override
+	public Mono<Object> decodeToMono(Publisher<DataBuffer> input, ResolvableType elementType,
+			@Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
+
+		ObjectReader reader = getObjectReader(elementType, mimeType, hints);
+		return DataBufferUtils.join(input).flatMap(dataBuffer -> {
+			try {
+				Object value = reader.readValue(dataBuffer.asInputStream());
+				return Mono.justOrEmpty(value);
+			}
+			catch (IOException ex) {
+				return Mono.error(processException(ex));
+			}
+			finally {
+				DataBufferUtils.release(dataBuffer);
+			}
+		});
+	}
+
+}
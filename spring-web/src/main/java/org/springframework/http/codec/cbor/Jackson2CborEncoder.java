@@ -0,0 +1,60 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.codec.cbor;
+
+import java.util.Collections;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.AbstractJackson2Encoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.Assert;
+import org.springframework.util.MimeType;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Encode from an {@code Object} stream to a byte stream of CBOR objects using Jackson 2.9.
+ *
+ * <p>CBOR data items are self-delimiting, so values of a
+ * {@code "application/stream+cbor"} stream are written without separator.
+ *
+ * @author agent
+ * @since 5.0
+ * @see Jackson2CborDecoder
+ */
+public class Jackson2CborEncoder extends AbstractJackson2Encoder {
+
+	private static final MimeType[] CBOR_MIME_TYPES = {
+			new MimeType("application", "cbor"),
+			new MimeType("application", "*+cbor")};
+
+	private static final MediaType CBOR_STREAM_MEDIA_TYPE = new MediaType("application", "stream+cbor");
+
+
+	public Jackson2CborEncoder() {
+		this(Jackson2ObjectMapperBuilder.cbor().build(), CBOR_MIME_TYPES);
+	}
+
+	public Jackson2CborEncoder(ObjectMapper mapper, MimeType... mimeTypes) {
+		super(mapper, (ObjectUtils.isEmpty(mimeTypes) ? CBOR_MIME_TYPES : mimeTypes));
+		Assert.isAssignable(CBORFactory.class, mapper.getFactory().getClass());
+		setStreamingMediaTypes(Collections.singletonList(CBOR_STREAM_MEDIA_TYPE));
+	}
+
+}
@@ -0,0 +1,7 @@
+/**
+ * CBOR encoder and decoder support.
+ */
+@NonNullApi
+package org.springframework.http.codec.cbor;
+
+import org.springframework.lang.NonNullApi;
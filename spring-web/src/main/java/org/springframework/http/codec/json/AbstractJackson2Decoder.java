@@ -0,0 +1,158 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.codec.json;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.InvalidDefinitionException;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.CodecException;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.codec.HttpMessageDecoder;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.MimeType;
+
+/**
+ * Base class providing support methods for Jackson 2.9 decoding, independent
+ * of the data format of the underlying {@code JsonFactory}.
+ *
+ * <p>Input is tokenized incrementally with the non-blocking parser of the
+ * {@code JsonFactory}, see {@link Jackson2Tokenizer}.
+ *
+ * @author Sebastien Deleuze
+ * @author Rossen Stoyanchev
+ * @author agent
+ * @since 5.0
+ */
+public abstract class AbstractJackson2Decoder extends Jackson2CodecSupport implements HttpMessageDecoder<Object> {
+
+	/**
+	 * Constructor with a Jackson {@link ObjectMapper} to use.
+	 */
+	protected AbstractJackson2Decoder(ObjectMapper mapper, MimeType... mimeTypes) {
+		super(mapper, mimeTypes);
+	}
+
+	@Override
+	public boolean canDecode(ResolvableType elementType, @Nullable MimeType mimeType) {
+		JavaType javaType = objectMapper().getTypeFactory().constructType(elementType.getType());
+		// Skip String: CharSequenceDecoder + "*/*" comes after
+		return (!CharSequence.class.isAssignableFrom(elementType.resolve(Object.class)) &&
+				objectMapper().canDeserialize(javaType) && supportsMimeType(mimeType));
+	}
+
+	@Override
+	public List<MimeType> getDecodableMimeTypes() {
+		return getMimeTypes();
+	}
+
+	@Override
+	public Flux<Object> decode(Publisher<DataBuffer> input, ResolvableType elementType,
+			@Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
+
+		Flux<TokenBuffer> tokens = Jackson2Tokenizer.tokenize(
+				Flux.from(input), objectMapper().getFactory(), true);
+
+		return decodeInternal(tokens, elementType, mimeType, hints);
+	}
+
+	@Override
+	public Mono<Object> decodeToMono(Publisher<DataBuffer> input, ResolvableType elementType,
+			@Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
+
+		// Tokenize incrementally as data buffers arrive, rather than aggregating the body
+		Flux<TokenBuffer> tokens = Jackson2Tokenizer.tokenize(
+				Flux.from(input), objectMapper().getFactory(), false);
+
+		return decodeInternal(tokens, elementType, mimeType, hints).singleOrEmpty();
+	}
+
+	/**
+	 * Bind the given token buffers to values of the given element type.
+	 * <p>Since Reactive Streams does not allow {@code null} elements, JSON
+	 * {@code null} values are skipped: {@code null} elements of a streamed
+	 * array are dropped, and a top-level {@code null} results in an empty
+	 * {@code Mono}, as it did when decoding the aggregated body.
+	 */
+	protected Flux<Object> decodeInternal(Flux<TokenBuffer> tokens,
+			ResolvableType elementType, @Nullable MimeType mimeType,
+			@Nullable Map<String, Object> hints) {
+
+		Assert.notNull(tokens, "'tokens' must not be null");
+		Assert.notNull(elementType, "'elementType' must not be null");
+
+		ObjectReader reader = getObjectReader(elementType, mimeType, hints);
+
+		return tokens.handle((tokenBuffer, sink) -> {
+			try {
+				Object value = reader.readValue(tokenBuffer.asParser());
+				if (value != null) {
+					sink.next(value);
+				}
+			}
+			catch (IOException ex) {
+				sink.error(processException(ex));
+			}
+		});
+	}
+
+	protected Throwable processException(IOException ex) {
+		if (ex instanceof InvalidDefinitionException) {
+			return new CodecException("Type definition error: " + ((InvalidDefinitionException) ex).getType(), ex);
+		}
+		else if (ex instanceof JsonProcessingException) {
+			return new DecodingException(objectMapper().getFactory().getFormatName() + " decoding error: " +
+					((JsonProcessingException) ex).getOriginalMessage(), ex);
+		}
+		else {
+			return new DecodingException("I/O error while parsing input stream", ex);
+		}
+	}
+
+
+	// HttpMessageDecoder...
+
+	@Override
+	public Map<String, Object> getDecodeHints(ResolvableType actualType, ResolvableType elementType,
+			ServerHttpRequest request, ServerHttpResponse response) {
+
+		return getHints(actualType);
+	}
+
+	@Override
+	protected <A extends Annotation> A getAnnotation(MethodParameter parameter, Class<A> annotType) {
+		return parameter.getParameterAnnotation(annotType);
+	}
+
+}
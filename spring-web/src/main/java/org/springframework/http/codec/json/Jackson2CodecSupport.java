@@ -28,6 +28,8 @@ import java.util.Optional;
 import com.fasterxml.jackson.annotation.JsonView;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 
 import org.springframework.core.GenericTypeResolver;
@@ -35,12 +37,19 @@ import org.springframework.core.MethodParameter;
 import org.springframework.core.ResolvableType;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
 import org.springframework.util.MimeType;
 import org.springframework.util.ObjectUtils;
 
 /**
  * Base class providing support methods for Jackson 2.9 encoding and decoding.
  *
+ * <p>{@link ObjectReader}s and {@link ObjectWriter}s are resolved once per
+ * combination of target type, context class, JSON view and MIME type, and kept
+ * in a bounded cache (see {@link #setCacheLimit}). As a consequence, changes to
+ * the configuration of the {@code ObjectMapper} after the first use of this
+ * codec are not reflected, unless the cache limit is set to 0.
+ *
  * @author Sebastien Deleuze
  * @author Rossen Stoyanchev
  * @since 5.0
@@ -57,6 +66,9 @@ public abstract class Jackson2CodecSupport {
 	private static final String JSON_VIEW_HINT_ERROR =
 			"@JsonView only supported for write hints with exactly 1 class argument: ";
 
+	/** Default maximum number of entries for the reader and writer caches: 256 */
+	public static final int DEFAULT_CACHE_LIMIT = 256;
+
 	protected static final List<MimeType> JSON_MIME_TYPES = Arrays.asList(
 				new MimeType("application", "json", StandardCharsets.UTF_8),
 				new MimeType("application", "*+json", StandardCharsets.UTF_8));
@@ -66,6 +78,12 @@ public abstract class Jackson2CodecSupport {
 
 	private final List<MimeType> mimeTypes;
 
+	private volatile ConcurrentLruCache<CacheKey, ObjectReader> readerCache =
+			new ConcurrentLruCache<>(DEFAULT_CACHE_LIMIT, this::createObjectReader);
+
+	private volatile ConcurrentLruCache<CacheKey, ObjectWriter> writerCache =
+			new ConcurrentLruCache<>(DEFAULT_CACHE_LIMIT, this::createObjectWriter);
+
 
 	/**
 	 * Constructor with a Jackson {@link ObjectMapper} to use.
@@ -77,10 +95,50 @@ public abstract class Jackson2CodecSupport {
 	}
 
 
+	/**
+	 * Specify the maximum number of entries for the {@code ObjectReader} and
+	 * {@code ObjectWriter} caches. Setting the limit resets the caches.
+	 * <p>Default is 256. A value of 0 disables caching, resolving readers and
+	 * writers for every call.
+	 */
+	public void setCacheLimit(int cacheLimit) {
+		this.readerCache = new ConcurrentLruCache<>(cacheLimit, this::createObjectReader);
+		this.writerCache = new ConcurrentLruCache<>(cacheLimit, this::createObjectWriter);
+	}
+
+	/**
+	 * Return the maximum number of entries for the reader and writer caches.
+	 */
+	public int getCacheLimit() {
+		return this.readerCache.sizeLimit();
+	}
+
+	/**
+	 * Return the number of reader and writer lookups served from the cache.
+	 */
+	public long getCacheHitCount() {
+		return this.readerCache.getHitCount() + this.writerCache.getHitCount();
+	}
+
+	/**
+	 * Return the number of reader and writer lookups that had to be resolved.
+	 */
+	public long getCacheMissCount() {
+		return this.readerCache.getMissCount() + this.writerCache.getMissCount();
+	}
+
+
 	protected ObjectMapper objectMapper() {
 		return this.objectMapper;
 	}
 
+	/**
+	 * Return the MIME types supported by this codec.
+	 */
+	protected List<MimeType> getMimeTypes() {
+		return this.mimeTypes;
+	}
+
 	protected boolean supportsMimeType(@Nullable MimeType mimeType) {
 		return (mimeType == null || this.mimeTypes.stream().anyMatch(m -> m.isCompatibleWith(mimeType)));
 	}
@@ -90,6 +148,72 @@ public abstract class Jackson2CodecSupport {
 		return typeFactory.constructType(GenericTypeResolver.resolveType(type, contextClass));
 	}
 
+	/**
+	 * Return the {@link ObjectReader} for the given element type, MIME type and
+	 * hints, resolving it through {@link #createObjectReader} if not cached.
+	 */
+	protected ObjectReader getObjectReader(ResolvableType elementType, @Nullable MimeType mimeType,
+			@Nullable Map<String, Object> hints) {
+
+		return this.readerCache.get(getCacheKey(elementType, mimeType, hints));
+	}
+
+	/**
+	 * Return the {@link ObjectWriter} for the given element type, MIME type and
+	 * hints, resolving it through {@link #createObjectWriter} if not cached.
+	 */
+	protected ObjectWriter getObjectWriter(ResolvableType elementType, @Nullable MimeType mimeType,
+			@Nullable Map<String, Object> hints) {
+
+		return this.writerCache.get(getCacheKey(elementType, mimeType, hints));
+	}
+
+	private CacheKey getCacheKey(ResolvableType elementType, @Nullable MimeType mimeType,
+			@Nullable Map<String, Object> hints) {
+
+		Class<?> contextClass = getParameter(elementType).map(MethodParameter::getContainingClass).orElse(null);
+		Class<?> jsonView = (hints != null ? (Class<?>) hints.get(JSON_VIEW_HINT) : null);
+		return new CacheKey(elementType.getType(), contextClass, jsonView, mimeType);
+	}
+
+	private ObjectReader createObjectReader(CacheKey key) {
+		return createObjectReader(getJavaType(key.type, key.contextClass), key.jsonView, key.mimeType);
+	}
+
+	private ObjectWriter createObjectWriter(CacheKey key) {
+		return createObjectWriter(getJavaType(key.type, key.contextClass), key.jsonView, key.mimeType);
+	}
+
+	/**
+	 * Create the {@link ObjectReader} for the given type, JSON view and MIME type.
+	 * <p>The default implementation uses {@link ObjectMapper#readerWithView}
+	 * or {@link ObjectMapper#readerFor}.
+	 */
+	protected ObjectReader createObjectReader(JavaType javaType, @Nullable Class<?> jsonView,
+			@Nullable MimeType mimeType) {
+
+		return (jsonView != null ?
+				this.objectMapper.readerWithView(jsonView).forType(javaType) :
+				this.objectMapper.readerFor(javaType));
+	}
+
+	/**
+	 * Create the {@link ObjectWriter} for the given type, JSON view and MIME type.
+	 * <p>The default implementation uses {@link ObjectMapper#writerWithView} or
+	 * {@link ObjectMapper#writer()}, specialized for the given type if it is a
+	 * container type.
+	 */
+	protected ObjectWriter createObjectWriter(JavaType javaType, @Nullable Class<?> jsonView,
+			@Nullable MimeType mimeType) {
+
+		ObjectWriter writer = (jsonView != null ?
+				this.objectMapper.writerWithView(jsonView) : this.objectMapper.writer());
+		if (javaType.isContainerType()) {
+			writer = writer.forType(javaType);
+		}
+		return writer;
+	}
+
 	protected Map<String, Object> getHints(ResolvableType resolvableType) {
 		return getParameter(resolvableType)
 				.flatMap(parameter -> Optional.ofNullable(getAnnotation(parameter, JsonView.class))
@@ -109,4 +233,52 @@ public abstract class Jackson2CodecSupport {
 	@Nullable
 	protected abstract <A extends Annotation> A getAnnotation(MethodParameter parameter, Class<A> annotType);
 
+
+	/**
+	 * Key for the reader and writer caches.
+	 */
+	private static final class CacheKey {
+
+		private final Type type;
+
+		private final Class<?> contextClass;
+
+		private final Class<?> jsonView;
+
+		private final MimeType mimeType;
+
+		public CacheKey(Type type, @Nullable Class<?> contextClass, @Nullable Class<?> jsonView,
+				@Nullable MimeType mimeType) {
+
+			this.type = type;
+			this.contextClass = contextClass;
+			this.jsonView = jsonView;
+			this.mimeType = mimeType;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if (this == other) {
+				return true;
+			}
+			if (!(other instanceof CacheKey)) {
+				return false;
+			}
+			CacheKey otherKey = (CacheKey) other;
+			return (this.type.equals(otherKey.type) &&
+					ObjectUtils.nullSafeEquals(this.contextClass, otherKey.contextClass) &&
+					ObjectUtils.nullSafeEquals(this.jsonView, otherKey.jsonView) &&
+					ObjectUtils.nullSafeEquals(this.mimeType, otherKey.mimeType));
+		}
+
+		@Override
+		public int hashCode() {
+			int result = this.type.hashCode();
+			result = 31 * result + ObjectUtils.nullSafeHashCode(this.contextClass);
+			result = 31 * result + ObjectUtils.nullSafeHashCode(this.jsonView);
+			result = 31 * result + ObjectUtils.nullSafeHashCode(this.mimeType);
+			return result;
+		}
+	}
+
 }
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.codec.json;
+
+import java.util.Collections;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.Assert;
+import org.springframework.util.MimeType;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Encode from an {@code Object} stream to a byte stream of Smile objects using Jackson 2.9.
+ *
+ * <p>Each value of a {@code "application/stream+x-jackson-smile"} stream starts
+ * with its own Smile header, so no separator is needed between values.
+ *
+ * @author agent
+ * @since 5.0
+ * @see Jackson2SmileDecoder
+ */
+public class Jackson2SmileEncoder extends AbstractJackson2Encoder {
+
+	private static final MimeType[] SMILE_MIME_TYPES = {
+			new MimeType("application", "x-jackson-smile"),
+			new MimeType("application", "*+x-jackson-smile")};
+
+	private static final MediaType SMILE_STREAM_MEDIA_TYPE = new MediaType("application", "stream+x-jackson-smile");
+
+
+	public Jackson2SmileEncoder() {
+		this(Jackson2ObjectMapperBuilder.smile().build(), SMILE_MIME_TYPES);
+	}
+
+	public Jackson2SmileEncoder(ObjectMapper mapper, MimeType... mimeTypes) {
+		super(mapper, (ObjectUtils.isEmpty(mimeTypes) ? SMILE_MIME_TYPES : mimeTypes));
+		Assert.isAssignable(SmileFactory.class, mapper.getFactory().getClass());
+		setStreamingMediaTypes(Collections.singletonList(SMILE_STREAM_MEDIA_TYPE));
+	}
+
+}
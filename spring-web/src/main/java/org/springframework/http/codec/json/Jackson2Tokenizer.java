@@ -17,10 +17,13 @@
 package org.springframework.http.codec.json;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
 
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.JsonToken;
@@ -37,6 +40,10 @@ import org.springframework.util.Assert;
  * Function that transforms an arbitrary split byte stream representing JSON objects into a
  * {@code Flux<TokenBuffer>}, where each token buffer is a well-formed JSON object.
  *
+ * <p>Data buffers are fed to the non-blocking parser as they arrive, and released
+ * once parsed; when tokenizing array elements, only the tokens of the element
+ * currently being parsed are kept in memory.
+ *
  * @author Arjen Poutsma
  * @since 5.0
  */
@@ -44,6 +51,8 @@ class Jackson2Tokenizer implements Function<DataBuffer, Flux<TokenBuffer>> {
 
 	private final JsonParser parser;
 
+	private final String formatName;
+
 	private final boolean tokenizeArrayElements;
 
 	private TokenBuffer tokenBuffer;
@@ -55,6 +64,8 @@ class Jackson2Tokenizer implements Function<DataBuffer, Flux<TokenBuffer>> {
 	// TODO: change to ByteBufferFeeder when supported by Jackson
 	private ByteArrayFeeder inputFeeder;
 
+	private byte[] inputBytes = new byte[0];
+
 	/**
 	 * Create a new instance of the {@code Jackson2Tokenizer}.
 	 * @param parser the non-blocking parser, obtained via
@@ -63,49 +74,130 @@ class Jackson2Tokenizer implements Function<DataBuffer, Flux<TokenBuffer>> {
 	 * each of its elements is returned individually and immediately after it was fully received
 	 */
 	public Jackson2Tokenizer(JsonParser parser, boolean tokenizeArrayElements) {
+		this(parser, "JSON", tokenizeArrayElements);
+	}
+
+	/**
+	 * Create a new instance of the {@code Jackson2Tokenizer} for a data format
+	 * other than JSON, e.g. Smile.
+	 * @param parser the non-blocking parser, obtained via
+	 * {@link com.fasterxml.jackson.core.JsonFactory#createNonBlockingByteArrayParser}
+	 * @param formatName the name of the data format, used in error messages
+	 * @param tokenizeArrayElements if {@code true} and the "top level" object is an array,
+	 * each of its elements is returned individually and immediately after it was fully received
+	 */
+	public Jackson2Tokenizer(JsonParser parser, String formatName, boolean tokenizeArrayElements) {
 		Assert.notNull(parser, "'parser' must not be null");
+		Assert.hasText(formatName, "'formatName' must not be empty");
 
 		this.parser = parser;
+		this.formatName = formatName;
 		this.tokenizeArrayElements = tokenizeArrayElements;
 		this.tokenBuffer = new TokenBuffer(parser);
 		this.inputFeeder = (ByteArrayFeeder) this.parser.getNonBlockingInputFeeder();
 	}
 
+
+	/**
+	 * Tokenize the given {@code Flux<DataBuffer>} into {@code Flux<TokenBuffer>},
+	 * using a new non-blocking parser for each subscription.
+	 * @param dataBuffers the source data buffers
+	 * @param jsonFactory the factory to create the non-blocking parser with
+	 * @param tokenizeArrayElements if {@code true} and the "top level" JSON object is an array,
+	 * each of its elements is returned individually and immediately after it was fully received
+	 * @return the resulting token buffers
+	 */
+	public static Flux<TokenBuffer> tokenize(Flux<DataBuffer> dataBuffers, JsonFactory jsonFactory,
+			boolean tokenizeArrayElements) {
+
+		return Flux.defer(() -> {
+			Jackson2Tokenizer tokenizer;
+			try {
+				tokenizer = new Jackson2Tokenizer(jsonFactory.createNonBlockingByteArrayParser(),
+						jsonFactory.getFormatName(), tokenizeArrayElements);
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+			// concatMap only requests a bounded number of data buffers ahead
+			return dataBuffers.concatMap(tokenizer).concatWith(Flux.defer(tokenizer::endOfInput));
+		});
+	}
+
+
 	@Override
 	public Flux<TokenBuffer> apply(DataBuffer dataBuffer) {
-		byte[] bytes = new byte[dataBuffer.readableByteCount()];
-		dataBuffer.read(bytes);
-		DataBufferUtils.release(dataBuffer);
+		try {
+			feedInput(dataBuffer);
+			return Flux.fromIterable(parseTokens());
+		}
+		catch (JsonProcessingException ex) {
+			return Flux.error(new DecodingException(
+					this.formatName + " decoding error: " + ex.getOriginalMessage(), ex));
+		}
+		catch (Exception ex) {
+			return Flux.error(ex);
+		}
+		finally {
+			// All input has been consumed by the parser at this point
+			DataBufferUtils.release(dataBuffer);
+		}
+	}
 
+	/**
+	 * Signal the end of input to the parser, and return the remaining
+	 * tokens, e.g. for a top-level number.
+	 */
+	public Flux<TokenBuffer> endOfInput() {
+		this.inputFeeder.endOfInput();
 		try {
-			this.inputFeeder.feedInput(bytes, 0, bytes.length);
-			List<TokenBuffer> result = new ArrayList<>();
-
-			while (true) {
-				JsonToken token = this.parser.nextToken();
-				if (token == JsonToken.NOT_AVAILABLE) {
-					break;
-				}
-				calculateDepth(token);
-
-				if (!this.tokenizeArrayElements) {
-					processTokenNormal(token, result);
-				}
-				else {
-					processTokenArray(token, result);
-				}
-			}
-			return Flux.fromIterable(result);
+			return Flux.fromIterable(parseTokens());
 		}
 		catch (JsonProcessingException ex) {
 			return Flux.error(new DecodingException(
-					"JSON decoding error: " + ex.getOriginalMessage(), ex));
+					this.formatName + " decoding error: " + ex.getOriginalMessage(), ex));
 		}
 		catch (Exception ex) {
 			return Flux.error(ex);
 		}
 	}
 
+	private void feedInput(DataBuffer dataBuffer) throws IOException {
+		ByteBuffer byteBuffer = dataBuffer.asByteBuffer();
+		int length = byteBuffer.remaining();
+		if (byteBuffer.hasArray()) {
+			// Feed the backing array directly, rather than copying it
+			int offset = byteBuffer.arrayOffset() + byteBuffer.position();
+			this.inputFeeder.feedInput(byteBuffer.array(), offset, offset + length);
+		}
+		else {
+			if (this.inputBytes.length < length) {
+				this.inputBytes = new byte[length];
+			}
+			byteBuffer.get(this.inputBytes, 0, length);
+			this.inputFeeder.feedInput(this.inputBytes, 0, length);
+		}
+	}
+
+	private List<TokenBuffer> parseTokens() throws IOException {
+		List<TokenBuffer> result = new ArrayList<>();
+		while (true) {
+			JsonToken token = this.parser.nextToken();
+			if (token == null || token == JsonToken.NOT_AVAILABLE) {
+				break;
+			}
+			calculateDepth(token);
+
+			if (!this.tokenizeArrayElements) {
+				processTokenNormal(token, result);
+			}
+			else {
+				processTokenArray(token, result);
+			}
+		}
+		return result;
+	}
+
 	private void calculateDepth(JsonToken token) {
 		switch (token) {
 			case START_OBJECT:
@@ -126,7 +218,7 @@ class Jackson2Tokenizer implements Function<DataBuffer, Flux<TokenBuffer>> {
 	private void processTokenNormal(JsonToken token, List<TokenBuffer> result) throws IOException {
 		this.tokenBuffer.copyCurrentEvent(this.parser);
 
-		if (token == JsonToken.END_OBJECT || token == JsonToken.END_ARRAY) {
+		if (token.isStructEnd() || token.isScalarValue()) {
 			if (this.objectDepth == 0 && this.arrayDepth == 0) {
 				result.add(this.tokenBuffer);
 				this.tokenBuffer = new TokenBuffer(this.parser);
@@ -136,16 +228,23 @@ class Jackson2Tokenizer implements Function<DataBuffer, Flux<TokenBuffer>> {
 	}
 
 	private void processTokenArray(JsonToken token, List<TokenBuffer> result) throws IOException {
-		if (token != JsonToken.START_ARRAY && token != JsonToken.END_ARRAY) {
+		if (!isTopLevelArrayToken(token)) {
 			this.tokenBuffer.copyCurrentEvent(this.parser);
 		}
 
-		if (token == JsonToken.END_OBJECT && this.objectDepth == 0 &&
-				(this.arrayDepth == 1 || this.arrayDepth == 0)) {
+		if (this.objectDepth == 0 && (this.arrayDepth == 0 || this.arrayDepth == 1) &&
+				(token == JsonToken.END_OBJECT || token.isScalarValue() ||
+						(token == JsonToken.END_ARRAY && this.arrayDepth == 1))) {
 			result.add(this.tokenBuffer);
 			this.tokenBuffer = new TokenBuffer(this.parser);
 		}
 
 	}
 
+	private boolean isTopLevelArrayToken(JsonToken token) {
+		return (this.objectDepth == 0 &&
+				((token == JsonToken.START_ARRAY && this.arrayDepth == 1) ||
+						(token == JsonToken.END_ARRAY && this.arrayDepth == 0)));
+	}
+
 }
@@ -1,5 +1,5 @@
 /**
- * JSON encoder and decoder support.
+ * JSON and Smile encoder and decoder support.
  */
 @NonNullApi
 package org.springframework.http.codec.json;
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.codec.multipart;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ReactiveHttpInputMessage;
+import org.springframework.http.codec.HttpMessageReader;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Default {@code HttpMessageReader} for parsing {@code "multipart/form-data"}
+ * requests to a stream of {@link Part}s, without any third-party dependencies.
+ *
+ * <p>The body is parsed incrementally and with back-pressure, directly on the
+ * {@code DataBuffer}s of the request. The content of each part is held in
+ * memory up to {@link #setMaxInMemorySize maxInMemorySize} bytes; larger file
+ * parts are written to a temporary file on a
+ * {@link #setBlockingOperationScheduler separate scheduler}, and form fields
+ * exceeding the limit are rejected. The number and size of parts can be
+ * limited through {@link #setMaxParts} and {@link #setMaxPartSize}.
+ *
+ * <p>A part is emitted once its content has been fully received, so that
+ * parts can be consumed in any order, e.g. after being aggregated into a Map.
+ * The content of a part stored in a temporary file can be consumed multiple
+ * times, until the file is deleted through {@link Part#delete()}. This is done
+ * automatically on completion of the request for all parts read while handling
+ * a {@link org.springframework.web.server.ServerWebExchange} (see
+ * {@link #READ_PARTS_CONTEXT_KEY}), and for all files of a request if reading it fails or is cancelled.
+ *
+ * <p>This reader can be provided to {@link MultipartHttpMessageReader} in order
+ * to aggregate all parts into a Map.
+ *
+ * @author agent
+ * @since 5.0
+ * @see MultipartHttpMessageReader
+ */
+public class DefaultPartHttpMessageReader implements HttpMessageReader<Part> {
+
+	/**
+	 * Name of the Reactor {@code Context} entry holding a {@code Collection<Part>}
+	 * to which all parts read within that context are added. Set by
+	 * {@link org.springframework.web.server.adapter.HttpWebHandlerAdapter} so
+	 * that the storage of parts read through {@code @RequestBody Flux<Part>} or
+	 * {@code BodyExtractors} is deleted on completion of the request.
+	 */
+	public static final String READ_PARTS_CONTEXT_KEY = DefaultPartHttpMessageReader.class.getName() + ".READ_PARTS";
+
+	private static final String BOUNDARY_PARAMETER = "boundary";
+
+
+	private final DataBufferFactory bufferFactory = new DefaultDataBufferFactory();
+
+	private int maxInMemorySize = 256 * 1024;
+
+	private int maxHeadersSize = 8 * 1024;
+
+	private long maxPartSize = -1;
+
+	private int maxParts = -1;
+
+	private Path fileStorageDirectory;
+
+	private Scheduler blockingOperationScheduler = Schedulers.elastic();
+
+
+	/**
+	 * Configure the maximum amount of memory allowed per part, after which the
+	 * content of file parts is written to a temporary file, and form fields are
+	 * rejected.
+	 * <p>By default this is set to 256K.
+	 * @param maxInMemorySize the in-memory limit in bytes
+	 */
+	public void setMaxInMemorySize(int maxInMemorySize) {
+		Assert.isTrue(maxInMemorySize >= 0, "'maxInMemorySize' must not be negative");
+		this.maxInMemorySize = maxInMemorySize;
+	}
+
+	/**
+	 * Return the {@link #setMaxInMemorySize configured} in-memory limit.
+	 */
+	public int getMaxInMemorySize() {
+		return this.maxInMemorySize;
+	}
+
+	/**
+	 * Configure the maximum size of the headers of each part.
+	 * <p>By default this is set to 8K.
+	 * @param maxHeadersSize the maximum headers size in bytes
+	 */
+	public void setMaxHeadersSize(int maxHeadersSize) {
+		Assert.isTrue(maxHeadersSize > 0, "'maxHeadersSize' must be positive");
+		this.maxHeadersSize = maxHeadersSize;
+	}
+
+	/**
+	 * Return the {@link #setMaxHeadersSize configured} maximum headers size.
+	 */
+	public int getMaxHeadersSize() {
+		return this.maxHeadersSize;
+	}
+
+	/**
+	 * Configure the maximum size of the content of each part.
+	 * <p>By default this is set to -1, meaning that there is no maximum.
+	 * @param maxPartSize the maximum part size in bytes, or -1 for unlimited
+	 */
+	public void setMaxPartSize(long maxPartSize) {
+		this.maxPartSize = maxPartSize;
+	}
+
+	/**
+	 * Return the {@link #setMaxPartSize configured} maximum part size.
+	 */
+	public long getMaxPartSize() {
+		return this.maxPartSize;
+	}
+
+	/**
+	 * Configure the maximum number of parts allowed in a request.
+	 * <p>By default this is set to -1, meaning that there is no maximum.
+	 * @param maxParts the maximum number of parts, or -1 for unlimited
+	 */
+	public void setMaxParts(int maxParts) {
+		this.maxParts = maxParts;
+	}
+
+	/**
+	 * Return the {@link #setMaxParts configured} maximum number of parts.
+	 */
+	public int getMaxParts() {
+		return this.maxParts;
+	}
+
+	/**
+	 * Set the directory used to store parts larger than
+	 * {@link #setMaxInMemorySize maxInMemorySize}.
+	 * <p>By default, the default temporary-file directory is used.
+	 * @param fileStorageDirectory the directory to store temporary files in
+	 */
+	public void setFileStorageDirectory(@Nullable Path fileStorageDirectory) {
+		this.fileStorageDirectory = fileStorageDirectory;
+	}
+
+	/**
+	 * Return the {@link #setFileStorageDirectory configured} file storage directory.
+	 */
+	@Nullable
+	public Path getFileStorageDirectory() {
+		return this.fileStorageDirectory;
+	}
+
+	/**
+	 * Set the scheduler used for writing parts to and moving them between
+	 * files, which are blocking operations.
+	 * <p>By default, {@link Schedulers#elastic()} is used.
+	 * @param blockingOperationScheduler the scheduler for file operations
+	 */
+	public void setBlockingOperationScheduler(Scheduler blockingOperationScheduler) {
+		Assert.notNull(blockingOperationScheduler, "Scheduler must not be null");
+		this.blockingOperationScheduler = blockingOperationScheduler;
+	}
+
+
+	@Override
+	public List<MediaType> getReadableMediaTypes() {
+		return Collections.singletonList(MediaType.MULTIPART_FORM_DATA);
+	}
+
+	@Override
+	public boolean canRead(ResolvableType elementType, @Nullable MediaType mediaType) {
+		return Part.class.equals(elementType.resolve(Object.class)) &&
+				(mediaType == null || MediaType.MULTIPART_FORM_DATA.isCompatibleWith(mediaType));
+	}
+
+
+	@Override
+	public Flux<Part> read(ResolvableType elementType, ReactiveHttpInputMessage message,
+			Map<String, Object> hints) {
+
+		MediaType contentType = message.getHeaders().getContentType();
+		String boundary = (contentType != null ? contentType.getParameter(BOUNDARY_PARAMETER) : null);
+		if (boundary == null) {
+			return Flux.error(new DecodingException("No multipart boundary found in Content-Type: \"" +
+					contentType + "\""));
+		}
+		byte[] boundaryBytes = unquote(boundary).getBytes(StandardCharsets.ISO_8859_1);
+		Charset headersCharset = (contentType.getCharset() != null ?
+				contentType.getCharset() : StandardCharsets.UTF_8);
+
+		Flux<Part> parts = Flux.defer(() -> {
+			MultipartParser parser = new MultipartParser(boundaryBytes, this.maxHeadersSize, headersCharset);
+			PartGenerator generator = new PartGenerator(this.maxInMemorySize, this.maxPartSize,
+					this.maxParts, this.fileStorageDirectory, this.blockingOperationScheduler,
+					this.bufferFactory);
+			return message.getBody()
+					.flatMapIterable(parser::parse)
+					.concatWith(Flux.defer(parser::endOfInput))
+					.concatMap(generator::handle)
+					.concatWith(Mono.defer(generator::finish))
+					.doOnError(ex -> generator.discard())
+					.doOnCancel(generator::discard);
+		});
+		return Mono.subscriberContext().flatMapMany(context -> {
+			Collection<Part> readParts = context.getOrDefault(READ_PARTS_CONTEXT_KEY, null);
+			return (readParts != null ? parts.doOnNext(readParts::add) : parts);
+		});
+	}
+
+	@Override
+	public Mono<Part> readMono(ResolvableType elementType, ReactiveHttpInputMessage message,
+			Map<String, Object> hints) {
+
+		return Mono.error(new UnsupportedOperationException(
+				"This reader does not support reading a single element."));
+	}
+
+	private static String unquote(String value) {
+		if (value.length() > 1 && value.startsWith("\"") && value.endsWith("\"")) {
+			return value.substring(1, value.length() - 1);
+		}
+		return value;
+	}
+
+}
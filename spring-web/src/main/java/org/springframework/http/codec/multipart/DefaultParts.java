@@ -0,0 +1,239 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.codec.multipart;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.util.Assert;
+
+/**
+ * Default implementations of {@link Part} and subtypes, as created by
+ * {@link DefaultPartHttpMessageReader}.
+ *
+ * @author agent
+ * @since 5.0
+ */
+abstract class DefaultParts {
+
+	private static final int FILE_BUFFER_SIZE = 4096;
+
+
+	/**
+	 * Create a new {@link FormFieldPart} with the given content.
+	 * @param headers the part headers
+	 * @param content the part content
+	 * @param bufferFactory the factory to wrap the content with
+	 * @return the form field part
+	 */
+	public static FormFieldPart formFieldPart(HttpHeaders headers, byte[] content,
+			DataBufferFactory bufferFactory) {
+
+		return new DefaultFormFieldPart(headers, content, bufferFactory);
+	}
+
+	/**
+	 * Create a new {@link FilePart} with content held in memory.
+	 * @param headers the part headers
+	 * @param content the part content
+	 * @param bufferFactory the factory to wrap the content with
+	 * @param blockingScheduler the scheduler to use for writing the content to a file
+	 * @return the file part
+	 */
+	public static FilePart inMemoryFilePart(HttpHeaders headers, byte[] content,
+			DataBufferFactory bufferFactory, Scheduler blockingScheduler) {
+
+		return new InMemoryFilePart(headers, content, bufferFactory, blockingScheduler);
+	}
+
+	/**
+	 * Create a new {@link FilePart} with content stored in the given file.
+	 * @param headers the part headers
+	 * @param file the temporary file containing the part content
+	 * @param bufferFactory the factory to read the content with
+	 * @param blockingScheduler the scheduler to use for moving the content to a file
+	 * @return the file part
+	 */
+	public static FilePart fileBackedFilePart(HttpHeaders headers, Path file,
+			DataBufferFactory bufferFactory, Scheduler blockingScheduler) {
+
+		return new FileBackedFilePart(headers, file, bufferFactory, blockingScheduler);
+	}
+
+
+	private abstract static class AbstractPart implements Part {
+
+		private final HttpHeaders headers;
+
+		protected AbstractPart(HttpHeaders headers) {
+			Assert.notNull(headers, "HttpHeaders is required");
+			this.headers = headers;
+		}
+
+		@Override
+		public String name() {
+			return this.headers.getContentDisposition().getName();
+		}
+
+		@Override
+		public HttpHeaders headers() {
+			return this.headers;
+		}
+
+		@Override
+		public String toString() {
+			return getClass().getSimpleName() + " '" + name() + "'";
+		}
+	}
+
+
+	private static class InMemoryPart extends AbstractPart {
+
+		private final byte[] content;
+
+		private final DataBufferFactory bufferFactory;
+
+		InMemoryPart(HttpHeaders headers, byte[] content, DataBufferFactory bufferFactory) {
+			super(headers);
+			this.content = content;
+			this.bufferFactory = bufferFactory;
+		}
+
+		@Override
+		public Flux<DataBuffer> content() {
+			return Flux.defer(() -> Flux.just(this.bufferFactory.wrap(this.content)));
+		}
+
+		protected byte[] getContent() {
+			return this.content;
+		}
+	}
+
+
+	private static class DefaultFormFieldPart extends InMemoryPart implements FormFieldPart {
+
+		DefaultFormFieldPart(HttpHeaders headers, byte[] content, DataBufferFactory bufferFactory) {
+			super(headers, content, bufferFactory);
+		}
+
+		@Override
+		public String value() {
+			MediaType contentType = headers().getContentType();
+			Charset charset = (contentType != null && contentType.getCharset() != null ?
+					contentType.getCharset() : StandardCharsets.UTF_8);
+			return new String(getContent(), charset);
+		}
+	}
+
+
+	private static class InMemoryFilePart extends InMemoryPart implements FilePart {
+
+		private final Scheduler blockingScheduler;
+
+		InMemoryFilePart(HttpHeaders headers, byte[] content, DataBufferFactory bufferFactory,
+				Scheduler blockingScheduler) {
+
+			super(headers, content, bufferFactory);
+			this.blockingScheduler = blockingScheduler;
+		}
+
+		@Override
+		public String filename() {
+			return headers().getContentDisposition().getFilename();
+		}
+
+		@Override
+		public Mono<Void> transferTo(File dest) {
+			return Mono.fromCallable(() -> Files.write(dest.toPath(), getContent()))
+					.subscribeOn(this.blockingScheduler)
+					.then();
+		}
+	}
+
+
+	/**
+	 * {@link FilePart} backed by a temporary file, which remains available
+	 * until {@link #delete()} is invoked, typically on completion of the request.
+	 */
+	private static class FileBackedFilePart extends AbstractPart implements FilePart {
+
+		private final Path file;
+
+		private final DataBufferFactory bufferFactory;
+
+		private final Scheduler blockingScheduler;
+
+		FileBackedFilePart(HttpHeaders headers, Path file, DataBufferFactory bufferFactory,
+				Scheduler blockingScheduler) {
+
+			super(headers);
+			this.file = file;
+			this.bufferFactory = bufferFactory;
+			this.blockingScheduler = blockingScheduler;
+		}
+
+		@Override
+		public String filename() {
+			return headers().getContentDisposition().getFilename();
+		}
+
+		@Override
+		public Flux<DataBuffer> content() {
+			return Flux.defer(() -> {
+				try {
+					FileChannel channel = FileChannel.open(this.file, StandardOpenOption.READ);
+					return DataBufferUtils.read(channel, this.bufferFactory, FILE_BUFFER_SIZE);
+				}
+				catch (IOException ex) {
+					return Flux.error(ex);
+				}
+			}).subscribeOn(this.blockingScheduler);
+		}
+
+		@Override
+		public Mono<Void> transferTo(File dest) {
+			return Mono.fromCallable(() ->
+					Files.copy(this.file, dest.toPath(), StandardCopyOption.REPLACE_EXISTING))
+					.subscribeOn(this.blockingScheduler)
+					.then();
+		}
+
+		@Override
+		public Mono<Void> delete() {
+			return Mono.fromCallable(() -> Files.deleteIfExists(this.file))
+					.subscribeOn(this.blockingScheduler)
+					.then();
+		}
+	}
+
+}
@@ -0,0 +1,338 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.codec.multipart;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import reactor.core.publisher.Flux;
+
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Incremental parser for {@code multipart} bodies as described in RFC 2046,
+ * turning a stream of {@link DataBuffer}s into a stream of {@link Token}s: a
+ * {@link HeadersToken} at the start of every part, followed by any number of
+ * {@link BodyToken}s for its content.
+ *
+ * <p>Delimiters are matched byte-by-byte with a Knuth-Morris-Pratt table, so
+ * that a boundary may be split across any number of buffers. Body tokens are
+ * retained slices of the input buffers; bytes of a partially matched boundary
+ * at the end of a buffer are held back, and re-emitted from the boundary itself
+ * if the match turns out to fail, so that no input needs to be copied.
+ *
+ * <p>An instance holds the state of one request, and is not thread-safe.
+ *
+ * @author agent
+ * @since 5.0
+ */
+final class MultipartParser {
+
+	private static final byte CR = '\r';
+
+	private static final byte LF = '\n';
+
+	private static final byte HYPHEN = '-';
+
+	private static final byte[] HEADERS_END = {CR, LF, CR, LF};
+
+
+	private final DelimiterMatcher delimiterMatcher;
+
+	private final DelimiterMatcher headersMatcher = new DelimiterMatcher(HEADERS_END);
+
+	private final int maxHeadersSize;
+
+	private final Charset headersCharset;
+
+	private State state = State.PREAMBLE;
+
+	private boolean hyphen;
+
+	private byte[] headerBytes = new byte[256];
+
+	private int headerByteCount;
+
+
+	/**
+	 * Create a new parser for the given boundary.
+	 * @param boundary the boundary, as specified in the {@code Content-Type} header
+	 * @param maxHeadersSize the maximum size of the headers of each part
+	 * @param headersCharset the charset to decode part headers with
+	 */
+	MultipartParser(byte[] boundary, int maxHeadersSize, Charset headersCharset) {
+		byte[] delimiter = new byte[boundary.length + 4];
+		delimiter[0] = CR;
+		delimiter[1] = LF;
+		delimiter[2] = HYPHEN;
+		delimiter[3] = HYPHEN;
+		System.arraycopy(boundary, 0, delimiter, 4, boundary.length);
+		this.delimiterMatcher = new DelimiterMatcher(delimiter);
+		// The first delimiter does not need to be preceded by a CRLF
+		this.delimiterMatcher.setMatchCount(2);
+		this.maxHeadersSize = maxHeadersSize;
+		this.headersCharset = headersCharset;
+	}
+
+
+	/**
+	 * Parse the given buffer, releasing it afterwards.
+	 * @param buffer the next buffer of the multipart body
+	 * @return the tokens found in the buffer
+	 * @throws DecodingException if the part headers exceed the configured limit
+	 */
+	public List<Token> parse(DataBuffer buffer) {
+		try {
+			ByteBuffer byteBuffer = buffer.asByteBuffer();
+			int offset = byteBuffer.position();
+			int length = byteBuffer.remaining();
+			List<Token> tokens = null;
+			int bodyStart = 0;
+			int withheld = this.delimiterMatcher.getMatchCount();
+			int released = 0;
+
+			for (int i = 0; i < length; i++) {
+				byte b = byteBuffer.get(offset + i);
+				switch (this.state) {
+					case PREAMBLE:
+						if (this.delimiterMatcher.match(b)) {
+							this.state = State.DELIMITER_SUFFIX;
+						}
+						break;
+					case DELIMITER_SUFFIX:
+						if (b == LF) {
+							this.state = State.HEADERS;
+							this.headerByteCount = 0;
+							// Empty headers are terminated by a single CRLF
+							this.headersMatcher.setMatchCount(2);
+						}
+						else if (b == HYPHEN && this.hyphen) {
+							this.state = State.EPILOGUE;
+						}
+						this.hyphen = (b == HYPHEN);
+						break;
+					case HEADERS:
+						appendHeaderByte(b);
+						if (this.headersMatcher.match(b)) {
+							tokens = add(tokens, new HeadersToken(parseHeaders()));
+							this.state = State.BODY;
+							bodyStart = i + 1;
+							withheld = 0;
+							released = 0;
+						}
+						break;
+					case BODY:
+						boolean match = this.delimiterMatcher.match(b);
+						int matchCount = (match ? this.delimiterMatcher.getDelimiter().length :
+								this.delimiterMatcher.getMatchCount());
+						int candidateStart = withheld + i + 1 - matchCount;
+						if (released < withheld && candidateStart > released) {
+							// Bytes held back from the previous buffer turned out to be content
+							int end = Math.min(candidateStart, withheld);
+							tokens = add(tokens, heldBackContent(buffer, released, end));
+							released = end;
+						}
+						if (match) {
+							int bodyEnd = candidateStart - withheld;
+							if (bodyEnd > bodyStart) {
+								tokens = add(tokens, bodyToken(buffer, offset + bodyStart, bodyEnd - bodyStart));
+							}
+							this.state = State.DELIMITER_SUFFIX;
+							this.hyphen = false;
+						}
+						break;
+					case EPILOGUE:
+						return (tokens != null ? tokens : Collections.emptyList());
+				}
+			}
+
+			if (this.state == State.BODY) {
+				int bodyEnd = Math.max(bodyStart, length - this.delimiterMatcher.getMatchCount());
+				if (bodyEnd > bodyStart) {
+					tokens = add(tokens, bodyToken(buffer, offset + bodyStart, bodyEnd - bodyStart));
+				}
+			}
+			return (tokens != null ? tokens : Collections.emptyList());
+		}
+		finally {
+			DataBufferUtils.release(buffer);
+		}
+	}
+
+	/**
+	 * Signal the end of the input.
+	 * @return an empty flux if the closing delimiter was found, or an error otherwise
+	 */
+	public Flux<Token> endOfInput() {
+		if (this.state != State.EPILOGUE) {
+			return Flux.error(new DecodingException("Could not find end of multipart body"));
+		}
+		return Flux.empty();
+	}
+
+	private void appendHeaderByte(byte b) {
+		if (this.headerByteCount == this.maxHeadersSize) {
+			throw new DecodingException(
+					"Part headers exceed the maximum size of " + this.maxHeadersSize + " bytes");
+		}
+		if (this.headerByteCount == this.headerBytes.length) {
+			this.headerBytes = Arrays.copyOf(this.headerBytes,
+					Math.min(this.headerBytes.length * 2, this.maxHeadersSize));
+		}
+		this.headerBytes[this.headerByteCount++] = b;
+	}
+
+	private HttpHeaders parseHeaders() {
+		HttpHeaders headers = new HttpHeaders();
+		String block = new String(this.headerBytes, 0, this.headerByteCount, this.headersCharset);
+		for (String line : block.split("\r\n")) {
+			int index = line.indexOf(':');
+			if (index > 0) {
+				headers.add(line.substring(0, index).trim(), line.substring(index + 1).trim());
+			}
+		}
+		return headers;
+	}
+
+	private BodyToken heldBackContent(DataBuffer buffer, int start, int end) {
+		byte[] delimiter = this.delimiterMatcher.getDelimiter();
+		return new BodyToken(buffer.factory().wrap(Arrays.copyOfRange(delimiter, start, end)));
+	}
+
+	private static BodyToken bodyToken(DataBuffer buffer, int index, int length) {
+		return new BodyToken(DataBufferUtils.retain(buffer.slice(index, length)));
+	}
+
+	private static List<Token> add(List<Token> tokens, Token token) {
+		List<Token> result = (tokens != null ? tokens : new ArrayList<>(2));
+		result.add(token);
+		return result;
+	}
+
+
+	private enum State {
+
+		PREAMBLE, DELIMITER_SUFFIX, HEADERS, BODY, EPILOGUE
+	}
+
+
+	/**
+	 * Streaming matcher for a single delimiter, based on the Knuth-Morris-Pratt
+	 * algorithm.
+	 */
+	private static class DelimiterMatcher {
+
+		private final byte[] delimiter;
+
+		private final int[] table;
+
+		private int matchCount;
+
+		DelimiterMatcher(byte[] delimiter) {
+			this.delimiter = delimiter;
+			this.table = new int[delimiter.length];
+			int j = 0;
+			for (int i = 1; i < delimiter.length; i++) {
+				while (j > 0 && delimiter[i] != delimiter[j]) {
+					j = this.table[j - 1];
+				}
+				if (delimiter[i] == delimiter[j]) {
+					j++;
+				}
+				this.table[i] = j;
+			}
+		}
+
+		public byte[] getDelimiter() {
+			return this.delimiter;
+		}
+
+		public int getMatchCount() {
+			return this.matchCount;
+		}
+
+		public void setMatchCount(int matchCount) {
+			this.matchCount = matchCount;
+		}
+
+		/**
+		 * Feed the next byte, returning {@code true} if it completes the delimiter.
+		 */
+		public boolean match(byte b) {
+			while (this.matchCount > 0 && b != this.delimiter[this.matchCount]) {
+				this.matchCount = this.table[this.matchCount - 1];
+			}
+			if (b == this.delimiter[this.matchCount]) {
+				this.matchCount++;
+				if (this.matchCount == this.delimiter.length) {
+					this.matchCount = 0;
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+
+	/**
+	 * Represents a token produced by {@link MultipartParser}.
+	 */
+	abstract static class Token {
+	}
+
+
+	/**
+	 * Token signalling the start of a new part, with its headers.
+	 */
+	static final class HeadersToken extends Token {
+
+		private final HttpHeaders headers;
+
+		HeadersToken(HttpHeaders headers) {
+			this.headers = headers;
+		}
+
+		public HttpHeaders headers() {
+			return this.headers;
+		}
+	}
+
+
+	/**
+	 * Token containing a chunk of the content of the current part.
+	 */
+	static final class BodyToken extends Token {
+
+		private final DataBuffer buffer;
+
+		BodyToken(DataBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		public DataBuffer buffer() {
+			return this.buffer;
+		}
+	}
+
+}
@@ -17,6 +17,7 @@
 package org.springframework.http.codec.multipart;
 
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpHeaders;
@@ -57,4 +58,17 @@ public interface Part {
 	 */
 	Flux<DataBuffer> content();
 
+	/**
+	 * Delete the underlying storage of this part, if any, such as the
+	 * temporary file of a {@link FilePart}.
+	 * <p>This is done automatically for the parts of
+	 * {@link org.springframework.web.server.ServerWebExchange#getMultipartData()}
+	 * once the request has been handled. Parts read in any other way should
+	 * be deleted by the caller, once their content is no longer needed.
+	 * <p>The default implementation returns an empty {@code Mono}.
+	 */
+	default Mono<Void> delete() {
+		return Mono.empty();
+	}
+
 }
@@ -0,0 +1,279 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.codec.multipart;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.FastByteArrayOutputStream;
+
+/**
+ * Turns the {@link MultipartParser.Token}s of one request into {@link Part}s.
+ *
+ * <p>The content of each part is kept in memory until it exceeds the in-memory
+ * threshold, at which point it is written to a temporary file on the given
+ * scheduler; tokens are only requested once the previous write completed.
+ * Parts without a filename are form fields, and need to fit in memory.
+ *
+ * <p>Tokens need to be passed in sequentially, e.g. via
+ * {@link reactor.core.publisher.Flux#concatMap}. All temporary files created
+ * by the generator are tracked, so that they can be deleted together through
+ * {@link #discard()} in case of errors or cancellation; file operations and
+ * the discarding of files are serialized on the generator.
+ *
+ * @author agent
+ * @since 5.0
+ */
+final class PartGenerator {
+
+	private final int maxInMemorySize;
+
+	private final long maxPartSize;
+
+	private final int maxParts;
+
+	private final Path fileStorageDirectory;
+
+	private final Scheduler blockingScheduler;
+
+	private final DataBufferFactory bufferFactory;
+
+	private HttpHeaders headers;
+
+	private int partCount;
+
+	private long partSize;
+
+	private FastByteArrayOutputStream memoryContent;
+
+	private Path file;
+
+	private FileChannel fileChannel;
+
+	private final List<Path> files = new ArrayList<>();
+
+	private boolean discarded;
+
+
+	PartGenerator(int maxInMemorySize, long maxPartSize, int maxParts, Path fileStorageDirectory,
+			Scheduler blockingScheduler, DataBufferFactory bufferFactory) {
+
+		this.maxInMemorySize = maxInMemorySize;
+		this.maxPartSize = maxPartSize;
+		this.maxParts = maxParts;
+		this.fileStorageDirectory = fileStorageDirectory;
+		this.blockingScheduler = blockingScheduler;
+		this.bufferFactory = bufferFactory;
+	}
+
+
+	/**
+	 * Handle the next token.
+	 * @param token the token to handle
+	 * @return the previous part if the token starts a new one, or an empty
+	 * mono that completes when the token has been stored
+	 */
+	public Mono<Part> handle(MultipartParser.Token token) {
+		if (token instanceof MultipartParser.HeadersToken) {
+			if (this.maxParts >= 0 && ++this.partCount > this.maxParts) {
+				return Mono.error(new DecodingException(
+						"Multipart request exceeds the maximum of " + this.maxParts + " parts"));
+			}
+			Mono<Part> previous = completePart();
+			this.headers = ((MultipartParser.HeadersToken) token).headers();
+			this.partSize = 0;
+			this.memoryContent = new FastByteArrayOutputStream(256);
+			return previous;
+		}
+		else {
+			return handleBody(((MultipartParser.BodyToken) token).buffer());
+		}
+	}
+
+	/**
+	 * Signal the end of the input.
+	 * @return the last part, if any
+	 */
+	public Mono<Part> finish() {
+		return completePart();
+	}
+
+	/**
+	 * Delete all files created by this generator, including those of parts
+	 * that have already been emitted, in case of errors or cancellation.
+	 * <p>Files are deleted on the blocking scheduler, once a write that may
+	 * currently be in progress has completed; subsequent writes are ignored.
+	 */
+	public void discard() {
+		synchronized (this) {
+			if (this.discarded) {
+				return;
+			}
+			this.discarded = true;
+		}
+		this.blockingScheduler.schedule(this::deleteFiles);
+	}
+
+	private Mono<Part> handleBody(DataBuffer buffer) {
+		int byteCount = buffer.readableByteCount();
+		this.partSize += byteCount;
+		if (this.maxPartSize >= 0 && this.partSize > this.maxPartSize) {
+			DataBufferUtils.release(buffer);
+			return Mono.error(new DecodingException(
+					"Part exceeds the maximum size of " + this.maxPartSize + " bytes"));
+		}
+		if (this.file == null) {
+			if (this.partSize <= this.maxInMemorySize) {
+				try {
+					writeToMemory(buffer);
+					return Mono.empty();
+				}
+				catch (IOException ex) {
+					return Mono.error(ex);
+				}
+				finally {
+					DataBufferUtils.release(buffer);
+				}
+			}
+			if (isFormField()) {
+				DataBufferUtils.release(buffer);
+				return Mono.error(new DecodingException(
+						"Form field exceeds the in-memory limit of " + this.maxInMemorySize + " bytes"));
+			}
+		}
+		return Mono.<Part>fromCallable(() -> {
+			try {
+				writeToFile(buffer);
+				return null;
+			}
+			finally {
+				DataBufferUtils.release(buffer);
+			}
+		}).subscribeOn(this.blockingScheduler);
+	}
+
+	private void writeToMemory(DataBuffer buffer) throws IOException {
+		ByteBuffer byteBuffer = buffer.asByteBuffer();
+		if (byteBuffer.hasArray()) {
+			this.memoryContent.write(byteBuffer.array(),
+					byteBuffer.arrayOffset() + byteBuffer.position(), byteBuffer.remaining());
+		}
+		else {
+			byte[] bytes = new byte[byteBuffer.remaining()];
+			byteBuffer.get(bytes);
+			this.memoryContent.write(bytes, 0, bytes.length);
+		}
+	}
+
+	private synchronized void writeToFile(DataBuffer buffer) throws IOException {
+		if (this.discarded) {
+			return;
+		}
+		if (this.file == null) {
+			this.file = (this.fileStorageDirectory != null ?
+					Files.createTempFile(this.fileStorageDirectory, "multipart-", ".tmp") :
+					Files.createTempFile("multipart-", ".tmp"));
+			this.files.add(this.file);
+			this.fileChannel = FileChannel.open(this.file, StandardOpenOption.WRITE);
+			ByteBuffer memory = ByteBuffer.wrap(this.memoryContent.toByteArrayUnsafe());
+			while (memory.hasRemaining()) {
+				this.fileChannel.write(memory);
+			}
+			this.memoryContent = null;
+		}
+		ByteBuffer byteBuffer = buffer.asByteBuffer();
+		while (byteBuffer.hasRemaining()) {
+			this.fileChannel.write(byteBuffer);
+		}
+	}
+
+	private Mono<Part> completePart() {
+		HttpHeaders headers = this.headers;
+		if (headers == null) {
+			return Mono.empty();
+		}
+		this.headers = null;
+		if (this.file == null) {
+			byte[] content = this.memoryContent.toByteArrayUnsafe();
+			this.memoryContent = null;
+			return Mono.just(isFormField(headers) ?
+					DefaultParts.formFieldPart(headers, content, this.bufferFactory) :
+					DefaultParts.inMemoryFilePart(headers, content, this.bufferFactory, this.blockingScheduler));
+		}
+		return Mono.<Part>fromCallable(() -> {
+			synchronized (this) {
+				if (this.discarded) {
+					return null;
+				}
+				Path file = this.file;
+				this.file = null;
+				closeFileChannel();
+				return DefaultParts.fileBackedFilePart(headers, file, this.bufferFactory, this.blockingScheduler);
+			}
+		}).subscribeOn(this.blockingScheduler);
+	}
+
+	private synchronized void deleteFiles() {
+		this.file = null;
+		closeFileChannel();
+		for (Path file : this.files) {
+			try {
+				Files.deleteIfExists(file);
+			}
+			catch (IOException ex) {
+				// ignore
+			}
+		}
+		this.files.clear();
+	}
+
+	private void closeFileChannel() {
+		FileChannel channel = this.fileChannel;
+		this.fileChannel = null;
+		if (channel != null) {
+			try {
+				channel.close();
+			}
+			catch (IOException ex) {
+				// ignore
+			}
+		}
+	}
+
+	private boolean isFormField() {
+		return isFormField(this.headers);
+	}
+
+	private static boolean isFormField(HttpHeaders headers) {
+		return (headers.getContentDisposition().getFilename() == null);
+	}
+
+}
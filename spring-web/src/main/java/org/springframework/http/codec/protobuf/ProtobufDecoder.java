@@ -0,0 +1,269 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.codec.protobuf;
+
+import java.lang.reflect.Method;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.ExtensionRegistry;
+import com.google.protobuf.Message;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.Decoder;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.MimeType;
+
+/**
+ * A {@code Decoder} that reads {@link com.google.protobuf.Message}s
+ * using <a href="https://developers.google.com/protocol-buffers/">Google Protocol Buffers</a>.
+ *
+ * <p>Flux deserialized via
+ * {@link #decode(Publisher, ResolvableType, MimeType, Map)} are expected to use
+ * <a href="https://developers.google.com/protocol-buffers/docs/techniques?hl=en#streaming">delimited Protobuf messages</a>
+ * with the size of each message specified before the message itself. Messages
+ * are parsed as soon as they are complete, directly from the received buffer if
+ * it contains the whole message. Single values deserialized via
+ * {@link #decodeToMono(Publisher, ResolvableType, MimeType, Map)} are expected
+ * to use regular Protobuf message format (without the size prepended before
+ * the message).
+ *
+ * <p>To generate {@code Message} Java classes, you need to install the {@code protoc} binary.
+ *
+ * <p>This decoder requires Protobuf 3 or higher, and supports
+ * {@code "application/x-protobuf"} and {@code "application/octet-stream"} with the official
+ * {@code "com.google.protobuf:protobuf-java"} library.
+ *
+ * @author agent
+ * @since 5.0
+ * @see ProtobufEncoder
+ */
+public class ProtobufDecoder extends ProtobufCodecSupport implements Decoder<Message> {
+
+	/** The default max size for aggregating messages: 64K */
+	protected static final int DEFAULT_MESSAGE_MAX_SIZE = 64 * 1024;
+
+	private static final ConcurrentHashMap<Class<?>, Method> methodCache = new ConcurrentHashMap<>();
+
+
+	private final ExtensionRegistry extensionRegistry;
+
+	private int maxMessageSize = DEFAULT_MESSAGE_MAX_SIZE;
+
+
+	/**
+	 * Construct a new {@code ProtobufDecoder}.
+	 */
+	public ProtobufDecoder() {
+		this(ExtensionRegistry.newInstance());
+	}
+
+	/**
+	 * Construct a new {@code ProtobufDecoder} with an initializer that allows the
+	 * registration of message extensions.
+	 * @param extensionRegistry a message extension registry
+	 */
+	public ProtobufDecoder(ExtensionRegistry extensionRegistry) {
+		Assert.notNull(extensionRegistry, "ExtensionRegistry must not be null");
+		this.extensionRegistry = extensionRegistry;
+	}
+
+
+	/**
+	 * Set the maximum size of a single message, protecting against messages
+	 * announcing an excessive size.
+	 * <p>By default this is set to 64K.
+	 */
+	public void setMaxMessageSize(int maxMessageSize) {
+		this.maxMessageSize = maxMessageSize;
+	}
+
+
+	@Override
+	public boolean canDecode(ResolvableType elementType, @Nullable MimeType mimeType) {
+		return Message.class.isAssignableFrom(elementType.resolve(Object.class)) && supportsMimeType(mimeType);
+	}
+
+	@Override
+	public Flux<Message> decode(Publisher<DataBuffer> inputStream, ResolvableType elementType,
+			@Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
+
+		return Flux.defer(() -> {
+			MessageDecoderFunction decoderFunction =
+					new MessageDecoderFunction(elementType, this.maxMessageSize);
+			return Flux.from(inputStream)
+					.flatMapIterable(decoderFunction)
+					.concatWith(Flux.defer(decoderFunction::endOfInput));
+		});
+	}
+
+	@Override
+	public Mono<Message> decodeToMono(Publisher<DataBuffer> inputStream, ResolvableType elementType,
+			@Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
+
+		return DataBufferUtils.join(inputStream).map(dataBuffer -> {
+			try {
+				return parseMessage(dataBuffer.asByteBuffer(), elementType);
+			}
+			finally {
+				DataBufferUtils.release(dataBuffer);
+			}
+		});
+	}
+
+	private Message parseMessage(ByteBuffer byteBuffer, ResolvableType elementType) {
+		try {
+			Message.Builder builder = getMessageBuilder(elementType.resolve());
+			builder.mergeFrom(CodedInputStream.newInstance(byteBuffer), this.extensionRegistry);
+			return builder.build();
+		}
+		catch (Exception ex) {
+			throw new DecodingException("Could not read Protobuf message: " + ex.getMessage(), ex);
+		}
+	}
+
+	/**
+	 * Create a new {@code Message.Builder} instance for the given class.
+	 * <p>This method uses a ConcurrentHashMap for caching method lookups.
+	 */
+	private static Message.Builder getMessageBuilder(Class<?> clazz) throws Exception {
+		Method method = methodCache.get(clazz);
+		if (method == null) {
+			method = clazz.getMethod("newBuilder");
+			methodCache.put(clazz, method);
+		}
+		return (Message.Builder) method.invoke(clazz);
+	}
+
+	@Override
+	public List<MimeType> getDecodableMimeTypes() {
+		return getMimeTypes();
+	}
+
+
+	/**
+	 * Splits delimited messages across data buffers: reads the varint size of
+	 * each message, then parses it once all of its bytes have been received.
+	 */
+	private class MessageDecoderFunction implements Function<DataBuffer, Iterable<? extends Message>> {
+
+		private final ResolvableType elementType;
+
+		private final int maxMessageSize;
+
+		private int messageSize;
+
+		private int messageSizeShift;
+
+		private byte[] output;
+
+		private int outputCount;
+
+		public MessageDecoderFunction(ResolvableType elementType, int maxMessageSize) {
+			this.elementType = elementType;
+			this.maxMessageSize = maxMessageSize;
+		}
+
+		@Override
+		public Iterable<? extends Message> apply(DataBuffer input) {
+			try {
+				List<Message> messages = new ArrayList<>();
+				ByteBuffer byteBuffer = input.asByteBuffer();
+				while (byteBuffer.hasRemaining()) {
+					if (this.output == null) {
+						if (!readMessageSize(byteBuffer)) {
+							break;
+						}
+						int size = this.messageSize;
+						this.messageSize = 0;
+						if (this.maxMessageSize > 0 && size > this.maxMessageSize) {
+							throw new DecodingException("The number of bytes to read from the incoming stream " +
+									"(" + size + ") exceeds the configured limit (" + this.maxMessageSize + ")");
+						}
+						if (byteBuffer.remaining() >= size) {
+							// Parse directly from the received buffer
+							ByteBuffer slice = byteBuffer.slice();
+							// Explicit cast for compatibility with covariant return type on JDK 9's ByteBuffer
+							((Buffer) slice).limit(size);
+							messages.add(parseMessage(slice, this.elementType));
+							((Buffer) byteBuffer).position(byteBuffer.position() + size);
+							continue;
+						}
+						this.output = new byte[size];
+						this.outputCount = 0;
+					}
+					int length = Math.min(byteBuffer.remaining(), this.output.length - this.outputCount);
+					byteBuffer.get(this.output, this.outputCount, length);
+					this.outputCount += length;
+					if (this.outputCount == this.output.length) {
+						messages.add(parseMessage(ByteBuffer.wrap(this.output), this.elementType));
+						this.output = null;
+					}
+				}
+				return messages;
+			}
+			finally {
+				DataBufferUtils.release(input);
+			}
+		}
+
+		/**
+		 * Read the varint-encoded size of the next message, which may be split
+		 * across buffers.
+		 * @return {@code true} if the size is complete
+		 */
+		private boolean readMessageSize(ByteBuffer byteBuffer) {
+			while (byteBuffer.hasRemaining()) {
+				byte b = byteBuffer.get();
+				this.messageSize |= (b & 0x7f) << this.messageSizeShift;
+				if ((b & 0x80) == 0) {
+					this.messageSizeShift = 0;
+					if (this.messageSize < 0) {
+						throw new DecodingException("Invalid Protobuf message size: " + this.messageSize);
+					}
+					return true;
+				}
+				this.messageSizeShift += 7;
+				if (this.messageSizeShift >= 32) {
+					throw new DecodingException("Malformed varint for Protobuf message size");
+				}
+			}
+			return false;
+		}
+
+		public Flux<Message> endOfInput() {
+			if (this.output != null || this.messageSizeShift > 0) {
+				return Flux.error(new DecodingException("Incomplete Protobuf message at end of input"));
+			}
+			return Flux.empty();
+		}
+	}
+
+}
@@ -0,0 +1,8 @@
+/**
+ * Provides an encoder and a decoder for
+ * <a href="https://developers.google.com/protocol-buffers/">Google Protocol Buffers</a>.
+ */
+@NonNullApi
+package org.springframework.http.codec.protobuf;
+
+import org.springframework.lang.NonNullApi;
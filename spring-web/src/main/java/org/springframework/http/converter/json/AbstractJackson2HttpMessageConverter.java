@@ -31,6 +31,7 @@ import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationConfig;
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -49,6 +50,8 @@ import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.http.converter.HttpMessageNotWritableException;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
+import org.springframework.util.ObjectUtils;
 import org.springframework.util.TypeUtils;
 
 /**
@@ -68,6 +71,9 @@ public abstract class AbstractJackson2HttpMessageConverter extends AbstractGener
 
 	public static final Charset DEFAULT_CHARSET = StandardCharsets.UTF_8;
 
+	/** Default maximum number of entries for the reader and writer caches: 256 */
+	public static final int DEFAULT_CACHE_LIMIT = 256;
+
 
 	protected ObjectMapper objectMapper;
 
@@ -75,6 +81,12 @@ public abstract class AbstractJackson2HttpMessageConverter extends AbstractGener
 
 	private PrettyPrinter ssePrettyPrinter;
 
+	private volatile ConcurrentLruCache<CacheKey, ObjectReader> readerCache =
+			new ConcurrentLruCache<>(DEFAULT_CACHE_LIMIT, this::createObjectReader);
+
+	private volatile ConcurrentLruCache<CacheKey, ObjectWriter> writerCache =
+			new ConcurrentLruCache<>(DEFAULT_CACHE_LIMIT, this::createObjectWriter);
+
 
 	protected AbstractJackson2HttpMessageConverter(ObjectMapper objectMapper) {
 		init(objectMapper);
@@ -114,6 +126,7 @@ public abstract class AbstractJackson2HttpMessageConverter extends AbstractGener
 		Assert.notNull(objectMapper, "ObjectMapper must not be null");
 		this.objectMapper = objectMapper;
 		configurePrettyPrint();
+		resetCaches(getCacheLimit());
 	}
 
 	/**
@@ -140,9 +153,48 @@ public abstract class AbstractJackson2HttpMessageConverter extends AbstractGener
 	private void configurePrettyPrint() {
 		if (this.prettyPrint != null) {
 			this.objectMapper.configure(SerializationFeature.INDENT_OUTPUT, this.prettyPrint);
+			resetCaches(getCacheLimit());
 		}
 	}
 
+	/**
+	 * Specify the maximum number of entries for the caches of {@code ObjectReader}s
+	 * and {@code ObjectWriter}s, which are resolved once per combination of target
+	 * type, context class, JSON view and content type. Setting the limit resets
+	 * the caches, as does setting the {@code ObjectMapper} or pretty printing.
+	 * <p>Default is 256. A value of 0 disables caching; this is only necessary
+	 * if the configuration of the {@code ObjectMapper} is changed after first use.
+	 */
+	public void setCacheLimit(int cacheLimit) {
+		resetCaches(cacheLimit);
+	}
+
+	/**
+	 * Return the maximum number of entries for the reader and writer caches.
+	 */
+	public int getCacheLimit() {
+		return this.readerCache.sizeLimit();
+	}
+
+	/**
+	 * Return the number of reader and writer lookups served from the cache.
+	 */
+	public long getCacheHitCount() {
+		return this.readerCache.getHitCount() + this.writerCache.getHitCount();
+	}
+
+	/**
+	 * Return the number of reader and writer lookups that had to be resolved.
+	 */
+	public long getCacheMissCount() {
+		return this.readerCache.getMissCount() + this.writerCache.getMissCount();
+	}
+
+	private void resetCaches(int cacheLimit) {
+		this.readerCache = new ConcurrentLruCache<>(cacheLimit, this::createObjectReader);
+		this.writerCache = new ConcurrentLruCache<>(cacheLimit, this::createObjectWriter);
+	}
+
 
 	@Override
 	public boolean canRead(Class<?> clazz, @Nullable MediaType mediaType) {
@@ -217,28 +269,27 @@ public abstract class AbstractJackson2HttpMessageConverter extends AbstractGener
 	protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage)
 			throws IOException, HttpMessageNotReadableException {
 
-		JavaType javaType = getJavaType(clazz, null);
-		return readJavaType(javaType, inputMessage);
+		return readWithReader(clazz, null, inputMessage);
 	}
 
 	@Override
 	public Object read(Type type, @Nullable Class<?> contextClass, HttpInputMessage inputMessage)
 			throws IOException, HttpMessageNotReadableException {
 
-		JavaType javaType = getJavaType(type, contextClass);
-		return readJavaType(javaType, inputMessage);
+		return readWithReader(type, contextClass, inputMessage);
 	}
 
-	private Object readJavaType(JavaType javaType, HttpInputMessage inputMessage) throws IOException {
+	private Object readWithReader(Type type, @Nullable Class<?> contextClass, HttpInputMessage inputMessage)
+			throws IOException {
+
 		try {
+			Class<?> deserializationView = null;
 			if (inputMessage instanceof MappingJacksonInputMessage) {
-				Class<?> deserializationView = ((MappingJacksonInputMessage) inputMessage).getDeserializationView();
-				if (deserializationView != null) {
-					return this.objectMapper.readerWithView(deserializationView).forType(javaType).
-							readValue(inputMessage.getBody());
-				}
+				deserializationView = ((MappingJacksonInputMessage) inputMessage).getDeserializationView();
 			}
-			return this.objectMapper.readValue(inputMessage.getBody(), javaType);
+			ObjectReader objectReader =
+					this.readerCache.get(new CacheKey(type, contextClass, deserializationView, null));
+			return objectReader.readValue(inputMessage.getBody());
 		}
 		catch (InvalidDefinitionException ex) {
 			throw new HttpMessageConversionException("Type definition error: " + ex.getType(), ex);
@@ -261,33 +312,21 @@ public abstract class AbstractJackson2HttpMessageConverter extends AbstractGener
 			Class<?> serializationView = null;
 			FilterProvider filters = null;
 			Object value = object;
-			JavaType javaType = null;
 			if (object instanceof MappingJacksonValue) {
 				MappingJacksonValue container = (MappingJacksonValue) object;
 				value = container.getValue();
 				serializationView = container.getSerializationView();
 				filters = container.getFilters();
 			}
-			if (type != null && TypeUtils.isAssignable(type, value.getClass())) {
-				javaType = getJavaType(type, null);
-			}
+			Type valueType = (type != null && TypeUtils.isAssignable(type, value.getClass()) ? type : null);
 			ObjectWriter objectWriter;
-			if (serializationView != null) {
-				objectWriter = this.objectMapper.writerWithView(serializationView);
-			}
-			else if (filters != null) {
-				objectWriter = this.objectMapper.writer(filters);
+			if (serializationView == null && filters != null) {
+				// Filters are not part of the cache key
+				JavaType javaType = (valueType != null ? getJavaType(valueType, null) : null);
+				objectWriter = createObjectWriter(javaType, null, filters, contentType);
 			}
 			else {
-				objectWriter = this.objectMapper.writer();
-			}
-			if (javaType != null && javaType.isContainerType()) {
-				objectWriter = objectWriter.forType(javaType);
-			}
-			SerializationConfig config = objectWriter.getConfig();
-			if (contentType != null && contentType.isCompatibleWith(MediaType.TEXT_EVENT_STREAM) &&
-					config.isEnabled(SerializationFeature.INDENT_OUTPUT)) {
-				objectWriter = objectWriter.with(this.ssePrettyPrinter);
+				objectWriter = this.writerCache.get(new CacheKey(valueType, null, serializationView, contentType));
 			}
 			objectWriter.writeValue(generator, value);
 
@@ -303,6 +342,43 @@ public abstract class AbstractJackson2HttpMessageConverter extends AbstractGener
 		}
 	}
 
+	private ObjectReader createObjectReader(CacheKey key) {
+		Assert.state(key.type != null, "Type is required for reading");
+		JavaType javaType = getJavaType(key.type, key.contextClass);
+		return (key.view != null ?
+				this.objectMapper.readerWithView(key.view).forType(javaType) :
+				this.objectMapper.readerFor(javaType));
+	}
+
+	private ObjectWriter createObjectWriter(CacheKey key) {
+		JavaType javaType = (key.type != null ? getJavaType(key.type, key.contextClass) : null);
+		return createObjectWriter(javaType, key.view, null, key.contentType);
+	}
+
+	private ObjectWriter createObjectWriter(@Nullable JavaType javaType, @Nullable Class<?> serializationView,
+			@Nullable FilterProvider filters, @Nullable MediaType contentType) {
+
+		ObjectWriter objectWriter;
+		if (serializationView != null) {
+			objectWriter = this.objectMapper.writerWithView(serializationView);
+		}
+		else if (filters != null) {
+			objectWriter = this.objectMapper.writer(filters);
+		}
+		else {
+			objectWriter = this.objectMapper.writer();
+		}
+		if (javaType != null && javaType.isContainerType()) {
+			objectWriter = objectWriter.forType(javaType);
+		}
+		SerializationConfig config = objectWriter.getConfig();
+		if (contentType != null && contentType.isCompatibleWith(MediaType.TEXT_EVENT_STREAM) &&
+				config.isEnabled(SerializationFeature.INDENT_OUTPUT)) {
+			objectWriter = objectWriter.with(this.ssePrettyPrinter);
+		}
+		return objectWriter;
+	}
+
 	/**
 	 * Write a prefix before the main content.
 	 * @param generator the generator to use for writing content.
@@ -364,4 +440,52 @@ public abstract class AbstractJackson2HttpMessageConverter extends AbstractGener
 		return super.getContentLength(object, contentType);
 	}
 
+
+	/**
+	 * Key for the reader and writer caches.
+	 */
+	private static final class CacheKey {
+
+		private final Type type;
+
+		private final Class<?> contextClass;
+
+		private final Class<?> view;
+
+		private final MediaType contentType;
+
+		public CacheKey(@Nullable Type type, @Nullable Class<?> contextClass, @Nullable Class<?> view,
+				@Nullable MediaType contentType) {
+
+			this.type = type;
+			this.contextClass = contextClass;
+			this.view = view;
+			this.contentType = contentType;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if (this == other) {
+				return true;
+			}
+			if (!(other instanceof CacheKey)) {
+				return false;
+			}
+			CacheKey otherKey = (CacheKey) other;
+			return (ObjectUtils.nullSafeEquals(this.type, otherKey.type) &&
+					ObjectUtils.nullSafeEquals(this.contextClass, otherKey.contextClass) &&
+					ObjectUtils.nullSafeEquals(this.view, otherKey.view) &&
+					ObjectUtils.nullSafeEquals(this.contentType, otherKey.contentType));
+		}
+
+		@Override
+		public int hashCode() {
+			int result = ObjectUtils.nullSafeHashCode(this.type);
+			result = 31 * result + ObjectUtils.nullSafeHashCode(this.contextClass);
+			result = 31 * result + ObjectUtils.nullSafeHashCode(this.view);
+			result = 31 * result + ObjectUtils.nullSafeHashCode(this.contentType);
+			return result;
+		}
+	}
+
 }
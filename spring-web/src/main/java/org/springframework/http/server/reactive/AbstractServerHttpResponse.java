@@ -76,9 +76,22 @@ public abstract class AbstractServerHttpResponse implements ServerHttpResponse {
 
 
 	public AbstractServerHttpResponse(DataBufferFactory dataBufferFactory) {
+		this(dataBufferFactory, new HttpHeaders());
+	}
+
+	/**
+	 * Constructor with the headers to use for the response. These may be
+	 * backed by the headers of the underlying response, in which case changes
+	 * are written through and {@link #applyHeaders()} has nothing to copy.
+	 * @param dataBufferFactory the buffer factory for the response body
+	 * @param headers the headers for the response
+	 * @since 5.0
+	 */
+	public AbstractServerHttpResponse(DataBufferFactory dataBufferFactory, HttpHeaders headers) {
 		Assert.notNull(dataBufferFactory, "DataBufferFactory must not be null");
+		Assert.notNull(headers, "HttpHeaders must not be null");
 		this.dataBufferFactory = dataBufferFactory;
-		this.headers = new HttpHeaders();
+		this.headers = headers;
 		this.cookies = new LinkedMultiValueMap<>();
 	}
 
@@ -232,12 +245,13 @@ public abstract class AbstractServerHttpResponse implements ServerHttpResponse {
 
 	/**
 	 * Apply header changes from {@link #getHeaders()} to the underlying response.
-	 * This method is called once only.
+	 * This method is called once only, and may do nothing if the headers
+	 * write through to the underlying response.
 	 */
 	protected abstract void applyHeaders();
 
 	/**
-	 * Add cookies from {@link #getHeaders()} to the underlying response.
+	 * Add cookies from {@link #getCookies()} to the underlying response.
 	 * This method is called once only.
 	 */
 	protected abstract void applyCookies();
@@ -106,6 +106,9 @@ public class ServletServerHttpRequest extends AbstractServerHttpRequest {
 	}
 
 	private static HttpHeaders initHeaders(HttpServletRequest request) {
+		// Copied eagerly rather than adapted like the Netty and Undertow headers:
+		// Servlet containers recycle the request object once the async request
+		// completes, while the headers may still be accessed afterwards
 		HttpHeaders headers = new HttpHeaders();
 		for (Enumeration<?> names = request.getHeaderNames();
 			 names.hasMoreElements(); ) {
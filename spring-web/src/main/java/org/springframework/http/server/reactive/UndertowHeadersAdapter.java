@@ -0,0 +1,194 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.server.reactive;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.undertow.util.HeaderMap;
+import io.undertow.util.HeaderValues;
+import io.undertow.util.HttpString;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.MultiValueMap;
+
+/**
+ * {@code MultiValueMap} implementation for wrapping Undertow HTTP headers,
+ * which are exposed through {@link org.springframework.http.HttpHeaders}
+ * without being copied.
+ *
+ * @author agent
+ * @since 5.0
+ */
+class UndertowHeadersAdapter extends AbstractMap<String, List<String>> implements MultiValueMap<String, String> {
+
+	private final HeaderMap headers;
+
+
+	UndertowHeadersAdapter(HeaderMap headers) {
+		this.headers = headers;
+	}
+
+
+	@Override
+	@Nullable
+	public String getFirst(String key) {
+		return this.headers.getFirst(key);
+	}
+
+	@Override
+	public void add(String key, @Nullable String value) {
+		this.headers.add(HttpString.tryFromString(key), value);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void addAll(String key, List<? extends String> values) {
+		this.headers.addAll(HttpString.tryFromString(key), (List<String>) values);
+	}
+
+	@Override
+	public void addAll(MultiValueMap<String, String> values) {
+		values.forEach((key, list) -> this.headers.addAll(HttpString.tryFromString(key), list));
+	}
+
+	@Override
+	public void set(String key, @Nullable String value) {
+		this.headers.put(HttpString.tryFromString(key), value);
+	}
+
+	@Override
+	public void setAll(Map<String, String> values) {
+		values.forEach((key, value) -> this.headers.put(HttpString.tryFromString(key), value));
+	}
+
+	@Override
+	public Map<String, String> toSingleValueMap() {
+		Map<String, String> singleValueMap = new LinkedHashMap<>(this.headers.size());
+		for (HeaderValues values : this.headers) {
+			singleValueMap.put(values.getHeaderName().toString(), values.getFirst());
+		}
+		return singleValueMap;
+	}
+
+	@Override
+	public int size() {
+		return this.headers.getHeaderNames().size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return (this.headers.size() == 0);
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return (key instanceof String && this.headers.contains((String) key));
+	}
+
+	@Override
+	@Nullable
+	public List<String> get(Object key) {
+		return (key instanceof String ? this.headers.get((String) key) : null);
+	}
+
+	@Override
+	@Nullable
+	public List<String> put(String key, @Nullable List<String> value) {
+		HeaderValues previousValues = this.headers.get(key);
+		if (value != null) {
+			this.headers.putAll(HttpString.tryFromString(key), value);
+		}
+		else {
+			this.headers.remove(key);
+		}
+		return previousValues;
+	}
+
+	@Override
+	@Nullable
+	public List<String> remove(Object key) {
+		if (key instanceof String) {
+			Collection<String> removed = this.headers.remove((String) key);
+			if (removed != null) {
+				return new ArrayList<>(removed);
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public void putAll(Map<? extends String, ? extends List<String>> map) {
+		map.forEach((key, values) -> this.headers.putAll(HttpString.tryFromString(key), values));
+	}
+
+	@Override
+	public void clear() {
+		this.headers.clear();
+	}
+
+	@Override
+	public Set<Entry<String, List<String>>> entrySet() {
+		return new AbstractSet<Entry<String, List<String>>>() {
+			@Override
+			public Iterator<Entry<String, List<String>>> iterator() {
+				return new EntryIterator();
+			}
+			@Override
+			public int size() {
+				return UndertowHeadersAdapter.this.size();
+			}
+		};
+	}
+
+
+	private class EntryIterator implements Iterator<Entry<String, List<String>>> {
+
+		private final Iterator<HeaderValues> values = headers.iterator();
+
+		private HttpString currentName;
+
+		@Override
+		public boolean hasNext() {
+			return this.values.hasNext();
+		}
+
+		@Override
+		public Entry<String, List<String>> next() {
+			HeaderValues next = this.values.next();
+			this.currentName = next.getHeaderName();
+			return new SimpleImmutableEntry<>(this.currentName.toString(), next);
+		}
+
+		@Override
+		public void remove() {
+			if (this.currentName == null) {
+				throw new IllegalStateException("No current header");
+			}
+			headers.remove(this.currentName);
+			this.currentName = null;
+		}
+	}
+
+}
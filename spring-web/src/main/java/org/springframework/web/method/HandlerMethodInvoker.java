@@ -0,0 +1,152 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.method;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Invokes a handler method through a {@link MethodHandle} that is created
+ * once per method, as an alternative to a reflective {@link Method#invoke}
+ * call on every request.
+ *
+ * <p>Failures are reported in the same way as by {@code Method#invoke}:
+ * an exception raised by the method itself is wrapped in an
+ * {@link InvocationTargetException}, while a target or argument values that
+ * do not match the method signature result in an {@link IllegalArgumentException}.
+ *
+ * @author agent
+ * @since 5.0
+ * @see #forHandlerMethod(HandlerMethod)
+ */
+public final class HandlerMethodInvoker {
+
+	private static final MethodType INVOKER_TYPE =
+			MethodType.methodType(Object.class, Object.class, Object[].class);
+
+	private static final Map<Method, HandlerMethodInvoker> invokerCache = new ConcurrentReferenceHashMap<>(256);
+
+
+	private final Method method;
+
+	private final MethodHandle methodHandle;
+
+
+	private HandlerMethodInvoker(Method method) {
+		this.method = method;
+		this.methodHandle = createMethodHandle(method);
+	}
+
+	private static MethodHandle createMethodHandle(Method method) {
+		ReflectionUtils.makeAccessible(method);
+		try {
+			MethodHandle handle = MethodHandles.lookup().unreflect(method).asFixedArity();
+			if (Modifier.isStatic(method.getModifiers())) {
+				handle = MethodHandles.dropArguments(handle, 0, Object.class);
+			}
+			return handle.asSpreader(Object[].class, method.getParameterCount()).asType(INVOKER_TYPE);
+		}
+		catch (IllegalAccessException ex) {
+			throw new IllegalStateException("Could not create method handle for " + method.toGenericString(), ex);
+		}
+	}
+
+
+	/**
+	 * Return the method that is invoked.
+	 */
+	public Method getMethod() {
+		return this.method;
+	}
+
+	/**
+	 * Invoke the method on the given target with the given argument values.
+	 * @param target the target instance (ignored for a static method)
+	 * @param args the argument values, one per method parameter
+	 * @return the value returned by the method, or {@code null} for a
+	 * {@code void} method
+	 * @throws IllegalArgumentException if the target or the argument values
+	 * do not match the method signature
+	 * @throws InvocationTargetException if the method raised an exception
+	 */
+	@Nullable
+	public Object invoke(@Nullable Object target, Object... args) throws InvocationTargetException {
+		try {
+			return (Object) this.methodHandle.invokeExact(target, args);
+		}
+		catch (ClassCastException | NullPointerException | IllegalArgumentException | WrongMethodTypeException ex) {
+			// Raised either by the method itself or by the argument conversion of the method handle
+			if (!isInvocableWith(target, args)) {
+				throw new IllegalArgumentException("Target or argument values do not match " +
+						this.method.toGenericString(), ex);
+			}
+			throw new InvocationTargetException(ex);
+		}
+		catch (Throwable ex) {
+			throw new InvocationTargetException(ex);
+		}
+	}
+
+	private boolean isInvocableWith(@Nullable Object target, Object[] args) {
+		if (!Modifier.isStatic(this.method.getModifiers()) && !this.method.getDeclaringClass().isInstance(target)) {
+			return false;
+		}
+		Class<?>[] parameterTypes = this.method.getParameterTypes();
+		if (args == null || args.length != parameterTypes.length) {
+			return false;
+		}
+		for (int i = 0; i < args.length; i++) {
+			if (args[i] == null ? parameterTypes[i].isPrimitive() :
+					!ClassUtils.isAssignableValue(parameterTypes[i], args[i])) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+
+	/**
+	 * Return the invoker for the given handler method, creating and caching
+	 * it on first access.
+	 * @param handlerMethod the handler method to invoke
+	 * @return the invoker for the {@linkplain HandlerMethod#getBridgedMethod()
+	 * bridged method} of the handler method
+	 */
+	public static HandlerMethodInvoker forHandlerMethod(HandlerMethod handlerMethod) {
+		Assert.notNull(handlerMethod, "HandlerMethod must not be null");
+		Method method = handlerMethod.getBridgedMethod();
+		HandlerMethodInvoker invoker = invokerCache.get(method);
+		if (invoker == null) {
+			invoker = new HandlerMethodInvoker(method);
+			invokerCache.put(method, invoker);
+		}
+		return invoker;
+	}
+
+}
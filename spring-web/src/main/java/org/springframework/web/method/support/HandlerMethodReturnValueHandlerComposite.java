@@ -68,6 +68,28 @@ public class HandlerMethodReturnValueHandlerComposite implements HandlerMethodRe
 		return null;
 	}
 
+	/**
+	 * Return the handler to use for every return value of the given declared
+	 * return type, or {@code null} if no handler supports it or if the choice
+	 * depends on the actual return value, as is the case when an
+	 * {@link AsyncHandlerMethodReturnValueHandler} is registered.
+	 * @param returnType the declared return type of a handler method
+	 * @since 5.0
+	 */
+	@Nullable
+	public HandlerMethodReturnValueHandler getReturnValueHandlerFor(MethodParameter returnType) {
+		HandlerMethodReturnValueHandler handler = getReturnValueHandler(returnType);
+		if (handler == null || handler instanceof AsyncHandlerMethodReturnValueHandler) {
+			return handler;
+		}
+		for (HandlerMethodReturnValueHandler candidate : this.returnValueHandlers) {
+			if (candidate instanceof AsyncHandlerMethodReturnValueHandler) {
+				return null;
+			}
+		}
+		return handler;
+	}
+
 	/**
 	 * Iterate over registered {@link HandlerMethodReturnValueHandler}s and invoke the one that supports it.
 	 * @throws IllegalStateException if no suitable {@link HandlerMethodReturnValueHandler} is found.
@@ -24,6 +24,7 @@ import org.springframework.core.DefaultParameterNameDiscoverer;
 import org.springframework.core.MethodParameter;
 import org.springframework.core.ParameterNameDiscoverer;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.ReflectionUtils;
 import org.springframework.web.bind.WebDataBinder;
@@ -31,6 +32,7 @@ import org.springframework.web.bind.support.SessionStatus;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.method.HandlerMethodInvoker;
 
 /**
  * Provides a method for invoking the handler method for a given request after resolving its
@@ -54,6 +56,10 @@ public class InvocableHandlerMethod extends HandlerMethod {
 
 	private ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
 
+	private HandlerMethodArgumentResolver[] boundArgumentResolvers;
+
+	private HandlerMethodInvoker methodInvoker;
+
 
 	/**
 	 * Create an instance from a {@code HandlerMethod}.
@@ -108,6 +114,33 @@ public class InvocableHandlerMethod extends HandlerMethod {
 		this.parameterNameDiscoverer = parameterNameDiscoverer;
 	}
 
+	/**
+	 * Set the argument resolvers bound to the method parameters, in parameter
+	 * order, to use instead of looking up a resolver through the configured
+	 * {@link #setHandlerMethodArgumentResolvers argument resolvers} for every
+	 * invocation. An element may be {@code null} if no resolver supports the
+	 * parameter, in which case the argument must be provided.
+	 * @since 5.0
+	 * @see HandlerMethodArgumentResolverComposite#getArgumentResolver(MethodParameter)
+	 */
+	public void setBoundArgumentResolvers(@Nullable HandlerMethodArgumentResolver[] argumentResolvers) {
+		Assert.isTrue(argumentResolvers == null || argumentResolvers.length == getMethodParameters().length,
+				"Expected one argument resolver per method parameter");
+		this.boundArgumentResolvers = argumentResolvers;
+	}
+
+	/**
+	 * Set the {@link HandlerMethodInvoker} to invoke the method with, instead
+	 * of invoking it reflectively.
+	 * <p>By default this is not set.
+	 * @since 5.0
+	 */
+	public void setMethodInvoker(@Nullable HandlerMethodInvoker methodInvoker) {
+		Assert.isTrue(methodInvoker == null || methodInvoker.getMethod().equals(getBridgedMethod()),
+				"HandlerMethodInvoker does not match the handler method");
+		this.methodInvoker = methodInvoker;
+	}
+
 
 	/**
 	 * Invoke the method after resolving its argument values in the context of the given request.
@@ -155,10 +188,16 @@ public class InvocableHandlerMethod extends HandlerMethod {
 			if (args[i] != null) {
 				continue;
 			}
-			if (this.argumentResolvers.supportsParameter(parameter)) {
+			HandlerMethodArgumentResolver resolver = null;
+			if (this.boundArgumentResolvers != null) {
+				resolver = this.boundArgumentResolvers[i];
+			}
+			else if (this.argumentResolvers.supportsParameter(parameter)) {
+				resolver = this.argumentResolvers;
+			}
+			if (resolver != null) {
 				try {
-					args[i] = this.argumentResolvers.resolveArgument(
-							parameter, mavContainer, request, this.dataBinderFactory);
+					args[i] = resolver.resolveArgument(parameter, mavContainer, request, this.dataBinderFactory);
 					continue;
 				}
 				catch (Exception ex) {
@@ -203,8 +242,11 @@ public class InvocableHandlerMethod extends HandlerMethod {
 	 * Invoke the handler method with the given argument values.
 	 */
 	protected Object doInvoke(Object... args) throws Exception {
-		ReflectionUtils.makeAccessible(getBridgedMethod());
 		try {
+			if (this.methodInvoker != null) {
+				return this.methodInvoker.invoke(getBean(), args);
+			}
+			ReflectionUtils.makeAccessible(getBridgedMethod());
 			return getBridgedMethod().invoke(getBean(), args);
 		}
 		catch (IllegalArgumentException ex) {
@@ -20,12 +20,15 @@ import java.security.Principal;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import org.springframework.context.i18n.LocaleContext;
@@ -90,6 +93,10 @@ public class DefaultServerWebExchange implements ServerWebExchange {
 
 	private final Mono<MultiValueMap<String, Part>> multipartDataMono;
 
+	private volatile boolean multipartRead;
+
+	private final Set<Part> readParts = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
 	private volatile boolean notModified;
 
 
@@ -133,7 +140,7 @@ public class DefaultServerWebExchange implements ServerWebExchange {
 	}
 
 	@SuppressWarnings("unchecked")
-	private static Mono<MultiValueMap<String, Part>> initMultipartData(ServerHttpRequest request,
+	private Mono<MultiValueMap<String, Part>> initMultipartData(ServerHttpRequest request,
 			ServerCodecConfigurer configurer) {
 
 		try {
@@ -144,6 +151,7 @@ public class DefaultServerWebExchange implements ServerWebExchange {
 						.findFirst()
 						.orElseThrow(() -> new IllegalStateException("No multipart HttpMessageReader.")))
 						.readMono(MULTIPART_DATA_TYPE, request, Collections.emptyMap())
+						.doOnNext(data -> this.multipartRead = true)
 						.switchIfEmpty(EMPTY_MULTIPART_DATA)
 						.cache();
 			}
@@ -208,6 +216,35 @@ public class DefaultServerWebExchange implements ServerWebExchange {
 		return this.multipartDataMono;
 	}
 
+	/**
+	 * Return the collection to which parts read from the request body are
+	 * added, e.g. through {@code @RequestBody Flux<Part>} or
+	 * {@code BodyExtractors}, so that their storage can be deleted on
+	 * completion of the request.
+	 * @see org.springframework.http.codec.multipart.DefaultPartHttpMessageReader#READ_PARTS_CONTEXT_KEY
+	 */
+	Collection<Part> getReadParts() {
+		return this.readParts;
+	}
+
+	/**
+	 * Delete the storage of all parts read from the request body, including
+	 * the {@link #getMultipartData() multipart data} if it has been read,
+	 * e.g. temporary files.
+	 * Invoked by {@link HttpWebHandlerAdapter} on completion of the request.
+	 */
+	Mono<Void> cleanupMultipart() {
+		Flux<Part> parts = Flux.fromIterable(this.readParts);
+		if (this.multipartRead) {
+			parts = parts.concatWith(this.multipartDataMono
+					.flatMapIterable(Map::values)
+					.flatMapIterable(values -> values));
+		}
+		return parts
+				.flatMap(part -> part.delete().onErrorResume(ex -> Mono.empty()))
+				.then();
+	}
+
 	@Override
 	public boolean isNotModified() {
 		return this.notModified;
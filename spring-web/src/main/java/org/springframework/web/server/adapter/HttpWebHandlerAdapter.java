@@ -23,10 +23,12 @@ import java.util.Set;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
 
 import org.springframework.core.NestedExceptionUtils;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.multipart.DefaultPartHttpMessageReader;
 import org.springframework.http.server.reactive.HttpHandler;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpResponse;
@@ -152,18 +154,36 @@ public class HttpWebHandlerAdapter extends WebHandlerDecorator implements HttpHa
 	public Mono<Void> handle(ServerHttpRequest request, ServerHttpResponse response) {
 		ServerWebExchange exchange = createExchange(request, response);
 		return getDelegate().handle(exchange)
+				.subscriberContext(context -> registerReadParts(context, exchange))
 				.onErrorResume(ex -> {
 					response.setStatusCode(HttpStatus.INTERNAL_SERVER_ERROR);
 					logHandleFailure(ex);
 					return Mono.empty();
 				})
-				.then(Mono.defer(response::setComplete));
+				.then(Mono.defer(() -> cleanupMultipart(exchange)))
+				.then(Mono.defer(response::setComplete))
+				.doOnCancel(() -> cleanupMultipart(exchange).subscribe());
 	}
 
 	protected ServerWebExchange createExchange(ServerHttpRequest request, ServerHttpResponse response) {
 		return new DefaultServerWebExchange(request, response, this.sessionManager, getCodecConfigurer(), getLocaleContextResolver());
 	}
 
+	private Context registerReadParts(Context context, ServerWebExchange exchange) {
+		if (exchange instanceof DefaultServerWebExchange) {
+			return context.put(DefaultPartHttpMessageReader.READ_PARTS_CONTEXT_KEY,
+					((DefaultServerWebExchange) exchange).getReadParts());
+		}
+		return context;
+	}
+
+	private Mono<Void> cleanupMultipart(ServerWebExchange exchange) {
+		if (exchange instanceof DefaultServerWebExchange) {
+			return ((DefaultServerWebExchange) exchange).cleanupMultipart();
+		}
+		return Mono.empty();
+	}
+
 	private void logHandleFailure(Throwable ex) {
 		if (indicatesDisconnectedClient(ex)) {
 			if (disconnectedClientLogger.isTraceEnabled()) {
@@ -16,12 +16,9 @@
 
 package org.springframework.web.util.pattern;
 
-import java.nio.charset.StandardCharsets;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import org.springframework.web.util.UriUtils;
-
 /**
  * A path element representing capturing a piece of the path as a variable. In the pattern
  * '/foo/{bar}/goo' the {bar} is represented as a {@link CaptureVariablePathElement}. There
@@ -77,13 +74,11 @@ class CaptureVariablePathElement extends PathElement {
 			return false;
 		}
 
-		String substringForDecoding = null;
 		CharSequence candidateCapture = null;
 		if (this.constraintPattern != null) {
 			// TODO possible optimization - only regex match if rest of pattern matches? Benefit likely to vary pattern to pattern
 			if (includesPercent(matchingContext.candidate, candidateIndex, nextPos)) {
-				substringForDecoding = new String(matchingContext.candidate, candidateIndex, nextPos);
-				candidateCapture = UriUtils.decode(substringForDecoding, StandardCharsets.UTF_8);
+				candidateCapture = matchingContext.decode(candidateIndex, nextPos);
 			}
 			else {
 				candidateCapture = new SubSequence(matchingContext.candidate, candidateIndex, nextPos);
@@ -110,7 +105,7 @@ class CaptureVariablePathElement extends PathElement {
 				if (!match && matchingContext.isAllowOptionalTrailingSlash()) {
 					match = (nextPos > candidateIndex) &&
 						    (nextPos + 1) == matchingContext.candidateLength && 
-						     matchingContext.candidate[nextPos] == separator;
+						     matchingContext.candidate.charAt(nextPos) == separator;
 				}
 			}
 		}
@@ -125,8 +120,8 @@ class CaptureVariablePathElement extends PathElement {
 
 		if (match && matchingContext.extractingVariables) {
 			matchingContext.set(this.variableName,
-					candidateCapture != null ? candidateCapture.toString():
-					decode(new String(matchingContext.candidate, candidateIndex, nextPos - candidateIndex)));
+					candidateCapture != null ? candidateCapture.toString() :
+					matchingContext.decode(candidateIndex, nextPos));
 		}
 		return match;
 	}
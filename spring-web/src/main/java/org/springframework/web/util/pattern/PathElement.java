@@ -16,9 +16,6 @@
 
 package org.springframework.web.util.pattern;
 
-import java.nio.charset.StandardCharsets;
-
-import org.springframework.web.util.UriUtils;
 import org.springframework.web.util.pattern.PathPattern.MatchingContext;
 
 /**
@@ -98,43 +95,17 @@ abstract class PathElement {
 	 */
 	protected boolean nextIfExistsIsSeparator(int nextIndex, MatchingContext matchingContext) {
 		return (nextIndex >= matchingContext.candidateLength ||
-				matchingContext.candidate[nextIndex] == this.separator);
-	}
-
-	/**
-	 * Decode an input CharSequence if necessary.
-	 * @param toDecode the input char sequence that should be decoded if necessary
-	 * @return the decoded result
-	 */
-	protected String decode(CharSequence toDecode) {
-		CharSequence decoded = toDecode;
-		if (includesPercent(toDecode)) {
-			decoded = UriUtils.decode(toDecode.toString(), StandardCharsets.UTF_8);
-		}
-		return decoded.toString();
+				matchingContext.candidate.charAt(nextIndex) == this.separator);
 	}
 
 	/**
 	 * @param chars sequence of characters
 	 * @param from start position (included in check)
 	 * @param to end position (excluded from check)
-	 * @return true if the chars array includes a '%' character between the specified positions
+	 * @return true if the chars include a '%' character between the specified positions
 	 */
-	protected boolean includesPercent(char[] chars, int from, int to) {
+	protected boolean includesPercent(CharSequence chars, int from, int to) {
 		for (int i = from; i < to; i++) {
-			if (chars[i] == '%') {
-				return true;
-			}
-		}
-		return false;
-	}
-	
-	/**
-	 * @param chars string that may include a '%' character indicating it is encoded
-	 * @return true if the string contains a '%' character
-	 */
-	protected boolean includesPercent(CharSequence chars) {
-		for (int i = 0, max = chars.length(); i < max; i++) {
 			if (chars.charAt(i) == '%') {
 				return true;
 			}
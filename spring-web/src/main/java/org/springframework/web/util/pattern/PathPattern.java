@@ -16,13 +16,18 @@
 
 package org.springframework.web.util.pattern;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+import org.springframework.http.server.reactive.PathSegment;
+import org.springframework.http.server.reactive.PathSegmentContainer;
 import org.springframework.lang.Nullable;
 import org.springframework.util.PathMatcher;
 import org.springframework.util.StringUtils;
+import org.springframework.web.util.UriUtils;
 
 /**
  * Represents a parsed path pattern. Includes a chain of path elements
@@ -58,6 +63,13 @@ import org.springframework.util.StringUtils;
  * and assign the value {@code "spring"} to the {@code filename} variable</li>
  * </ul>
  *
+ * <p>The matching methods accept either a {@code String} or a
+ * {@link PathSegmentContainer}, such as the
+ * {@link org.springframework.http.server.reactive.RequestPath#pathWithinApplication()
+ * path within the application} of a request, which is parsed once per request.
+ * Matching against the raw path never copies it, and variables captured from
+ * an entire path segment reuse the decoded value of that segment.
+ *
  * @author Andy Clement
  * @since 5.0
  */
@@ -152,6 +164,19 @@ public class PathPattern implements Comparable<PathPattern> {
 	 * @return true if the path matches this pattern
 	 */
 	public boolean matches(String path) {
+		return matches(path, null);
+	}
+
+	/**
+	 * Variant of {@link #matches(String)} for a parsed path.
+	 * @param path the candidate path to attempt to match against this pattern
+	 * @return true if the path matches this pattern
+	 */
+	public boolean matchesParsedPath(PathSegmentContainer path) {
+		return matches(path.value(), path);
+	}
+
+	private boolean matches(String path, @Nullable PathSegmentContainer pathContainer) {
 		if (this.head == null) {
 			return !StringUtils.hasLength(path);
 		}
@@ -163,7 +188,7 @@ public class PathPattern implements Comparable<PathPattern> {
 				return false;
 			}
 		}
-		MatchingContext matchingContext = new MatchingContext(path, false);
+		MatchingContext matchingContext = new MatchingContext(path, pathContainer, false);
 		return this.head.matches(0, matchingContext);
 	}
 
@@ -175,6 +200,22 @@ public class PathPattern implements Comparable<PathPattern> {
 	 */
 	@Nullable
 	public PathRemainingMatchInfo getPathRemaining(String path) {
+		return getPathRemaining(path, null);
+	}
+
+	/**
+	 * Variant of {@link #getPathRemaining(String)} for a parsed path.
+	 * @param path a path that may or may not match this path pattern
+	 * @return a {@link PathRemainingMatchInfo} describing the match result,
+	 * or {@code null} if the path does not match this pattern
+	 */
+	@Nullable
+	public PathRemainingMatchInfo getPathRemainingOfParsedPath(PathSegmentContainer path) {
+		return getPathRemaining(path.value(), path);
+	}
+
+	@Nullable
+	private PathRemainingMatchInfo getPathRemaining(String path, @Nullable PathSegmentContainer pathContainer) {
 		if (this.head == null) {
 			return new PathRemainingMatchInfo(path);
 		}
@@ -182,7 +223,7 @@ public class PathPattern implements Comparable<PathPattern> {
 			return null;
 		}
 
-		MatchingContext matchingContext = new MatchingContext(path, true);
+		MatchingContext matchingContext = new MatchingContext(path, pathContainer, true);
 		matchingContext.setMatchAllowExtraPath();
 		boolean matches = this.head.matches(0, matchingContext);
 		if (!matches) {
@@ -212,7 +253,7 @@ public class PathPattern implements Comparable<PathPattern> {
 		else if (!StringUtils.hasLength(path)) {
 			return true;
 		}
-		MatchingContext matchingContext = new MatchingContext(path, false);
+		MatchingContext matchingContext = new MatchingContext(path, null, false);
 		matchingContext.setMatchStartMatching(true);
 		return this.head.matches(0, matchingContext);
 	}
@@ -223,7 +264,21 @@ public class PathPattern implements Comparable<PathPattern> {
 	 * @throws IllegalStateException if the path does not match the pattern
 	 */
 	public Map<String, String> matchAndExtract(String path) {
-		MatchingContext matchingContext = new MatchingContext(path, true);
+		return matchAndExtract(path, null);
+	}
+
+	/**
+	 * Variant of {@link #matchAndExtract(String)} for a parsed path.
+	 * @param path a path that matches this pattern from which to extract variables
+	 * @return a map of extracted variables - an empty map if no variables extracted.
+	 * @throws IllegalStateException if the path does not match the pattern
+	 */
+	public Map<String, String> matchAndExtractParsedPath(PathSegmentContainer path) {
+		return matchAndExtract(path.value(), path);
+	}
+
+	private Map<String, String> matchAndExtract(String path, @Nullable PathSegmentContainer pathContainer) {
+		MatchingContext matchingContext = new MatchingContext(path, pathContainer, true);
 		if (this.head != null && this.head.matches(0, matchingContext)) {
 			return matchingContext.getExtractedVariables();
 		}
@@ -275,8 +330,7 @@ public class PathPattern implements Comparable<PathPattern> {
 		}
 
 		// Now separatorCount indicates how many sections of the path to skip
-		char[] pathChars = path.toCharArray();
-		int len = pathChars.length;
+		int len = path.length();
 		int pos = 0;
 		while (separatorCount > 0 && pos < len) {
 			if (path.charAt(pos++) == separator) {
@@ -543,10 +597,13 @@ public class PathPattern implements Comparable<PathPattern> {
 	class MatchingContext {
 
 		// The candidate path to attempt a match against
-		char[] candidate;
+		final String candidate;
 
 		// The length of the candidate path
-		int candidateLength;
+		final int candidateLength;
+
+		// The parsed form of the candidate path, if available
+		private final PathSegmentContainer pathContainer;
 
 		boolean isMatchStartMatching = false;
 
@@ -561,9 +618,12 @@ public class PathPattern implements Comparable<PathPattern> {
 		// points to the remaining path that wasn't consumed
 		int remainingPathIndex;
 
-		public MatchingContext(String path, boolean extractVariables) {
-			candidate = path.toCharArray();
-			candidateLength = candidate.length;
+		public MatchingContext(String path, @Nullable PathSegmentContainer pathContainer,
+				boolean extractVariables) {
+
+			this.candidate = path;
+			this.candidateLength = path.length();
+			this.pathContainer = pathContainer;
 			this.extractingVariables = extractVariables;
 		}
 
@@ -603,13 +663,53 @@ public class PathPattern implements Comparable<PathPattern> {
 		 */
 		public int scanAhead(int pos) {
 			while (pos < candidateLength) {
-				if (candidate[pos] == separator) {
+				if (candidate.charAt(pos) == separator) {
 					return pos;
 				}
 				pos++;
 			}
 			return candidateLength;
 		}
+
+		/**
+		 * Return the decoded value of the candidate between the given positions.
+		 * If the candidate was parsed into path segments and the positions delimit
+		 * exactly one segment, its pre-decoded value is returned as is.
+		 * @param start the start position (inclusive)
+		 * @param end the end position (exclusive)
+		 * @return the decoded value
+		 */
+		public String decode(int start, int end) {
+			PathSegment segment = getPathSegment(start, end);
+			if (segment != null) {
+				return segment.valueDecoded();
+			}
+			String value = this.candidate.substring(start, end);
+			return (value.indexOf('%') != -1 ? UriUtils.decode(value, StandardCharsets.UTF_8) : value);
+		}
+
+		@Nullable
+		private PathSegment getPathSegment(int start, int end) {
+			if (this.pathContainer == null || separator != '/' || start >= end ||
+					(start > 0 && candidate.charAt(start - 1) != '/') ||
+					(end < candidateLength && candidate.charAt(end) != '/')) {
+				return null;
+			}
+			int index = (candidate.charAt(0) == '/' ? -1 : 0);
+			for (int i = 0; i < start; i++) {
+				if (candidate.charAt(i) == '/') {
+					index++;
+				}
+			}
+			List<PathSegment> segments = this.pathContainer.pathSegments();
+			if (index < 0 || index >= segments.size()) {
+				return null;
+			}
+			PathSegment segment = segments.get(index);
+			String value = segment.value();
+			return (value.length() == end - start && candidate.regionMatches(start, value, 0, value.length()) ?
+					segment : null);
+		}
 	}
 
 }
@@ -142,7 +142,7 @@ class RegexPathElement extends PathElement {
 		
 		CharSequence textToMatch = null;
 		if (includesPercent(matchingContext.candidate, candidateIndex, pos)) {
-			textToMatch = decode(new SubSequence(matchingContext.candidate, candidateIndex, pos));
+			textToMatch = matchingContext.decode(candidateIndex, pos);
 		}
 		else {
 			textToMatch = new SubSequence(matchingContext.candidate, candidateIndex, pos);
@@ -165,7 +165,7 @@ class RegexPathElement extends PathElement {
 					if (!matches && matchingContext.isAllowOptionalTrailingSlash()) {
 						matches = ((this.variableNames.size() == 0) ? true : pos > candidateIndex) &&
 							      (pos + 1) == matchingContext.candidateLength &&
-							      matchingContext.candidate[pos] == separator;
+							      matchingContext.candidate.charAt(pos) == separator;
 					}
 				}
 			}
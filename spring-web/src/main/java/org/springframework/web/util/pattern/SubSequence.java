@@ -17,7 +17,7 @@
 package org.springframework.web.util.pattern;
 
 /**
- * Used to represent a subsection of an array, useful when wanting to pass that subset of data
+ * Used to represent a subsection of a char sequence, useful when wanting to pass that subset of data
  * to another method (e.g. a java regex matcher) but not wanting to create a new string object
  * to hold all that data.
  *
@@ -26,14 +26,14 @@ package org.springframework.web.util.pattern;
  */
 class SubSequence implements CharSequence {
 
-	private final char[] chars;
+	private final CharSequence chars;
 
 	private final int start;
 
 	private final int end;
 
 
-	SubSequence(char[] chars, int start, int end) {
+	SubSequence(CharSequence chars, int start, int end) {
 		this.chars = chars;
 		this.start = start;
 		this.end = end;
@@ -47,7 +47,7 @@ class SubSequence implements CharSequence {
 
 	@Override
 	public char charAt(int index) {
-		return this.chars[this.start + index];
+		return this.chars.charAt(this.start + index);
 	}
 
 	@Override
@@ -58,7 +58,7 @@ class SubSequence implements CharSequence {
 
 	@Override
 	public String toString() {
-		return new String(this.chars, this.start, this.end - this.start);
+		return this.chars.subSequence(this.start, this.end).toString();
 	}
 
 }
@@ -505,4 +505,27 @@ public class HttpHeadersTests {
 		assertTrue(headers.getFirstZonedDateTime(HttpHeaders.DATE).isEqual(date));
 	}
 
+	@Test
+	public void readOnlyHttpHeadersIsCopy() {
+		headers.set("X-Test", "first");
+		HttpHeaders readOnly = HttpHeaders.readOnlyHttpHeaders(headers);
+		headers.set("X-Other", "second");
+		assertEquals("first", readOnly.getFirst("x-test"));
+		assertFalse(readOnly.containsKey("X-Other"));
+	}
+
+	@Test
+	public void readOnlyHttpHeadersViewReflectsChanges() {
+		headers.set("X-Test", "first");
+		HttpHeaders readOnly = HttpHeaders.readOnlyHttpHeadersView(headers);
+		headers.set("X-Other", "second");
+		assertEquals("first", readOnly.getFirst("x-test"));
+		assertEquals("second", readOnly.getFirst("X-Other"));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void readOnlyHttpHeadersViewCannotBeModified() {
+		HttpHeaders.readOnlyHttpHeadersView(headers).set("X-Test", "first");
+	}
+
 }
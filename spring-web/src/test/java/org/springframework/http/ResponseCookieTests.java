@@ -0,0 +1,129 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for {@link ResponseCookie}.
+ *
+ * @author agent
+ */
+public class ResponseCookieTests {
+
+	@Test
+	public void defaultValues() {
+		assertEquals("id=1fWa", ResponseCookie.from("id", "1fWa").build().toString());
+	}
+
+	@Test
+	public void httpOnlyStrictSecureWithDomainAndPath() {
+		assertEquals("id=1fWa; Path=/projects; Domain=spring.io; Secure; HttpOnly",
+				ResponseCookie.from("id", "1fWa").domain("spring.io").path("/projects")
+						.httpOnly(true).secure(true).build().toString());
+	}
+
+	@Test
+	public void maxAge() {
+		HttpHeaders headers = new HttpHeaders();
+		ResponseCookie cookie = ResponseCookie.from("id", "1fWa").maxAge(Duration.ofDays(1)).httpOnly(true).build();
+
+		long before = System.currentTimeMillis() / 1000 * 1000;
+		String value = cookie.toString();
+		long after = System.currentTimeMillis();
+		assertTrue(value, value.startsWith("id=1fWa; Max-Age=86400; Expires="));
+		assertTrue(value, value.endsWith("; HttpOnly"));
+
+		String expires = value.substring("id=1fWa; Max-Age=86400; Expires=".length(), value.length() - "; HttpOnly".length());
+		headers.set(HttpHeaders.EXPIRES, expires);
+		assertTrue(headers.getExpires() >= before + 86400000);
+		assertTrue(headers.getExpires() <= after + 86400000);
+	}
+
+	@Test
+	public void maxAgeZero() {
+		ResponseCookie cookie = ResponseCookie.from("id", "1fWa").maxAge(0).build();
+		assertEquals("id=1fWa; Max-Age=0; Expires=Thu, 01 Jan 1970 00:00:00 GMT", cookie.toString());
+		assertSame(cookie.toString(), cookie.toString());
+	}
+
+	@Test
+	public void expiresWithSingleDigitDay() {
+		ResponseCookie cookie = ResponseCookie.from("id", "1fWa").maxAge(Duration.ofDays(1)).build();
+		String value = cookie.toString();
+		String expires = value.substring("id=1fWa; Max-Age=86400; Expires=".length());
+		assertTrue(expires, expires.matches("[A-Z][a-z]{2}, \\d{2} [A-Z][a-z]{2} \\d{4} \\d{2}:\\d{2}:\\d{2} GMT"));
+	}
+
+	@Test
+	public void nameChecks() {
+		Arrays.asList("id", "i.d.", "i-d", "+id", "i*d", "i$d", "#id").forEach(name ->
+				ResponseCookie.from(name, "value").build());
+
+		Arrays.asList("\"id\"", "id\t", "i\td", "i d", "i;d", "{id}", "[id]", "\"", "id\u0091").forEach(name ->
+				assertInvalid(() -> ResponseCookie.from(name, "value").build()));
+	}
+
+	@Test
+	public void valueChecks() {
+		Arrays.asList("1fWa", "", null, "1f=Wa", "1f-Wa", "1f/Wa", "1.f.W.a.").forEach(value ->
+				ResponseCookie.from("id", value).build());
+
+		Arrays.asList("1f\tWa", "\t", "1f Wa", "1f;Wa", "\"1fWa", "1f\\Wa", "1f\"Wa", "\"", "1fWa\u0005", "1f\u0091Wa")
+				.forEach(value -> assertInvalid(() -> ResponseCookie.from("id", value).build()));
+	}
+
+	@Test
+	public void domainChecks() {
+		Arrays.asList("abc", "abc.org", "abc-def.org", "abc3.org", ".abc.org").forEach(domain ->
+				ResponseCookie.from("n", "v").domain(domain).build());
+
+		Arrays.asList("-abc.org", "abc.org.", "abc.org-", "abc_def.org", "abc..org", "abc.-org").forEach(domain ->
+				assertInvalid(() -> ResponseCookie.from("n", "v").domain(domain).build()));
+	}
+
+	@Test
+	public void pathChecks() {
+		ResponseCookie.from("n", "v").path("/projects/spring").build();
+
+		Arrays.asList("/pro;jects", "/pro\tjects", "/pro\u0091jects").forEach(path ->
+				assertInvalid(() -> ResponseCookie.from("n", "v").path(path).build()));
+	}
+
+	@Test
+	public void clientResponseNotValidated() {
+		ResponseCookie cookie = ResponseCookie.fromClientResponse("id", "1f Wa").domain("abc_def.org").build();
+		assertEquals("1f Wa", cookie.getValue());
+		assertEquals("abc_def.org", cookie.getDomain());
+	}
+
+	private static void assertInvalid(Runnable runnable) {
+		try {
+			runnable.run();
+			fail("Expected IllegalArgumentException");
+		}
+		catch (IllegalArgumentException ex) {
+			// expected
+		}
+	}
+
+}
@@ -17,7 +17,10 @@
 package org.springframework.http.codec;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -29,11 +32,13 @@ import reactor.test.StepVerifier;
 
 import org.springframework.core.ResolvableType;
 import org.springframework.core.io.buffer.AbstractDataBufferAllocatingTestCase;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.MediaType;
 import org.springframework.http.codec.json.Jackson2JsonEncoder;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.mock.http.server.reactive.test.MockServerHttpResponse;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.springframework.core.ResolvableType.forClass;
@@ -42,6 +47,7 @@ import static org.springframework.core.ResolvableType.forClass;
  * Unit tests for {@link ServerSentEventHttpMessageWriter}.
  * @author Sebastien Deleuze
  * @author Rossen Stoyanchev
+ * @author agent
  */
 public class ServerSentEventHttpMessageWriterTests extends AbstractDataBufferAllocatingTestCase {
 
@@ -139,6 +145,64 @@ public class ServerSentEventHttpMessageWriterTests extends AbstractDataBufferAll
 				.verify();
 	}
 
+	@Test
+	public void writeCoalescesPendingEvents() {
+		List<Integer> eventsPerFlush = new ArrayList<>();
+		MockServerHttpResponse outputMessage = countingEventsPerFlush(eventsPerFlush);
+		testWrite(Flux.just("foo", "bar", "baz", "qux"), outputMessage, String.class);
+
+		StepVerifier.create(outputMessage.getBodyAsString())
+				.expectNext("data:foo\n\ndata:bar\n\ndata:baz\n\ndata:qux\n\n")
+				.expectComplete()
+				.verify();
+		assertEquals(4, eventsPerFlush.stream().mapToInt(Integer::intValue).sum());
+		assertTrue(eventsPerFlush.size() < 4);
+	}
+
+	@Test
+	public void writeWithoutCoalescing() {
+		List<Integer> eventsPerFlush = new ArrayList<>();
+		MockServerHttpResponse outputMessage = countingEventsPerFlush(eventsPerFlush);
+		this.messageWriter.setMaxEventsPerFlush(1);
+		testWrite(Flux.just("foo", "bar", "baz"), outputMessage, String.class);
+
+		assertEquals(Arrays.asList(1, 1, 1), eventsPerFlush);
+	}
+
+	@Test
+	public void writeHeartbeats() {
+		this.messageWriter.setHeartbeatInterval(Duration.ofMillis(50));
+		this.messageWriter.setHeartbeatComment("ping");
+
+		Flux<String> source = Flux.just("foo").concatWith(Mono.delay(Duration.ofMillis(300)).map(l -> "bar"));
+		MockServerHttpResponse outputMessage = new MockServerHttpResponse();
+		testWrite(source, outputMessage, String.class);
+
+		StepVerifier.create(outputMessage.getBodyAsString())
+				.consumeNextWith(body -> {
+					assertTrue(body, body.startsWith("data:foo\n\n:ping\n\n"));
+					assertTrue(body, body.endsWith(":ping\n\ndata:bar\n\n"));
+				})
+				.expectComplete()
+				.verify();
+	}
+
+	private static MockServerHttpResponse countingEventsPerFlush(List<Integer> eventsPerFlush) {
+		return new MockServerHttpResponse() {
+			@Override
+			protected Mono<Void> writeAndFlushWithInternal(
+					Publisher<? extends Publisher<? extends DataBuffer>> body) {
+
+				return super.writeAndFlushWithInternal(Flux.from(body)
+						.concatMap(events -> Flux.from(events).collectList().delayElement(Duration.ofMillis(10)), 1)
+						.map(events -> {
+							eventsPerFlush.add(events.size());
+							return Flux.fromIterable(events);
+						}));
+			}
+		};
+	}
+
 	private <T> void testWrite(Publisher<T> source, MockServerHttpResponse outputMessage, Class<T> clazz) {
 		this.messageWriter.write(source, forClass(clazz),
 				MediaType.TEXT_EVENT_STREAM, outputMessage, HINTS).block(Duration.ofMillis(5000));
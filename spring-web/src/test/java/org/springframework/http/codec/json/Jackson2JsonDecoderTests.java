@@ -114,6 +114,87 @@ public class Jackson2JsonDecoderTests extends AbstractDataBufferAllocatingTestCa
 				.verifyComplete();
 	}
 
+	@Test
+	public void decodeToFluxAcrossBuffers() throws Exception {
+		Flux<DataBuffer> source = Flux.just(stringBuffer("[{\"bar\":\"b1\",\"fo"),
+				stringBuffer("o\":\"f1\"},{\"bar\":\"b2\""), stringBuffer(",\"foo\":\"f2\"}]"));
+
+		ResolvableType elementType = forClass(Pojo.class);
+		Flux<Object> flux = new Jackson2JsonDecoder().decode(source, elementType, null,
+				emptyMap());
+
+		StepVerifier.create(flux, 1)
+				.expectNext(new Pojo("f1", "b1"))
+				.thenRequest(1)
+				.expectNext(new Pojo("f2", "b2"))
+				.verifyComplete();
+	}
+
+	@Test
+	public void decodeScalarArrayToFlux() throws Exception {
+		Flux<DataBuffer> source = Flux.just(stringBuffer("[1, 2"), stringBuffer("3, 4]"));
+
+		ResolvableType elementType = forClass(Integer.class);
+		Flux<Object> flux = new Jackson2JsonDecoder().decode(source, elementType, null,
+				emptyMap());
+
+		StepVerifier.create(flux)
+				.expectNext(1, 23, 4)
+				.verifyComplete();
+	}
+
+	@Test
+	public void decodeArrayWithNullElementsToFlux() throws Exception {
+		Flux<DataBuffer> source = Flux.just(stringBuffer("[1, null, 2]"));
+
+		ResolvableType elementType = forClass(Integer.class);
+		Flux<Object> flux = new Jackson2JsonDecoder().decode(source, elementType, null,
+				emptyMap());
+
+		StepVerifier.create(flux)
+				.expectNext(1, 2)
+				.verifyComplete();
+	}
+
+	@Test
+	public void decodeTopLevelNullToMono() throws Exception {
+		Flux<DataBuffer> source = Flux.just(stringBuffer("null"));
+
+		ResolvableType elementType = forClass(Pojo.class);
+		Mono<Object> mono = new Jackson2JsonDecoder().decodeToMono(source, elementType, null,
+				emptyMap());
+
+		StepVerifier.create(mono)
+				.verifyComplete();
+	}
+
+	@Test
+	public void decodeTopLevelNumberToMono() throws Exception {
+		Flux<DataBuffer> source = Flux.just(stringBuffer("12"), stringBuffer("3"));
+
+		ResolvableType elementType = forClass(Integer.class);
+		Mono<Object> mono = new Jackson2JsonDecoder().decodeToMono(source, elementType, null,
+				emptyMap());
+
+		StepVerifier.create(mono)
+				.expectNext(123)
+				.verifyComplete();
+	}
+
+	@Test
+	public void objectReaderCache() throws Exception {
+		Jackson2JsonDecoder decoder = new Jackson2JsonDecoder();
+		ResolvableType elementType = forClass(Pojo.class);
+		for (int i = 0; i < 2; i++) {
+			Flux<DataBuffer> source = Flux.just(stringBuffer("{\"foo\": \"foofoo\", \"bar\": \"barbar\"}"));
+			StepVerifier.create(decoder.decode(source, elementType, null, emptyMap()))
+					.expectNext(new Pojo("foofoo", "barbar"))
+					.verifyComplete();
+		}
+		assertEquals(1, decoder.getCacheMissCount());
+		assertEquals(1, decoder.getCacheHitCount());
+	}
+
 	@Test
 	public void decodeEmptyArrayToFlux() throws Exception {
 		Flux<DataBuffer> source = Flux.just(stringBuffer("[]"));
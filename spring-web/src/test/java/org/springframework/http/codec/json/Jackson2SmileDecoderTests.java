@@ -0,0 +1,112 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.codec.json;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.AbstractDataBufferAllocatingTestCase;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.codec.Pojo;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.MimeType;
+
+import static java.util.Collections.emptyMap;
+import static org.junit.Assert.*;
+import static org.springframework.core.ResolvableType.forClass;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+
+/**
+ * Unit tests for {@link Jackson2SmileDecoder}.
+ *
+ * @author agent
+ */
+public class Jackson2SmileDecoderTests extends AbstractDataBufferAllocatingTestCase {
+
+	private static final MimeType SMILE_MIME_TYPE = new MimeType("application", "x-jackson-smile");
+
+
+	private final Jackson2SmileDecoder decoder = new Jackson2SmileDecoder();
+
+	private final ObjectMapper mapper = Jackson2ObjectMapperBuilder.smile().build();
+
+
+	@Test
+	public void canDecode() {
+		assertTrue(this.decoder.canDecode(forClass(Pojo.class), SMILE_MIME_TYPE));
+		assertTrue(this.decoder.canDecode(forClass(Pojo.class), null));
+
+		assertFalse(this.decoder.canDecode(forClass(String.class), null));
+		assertFalse(this.decoder.canDecode(forClass(Pojo.class), APPLICATION_JSON));
+	}
+
+	@Test
+	public void canDecodeWithCustomMapper() {
+		Jackson2SmileDecoder decoder = new Jackson2SmileDecoder(this.mapper);
+		assertTrue(decoder.canDecode(forClass(Pojo.class), SMILE_MIME_TYPE));
+		assertFalse(decoder.canDecode(forClass(Pojo.class), APPLICATION_JSON));
+	}
+
+	@Test
+	public void decodeInvalidInput() {
+		Flux<DataBuffer> source = chunks("{\"foo\"}".getBytes(StandardCharsets.UTF_8), 8);
+		StepVerifier.create(this.decoder.decodeToMono(source, forClass(Pojo.class), SMILE_MIME_TYPE, emptyMap()))
+				.expectErrorMatches(ex -> ex instanceof DecodingException &&
+						ex.getMessage().startsWith("Smile decoding error"))
+				.verify();
+	}
+
+	@Test
+	public void decodeToFluxAcrossBuffers() throws Exception {
+		List<Pojo> pojos = Arrays.asList(new Pojo("f1", "b1"), new Pojo("f2", "b2"));
+		Flux<DataBuffer> source = chunks(this.mapper.writeValueAsBytes(pojos), 3);
+		Flux<Object> flux = this.decoder.decode(source, forClass(Pojo.class), SMILE_MIME_TYPE, emptyMap());
+
+		StepVerifier.create(flux)
+				.expectNext(new Pojo("f1", "b1"))
+				.expectNext(new Pojo("f2", "b2"))
+				.verifyComplete();
+	}
+
+	@Test
+	public void decodeToMono() throws Exception {
+		Flux<DataBuffer> source = chunks(this.mapper.writeValueAsBytes(new Pojo("foo", "bar")), 5);
+		StepVerifier.create(this.decoder.decodeToMono(source, forClass(Pojo.class), SMILE_MIME_TYPE, emptyMap()))
+				.expectNext(new Pojo("foo", "bar"))
+				.verifyComplete();
+	}
+
+
+	private Flux<DataBuffer> chunks(byte[] bytes, int chunkSize) {
+		return Flux.range(0, (bytes.length + chunkSize - 1) / chunkSize).map(i -> {
+			int offset = i * chunkSize;
+			int length = Math.min(chunkSize, bytes.length - offset);
+			DataBuffer buffer = this.bufferFactory.allocateBuffer(length);
+			buffer.write(bytes, offset, length);
+			return buffer;
+		});
+	}
+
+}
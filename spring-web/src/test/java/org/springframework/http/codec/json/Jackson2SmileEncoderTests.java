@@ -0,0 +1,110 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.codec.json;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.AbstractDataBufferAllocatingTestCase;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.codec.Pojo;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.MimeType;
+
+import static java.util.Collections.emptyMap;
+import static org.junit.Assert.*;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+
+/**
+ * Unit tests for {@link Jackson2SmileEncoder}.
+ *
+ * @author agent
+ */
+public class Jackson2SmileEncoderTests extends AbstractDataBufferAllocatingTestCase {
+
+	private static final MimeType SMILE_MIME_TYPE = new MimeType("application", "x-jackson-smile");
+
+	private static final MimeType STREAM_SMILE_MIME_TYPE = new MimeType("application", "stream+x-jackson-smile");
+
+
+	private final Jackson2SmileEncoder encoder = new Jackson2SmileEncoder();
+
+	private final ObjectMapper mapper = Jackson2ObjectMapperBuilder.smile().build();
+
+
+	@Test
+	public void canEncode() {
+		ResolvableType pojoType = ResolvableType.forClass(Pojo.class);
+		assertTrue(this.encoder.canEncode(pojoType, SMILE_MIME_TYPE));
+		assertTrue(this.encoder.canEncode(pojoType, STREAM_SMILE_MIME_TYPE));
+		assertTrue(this.encoder.canEncode(pojoType, null));
+
+		assertFalse(this.encoder.canEncode(pojoType, APPLICATION_JSON));
+		assertFalse(this.encoder.canEncode(ResolvableType.forClass(String.class), null));
+	}
+
+	@Test
+	public void encode() {
+		Flux<Pojo> source = Flux.just(new Pojo("foo", "bar"), new Pojo("foofoo", "barbar"));
+		ResolvableType type = ResolvableType.forClass(Pojo.class);
+		Flux<DataBuffer> output = this.encoder.encode(source, this.bufferFactory, type, SMILE_MIME_TYPE, emptyMap());
+
+		StepVerifier.create(output)
+				.consumeNextWith(dataBuffer -> {
+					List<Pojo> pojos = readValue(dataBuffer, new TypeReference<List<Pojo>>() {});
+					assertEquals(2, pojos.size());
+					assertEquals(new Pojo("foofoo", "barbar"), pojos.get(1));
+				})
+				.verifyComplete();
+	}
+
+	@Test
+	public void encodeAsStream() {
+		Flux<Pojo> source = Flux.just(new Pojo("foo", "bar"), new Pojo("foofoo", "barbar"));
+		ResolvableType type = ResolvableType.forClass(Pojo.class);
+		Flux<DataBuffer> output = this.encoder.encode(source, this.bufferFactory, type, STREAM_SMILE_MIME_TYPE, emptyMap());
+
+		StepVerifier.create(output)
+				.consumeNextWith(dataBuffer -> assertEquals(new Pojo("foo", "bar"),
+						readValue(dataBuffer, new TypeReference<Pojo>() {})))
+				.consumeNextWith(dataBuffer -> assertEquals(new Pojo("foofoo", "barbar"),
+						readValue(dataBuffer, new TypeReference<Pojo>() {})))
+				.verifyComplete();
+	}
+
+
+	private <T> T readValue(DataBuffer dataBuffer, TypeReference<T> type) {
+		try {
+			return this.mapper.readValue(dataBuffer.asInputStream(), type);
+		}
+		catch (IOException ex) {
+			throw new AssertionError(ex);
+		}
+		finally {
+			DataBufferUtils.release(dataBuffer);
+		}
+	}
+
+}
@@ -25,6 +25,7 @@ import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.TreeNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import org.json.JSONException;
 import org.junit.Before;
 import org.junit.Test;
@@ -32,6 +33,7 @@ import org.skyscreamer.jsonassert.JSONAssert;
 import reactor.core.publisher.Flux;
 import reactor.test.StepVerifier;
 
+import org.springframework.core.codec.DecodingException;
 import org.springframework.core.io.buffer.AbstractDataBufferAllocatingTestCase;
 import org.springframework.core.io.buffer.DataBuffer;
 
@@ -135,21 +137,43 @@ public class Jackson2TokenizerTests extends AbstractDataBufferAllocatingTestCase
 						"{\"id\":3,\"name\":\"Ford\"}"));
 	}
 
+	@Test
+	public void tokenizeScalarAndNestedArrayElements() {
+		this.tokenizer = new Jackson2Tokenizer(this.jsonParser, true);
+
+		testTokenize(
+				asList("[1, \"foo\", [true, ", "null], {\"bar\": [2]}]"),
+				asList("1", "\"foo\"", "[true, null]", "{\"bar\": [2]}"));
+	}
+
+	@Test
+	public void tokenizeEndOfInput() {
+		Flux<DataBuffer> source = Flux.just(stringBuffer("4"), stringBuffer("2"));
+		Flux<String> result = Jackson2Tokenizer.tokenize(source, this.objectMapper.getFactory(), false)
+				.map(this::writeTree);
+
+		StepVerifier.create(result)
+				.expectNext("42")
+				.verifyComplete();
+	}
+
+	@Test
+	public void tokenizeIncompleteInput() {
+		Flux<DataBuffer> source = Flux.just(stringBuffer("{\"foo\": \"bar\""));
+		Flux<TokenBuffer> result = Jackson2Tokenizer.tokenize(source, this.objectMapper.getFactory(), true);
+
+		StepVerifier.create(result)
+				.expectError(DecodingException.class)
+				.verify();
+	}
+
 	private void testTokenize(List<String> source, List<String> expected) {
 		Flux<DataBuffer> sourceFlux = Flux.fromIterable(source)
 				.map(this::stringBuffer);
 
 		Flux<String> result = sourceFlux
 				.flatMap(this.tokenizer)
-				.map(tokenBuffer -> {
-					try {
-						TreeNode root = this.objectMapper.readTree(tokenBuffer.asParser());
-						return this.objectMapper.writeValueAsString(root);
-					}
-					catch (IOException ex) {
-						throw new UncheckedIOException(ex);
-					}
-				});
+				.map(this::writeTree);
 
 		StepVerifier.FirstStep<String> builder = StepVerifier.create(result);
 		for (String s : expected) {
@@ -158,6 +182,16 @@ public class Jackson2TokenizerTests extends AbstractDataBufferAllocatingTestCase
 		builder.verifyComplete();
 	}
 
+	private String writeTree(TokenBuffer tokenBuffer) {
+		try {
+			TreeNode root = this.objectMapper.readTree(tokenBuffer.asParser());
+			return this.objectMapper.writeValueAsString(root);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
 	private static class JSONAssertConsumer implements Consumer<String> {
 
 		private final String expected;
@@ -0,0 +1,319 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.codec.multipart;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.mock.http.server.reactive.test.MockServerHttpRequest;
+import org.springframework.mock.http.server.reactive.test.MockServerHttpResponse;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.server.adapter.HttpWebHandlerAdapter;
+
+import static java.util.Collections.emptyMap;
+import static org.junit.Assert.*;
+import static org.springframework.core.ResolvableType.forClassWithGenerics;
+import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+
+/**
+ * Unit tests for {@link DefaultPartHttpMessageReader}.
+ *
+ * @author agent
+ */
+public class DefaultPartHttpMessageReaderTests {
+
+	private static final String BOUNDARY = "simple-boundary";
+
+	private static final String BODY = "preamble\r\n" +
+			"--simple-boundary\r\n" +
+			"Content-Disposition: form-data; name=\"field\"\r\n" +
+			"\r\n" +
+			"value\r\n" +
+			"--simple-boundary\r\n" +
+			"Content-Disposition: form-data; name=\"file\"; filename=\"foo.txt\"\r\n" +
+			"Content-Type: text/plain\r\n" +
+			"\r\n" +
+			"Lorem\r\n--simple-bound Ipsum.\r\n" +
+			"--simple-boundary--\r\n" +
+			"epilogue";
+
+
+	private final DefaultPartHttpMessageReader reader = new DefaultPartHttpMessageReader();
+
+	private final DefaultDataBufferFactory bufferFactory = new DefaultDataBufferFactory();
+
+	private final Scheduler blockingScheduler = Schedulers.newSingle("DefaultPartHttpMessageReaderTests");
+
+	private Path storageDirectory;
+
+
+	@Before
+	public void createStorageDirectory() throws IOException {
+		this.storageDirectory = Files.createTempDirectory("DefaultPartHttpMessageReaderTests");
+		this.reader.setFileStorageDirectory(this.storageDirectory);
+		this.reader.setBlockingOperationScheduler(this.blockingScheduler);
+	}
+
+	@After
+	public void deleteStorageDirectory() {
+		this.blockingScheduler.dispose();
+		FileSystemUtils.deleteRecursively(this.storageDirectory.toFile());
+	}
+
+
+	@Test
+	public void resolveParts() throws IOException {
+		MultipartHttpMessageReader multipartReader = new MultipartHttpMessageReader(this.reader);
+		ResolvableType elementType = forClassWithGenerics(MultiValueMap.class, String.class, Part.class);
+		MultiValueMap<String, Part> parts =
+				multipartReader.readMono(elementType, request(BODY, BODY.length()), emptyMap()).block();
+		assertEquals(2, parts.size());
+
+		Part part = parts.getFirst("field");
+		assertTrue(part instanceof FormFieldPart);
+		assertEquals("value", ((FormFieldPart) part).value());
+
+		part = parts.getFirst("file");
+		assertTrue(part instanceof FilePart);
+		assertEquals("foo.txt", ((FilePart) part).filename());
+		assertEquals("text/plain", part.headers().getContentType().toString());
+		assertEquals("Lorem\r\n--simple-bound Ipsum.", content(part));
+	}
+
+	@Test
+	public void boundaryAcrossBuffers() {
+		for (int chunkSize = 1; chunkSize < 20; chunkSize++) {
+			List<Part> parts = this.reader.read(null, request(BODY, chunkSize), emptyMap()).collectList().block();
+			assertEquals(2, parts.size());
+			assertEquals("value", ((FormFieldPart) parts.get(0)).value());
+			assertEquals("Lorem\r\n--simple-bound Ipsum.", content(parts.get(1)));
+		}
+	}
+
+	@Test
+	public void emptyParts() {
+		String body = "--simple-boundary\r\n" +
+				"\r\n" +
+				"\r\n" +
+				"--simple-boundary\r\n" +
+				"Content-Disposition: form-data; name=\"empty\"\r\n" +
+				"\r\n" +
+				"\r\n" +
+				"--simple-boundary--";
+		List<Part> parts = this.reader.read(null, request(body, 4), emptyMap()).collectList().block();
+		assertEquals(2, parts.size());
+		assertTrue(parts.get(0).headers().isEmpty());
+		assertEquals("", ((FormFieldPart) parts.get(1)).value());
+	}
+
+	@Test
+	public void fileStoredAboveThreshold() throws IOException {
+		this.reader.setMaxInMemorySize(8);
+		List<Part> parts = this.reader.read(null, request(BODY, 5), emptyMap()).collectList().block();
+		assertEquals(1, Files.list(this.storageDirectory).count());
+
+		FilePart part = (FilePart) parts.get(1);
+		File destination = this.storageDirectory.resolve("destination.txt").toFile();
+		part.transferTo(destination).block();
+		assertEquals("Lorem\r\n--simple-bound Ipsum.",
+				new String(Files.readAllBytes(destination.toPath()), StandardCharsets.UTF_8));
+		assertEquals(2, Files.list(this.storageDirectory).count());
+		assertEquals("Lorem\r\n--simple-bound Ipsum.", content(part));
+	}
+
+	@Test
+	public void fileContentConsumedTwice() throws IOException {
+		this.reader.setMaxInMemorySize(8);
+		List<Part> parts = this.reader.read(null, request(BODY, 64), emptyMap()).collectList().block();
+		assertEquals("Lorem\r\n--simple-bound Ipsum.", content(parts.get(1)));
+		assertEquals("Lorem\r\n--simple-bound Ipsum.", content(parts.get(1)));
+		assertEquals(1, Files.list(this.storageDirectory).count());
+
+		parts.get(1).delete().block();
+		assertEquals(0, Files.list(this.storageDirectory).count());
+	}
+
+	@Test
+	public void fileKeptAfterContentCancelled() throws IOException {
+		this.reader.setMaxInMemorySize(8);
+		List<Part> parts = this.reader.read(null, request(BODY, 64), emptyMap()).collectList().block();
+		StepVerifier.create(parts.get(1).content(), 1)
+				.consumeNextWith(DataBufferUtils::release)
+				.thenCancel()
+				.verify();
+		assertEquals("Lorem\r\n--simple-bound Ipsum.", content(parts.get(1)));
+	}
+
+	@Test
+	public void unconsumedFileDeletedOnRequestCompletion() throws IOException {
+		this.reader.setMaxInMemorySize(8);
+		ServerCodecConfigurer codecConfigurer = ServerCodecConfigurer.create();
+		codecConfigurer.registerDefaults(false);
+		codecConfigurer.customCodecs().reader(new MultipartHttpMessageReader(this.reader));
+		HttpWebHandlerAdapter adapter = new HttpWebHandlerAdapter(exchange ->
+				exchange.getMultipartData().doOnNext(parts ->
+						assertEquals(1, this.storageDirectory.toFile().list().length)).then());
+		adapter.setCodecConfigurer(codecConfigurer);
+
+		adapter.handle(request(BODY, 64), new MockServerHttpResponse()).block();
+		assertEquals(0, Files.list(this.storageDirectory).count());
+	}
+
+	@Test
+	public void streamedFileDeletedOnRequestCompletion() throws IOException {
+		this.reader.setMaxInMemorySize(8);
+		HttpWebHandlerAdapter adapter = new HttpWebHandlerAdapter(exchange ->
+				this.reader.read(ResolvableType.forClass(Part.class), exchange.getRequest(), emptyMap())
+						.collectList()
+						.doOnNext(parts -> assertEquals(1, this.storageDirectory.toFile().list().length))
+						.then());
+
+		adapter.handle(request(BODY, 64), new MockServerHttpResponse()).block();
+		assertEquals(0, Files.list(this.storageDirectory).count());
+	}
+
+	@Test
+	public void filesDeletedWhenPartsCancelled() throws IOException {
+		this.reader.setMaxInMemorySize(2);
+		String body = BODY.replace("name=\"field\"", "name=\"field\"; filename=\"field.txt\"");
+		StepVerifier.create(this.reader.read(null, request(body, 4), emptyMap()), 1)
+				.expectNextCount(1)
+				.thenCancel()
+				.verify();
+		awaitBlockingOperations();
+		assertEquals(0, Files.list(this.storageDirectory).count());
+	}
+
+	@Test
+	public void smallFileKeptInMemory() throws IOException {
+		List<Part> parts = this.reader.read(null, request(BODY, 64), emptyMap()).collectList().block();
+		assertEquals(0, Files.list(this.storageDirectory).count());
+
+		File destination = this.storageDirectory.resolve("destination.txt").toFile();
+		((FilePart) parts.get(1)).transferTo(destination).block();
+		assertEquals("Lorem\r\n--simple-bound Ipsum.",
+				new String(Files.readAllBytes(destination.toPath()), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void formFieldAboveThreshold() {
+		this.reader.setMaxInMemorySize(2);
+		StepVerifier.create(this.reader.read(null, request(BODY, 64), emptyMap()))
+				.expectError(DecodingException.class)
+				.verify();
+	}
+
+	@Test
+	public void maxParts() throws IOException {
+		this.reader.setMaxInMemorySize(2);
+		this.reader.setMaxParts(1);
+		String body = BODY.replace("name=\"field\"", "name=\"field\"; filename=\"field.txt\"");
+		StepVerifier.create(this.reader.read(null, request(body, 64), emptyMap()))
+				.expectError(DecodingException.class)
+				.verify();
+		awaitBlockingOperations();
+		assertEquals(0, Files.list(this.storageDirectory).count());
+	}
+
+	@Test
+	public void maxPartSize() throws IOException {
+		this.reader.setMaxInMemorySize(8);
+		this.reader.setMaxPartSize(10);
+		StepVerifier.create(this.reader.read(null, request(BODY, 4), emptyMap()))
+				.expectNextCount(1)
+				.expectError(DecodingException.class)
+				.verify();
+		awaitBlockingOperations();
+		assertEquals(0, Files.list(this.storageDirectory).count());
+	}
+
+	@Test
+	public void maxHeadersSize() {
+		this.reader.setMaxHeadersSize(16);
+		StepVerifier.create(this.reader.read(null, request(BODY, 64), emptyMap()))
+				.expectError(DecodingException.class)
+				.verify();
+	}
+
+	@Test
+	public void missingEnd() {
+		String body = BODY.substring(0, BODY.indexOf("--simple-boundary--"));
+		StepVerifier.create(this.reader.read(null, request(body, 64), emptyMap()))
+				.expectNextCount(1)
+				.expectError(DecodingException.class)
+				.verify();
+	}
+
+	@Test
+	public void missingBoundary() {
+		ServerHttpRequest request = MockServerHttpRequest.post("/")
+				.header(CONTENT_TYPE, "multipart/form-data")
+				.body(BODY);
+		StepVerifier.create(this.reader.read(null, request, emptyMap()))
+				.expectError(DecodingException.class)
+				.verify();
+	}
+
+
+	private ServerHttpRequest request(String body, int chunkSize) {
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		List<DataBuffer> buffers = new ArrayList<>();
+		for (int i = 0; i < bytes.length; i += chunkSize) {
+			int length = Math.min(chunkSize, bytes.length - i);
+			DataBuffer buffer = this.bufferFactory.allocateBuffer(length);
+			buffer.write(bytes, i, length);
+			buffers.add(buffer);
+		}
+		return MockServerHttpRequest.post("/")
+				.header(CONTENT_TYPE, "multipart/form-data; boundary=\"" + BOUNDARY + "\"")
+				.body(Flux.fromIterable(buffers));
+	}
+
+	private void awaitBlockingOperations() {
+		Mono.empty().subscribeOn(this.blockingScheduler).block();
+	}
+
+	private static String content(Part part) {
+		DataBuffer buffer = DataBufferUtils.join(part.content()).block();
+		byte[] bytes = new byte[buffer.readableByteCount()];
+		buffer.read(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.codec.protobuf;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import com.google.protobuf.Message;
+import org.junit.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.AbstractDataBufferAllocatingTestCase;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.protobuf.Msg;
+import org.springframework.protobuf.SecondMsg;
+import org.springframework.util.MimeType;
+
+import static java.util.Collections.emptyMap;
+import static org.junit.Assert.*;
+import static org.springframework.core.ResolvableType.forClass;
+
+/**
+ * Unit tests for {@link ProtobufDecoder}.
+ *
+ * @author agent
+ */
+public class ProtobufDecoderTests extends AbstractDataBufferAllocatingTestCase {
+
+	private static final MimeType PROTOBUF_MIME_TYPE = new MimeType("application", "x-protobuf");
+
+
+	private final ProtobufDecoder decoder = new ProtobufDecoder();
+
+	private final Msg testMsg1 = Msg.newBuilder().setFoo("Foo")
+			.setBlah(SecondMsg.newBuilder().setBlah(123).build()).build();
+
+	private final Msg testMsg2 = Msg.newBuilder().setFoo("Bar")
+			.setBlah(SecondMsg.newBuilder().setBlah(456).build()).build();
+
+
+	@Test
+	public void canDecode() {
+		assertTrue(this.decoder.canDecode(forClass(Msg.class), null));
+		assertTrue(this.decoder.canDecode(forClass(Msg.class), PROTOBUF_MIME_TYPE));
+		assertTrue(this.decoder.canDecode(forClass(Msg.class), MediaType.APPLICATION_OCTET_STREAM));
+
+		assertFalse(this.decoder.canDecode(forClass(Msg.class), MediaType.APPLICATION_JSON));
+		assertFalse(this.decoder.canDecode(forClass(Object.class), PROTOBUF_MIME_TYPE));
+	}
+
+	@Test
+	public void decodeToMono() {
+		byte[] bytes = this.testMsg1.toByteArray();
+		Mono<Message> mono = this.decoder.decodeToMono(chunks(bytes, 3), forClass(Msg.class), null, emptyMap());
+
+		StepVerifier.create(mono)
+				.expectNext(this.testMsg1)
+				.verifyComplete();
+	}
+
+	@Test
+	public void decodeDelimitedMessagesAcrossBuffers() throws IOException {
+		byte[] bytes = delimited(this.testMsg1, this.testMsg2);
+		for (int chunkSize = 1; chunkSize <= bytes.length; chunkSize++) {
+			Flux<Message> messages = this.decoder.decode(chunks(bytes, chunkSize), forClass(Msg.class), null, emptyMap());
+
+			StepVerifier.create(messages)
+					.expectNext(this.testMsg1)
+					.expectNext(this.testMsg2)
+					.verifyComplete();
+		}
+	}
+
+	@Test
+	public void exceedMaxSize() throws IOException {
+		this.decoder.setMaxMessageSize(1);
+		Flux<Message> messages = this.decoder.decode(chunks(delimited(this.testMsg1), 64),
+				forClass(Msg.class), null, emptyMap());
+
+		StepVerifier.create(messages)
+				.expectError(DecodingException.class)
+				.verify();
+	}
+
+	@Test
+	public void incompleteMessage() throws IOException {
+		byte[] bytes = delimited(this.testMsg1);
+		byte[] truncated = new byte[bytes.length - 1];
+		System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+		Flux<Message> messages = this.decoder.decode(chunks(truncated, 4), forClass(Msg.class), null, emptyMap());
+
+		StepVerifier.create(messages)
+				.expectError(DecodingException.class)
+				.verify();
+	}
+
+
+	private static byte[] delimited(Msg... messages) throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		for (Msg message : messages) {
+			message.writeDelimitedTo(outputStream);
+		}
+		return outputStream.toByteArray();
+	}
+
+	private Flux<DataBuffer> chunks(byte[] bytes, int chunkSize) {
+		return Flux.range(0, (bytes.length + chunkSize - 1) / chunkSize).map(i -> {
+			int offset = i * chunkSize;
+			int length = Math.min(chunkSize, bytes.length - offset);
+			DataBuffer buffer = this.bufferFactory.allocateBuffer(length);
+			buffer.write(bytes, offset, length);
+			return buffer;
+		});
+	}
+
+}
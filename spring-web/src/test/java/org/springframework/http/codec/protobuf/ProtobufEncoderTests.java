@@ -0,0 +1,118 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.codec.protobuf;
+
+import java.io.IOException;
+
+import com.google.protobuf.Message;
+import org.junit.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import org.springframework.core.io.buffer.AbstractDataBufferAllocatingTestCase;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.protobuf.Msg;
+import org.springframework.protobuf.SecondMsg;
+import org.springframework.util.MimeType;
+
+import static java.util.Collections.emptyMap;
+import static org.junit.Assert.*;
+import static org.springframework.core.ResolvableType.forClass;
+
+/**
+ * Unit tests for {@link ProtobufEncoder}.
+ *
+ * @author agent
+ */
+public class ProtobufEncoderTests extends AbstractDataBufferAllocatingTestCase {
+
+	private static final MimeType PROTOBUF_MIME_TYPE = new MimeType("application", "x-protobuf");
+
+
+	private final ProtobufEncoder encoder = new ProtobufEncoder();
+
+	private final Msg testMsg = Msg.newBuilder().setFoo("Foo")
+			.setBlah(SecondMsg.newBuilder().setBlah(123).build()).build();
+
+
+	@Test
+	public void canEncode() {
+		assertTrue(this.encoder.canEncode(forClass(Msg.class), null));
+		assertTrue(this.encoder.canEncode(forClass(Msg.class), PROTOBUF_MIME_TYPE));
+		assertTrue(this.encoder.canEncode(forClass(Msg.class), MediaType.APPLICATION_OCTET_STREAM));
+
+		assertFalse(this.encoder.canEncode(forClass(Msg.class), MediaType.APPLICATION_JSON));
+		assertFalse(this.encoder.canEncode(forClass(Object.class), PROTOBUF_MIME_TYPE));
+	}
+
+	@Test
+	public void encodeMono() {
+		Flux<DataBuffer> output = this.encoder.encode(Mono.just(this.testMsg), this.bufferFactory,
+				forClass(Msg.class), PROTOBUF_MIME_TYPE, emptyMap());
+
+		StepVerifier.create(output)
+				.consumeNextWith(dataBuffer -> {
+					try {
+						assertEquals(this.testMsg, Msg.parseFrom(dataBuffer.asInputStream()));
+					}
+					catch (IOException ex) {
+						throw new AssertionError(ex);
+					}
+					finally {
+						DataBufferUtils.release(dataBuffer);
+					}
+				})
+				.verifyComplete();
+	}
+
+	@Test
+	public void encodeFluxDelimited() {
+		Msg testMsg2 = Msg.newBuilder().setFoo("Bar").build();
+		Flux<Message> messages = Flux.just(this.testMsg, testMsg2);
+		Flux<DataBuffer> output = this.encoder.encode(messages, this.bufferFactory,
+				forClass(Msg.class), PROTOBUF_MIME_TYPE, emptyMap());
+
+		StepVerifier.create(output)
+				.consumeNextWith(dataBuffer -> assertEquals(this.testMsg, parseDelimited(dataBuffer)))
+				.consumeNextWith(dataBuffer -> assertEquals(testMsg2, parseDelimited(dataBuffer)))
+				.verifyComplete();
+	}
+
+	@Test
+	public void streamingMediaTypes() {
+		MediaType delimited = MediaType.parseMediaType("application/x-protobuf;delimited=true");
+		assertEquals(1, this.encoder.getStreamingMediaTypes().size());
+		assertEquals(delimited, this.encoder.getStreamingMediaTypes().get(0));
+	}
+
+
+	private static Msg parseDelimited(DataBuffer dataBuffer) {
+		try {
+			return Msg.parseDelimitedFrom(dataBuffer.asInputStream());
+		}
+		catch (IOException ex) {
+			throw new AssertionError(ex);
+		}
+		finally {
+			DataBufferUtils.release(dataBuffer);
+		}
+	}
+
+}
@@ -218,6 +218,24 @@ public class MappingJackson2HttpMessageConverterTests {
 	}
 
 
+	@Test
+	public void readerAndWriterCache() throws IOException {
+		String body = "{\"string\":\"Foo\"}";
+		for (int i = 0; i < 2; i++) {
+			MockHttpInputMessage inputMessage = new MockHttpInputMessage(body.getBytes("UTF-8"));
+			MyBean result = (MyBean) this.converter.read(MyBean.class, inputMessage);
+			assertEquals("Foo", result.getString());
+			this.converter.write(result, null, new MockHttpOutputMessage());
+		}
+		assertEquals(2, this.converter.getCacheMissCount());
+		assertEquals(2, this.converter.getCacheHitCount());
+
+		this.converter.setCacheLimit(0);
+		this.converter.read(MyBean.class, new MockHttpInputMessage(body.getBytes("UTF-8")));
+		assertEquals(0, this.converter.getCacheHitCount());
+		assertEquals(1, this.converter.getCacheMissCount());
+	}
+
 	@Test
 	public void prettyPrint() throws Exception {
 		MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
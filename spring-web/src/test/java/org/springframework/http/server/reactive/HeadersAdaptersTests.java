@@ -0,0 +1,131 @@
+/*
+ * Copyright 2002-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.http.server.reactive;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.undertow.util.HeaderMap;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.MultiValueMap;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the {@code MultiValueMap} adapters over native server headers.
+ *
+ * @author agent
+ */
+@RunWith(Parameterized.class)
+public class HeadersAdaptersTests {
+
+	@Parameterized.Parameter(0)
+	public MultiValueMap<String, String> headers;
+
+	@Parameterized.Parameters(name = "headers [{0}]")
+	public static Object[][] arguments() {
+		return new Object[][] {
+				{new NettyHeadersAdapter(new DefaultHttpHeaders())},
+				{new UndertowHeadersAdapter(new HeaderMap())}
+		};
+	}
+
+	@After
+	public void tearDown() {
+		this.headers.clear();
+	}
+
+
+	@Test
+	public void getWithUnknownHeaderShouldReturnNull() {
+		assertNull(this.headers.get("Unknown"));
+		assertNull(this.headers.getFirst("Unknown"));
+		assertFalse(this.headers.containsKey("Unknown"));
+		assertTrue(this.headers.isEmpty());
+	}
+
+	@Test
+	public void getFirstWithMultipleValues() {
+		this.headers.add("TestHeader", "first");
+		this.headers.add("TestHeader", "second");
+		assertEquals("first", this.headers.getFirst("TestHeader"));
+		assertEquals(Arrays.asList("first", "second"), this.headers.get("TestHeader"));
+		assertEquals(1, this.headers.size());
+	}
+
+	@Test
+	public void getIsCaseInsensitive() {
+		this.headers.add("TestHeader", "first");
+		assertEquals("first", this.headers.getFirst("testheader"));
+		assertEquals(Collections.singletonList("first"), this.headers.get("TESTHEADER"));
+		assertTrue(this.headers.containsKey("testHeader"));
+	}
+
+	@Test
+	public void putShouldReplaceValues() {
+		this.headers.add("TestHeader", "first");
+		this.headers.put("TestHeader", Arrays.asList("second", "third"));
+		assertEquals(Arrays.asList("second", "third"), this.headers.get("TestHeader"));
+		this.headers.set("TestHeader", "fourth");
+		assertEquals(Collections.singletonList("fourth"), this.headers.get("TestHeader"));
+	}
+
+	@Test
+	public void putNullShouldRemoveValues() {
+		this.headers.add("TestHeader", "first");
+		assertEquals(Collections.singletonList("first"), this.headers.put("TestHeader", null));
+		assertNull(this.headers.get("TestHeader"));
+		assertFalse(this.headers.containsKey("TestHeader"));
+	}
+
+	@Test
+	public void removeShouldRemoveAllValues() {
+		this.headers.add("TestHeader", "first");
+		this.headers.add("OtherHeader", "other");
+		assertEquals(Collections.singletonList("first"), this.headers.remove("TestHeader"));
+		assertNull(this.headers.get("TestHeader"));
+		assertEquals(1, this.headers.size());
+		assertEquals(Collections.singleton("OtherHeader"), this.headers.keySet());
+	}
+
+	@Test
+	public void toSingleValueMap() {
+		this.headers.add("TestHeader", "first");
+		this.headers.add("TestHeader", "second");
+		this.headers.add("OtherHeader", "other");
+		assertEquals("first", this.headers.toSingleValueMap().get("TestHeader"));
+		assertEquals("other", this.headers.toSingleValueMap().get("OtherHeader"));
+	}
+
+	@Test
+	public void httpHeadersDelegateToAdapter() {
+		HttpHeaders httpHeaders = new HttpHeaders(this.headers);
+		httpHeaders.setContentLength(42);
+		assertEquals("42", this.headers.getFirst("content-length"));
+		assertEquals(42, httpHeaders.getContentLength());
+
+		HttpHeaders readOnly = HttpHeaders.readOnlyHttpHeadersView(httpHeaders);
+		this.headers.add("TestHeader", "first");
+		assertEquals("first", readOnly.getFirst("TestHeader"));
+	}
+
+}
@@ -17,6 +17,7 @@
 package org.springframework.http.server.reactive;
 
 import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
 import javax.servlet.AsyncContext;
@@ -27,6 +28,8 @@ import javax.servlet.http.HttpServletRequest;
 import org.junit.Test;
 
 import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.mock.web.test.DelegatingServletInputStream;
 import org.springframework.mock.web.test.MockAsyncContext;
 import org.springframework.mock.web.test.MockHttpServletRequest;
@@ -85,15 +88,54 @@ public class ServerHttpRequestTests {
 		assertEquals(Collections.singletonList(null), params.get("a"));
 	}
 
+	@Test
+	public void headers() throws Exception {
+		MockHttpServletRequest request = createServletRequest("/path");
+		request.addHeader("Accept", "text/plain");
+		request.addHeader("X-Test", "first");
+		request.addHeader("X-Test", "second");
+		HttpHeaders headers = createHttpRequest(request).getHeaders();
+		assertEquals(Collections.singletonList(MediaType.TEXT_PLAIN), headers.getAccept());
+		assertEquals(Arrays.asList("first", "second"), headers.get("x-test"));
+		assertEquals(2, headers.size());
+	}
+
+	@Test
+	public void headersSnapshotTakenOnCreation() throws Exception {
+		MockHttpServletRequest request = createServletRequest("/path");
+		request.addHeader("X-Test", "first");
+		HttpHeaders headers = createHttpRequest(request).getHeaders();
+		request.addHeader("X-Test", "second");
+		request.addHeader("X-Other", "value");
+		assertEquals(Collections.singletonList("first"), headers.get("X-Test"));
+		assertEquals(1, headers.size());
+	}
+
+	@Test
+	public void headersWithCharacterEncoding() throws Exception {
+		MockHttpServletRequest request = createServletRequest("/path");
+		request.addHeader("Content-Type", "text/plain");
+		request.setCharacterEncoding("UTF-8");
+		HttpHeaders headers = createHttpRequest(request).getHeaders();
+		assertEquals(new MediaType("text", "plain", StandardCharsets.UTF_8), headers.getContentType());
+	}
+
 	private ServerHttpRequest createHttpRequest(String path) throws Exception {
-		HttpServletRequest request = new MockHttpServletRequest("GET", path) {
+		return createHttpRequest(createServletRequest(path));
+	}
+
+	private ServerHttpRequest createHttpRequest(HttpServletRequest request) throws Exception {
+		AsyncContext asyncContext = new MockAsyncContext(request, new MockHttpServletResponse());
+		return new ServletServerHttpRequest(request, asyncContext, new DefaultDataBufferFactory(), 1024);
+	}
+
+	private MockHttpServletRequest createServletRequest(String path) {
+		return new MockHttpServletRequest("GET", path) {
 			@Override
 			public ServletInputStream getInputStream() {
 				return new TestServletInputStream();
 			}
 		};
-		AsyncContext asyncContext = new MockAsyncContext(request, new MockHttpServletResponse());
-		return new ServletServerHttpRequest(request, asyncContext, new DefaultDataBufferFactory(), 1024);
 	}
 
 	private static class TestServletInputStream extends DelegatingServletInputStream {
@@ -21,6 +21,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
+import io.undertow.server.HttpServerExchange;
 import org.junit.Test;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
@@ -29,6 +30,7 @@ import reactor.core.publisher.Mono;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DefaultDataBuffer;
 import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseCookie;
 
 import static junit.framework.TestCase.assertTrue;
@@ -153,6 +155,18 @@ public class ServerHttpResponseTests {
 		assertSame(cookie, response.getCookies().getFirst("ID"));
 	}
 
+	@Test
+	public void undertowHeadersAndCookiesWrittenThrough() throws Exception {
+		HttpServerExchange exchange = new HttpServerExchange(null);
+		UndertowServerHttpResponse response = new UndertowServerHttpResponse(exchange, new DefaultDataBufferFactory());
+		response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+		assertEquals("application/json", exchange.getResponseHeaders().getFirst("Content-Type"));
+
+		response.addCookie(ResponseCookie.from("ID", "123").path("/").build());
+		response.applyCookies();
+		assertEquals("ID=123; Path=/", exchange.getResponseHeaders().getFirst("Set-Cookie"));
+	}
+
 
 
 	private DefaultDataBuffer wrap(String a) {
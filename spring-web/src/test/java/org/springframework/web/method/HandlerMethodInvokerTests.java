@@ -0,0 +1,152 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.method;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for {@link HandlerMethodInvoker}.
+ *
+ * @author agent
+ */
+public class HandlerMethodInvokerTests {
+
+	private final Handler handler = new Handler();
+
+
+	@Test
+	public void invoke() throws Exception {
+		HandlerMethodInvoker invoker = invoker("handle", Integer.class, String.class);
+		assertEquals("1-value", invoker.invoke(this.handler, 1, "value"));
+		assertEquals("null-null", invoker.invoke(this.handler, null, null));
+	}
+
+	@Test
+	public void invokePrimitiveAndVoid() throws Exception {
+		HandlerMethodInvoker invoker = invoker("handle", int.class);
+		assertNull(invoker.invoke(this.handler, 5));
+		assertEquals(5, this.handler.count);
+	}
+
+	@Test
+	public void invokeStatic() throws Exception {
+		HandlerMethodInvoker invoker = invoker("handleStatic", String.class);
+		assertEquals("static-value", invoker.invoke(this.handler, "value"));
+		assertEquals("static-value", invoker.invoke(null, "value"));
+	}
+
+	@Test
+	public void invokerIsCached() throws Exception {
+		assertSame(invoker("handle", int.class), invoker("handle", int.class));
+	}
+
+	@Test
+	public void exceptionRaisedByMethod() throws Exception {
+		HandlerMethodInvoker invoker = invoker("raise", RuntimeException.class);
+		IllegalArgumentException expected = new IllegalArgumentException("error");
+		try {
+			invoker.invoke(this.handler, expected);
+			fail("Expected InvocationTargetException");
+		}
+		catch (InvocationTargetException ex) {
+			assertSame(expected, ex.getTargetException());
+		}
+	}
+
+	@Test
+	public void argumentTypeMismatch() throws Exception {
+		HandlerMethodInvoker invoker = invoker("handle", Integer.class, String.class);
+		try {
+			invoker.invoke(this.handler, "__invalid__", "value");
+			fail("Expected IllegalArgumentException");
+		}
+		catch (IllegalArgumentException ex) {
+			// expected
+		}
+	}
+
+	@Test
+	public void nullForPrimitiveArgument() throws Exception {
+		HandlerMethodInvoker invoker = invoker("handle", int.class);
+		try {
+			invoker.invoke(this.handler, (Object) null);
+			fail("Expected IllegalArgumentException");
+		}
+		catch (IllegalArgumentException ex) {
+			// expected
+		}
+	}
+
+	@Test
+	public void wrongArgumentCount() throws Exception {
+		HandlerMethodInvoker invoker = invoker("handle", Integer.class, String.class);
+		try {
+			invoker.invoke(this.handler, 1);
+			fail("Expected IllegalArgumentException");
+		}
+		catch (IllegalArgumentException ex) {
+			// expected
+		}
+	}
+
+	@Test
+	public void wrongTarget() throws Exception {
+		HandlerMethodInvoker invoker = invoker("handle", Integer.class, String.class);
+		try {
+			invoker.invoke(new Object(), 1, "value");
+			fail("Expected IllegalArgumentException");
+		}
+		catch (IllegalArgumentException ex) {
+			// expected
+		}
+	}
+
+
+	private HandlerMethodInvoker invoker(String name, Class<?>... parameterTypes) throws Exception {
+		Method method = Handler.class.getDeclaredMethod(name, parameterTypes);
+		return HandlerMethodInvoker.forHandlerMethod(new HandlerMethod(this.handler, method));
+	}
+
+
+	@SuppressWarnings("unused")
+	private static class Handler {
+
+		private int count;
+
+		public String handle(Integer intArg, String stringArg) {
+			return intArg + "-" + stringArg;
+		}
+
+		public void handle(int amount) {
+			this.count += amount;
+		}
+
+		public static String handleStatic(String value) {
+			return "static-" + value;
+		}
+
+		public void raise(RuntimeException ex) {
+			throw ex;
+		}
+	}
+
+}
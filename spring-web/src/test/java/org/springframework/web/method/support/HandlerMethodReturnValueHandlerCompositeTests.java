@@ -22,6 +22,8 @@ import org.junit.Test;
 import org.springframework.core.MethodParameter;
 
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -108,6 +110,24 @@ public class HandlerMethodReturnValueHandlerCompositeTests {
 		verifyNoMoreInteractions(responseBodyHandler);
 	}
 
+	@Test
+	public void getReturnValueHandlerFor() throws Exception {
+		assertSame(this.integerHandler, this.handlers.getReturnValueHandlerFor(this.integerType));
+		assertNull(this.handlers.getReturnValueHandlerFor(this.stringType));
+	}
+
+	@Test
+	public void getReturnValueHandlerForWithAsyncHandler() throws Exception {
+		MethodParameter promiseType = new MethodParameter(getClass().getDeclaredMethod("handlePromise"), -1);
+
+		AsyncHandlerMethodReturnValueHandler promiseHandler = mock(AsyncHandlerMethodReturnValueHandler.class);
+		when(promiseHandler.supportsReturnType(promiseType)).thenReturn(true);
+		this.handlers.addHandler(promiseHandler);
+
+		assertSame(promiseHandler, this.handlers.getReturnValueHandlerFor(promiseType));
+		assertNull("Depends on the return value", this.handlers.getReturnValueHandlerFor(this.integerType));
+	}
+
 	@Test(expected = IllegalArgumentException.class)
 	public void noSuitableReturnValueHandler() throws Exception {
 		this.handlers.handleReturnValue("value", this.stringType, null, null);
@@ -28,6 +28,7 @@ import org.springframework.mock.web.test.MockHttpServletResponse;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethodInvoker;
 
 import static org.hamcrest.Matchers.*;
 import static org.junit.Assert.*;
@@ -119,6 +120,37 @@ public class InvocableHandlerMethodTests {
 		assertEquals("2-value2", returnValue);
 	}
 
+	@Test
+	public void resolveArgWithBoundResolversAndMethodInvoker() throws Exception {
+		StubArgumentResolver intResolver = new StubArgumentResolver(Integer.class, 99);
+		StubArgumentResolver stringResolver = new StubArgumentResolver(String.class, "value");
+
+		handlerMethod.setBoundArgumentResolvers(
+				new HandlerMethodArgumentResolver[] {intResolver, stringResolver});
+		handlerMethod.setMethodInvoker(HandlerMethodInvoker.forHandlerMethod(handlerMethod));
+
+		Object returnValue = handlerMethod.invokeForRequest(webRequest, null);
+		assertEquals(1, intResolver.getResolvedParameters().size());
+		assertEquals(1, stringResolver.getResolvedParameters().size());
+		assertEquals("99-value", returnValue);
+	}
+
+	@Test
+	public void illegalArgumentExceptionWithMethodInvoker() throws Exception {
+		handlerMethod.setBoundArgumentResolvers(new HandlerMethodArgumentResolver[] {
+				new StubArgumentResolver(Integer.class, "__invalid__"), new StubArgumentResolver(String.class, "value")});
+		handlerMethod.setMethodInvoker(HandlerMethodInvoker.forHandlerMethod(handlerMethod));
+
+		try {
+			handlerMethod.invokeForRequest(webRequest, null);
+			fail("Expected exception");
+		}
+		catch (IllegalStateException ex) {
+			assertTrue(ex.getCause() instanceof IllegalArgumentException);
+			assertTrue(ex.getMessage().contains("[0] [type=java.lang.String] [value=__invalid__]"));
+		}
+	}
+
 	@Test
 	public void exceptionInResolvingArg() throws Exception {
 		HandlerMethodArgumentResolverComposite composite = new HandlerMethodArgumentResolverComposite();
@@ -16,6 +16,7 @@
 
 package org.springframework.web.util.pattern;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
@@ -28,6 +29,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import org.springframework.http.server.reactive.PathSegmentContainer;
 import org.springframework.util.AntPathMatcher;
 import org.springframework.web.util.pattern.ParsingPathMatcher;
 import org.springframework.web.util.pattern.PathPattern;
@@ -1288,6 +1290,28 @@ public class PathPatternMatcherTests {
 		assertTrue(p.matches("/group/Sales/members"));
 	}
 
+	@Test
+	public void parsedPathMatching() {
+		PathPattern pattern = parse("/{foo}/{bar}/{baz:[a-z ]+}");
+		PathSegmentContainer path = toPathContainer("/a%20b/c;x=y/d%20e");
+		assertTrue(pattern.matchesParsedPath(path));
+		Map<String, String> variables = pattern.matchAndExtractParsedPath(path);
+		assertEquals("a b", variables.get("foo"));
+		assertEquals("c;x=y", variables.get("bar"));
+		assertEquals("d e", variables.get("baz"));
+		assertEquals(variables, pattern.matchAndExtract(path.value()));
+
+		pattern = parse("/resources/{*path}");
+		path = toPathContainer("/resources/css/a%20b.css");
+		assertEquals("/css/a b.css", pattern.matchAndExtractParsedPath(path).get("path"));
+		assertFalse(pattern.matchesParsedPath(toPathContainer("/other/css")));
+
+		pattern = parse("/foo/{bar}");
+		PathPattern.PathRemainingMatchInfo info = pattern.getPathRemainingOfParsedPath(toPathContainer("/foo/b%20r/baz"));
+		assertEquals("/baz", info.getPathRemaining());
+		assertEquals("b r", info.getMatchingVariables().get("bar"));
+	}
+
 
 	private PathPattern parse(String path) {
 		PathPatternParser pp = new PathPatternParser();
@@ -1300,6 +1324,9 @@ public class PathPatternMatcherTests {
 		parser.setMatchOptionalTrailingSlash(true);
 		PathPattern p = parser.parse(uriTemplate);
 		assertTrue(p.matches(path));
+		if (path != null && this.separator == '/') {
+			assertTrue(p.matchesParsedPath(toPathContainer(path)));
+		}
 	}
 
 	private void checkStartNoMatch(String uriTemplate, String path) {
@@ -1320,12 +1347,16 @@ public class PathPatternMatcherTests {
 		PathPatternParser p = new PathPatternParser();
 		PathPattern pattern = p.parse(uriTemplate);
 		assertFalse(pattern.matches(path));
+		if (path != null) {
+			assertFalse(pattern.matchesParsedPath(toPathContainer(path)));
+		}
 	}
 
 	private Map<String, String> checkCapture(String uriTemplate, String path, String... keyValues) {
 		PathPatternParser parser = new PathPatternParser();
 		PathPattern pattern = parser.parse(uriTemplate);
 		Map<String, String> matchResults = pattern.matchAndExtract(path);
+		assertEquals(matchResults, pattern.matchAndExtractParsedPath(toPathContainer(path)));
 		Map<String, String> expectedKeyValues = new HashMap<>();
 		if (keyValues != null) {
 			for (int i = 0; i < keyValues.length; i += 2) {
@@ -1347,6 +1378,10 @@ public class PathPatternMatcherTests {
 		return capturedVariables;
 	}
 
+	private PathSegmentContainer toPathContainer(String path) {
+		return PathSegmentContainer.parse(path, StandardCharsets.UTF_8);
+	}
+
 	private void checkExtractPathWithinPattern(String pattern, String path, String expected) {
 		PathPatternParser ppp = new PathPatternParser();
 		PathPattern pp = ppp.parse(pattern);
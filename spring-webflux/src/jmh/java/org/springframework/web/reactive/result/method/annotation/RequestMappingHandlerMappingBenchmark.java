@@ -0,0 +1,136 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.reactive.result.method.annotation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.test.MockServerHttpRequest;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+/**
+ * Benchmarks for the lookup of handler methods in
+ * {@link RequestMappingHandlerMapping}.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.Throughput)
+public class RequestMappingHandlerMappingBenchmark {
+
+	@Benchmark
+	public void getHandler(MappingState state, Blackhole bh) {
+		bh.consume(state.handlerMapping.getHandler(
+				MockServerHttpRequest.get(state.path).accept(MediaType.APPLICATION_JSON).toExchange()).block());
+	}
+
+	@Benchmark
+	public void getHandlerForPost(MappingState state, Blackhole bh) {
+		bh.consume(state.handlerMapping.getHandler(MockServerHttpRequest.post("/projects/spring-framework/releases")
+				.contentType(MediaType.APPLICATION_JSON).toExchange()).block());
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class MappingState {
+
+		@Param({"/", "/guides/gs/rest-service", "/blog/2017/09/28/spring-framework-5-0-goes-ga", "/unknown"})
+		public String path;
+
+		public RequestMappingHandlerMapping handlerMapping;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			StaticApplicationContext context = new StaticApplicationContext();
+			context.registerSingleton("controller", BenchmarkController.class);
+			context.refresh();
+			this.handlerMapping = new RequestMappingHandlerMapping();
+			this.handlerMapping.setApplicationContext(context);
+			this.handlerMapping.afterPropertiesSet();
+		}
+	}
+
+
+	@Controller
+	@RequestMapping(produces = {"application/json", "text/html"})
+	static class BenchmarkController {
+
+		@GetMapping("/")
+		public void home() {
+		}
+
+		@GetMapping("/learn")
+		public void learn() {
+		}
+
+		@GetMapping("/guides")
+		public void guides() {
+		}
+
+		@GetMapping("/guides/gs/{name}")
+		public void gettingStartedGuide() {
+		}
+
+		@GetMapping("/guides/tutorials/{name}")
+		public void tutorial() {
+		}
+
+		@GetMapping("/projects")
+		public void projects() {
+		}
+
+		@GetMapping("/projects/{project}")
+		public void project() {
+		}
+
+		@PostMapping(path = "/projects/{project}/releases", consumes = "application/json")
+		public void createRelease() {
+		}
+
+		@GetMapping("/blog")
+		public void blog() {
+		}
+
+		@GetMapping("/blog/category/{category}")
+		public void blogCategory() {
+		}
+
+		@GetMapping("/blog/{year}/{month}/{day}/{slug}")
+		public void blogPost() {
+		}
+
+		@GetMapping("/team/{username}")
+		public void teamMember() {
+		}
+
+		@GetMapping("/resources/**")
+		public void resources() {
+		}
+	}
+
+}
@@ -303,7 +303,7 @@ public abstract class RequestPredicates {
 	}
 
 
-	private static class HttpMethodPredicate implements RequestPredicate {
+	static class HttpMethodPredicate implements RequestPredicate {
 
 		private final HttpMethod httpMethod;
 
@@ -312,6 +312,10 @@ public abstract class RequestPredicates {
 			this.httpMethod = httpMethod;
 		}
 
+		public HttpMethod getHttpMethod() {
+			return this.httpMethod;
+		}
+
 		@Override
 		public boolean test(ServerRequest request) {
 			boolean match = this.httpMethod == request.method();
@@ -326,7 +330,7 @@ public abstract class RequestPredicates {
 	}
 
 
-	private static class PathPatternPredicate implements RequestPredicate {
+	static class PathPatternPredicate implements RequestPredicate {
 
 		private final PathPattern pattern;
 
@@ -335,6 +339,10 @@ public abstract class RequestPredicates {
 			this.pattern = pattern;
 		}
 
+		public PathPattern getPattern() {
+			return this.pattern;
+		}
+
 		@Override
 		public boolean test(ServerRequest request) {
 			String path = request.path();
@@ -379,7 +387,7 @@ public abstract class RequestPredicates {
 	}
 
 
-	private static class HeadersPredicate implements RequestPredicate {
+	static class HeadersPredicate implements RequestPredicate {
 
 		private final Predicate<ServerRequest.Headers> headersPredicate;
 
@@ -410,6 +418,14 @@ public abstract class RequestPredicates {
 			this.right = right;
 		}
 
+		public RequestPredicate getLeft() {
+			return this.left;
+		}
+
+		public RequestPredicate getRight() {
+			return this.right;
+		}
+
 		@Override
 		public boolean test(ServerRequest t) {
 			return this.left.test(t) && this.right.test(t);
@@ -436,6 +452,15 @@ public abstract class RequestPredicates {
 			this.left = left;
 			this.right = right;
 		}
+
+		public RequestPredicate getLeft() {
+			return this.left;
+		}
+
+		public RequestPredicate getRight() {
+			return this.right;
+		}
+
 		@Override
 		public boolean test(ServerRequest t) {
 			return this.left.test(t) || this.right.test(t);
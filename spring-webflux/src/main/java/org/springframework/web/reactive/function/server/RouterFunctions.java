@@ -16,8 +16,16 @@
 
 package org.springframework.web.reactive.function.server;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -26,13 +34,16 @@ import org.apache.commons.logging.LogFactory;
 import reactor.core.publisher.Mono;
 
 import org.springframework.core.io.Resource;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.codec.HttpMessageWriter;
 import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.web.reactive.result.view.ViewResolver;
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebHandler;
 import org.springframework.web.server.adapter.WebHttpHandlerBuilder;
+import org.springframework.web.util.pattern.PathPattern;
 
 /**
  * <strong>Central entry point to Spring's functional web framework.</strong>
@@ -44,7 +55,8 @@ import org.springframework.web.server.adapter.WebHttpHandlerBuilder;
  *
  * <p>Additionally, this class can {@linkplain #toHttpHandler(RouterFunction) transform} a
  * {@code RouterFunction} into an {@code HttpHandler}, which can be run in Servlet 3.1+,
- * Reactor, or Undertow.
+ * Reactor, or Undertow, and {@linkplain #compile(RouterFunction) compile} a
+ * {@code RouterFunction} with many routes into one that dispatches through an index.
  *
  * @author Arjen Poutsma
  * @since 5.0
@@ -153,6 +165,83 @@ public abstract class RouterFunctions {
 		return request -> lookupFunction.apply(request).map(ResourceHandlerFunction::new);
 	}
 
+	/**
+	 * Compile the given router function into one that only evaluates the routes
+	 * that may apply to a request, instead of testing every route in turn.
+	 * <p>Routes composed through {@link RouterFunction#and(RouterFunction) and},
+	 * {@link RouterFunction#andRoute(RequestPredicate, HandlerFunction) andRoute},
+	 * {@link RouterFunction#andNest(RequestPredicate, RouterFunction) andNest} and
+	 * {@link RouterFunction#andOther(RouterFunction) andOther} are flattened and
+	 * indexed by the HTTP method and the literal leading path segments of their
+	 * request predicate, as far as those can be determined from the predicates
+	 * created by {@link RequestPredicates}. For each request, the routes that may
+	 * match are then evaluated in declaration order, so the resulting handler
+	 * function is the same as for the original router function; predicates of
+	 * routes that cannot match are simply not evaluated. Nested and filtered
+	 * router functions are compiled recursively, while any other router function
+	 * is evaluated for every request, at its position in the declaration order.
+	 * <p>For instance:
+	 * <pre class="code">
+	 * RouterFunction&lt;ServerResponse&gt; route = RouterFunctions.compile(
+	 *     RouterFunctions.route(RequestPredicates.GET("/user/{id}"), userController::getUser)
+	 *         .andRoute(RequestPredicates.GET("/user"), userController::listUsers)
+	 *         .andRoute(RequestPredicates.POST("/user"), userController::createUser));
+	 * </pre>
+	 * @param routerFunction the router function to compile
+	 * @param <T> the type of response returned by the handler functions
+	 * @return a router function that routes like {@code routerFunction}
+	 */
+	public static <T extends ServerResponse> RouterFunction<T> compile(RouterFunction<T> routerFunction) {
+		Assert.notNull(routerFunction, "'routerFunction' must not be null");
+		if (routerFunction instanceof CompiledRouterFunction) {
+			return routerFunction;
+		}
+		else if (routerFunction instanceof FilteredRouterFunction) {
+			return compileFiltered((FilteredRouterFunction<?, T>) routerFunction);
+		}
+		return new CompiledRouterFunction<>(flatten(routerFunction));
+	}
+
+	private static <T extends ServerResponse, S extends ServerResponse> RouterFunction<S> compileFiltered(
+			FilteredRouterFunction<T, S> filteredFunction) {
+
+		return new FilteredRouterFunction<>(compile(filteredFunction.routerFunction), filteredFunction.filterFunction);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T extends ServerResponse> List<RouterFunction<T>> flatten(RouterFunction<T> routerFunction) {
+		List<RouterFunction<T>> result = new ArrayList<>();
+		Deque<RouterFunction<?>> stack = new ArrayDeque<>();
+		stack.push(routerFunction);
+		while (!stack.isEmpty()) {
+			RouterFunction<?> current = stack.pop();
+			if (current instanceof SameComposedRouterFunction) {
+				SameComposedRouterFunction<?> composed = (SameComposedRouterFunction<?>) current;
+				stack.push(composed.second);
+				stack.push(composed.first);
+			}
+			else if (current instanceof DifferentComposedRouterFunction) {
+				DifferentComposedRouterFunction composed = (DifferentComposedRouterFunction) current;
+				stack.push(composed.second);
+				stack.push(composed.first);
+			}
+			else if (current instanceof CompiledRouterFunction) {
+				result.addAll(((CompiledRouterFunction<T>) current).routerFunctions);
+			}
+			else if (current instanceof DefaultNestedRouterFunction) {
+				DefaultNestedRouterFunction<T> nested = (DefaultNestedRouterFunction<T>) current;
+				result.add(new DefaultNestedRouterFunction<>(nested.predicate, compile(nested.routerFunction)));
+			}
+			else if (current instanceof FilteredRouterFunction) {
+				result.add(compile((RouterFunction<T>) current));
+			}
+			else {
+				result.add((RouterFunction<T>) current);
+			}
+		}
+		return result;
+	}
+
 	/**
 	 * Convert the given {@linkplain RouterFunction router function} into a {@link HttpHandler}.
 	 * This conversion uses {@linkplain HandlerStrategies#builder() default strategies}.
@@ -264,15 +353,20 @@ public abstract class RouterFunctions {
 
 		@Override
 		public Mono<HandlerFunction<T>> route(ServerRequest request) {
+			return Mono.justOrEmpty(match(request));
+		}
+
+		@Nullable
+		public HandlerFunction<T> match(ServerRequest request) {
 			if (this.predicate.test(request)) {
 				if (logger.isDebugEnabled()) {
 					logger.debug(String.format("Predicate \"%s\" matches against \"%s\"",
 							this.predicate, request));
 				}
-				return Mono.just(this.handlerFunction);
+				return this.handlerFunction;
 			}
 			else {
-				return Mono.empty();
+				return null;
 			}
 		}
 
@@ -318,6 +412,316 @@ public abstract class RouterFunctions {
 
 	}
 
+	static final class SameComposedRouterFunction<T extends ServerResponse> implements RouterFunction<T> {
+
+		private final RouterFunction<T> first;
+
+		private final RouterFunction<T> second;
+
+		public SameComposedRouterFunction(RouterFunction<T> first, RouterFunction<T> second) {
+			this.first = first;
+			this.second = second;
+		}
+
+		@Override
+		public Mono<HandlerFunction<T>> route(ServerRequest request) {
+			return this.first.route(request)
+					.switchIfEmpty(Mono.defer(() -> this.second.route(request)));
+		}
+	}
+
+	static final class DifferentComposedRouterFunction implements RouterFunction<ServerResponse> {
+
+		private final RouterFunction<?> first;
+
+		private final RouterFunction<?> second;
+
+		public DifferentComposedRouterFunction(RouterFunction<?> first, RouterFunction<?> second) {
+			this.first = first;
+			this.second = second;
+		}
+
+		@Override
+		public Mono<HandlerFunction<ServerResponse>> route(ServerRequest request) {
+			return this.first.route(request)
+					.map(RouterFunctions::<ServerResponse>cast)
+					.switchIfEmpty(Mono.defer(() -> this.second.route(request).map(RouterFunctions::cast)));
+		}
+	}
+
+	static final class FilteredRouterFunction<T extends ServerResponse, S extends ServerResponse>
+			implements RouterFunction<S> {
+
+		private final RouterFunction<T> routerFunction;
+
+		private final HandlerFilterFunction<T, S> filterFunction;
+
+		public FilteredRouterFunction(RouterFunction<T> routerFunction,
+				HandlerFilterFunction<T, S> filterFunction) {
+			this.routerFunction = routerFunction;
+			this.filterFunction = filterFunction;
+		}
+
+		@Override
+		public Mono<HandlerFunction<S>> route(ServerRequest request) {
+			return this.routerFunction.route(request).map(this.filterFunction::apply);
+		}
+	}
+
+
+	/**
+	 * A router function that dispatches to a flattened list of router functions
+	 * through prefix trees, one per HTTP method, of the literal leading path
+	 * segments of their predicates. Each tree node holds, in declaration order,
+	 * the router functions that may match a request path reaching that node,
+	 * including those of its ancestors.
+	 * <p>Path segments are lower-cased, which may yield extra candidates for
+	 * case-sensitive patterns but never excludes a potential match.
+	 */
+	private static class CompiledRouterFunction<T extends ServerResponse> implements RouterFunction<T> {
+
+		private static final RouteKey UNKNOWN_KEY = new RouteKey(null, Collections.emptyList());
+
+		private final List<RouterFunction<T>> routerFunctions;
+
+		private final Map<HttpMethod, RouteNode<T>> methodIndex = new EnumMap<>(HttpMethod.class);
+
+		private final RouteNode<T> index;
+
+		public CompiledRouterFunction(List<RouterFunction<T>> routerFunctions) {
+			this.routerFunctions = routerFunctions;
+			List<RouteKey> keys = new ArrayList<>(routerFunctions.size());
+			for (RouterFunction<T> routerFunction : routerFunctions) {
+				keys.add(getRouteKey(routerFunction));
+			}
+			for (HttpMethod method : HttpMethod.values()) {
+				this.methodIndex.put(method, buildIndex(method, keys));
+			}
+			this.index = buildIndex(null, keys);
+		}
+
+		private RouteNode<T> buildIndex(@Nullable HttpMethod method, List<RouteKey> keys) {
+			RouteNode<T> root = new RouteNode<>();
+			for (int i = 0; i < keys.size(); i++) {
+				RouteKey key = keys.get(i);
+				if (key.methods == null || (method != null && key.methods.contains(method))) {
+					RouteNode<T> node = root;
+					for (String segment : key.pathPrefix) {
+						node = node.children.computeIfAbsent(segment, s -> new RouteNode<>());
+					}
+					node.positions.add(i);
+				}
+			}
+			root.initCandidates(Collections.emptyList(), this.routerFunctions);
+			return root;
+		}
+
+		@Override
+		public Mono<HandlerFunction<T>> route(ServerRequest request) {
+			HttpMethod method = request.method();
+			RouteNode<T> node = (method != null ? this.methodIndex.get(method) : this.index);
+			String path = request.path();
+			int start = 0;
+			while (start < path.length() && !node.children.isEmpty()) {
+				int end = path.indexOf('/', start);
+				if (end == -1) {
+					end = path.length();
+				}
+				if (end > start) {
+					RouteNode<T> child = node.children.get(toLowerCase(path.substring(start, end)));
+					if (child == null) {
+						break;
+					}
+					node = child;
+				}
+				start = end + 1;
+			}
+			return route(request, node.candidates, 0);
+		}
+
+		@SuppressWarnings("unchecked")
+		private Mono<HandlerFunction<T>> route(ServerRequest request, List<RouterFunction<T>> candidates, int start) {
+			for (int i = start; i < candidates.size(); i++) {
+				RouterFunction<T> candidate = candidates.get(i);
+				if (candidate instanceof DefaultRouterFunction) {
+					HandlerFunction<T> handlerFunction = ((DefaultRouterFunction<T>) candidate).match(request);
+					if (handlerFunction != null) {
+						return Mono.just(handlerFunction);
+					}
+				}
+				else {
+					int next = i + 1;
+					return candidate.route(request)
+							.switchIfEmpty(Mono.defer(() -> route(request, candidates, next)));
+				}
+			}
+			return Mono.empty();
+		}
+
+		private static RouteKey getRouteKey(RouterFunction<?> routerFunction) {
+			if (routerFunction instanceof DefaultRouterFunction) {
+				return getRouteKey(((DefaultRouterFunction<?>) routerFunction).predicate, false);
+			}
+			else if (routerFunction instanceof DefaultNestedRouterFunction) {
+				return getRouteKey(((DefaultNestedRouterFunction<?>) routerFunction).predicate, true);
+			}
+			return UNKNOWN_KEY;
+		}
+
+		/**
+		 * Determine the HTTP methods and literal path prefix a request must have
+		 * in order to match the given predicate. When nesting, the right-hand side
+		 * of an "and" predicate is applied to the request nested by the left-hand
+		 * side, so its path prefix only applies if the left-hand side is known
+		 * not to change the request.
+		 */
+		private static RouteKey getRouteKey(RequestPredicate predicate, boolean nest) {
+			if (predicate instanceof RequestPredicates.HttpMethodPredicate) {
+				HttpMethod method = ((RequestPredicates.HttpMethodPredicate) predicate).getHttpMethod();
+				return new RouteKey(EnumSet.of(method), Collections.emptyList());
+			}
+			else if (predicate instanceof RequestPredicates.PathPatternPredicate) {
+				PathPattern pattern = ((RequestPredicates.PathPatternPredicate) predicate).getPattern();
+				return new RouteKey(null, getLiteralPrefix(pattern));
+			}
+			else if (predicate instanceof RequestPredicates.AndRequestPredicate) {
+				RequestPredicates.AndRequestPredicate and = (RequestPredicates.AndRequestPredicate) predicate;
+				RouteKey left = getRouteKey(and.getLeft(), nest);
+				if (nest && !isNestNeutral(and.getLeft())) {
+					return left;
+				}
+				RouteKey right = getRouteKey(and.getRight(), nest);
+				Set<HttpMethod> methods = left.methods;
+				if (methods == null) {
+					methods = right.methods;
+				}
+				else if (right.methods != null) {
+					methods = EnumSet.copyOf(methods);
+					methods.retainAll(right.methods);
+				}
+				return new RouteKey(methods, (left.pathPrefix.size() >= right.pathPrefix.size() ?
+						left.pathPrefix : right.pathPrefix));
+			}
+			else if (predicate instanceof RequestPredicates.OrRequestPredicate) {
+				RequestPredicates.OrRequestPredicate or = (RequestPredicates.OrRequestPredicate) predicate;
+				RouteKey left = getRouteKey(or.getLeft(), nest);
+				RouteKey right = getRouteKey(or.getRight(), nest);
+				Set<HttpMethod> methods = null;
+				if (left.methods != null && right.methods != null) {
+					methods = EnumSet.copyOf(left.methods);
+					methods.addAll(right.methods);
+				}
+				int length = 0;
+				while (length < left.pathPrefix.size() && length < right.pathPrefix.size() &&
+						left.pathPrefix.get(length).equals(right.pathPrefix.get(length))) {
+					length++;
+				}
+				return new RouteKey(methods, left.pathPrefix.subList(0, length));
+			}
+			return UNKNOWN_KEY;
+		}
+
+		private static boolean isNestNeutral(RequestPredicate predicate) {
+			if (predicate instanceof RequestPredicates.AndRequestPredicate) {
+				RequestPredicates.AndRequestPredicate and = (RequestPredicates.AndRequestPredicate) predicate;
+				return (isNestNeutral(and.getLeft()) && isNestNeutral(and.getRight()));
+			}
+			else if (predicate instanceof RequestPredicates.OrRequestPredicate) {
+				RequestPredicates.OrRequestPredicate or = (RequestPredicates.OrRequestPredicate) predicate;
+				return (isNestNeutral(or.getLeft()) && isNestNeutral(or.getRight()));
+			}
+			return (predicate instanceof RequestPredicates.HttpMethodPredicate ||
+					predicate instanceof RequestPredicates.HeadersPredicate);
+		}
+
+		/**
+		 * Return the segments of the given pattern before the first one with a
+		 * wildcard, URI variable or encoded character. The last segment of a fully
+		 * literal pattern is only included if the pattern is known to use "/" as
+		 * separator, i.e. if it matches with a trailing slash.
+		 */
+		private static List<String> getLiteralPrefix(PathPattern pattern) {
+			String patternString = pattern.getPatternString();
+			int end = patternString.length();
+			for (int i = 0; i < patternString.length(); i++) {
+				char c = patternString.charAt(i);
+				if (c == '*' || c == '?' || c == '{' || c == '%') {
+					end = i;
+					break;
+				}
+			}
+			if (end < patternString.length() || !pattern.matches(patternString + "/")) {
+				end = Math.max(patternString.lastIndexOf('/', end - 1), 0);
+			}
+			List<String> segments = new ArrayList<>();
+			int start = 0;
+			while (start < end) {
+				int index = patternString.indexOf('/', start);
+				if (index == -1 || index > end) {
+					index = end;
+				}
+				if (index > start) {
+					segments.add(toLowerCase(patternString.substring(start, index)));
+				}
+				start = index + 1;
+			}
+			return segments;
+		}
+
+		private static String toLowerCase(String segment) {
+			char[] chars = segment.toCharArray();
+			for (int i = 0; i < chars.length; i++) {
+				chars[i] = Character.toLowerCase(chars[i]);
+			}
+			return new String(chars);
+		}
+
+
+		private static class RouteKey {
+
+			private final Set<HttpMethod> methods;
+
+			private final List<String> pathPrefix;
+
+			public RouteKey(@Nullable Set<HttpMethod> methods, List<String> pathPrefix) {
+				this.methods = methods;
+				this.pathPrefix = pathPrefix;
+			}
+		}
+
+
+		private static class RouteNode<T extends ServerResponse> {
+
+			private final Map<String, RouteNode<T>> children = new HashMap<>();
+
+			private final List<Integer> positions = new ArrayList<>(1);
+
+			private List<RouterFunction<T>> candidates = Collections.emptyList();
+
+			public void initCandidates(List<Integer> parentPositions, List<RouterFunction<T>> routerFunctions) {
+				List<Integer> merged = new ArrayList<>(parentPositions.size() + this.positions.size());
+				int i = 0;
+				int j = 0;
+				while (i < parentPositions.size() || j < this.positions.size()) {
+					if (j == this.positions.size() ||
+							(i < parentPositions.size() && parentPositions.get(i) < this.positions.get(j))) {
+						merged.add(parentPositions.get(i++));
+					}
+					else {
+						merged.add(this.positions.get(j++));
+					}
+				}
+				List<RouterFunction<T>> candidates = new ArrayList<>(merged.size());
+				for (Integer position : merged) {
+					candidates.add(routerFunctions.get(position));
+				}
+				this.candidates = candidates;
+				this.children.values().forEach(child -> child.initCandidates(merged, routerFunctions));
+			}
+		}
+	}
+
+
 	private static class HandlerStrategiesResponseContext implements ServerResponse.Context {
 
 		private final HandlerStrategies strategies;
@@ -22,6 +22,7 @@ import java.util.Optional;
 import reactor.core.publisher.Mono;
 
 import org.springframework.beans.BeansException;
+import org.springframework.http.server.reactive.PathSegmentContainer;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.web.server.ServerWebExchange;
@@ -82,7 +83,7 @@ public abstract class AbstractUrlHandlerMapping extends AbstractHandlerMapping {
 
 	@Override
 	public Mono<Object> getHandlerInternal(ServerWebExchange exchange) {
-		String lookupPath = exchange.getRequest().getPath().pathWithinApplication().value();
+		PathSegmentContainer lookupPath = exchange.getRequest().getPath().pathWithinApplication();
 		Object handler;
 		try {
 			handler = lookupHandler(lookupPath, exchange);
@@ -92,10 +93,10 @@ public abstract class AbstractUrlHandlerMapping extends AbstractHandlerMapping {
 		}
 
 		if (handler != null && logger.isDebugEnabled()) {
-			logger.debug("Mapping [" + lookupPath + "] to " + handler);
+			logger.debug("Mapping [" + lookupPath.value() + "] to " + handler);
 		}
 		else if (handler == null && logger.isTraceEnabled()) {
-			logger.trace("No handler mapping found for [" + lookupPath + "]");
+			logger.trace("No handler mapping found for [" + lookupPath.value() + "]");
 		}
 
 		return Mono.justOrEmpty(handler);
@@ -108,20 +109,20 @@ public abstract class AbstractUrlHandlerMapping extends AbstractHandlerMapping {
 	 * and various path pattern matches, e.g. a registered "/t*" matches
 	 * both "/test" and "/team". For details, see the PathPattern class.
 	 *
-	 * @param lookupPath URL the handler is mapped to
+	 * @param lookupPath the parsed URL path the handler is mapped to
 	 * @param exchange the current exchange
 	 * @return the associated handler instance, or {@code null} if not found
 	 * @see org.springframework.web.util.pattern.PathPattern
 	 */
 	@Nullable
-	protected Object lookupHandler(String lookupPath, ServerWebExchange exchange) throws Exception {
-		Optional<PathMatchResult<Object>> matches = this.patternRegistry.findFirstMatch(lookupPath);
+	protected Object lookupHandler(PathSegmentContainer lookupPath, ServerWebExchange exchange) throws Exception {
+		Optional<PathMatchResult<Object>> matches = this.patternRegistry.findFirstMatchForParsedPath(lookupPath);
 		if (matches.isPresent()) {
 			if (logger.isDebugEnabled()) {
-				logger.debug("Matching patterns for request [" + lookupPath + "] are " + matches);
+				logger.debug("Matching patterns for request [" + lookupPath.value() + "] are " + matches);
 			}
 			PathMatchResult<Object> bestMatch = matches.get();
-			String pathWithinMapping = bestMatch.getPattern().extractPathWithinPattern(lookupPath);
+			String pathWithinMapping = bestMatch.getPattern().extractPathWithinPattern(lookupPath.value());
 			Object handler = bestMatch.getHandler();
 			if (handler == null) {
 				throw new IllegalStateException(
@@ -23,8 +23,10 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import org.springframework.http.server.reactive.PathSegmentContainer;
 import org.springframework.lang.Nullable;
 import org.springframework.util.StringUtils;
 import org.springframework.web.util.pattern.PathPattern;
@@ -101,9 +103,23 @@ public class PathPatternRegistry<T> {
 	 * @param lookupPath the URL lookup path to be matched against
 	 */
 	public Optional<PathMatchResult<T>> findFirstMatch(String lookupPath) {
+		return findFirstMatch(lookupPath, pattern -> pattern.matches(lookupPath));
+	}
+
+	/**
+	 * Variant of {@link #findFirstMatch(String)} for a lookup path that has
+	 * already been parsed into path segments, e.g. the path of the request.
+	 * @param lookupPath the parsed URL lookup path to be matched against
+	 * @see PathPattern#matchesParsedPath(PathSegmentContainer)
+	 */
+	public Optional<PathMatchResult<T>> findFirstMatchForParsedPath(PathSegmentContainer lookupPath) {
+		return findFirstMatch(lookupPath.value(), pattern -> pattern.matchesParsedPath(lookupPath));
+	}
+
+	private Optional<PathMatchResult<T>> findFirstMatch(String lookupPath, Predicate<PathPattern> matcher) {
 		PathPatternComparator comparator = new PathPatternComparator(lookupPath);
 		return this.patternsMap.entrySet().stream()
-				.filter(entry -> entry.getKey().matches(lookupPath))
+				.filter(entry -> matcher.test(entry.getKey()))
 				.reduce((e1, e2) -> comparator.compare(e1.getKey(), e2.getKey()) < 0 ? e1 : e2)
 				.map(entry -> new PathMatchResult<>(entry.getKey(), entry.getValue()));
 	}
@@ -0,0 +1,476 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.reactive.resource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.FileCopyUtils;
+import org.springframework.web.server.ServerWebExchange;
+
+/**
+ * A {@code ResourceResolver} that keeps the content of resolved resources in
+ * memory, along with a gzip-compressed variant and an {@code ETag} computed
+ * from the content, so that subsequent requests for the same path are served
+ * without resolving or reading the resource again.
+ *
+ * <p>The gzip variant is computed once when the resource is cached, and kept
+ * only if it is smaller than the original content. A Brotli variant is kept
+ * if a pre-compressed resource with the ".br" extension exists next to the
+ * original resource. The variant to serve is selected based on the
+ * "Accept-Encoding" request header.
+ *
+ * <p>The total size of the cached content, including all variants, is bounded
+ * by the configured maximum cache size; the resources cached first are evicted
+ * first to make room for new ones. Cached content is never refreshed, so this
+ * resolver is intended for resources that do not change while the application
+ * is running. It is expected to be configured first in the resolver chain and
+ * replaces the {@link GzipResourceResolver}. Resources resolved with a
+ * "Content-Encoding" already applied are not cached.
+ *
+ * <p>Content is read, and the gzip variant computed, on a
+ * {@link #setBlockingOperationScheduler separate scheduler} the first time a
+ * resource is resolved. Note that, as for the {@link GzipResourceResolver},
+ * transformers that rewrite the content such as the
+ * {@link CssLinkResourceTransformer} skip the gzip and Brotli variants.
+ *
+ * @author agent
+ * @since 5.0
+ * @see ResourceWebHandler
+ */
+public class ContentCachingResourceResolver extends AbstractResourceResolver {
+
+	/** Default maximum size of the cache: 10 MB */
+	public static final long DEFAULT_MAX_CACHE_SIZE = 10 * 1024 * 1024;
+
+	/** Default maximum size of a single cached resource: 1 MB */
+	public static final long DEFAULT_MAX_RESOURCE_SIZE = 1024 * 1024;
+
+
+	private final long maxCacheSize;
+
+	private long maxResourceSize = DEFAULT_MAX_RESOURCE_SIZE;
+
+	private boolean compress = true;
+
+	private Scheduler blockingOperationScheduler = Schedulers.elastic();
+
+	private final Map<String, CachedContent> cache = new ConcurrentHashMap<>(64);
+
+	private final Queue<String> cacheKeys = new ConcurrentLinkedQueue<>();
+
+	private final AtomicLong cacheSize = new AtomicLong();
+
+
+	/**
+	 * Create a resolver with the {@link #DEFAULT_MAX_CACHE_SIZE default}
+	 * maximum cache size.
+	 */
+	public ContentCachingResourceResolver() {
+		this(DEFAULT_MAX_CACHE_SIZE);
+	}
+
+	/**
+	 * Create a resolver with the given maximum cache size.
+	 * @param maxCacheSize the maximum number of bytes to keep in memory
+	 */
+	public ContentCachingResourceResolver(long maxCacheSize) {
+		Assert.isTrue(maxCacheSize > 0, "Max cache size must be greater than 0");
+		this.maxCacheSize = maxCacheSize;
+	}
+
+
+	/**
+	 * Return the maximum number of bytes to keep in memory.
+	 */
+	public long getMaxCacheSize() {
+		return this.maxCacheSize;
+	}
+
+	/**
+	 * Set the maximum size of a resource, in bytes, for its content to be
+	 * cached. Larger resources are passed through without being cached.
+	 * <p>By default this is set to {@link #DEFAULT_MAX_RESOURCE_SIZE}.
+	 */
+	public void setMaxResourceSize(long maxResourceSize) {
+		this.maxResourceSize = maxResourceSize;
+	}
+
+	/**
+	 * Return the configured maximum size of a cached resource.
+	 */
+	public long getMaxResourceSize() {
+		return this.maxResourceSize;
+	}
+
+	/**
+	 * Whether to compute and cache a gzip-compressed variant of resources.
+	 * <p>By default this is set to {@code true}.
+	 */
+	public void setCompress(boolean compress) {
+		this.compress = compress;
+	}
+
+	/**
+	 * Whether a gzip-compressed variant of resources is computed.
+	 */
+	public boolean isCompress() {
+		return this.compress;
+	}
+
+	/**
+	 * Set the scheduler used for reading and compressing the content of
+	 * resources that are not cached yet, which are blocking operations.
+	 * <p>By default, {@link Schedulers#elastic()} is used.
+	 * @param blockingOperationScheduler the scheduler for reading content
+	 */
+	public void setBlockingOperationScheduler(Scheduler blockingOperationScheduler) {
+		Assert.notNull(blockingOperationScheduler, "Scheduler must not be null");
+		this.blockingOperationScheduler = blockingOperationScheduler;
+	}
+
+	/**
+	 * Return the number of bytes currently kept in memory.
+	 */
+	public long getCacheSize() {
+		return this.cacheSize.get();
+	}
+
+	/**
+	 * Remove all cached content.
+	 */
+	public void clearCache() {
+		String key;
+		while ((key = this.cacheKeys.poll()) != null) {
+			evict(key);
+		}
+	}
+
+
+	@Override
+	protected Mono<Resource> resolveResourceInternal(@Nullable ServerWebExchange exchange,
+			String requestPath, List<? extends Resource> locations, ResourceResolverChain chain) {
+
+		CachedContent content = this.cache.get(requestPath);
+		if (content != null) {
+			if (logger.isTraceEnabled()) {
+				logger.trace("Found cached content for \"" + requestPath + "\"");
+			}
+			return Mono.just(content.getResource(exchange));
+		}
+
+		return chain.resolveResource(exchange, requestPath, locations)
+				.flatMap(resource -> Mono.fromCallable(() -> {
+					CachedContent cached = cacheContent(requestPath, resource);
+					return (cached != null ? cached.getResource(exchange) : resource);
+				}).subscribeOn(this.blockingOperationScheduler));
+	}
+
+	@Override
+	protected Mono<String> resolveUrlPathInternal(String resourceUrlPath,
+			List<? extends Resource> locations, ResourceResolverChain chain) {
+
+		return chain.resolveUrlPath(resourceUrlPath, locations);
+	}
+
+	@Nullable
+	private CachedContent cacheContent(String key, Resource resource) {
+		if (resource instanceof HttpResource &&
+				((HttpResource) resource).getResponseHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)) {
+			return null;
+		}
+		CachedContent content;
+		try {
+			if (resource.contentLength() > this.maxResourceSize) {
+				return null;
+			}
+			content = new CachedContent(resource, this.compress);
+		}
+		catch (IOException ex) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Failed to cache content of " + resource, ex);
+			}
+			return null;
+		}
+		if (content.getSize() > this.maxCacheSize) {
+			return null;
+		}
+		if (this.cache.putIfAbsent(key, content) != null) {
+			return this.cache.get(key);
+		}
+		this.cacheKeys.add(key);
+		long size = this.cacheSize.addAndGet(content.getSize());
+		while (size > this.maxCacheSize) {
+			String eldestKey = this.cacheKeys.poll();
+			if (eldestKey == null) {
+				break;
+			}
+			evict(eldestKey);
+			size = this.cacheSize.get();
+		}
+		if (logger.isTraceEnabled()) {
+			logger.trace("Cached content for \"" + key + "\": " + content.getSize() + " bytes");
+		}
+		return content;
+	}
+
+	private void evict(String key) {
+		CachedContent evicted = this.cache.remove(key);
+		if (evicted != null) {
+			this.cacheSize.addAndGet(-evicted.getSize());
+		}
+	}
+
+
+	/**
+	 * The content of a resource with its encoded variants.
+	 */
+	private static final class CachedContent {
+
+		private final Resource original;
+
+		private final long lastModified;
+
+		private final ContentVariant identity;
+
+		private final ContentVariant gzip;
+
+		private final ContentVariant brotli;
+
+		public CachedContent(Resource original, boolean compress) throws IOException {
+			this.original = original;
+			this.lastModified = original.lastModified();
+			byte[] content = FileCopyUtils.copyToByteArray(original.getInputStream());
+			this.identity = new ContentVariant(content, null);
+			this.gzip = (compress ? compress(content) : null);
+			this.brotli = loadEncoded(original, ".br", "br");
+		}
+
+		@Nullable
+		private static ContentVariant compress(byte[] content) throws IOException {
+			ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 2 + 32);
+			try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+				gzip.write(content);
+			}
+			return (out.size() < content.length ? new ContentVariant(out.toByteArray(), "gzip") : null);
+		}
+
+		@Nullable
+		private static ContentVariant loadEncoded(Resource original, String extension, String encoding) {
+			try {
+				Resource encoded = original.createRelative(original.getFilename() + extension);
+				if (encoded.exists()) {
+					return new ContentVariant(FileCopyUtils.copyToByteArray(encoded.getInputStream()), encoding);
+				}
+			}
+			catch (IOException ex) {
+				// no encoded variant
+			}
+			return null;
+		}
+
+		public long getSize() {
+			return this.identity.getLength() +
+					(this.gzip != null ? this.gzip.getLength() : 0) +
+					(this.brotli != null ? this.brotli.getLength() : 0);
+		}
+
+		public Resource getResource(@Nullable ServerWebExchange exchange) {
+			ContentVariant variant = this.identity;
+			boolean encoded = (this.gzip != null || this.brotli != null);
+			if (exchange != null && encoded) {
+				String accepted = exchange.getRequest().getHeaders().getFirst(HttpHeaders.ACCEPT_ENCODING);
+				if (accepted != null) {
+					accepted = accepted.toLowerCase();
+					if (this.brotli != null && accepted.contains("br")) {
+						variant = this.brotli;
+					}
+					else if (this.gzip != null && accepted.contains("gzip")) {
+						variant = this.gzip;
+					}
+				}
+			}
+			return new CachedResource(this.original, this.lastModified, variant, encoded);
+		}
+	}
+
+
+	/**
+	 * A variant of the content with the {@code ETag} computed from it.
+	 */
+	private static final class ContentVariant {
+
+		private final ByteBuffer content;
+
+		private final String encoding;
+
+		private final String eTag;
+
+		public ContentVariant(byte[] content, @Nullable String encoding) {
+			ByteBuffer buffer = ByteBuffer.allocateDirect(content.length);
+			buffer.put(content).flip();
+			this.content = buffer.asReadOnlyBuffer();
+			this.encoding = encoding;
+			this.eTag = "\"" + DigestUtils.md5DigestAsHex(content) + "\"";
+		}
+
+		public ByteBuffer getContent() {
+			return this.content.duplicate();
+		}
+
+		@Nullable
+		public String getEncoding() {
+			return this.encoding;
+		}
+
+		public String getETag() {
+			return this.eTag;
+		}
+
+		public int getLength() {
+			return this.content.capacity();
+		}
+	}
+
+
+	/**
+	 * A {@code Resource} that exposes cached content, served directly from
+	 * memory by the {@link ResourceWebHandler}.
+	 */
+	static final class CachedResource extends AbstractResource implements HttpResource {
+
+		private final Resource original;
+
+		private final long lastModified;
+
+		private final ContentVariant variant;
+
+		private final boolean varyByEncoding;
+
+		CachedResource(Resource original, long lastModified, ContentVariant variant, boolean varyByEncoding) {
+			this.original = original;
+			this.lastModified = lastModified;
+			this.variant = variant;
+			this.varyByEncoding = varyByEncoding;
+		}
+
+		/**
+		 * Whether this resource exposes a gzip or Brotli variant of the content,
+		 * which must not be modified by transformers.
+		 */
+		public boolean isEncoded() {
+			return (this.variant.getEncoding() != null);
+		}
+
+		/**
+		 * Return a read-only view of the cached content.
+		 */
+		public ByteBuffer getContent() {
+			return this.variant.getContent();
+		}
+
+		@Override
+		public boolean exists() {
+			return true;
+		}
+
+		@Override
+		public InputStream getInputStream() throws IOException {
+			ByteBuffer content = getContent();
+			byte[] bytes = new byte[content.remaining()];
+			content.get(bytes);
+			return new ByteArrayInputStream(bytes);
+		}
+
+		@Override
+		public URL getURL() throws IOException {
+			return this.original.getURL();
+		}
+
+		@Override
+		public URI getURI() throws IOException {
+			return this.original.getURI();
+		}
+
+		@Override
+		public long contentLength() {
+			return this.variant.getLength();
+		}
+
+		@Override
+		public long lastModified() {
+			return this.lastModified;
+		}
+
+		@Override
+		public Resource createRelative(String relativePath) throws IOException {
+			return this.original.createRelative(relativePath);
+		}
+
+		@Override
+		@Nullable
+		public String getFilename() {
+			return this.original.getFilename();
+		}
+
+		@Override
+		public String getDescription() {
+			return "cached content of " + this.original.getDescription();
+		}
+
+		@Override
+		public HttpHeaders getResponseHeaders() {
+			HttpHeaders headers = new HttpHeaders();
+			if (this.original instanceof HttpResource) {
+				headers.putAll(((HttpResource) this.original).getResponseHeaders());
+			}
+			if (headers.getETag() == null) {
+				headers.setETag(this.variant.getETag());
+			}
+			if (this.variant.getEncoding() != null) {
+				headers.set(HttpHeaders.CONTENT_ENCODING, this.variant.getEncoding());
+			}
+			if (this.varyByEncoding) {
+				headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+			}
+			return headers;
+		}
+	}
+
+}
@@ -75,7 +75,9 @@ public class CssLinkResourceTransformer extends ResourceTransformerSupport {
 				.flatMap(newResource -> {
 					String filename = newResource.getFilename();
 					if (!"css".equals(StringUtils.getFilenameExtension(filename)) ||
-							resource instanceof GzipResourceResolver.GzippedResource) {
+							resource instanceof GzipResourceResolver.GzippedResource ||
+							(resource instanceof ContentCachingResourceResolver.CachedResource &&
+									((ContentCachingResourceResolver.CachedResource) resource).isEncoded())) {
 						return Mono.just(newResource);
 					}
 
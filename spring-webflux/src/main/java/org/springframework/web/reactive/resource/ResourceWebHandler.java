@@ -42,6 +42,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.MediaTypeFactory;
 import org.springframework.http.codec.ResourceHttpMessageWriter;
+import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
@@ -73,9 +74,11 @@ import org.springframework.web.server.WebHandler;
  * and prepare URLs for resources with a version in the URL.
  *
  * <p>This handler also properly evaluates the {@code Last-Modified} header (if
- * present) so that a {@code 304} status code will be returned as appropriate,
+ * present), as well as the {@code ETag} of {@link HttpResource}s that provide
+ * one, so that a {@code 304} status code will be returned as appropriate,
  * avoiding unnecessary overhead for resources that are already cached by the
- * client.
+ * client. Content kept in memory by a {@link ContentCachingResourceResolver}
+ * is written directly from memory.
  *
  * @author Rossen Stoyanchev
  * @author Brian Clozel
@@ -261,7 +264,9 @@ public class ResourceWebHandler implements WebHandler, InitializingBean {
 						}
 
 						// Header phase
-						if (exchange.checkNotModified(Instant.ofEpochMilli(resource.lastModified()))) {
+						String eTag = (resource instanceof HttpResource ?
+								((HttpResource) resource).getResponseHeaders().getETag() : null);
+						if (exchange.checkNotModified(eTag, Instant.ofEpochMilli(resource.lastModified()))) {
 							logger.trace("Resource not modified - returning 304");
 							return Mono.empty();
 						}
@@ -297,6 +302,10 @@ public class ResourceWebHandler implements WebHandler, InitializingBean {
 						}
 
 						setHeaders(exchange, resource, mediaType);
+						if (resource instanceof ContentCachingResourceResolver.CachedResource &&
+								!exchange.getRequest().getHeaders().containsKey(HttpHeaders.RANGE)) {
+							return writeCachedContent(exchange, (ContentCachingResourceResolver.CachedResource) resource);
+						}
 						ResourceHttpMessageWriter writer = getResourceHttpMessageWriter();
 						Assert.state(writer != null, "No ResourceHttpMessageWriter");
 						return writer.write(Mono.just(resource),
@@ -309,6 +318,23 @@ public class ResourceWebHandler implements WebHandler, InitializingBean {
 				});
 	}
 
+	/**
+	 * Write content cached in memory by a {@link ContentCachingResourceResolver},
+	 * wrapping it in a buffer rather than reading it through the
+	 * {@link ResourceHttpMessageWriter}.
+	 */
+	private Mono<Void> writeCachedContent(ServerWebExchange exchange,
+			ContentCachingResourceResolver.CachedResource resource) {
+
+		ServerHttpResponse response = exchange.getResponse();
+		HttpHeaders headers = response.getHeaders();
+		headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+		if (headers.getContentType() == null) {
+			headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
+		}
+		return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(resource.getContent())));
+	}
+
 	protected Mono<Resource> getResource(ServerWebExchange exchange) {
 
 		String attributeName = HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE;
@@ -46,6 +46,8 @@ public final class ConsumesRequestCondition extends AbstractRequestCondition<Con
 
 	private final static ConsumesRequestCondition PRE_FLIGHT_MATCH = new ConsumesRequestCondition();
 
+	private static final String CONTENT_TYPE_ATTRIBUTE = ConsumesRequestCondition.class.getName() + ".CONTENT_TYPE";
+
 
 	private final List<ConsumeMediaTypeExpression> expressions;
 
@@ -155,8 +157,8 @@ public final class ConsumesRequestCondition extends AbstractRequestCondition<Con
 	 * to contain matching expressions only. The match is performed via
 	 * {@link MediaType#includes(MediaType)}.
 	 * @param exchange the current exchange
-	 * @return the same instance if the condition contains no expressions;
-	 * or a new condition with matching expressions only;
+	 * @return the same instance if the condition contains no expressions or
+	 * if all of them match; or a new condition with matching expressions only;
 	 * or {@code null} if no expressions match.
 	 */
 	@Override
@@ -174,6 +176,9 @@ public final class ConsumesRequestCondition extends AbstractRequestCondition<Con
 				iterator.remove();
 			}
 		}
+		if (result.size() == this.expressions.size()) {
+			return this;
+		}
 		return (result.isEmpty()) ? null : new ConsumesRequestCondition(result);
 	}
 
@@ -205,6 +210,27 @@ public final class ConsumesRequestCondition extends AbstractRequestCondition<Con
 	}
 
 
+	private static MediaType getContentType(ServerWebExchange exchange) throws InvalidMediaTypeException {
+		MediaType contentType = (MediaType) exchange.getAttributes().get(CONTENT_TYPE_ATTRIBUTE);
+		if (contentType == null) {
+			contentType = exchange.getRequest().getHeaders().getContentType();
+			contentType = (contentType != null ? contentType : MediaType.APPLICATION_OCTET_STREAM);
+			exchange.getAttributes().put(CONTENT_TYPE_ATTRIBUTE, contentType);
+		}
+		return contentType;
+	}
+
+	/**
+	 * Remove the content type that was parsed and stored as an exchange
+	 * attribute while matching, so that it is parsed once per handler lookup
+	 * rather than once per candidate mapping.
+	 * @param exchange the current exchange
+	 */
+	public static void clearContentTypeAttribute(ServerWebExchange exchange) {
+		exchange.getAttributes().remove(CONTENT_TYPE_ATTRIBUTE);
+	}
+
+
 	/**
 	 * Parses and matches a single media type expression to a request's 'Content-Type' header.
 	 */
@@ -221,9 +247,7 @@ public final class ConsumesRequestCondition extends AbstractRequestCondition<Con
 		@Override
 		protected boolean matchMediaType(ServerWebExchange exchange) throws UnsupportedMediaTypeStatusException {
 			try {
-				MediaType contentType = exchange.getRequest().getHeaders().getContentType();
-				contentType = (contentType != null ? contentType : MediaType.APPLICATION_OCTET_STREAM);
-				return getMediaType().includes(contentType);
+				return getMediaType().includes(getContentType(exchange));
 			}
 			catch (InvalidMediaTypeException ex) {
 				throw new UnsupportedMediaTypeStatusException("Can't parse Content-Type [" +
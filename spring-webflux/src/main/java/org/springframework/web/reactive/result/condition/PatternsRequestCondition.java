@@ -25,8 +25,10 @@ import java.util.List;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import org.springframework.http.server.reactive.PathSegmentContainer;
 import org.springframework.lang.Nullable;
 import org.springframework.util.StringUtils;
 import org.springframework.web.server.ServerWebExchange;
@@ -153,8 +155,8 @@ public final class PatternsRequestCondition extends AbstractRequestCondition<Pat
 	 * that is guaranteed to contain matching patterns, sorted with a
 	 * {@link PathPatternComparator}.
 	 * @param exchange the current exchange
-	 * @return the same instance if the condition contains no patterns;
-	 * or a new condition with sorted matching patterns;
+	 * @return the same instance if the condition contains no patterns or if
+	 * all of them match in order; or a new condition with sorted matching patterns;
 	 * or {@code null} if no patterns match.
 	 */
 	@Override
@@ -164,9 +166,29 @@ public final class PatternsRequestCondition extends AbstractRequestCondition<Pat
 			return this;
 		}
 
-		String lookupPath = exchange.getRequest().getPath().pathWithinApplication().value();
-		SortedSet<PathPattern> matches = getMatchingPatterns(lookupPath);
-		return matches.isEmpty() ? null : new PatternsRequestCondition(new ArrayList<>(matches), this.parser);
+		PathSegmentContainer lookupPath = exchange.getRequest().getPath().pathWithinApplication();
+		SortedSet<PathPattern> matches =
+				getMatchingPatterns(lookupPath.value(), pattern -> pattern.matchesParsedPath(lookupPath));
+		if (matches.isEmpty()) {
+			return null;
+		}
+		else if (isSamePatterns(matches)) {
+			return this;
+		}
+		return new PatternsRequestCondition(new ArrayList<>(matches), this.parser);
+	}
+
+	private boolean isSamePatterns(SortedSet<PathPattern> matches) {
+		if (matches.size() != this.patterns.size()) {
+			return false;
+		}
+		Iterator<PathPattern> iterator = this.patterns.iterator();
+		for (PathPattern match : matches) {
+			if (match != iterator.next()) {
+				return false;
+			}
+		}
+		return true;
 	}
 
 	/**
@@ -179,8 +201,12 @@ public final class PatternsRequestCondition extends AbstractRequestCondition<Pat
 	 * @return a sorted set of matching patterns sorted with the closest match first
 	 */
 	public SortedSet<PathPattern> getMatchingPatterns(String lookupPath) {
-		return patterns.stream()
-				.filter(pattern -> pattern.matches(lookupPath))
+		return getMatchingPatterns(lookupPath, pattern -> pattern.matches(lookupPath));
+	}
+
+	private SortedSet<PathPattern> getMatchingPatterns(String lookupPath, Predicate<PathPattern> matcher) {
+		return this.patterns.stream()
+				.filter(matcher)
 				.collect(Collectors.toCollection(() ->
 						new TreeSet<>(new PathPatternComparator(lookupPath))));
 	}
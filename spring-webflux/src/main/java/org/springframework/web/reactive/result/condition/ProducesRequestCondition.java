@@ -48,6 +48,8 @@ public final class ProducesRequestCondition extends AbstractRequestCondition<Pro
 
 	private final static ProducesRequestCondition PRE_FLIGHT_MATCH = new ProducesRequestCondition();
 
+	private static final String MEDIA_TYPES_ATTRIBUTE = ProducesRequestCondition.class.getName() + ".MEDIA_TYPES";
+
 
 	private final List<ProduceMediaTypeExpression> MEDIA_TYPE_ALL_LIST =
 			Collections.singletonList(new ProduceMediaTypeExpression("*/*"));
@@ -176,8 +178,8 @@ public final class ProducesRequestCondition extends AbstractRequestCondition<Pro
 	 * to contain matching expressions only. The match is performed via
 	 * {@link MediaType#isCompatibleWith(MediaType)}.
 	 * @param exchange the current exchange
-	 * @return the same instance if there are no expressions;
-	 * or a new condition with matching expressions;
+	 * @return the same instance if there are no expressions or if all of them
+	 * match; or a new condition with matching expressions;
 	 * or {@code null} if no expressions match.
 	 */
 	@Override
@@ -195,6 +197,9 @@ public final class ProducesRequestCondition extends AbstractRequestCondition<Pro
 				iterator.remove();
 			}
 		}
+		if (result.size() == this.expressions.size()) {
+			return this;
+		}
 		return (result.isEmpty()) ? null : new ProducesRequestCondition(result, this.contentTypeResolver);
 	}
 
@@ -241,11 +246,17 @@ public final class ProducesRequestCondition extends AbstractRequestCondition<Pro
 		}
 	}
 
+	@SuppressWarnings("unchecked")
 	private List<MediaType> getAcceptedMediaTypes(ServerWebExchange exchange)
 			throws NotAcceptableStatusException {
 
-		List<MediaType> mediaTypes = this.contentTypeResolver.resolveMediaTypes(exchange);
-		return mediaTypes.isEmpty() ? Collections.singletonList(MediaType.ALL) : mediaTypes;
+		List<MediaType> mediaTypes = (List<MediaType>) exchange.getAttributes().get(MEDIA_TYPES_ATTRIBUTE);
+		if (mediaTypes == null) {
+			mediaTypes = this.contentTypeResolver.resolveMediaTypes(exchange);
+			mediaTypes = (mediaTypes.isEmpty() ? Collections.singletonList(MediaType.ALL) : mediaTypes);
+			exchange.getAttributes().put(MEDIA_TYPES_ATTRIBUTE, mediaTypes);
+		}
+		return mediaTypes;
 	}
 
 	private int indexOfEqualMediaType(MediaType mediaType) {
@@ -293,6 +304,17 @@ public final class ProducesRequestCondition extends AbstractRequestCondition<Pro
 	}
 
 
+	/**
+	 * Remove the requested media types that were resolved and stored as an
+	 * exchange attribute while matching, so that they are resolved once per
+	 * handler lookup rather than once per candidate mapping.
+	 * @param exchange the current exchange
+	 */
+	public static void clearMediaTypesAttribute(ServerWebExchange exchange) {
+		exchange.getAttributes().remove(MEDIA_TYPES_ATTRIBUTE);
+	}
+
+
 	/**
 	 * Parses and matches a single media type expression to a request's 'Accept' header.
 	 */
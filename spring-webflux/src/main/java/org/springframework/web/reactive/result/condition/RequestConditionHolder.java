@@ -106,7 +106,8 @@ public final class RequestConditionHolder extends AbstractRequestCondition<Reque
 	/**
 	 * Get the matching condition for the held request condition wrap it in a
 	 * new RequestConditionHolder instance. Or otherwise if this is an empty
-	 * holder, return the same holder instance.
+	 * holder, or if the held condition matches as it is, return the same
+	 * holder instance.
 	 */
 	@Override
 	public RequestConditionHolder getMatchingCondition(ServerWebExchange exchange) {
@@ -114,6 +115,9 @@ public final class RequestConditionHolder extends AbstractRequestCondition<Reque
 			return this;
 		}
 		RequestCondition<?> match = (RequestCondition<?>) this.condition.getMatchingCondition(exchange);
+		if (match == this.condition) {
+			return this;
+		}
 		return (match != null ? new RequestConditionHolder(match) : null);
 	}
 
@@ -98,7 +98,8 @@ public final class RequestMethodsRequestCondition extends AbstractRequestConditi
 	 * return an instance that contains the matching HTTP request method only.
 	 * @param exchange the current exchange
 	 * @return the same instance if the condition is empty (unless the request
-	 * method is HTTP OPTIONS), a new condition with the matched request method,
+	 * method is HTTP OPTIONS) or if it contains the matched request method only,
+	 * a new condition with the matched request method,
 	 * or {@code null} if there is no match or the condition is empty and the
 	 * request method is OPTIONS.
 	 */
@@ -133,7 +134,7 @@ public final class RequestMethodsRequestCondition extends AbstractRequestConditi
 		if (httpMethod != null) {
 			for (RequestMethod method : getMethods()) {
 				if (httpMethod.matches(method.name())) {
-					return new RequestMethodsRequestCondition(method);
+					return (getMethods().size() == 1 ? this : new RequestMethodsRequestCondition(method));
 				}
 			}
 			if (httpMethod == HttpMethod.HEAD && getMethods().contains(RequestMethod.GET)) {
@@ -33,10 +33,12 @@ import org.springframework.core.MethodParameter;
 import org.springframework.core.ParameterNameDiscoverer;
 import org.springframework.http.HttpStatus;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.ReflectionUtils;
 import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.method.HandlerMethodInvoker;
 import org.springframework.web.reactive.BindingContext;
 import org.springframework.web.reactive.HandlerResult;
 import org.springframework.web.server.ServerWebExchange;
@@ -61,6 +63,10 @@ public class InvocableHandlerMethod extends HandlerMethod {
 
 	private ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
 
+	private HandlerMethodArgumentResolver[] boundResolvers;
+
+	private HandlerMethodInvoker methodInvoker;
+
 
 	public InvocableHandlerMethod(HandlerMethod handlerMethod) {
 		super(handlerMethod);
@@ -103,6 +109,32 @@ public class InvocableHandlerMethod extends HandlerMethod {
 		return this.parameterNameDiscoverer;
 	}
 
+	/**
+	 * Set the argument resolvers bound to the method parameters, in parameter
+	 * order, to use instead of searching the configured
+	 * {@link #setArgumentResolvers argument resolvers} on every invocation.
+	 * An element may be {@code null} if no resolver supports the parameter,
+	 * in which case the argument must be provided.
+	 * @since 5.0
+	 */
+	public void setBoundArgumentResolvers(@Nullable HandlerMethodArgumentResolver[] resolvers) {
+		Assert.isTrue(resolvers == null || resolvers.length == getMethodParameters().length,
+				"Expected one argument resolver per method parameter");
+		this.boundResolvers = resolvers;
+	}
+
+	/**
+	 * Set the {@link HandlerMethodInvoker} to invoke the method with, instead
+	 * of invoking it reflectively.
+	 * <p>By default this is not set.
+	 * @since 5.0
+	 */
+	public void setMethodInvoker(@Nullable HandlerMethodInvoker methodInvoker) {
+		Assert.isTrue(methodInvoker == null || methodInvoker.getMethod().equals(getBridgedMethod()),
+				"HandlerMethodInvoker does not match the handler method");
+		this.methodInvoker = methodInvoker;
+	}
+
 
 	/**
 	 * Invoke the method for the given exchange.
@@ -136,17 +168,19 @@ public class InvocableHandlerMethod extends HandlerMethod {
 	private Mono<Object[]> resolveArguments(ServerWebExchange exchange, BindingContext bindingContext,
 			Object... providedArgs) {
 
-		if (ObjectUtils.isEmpty(getMethodParameters())) {
+		MethodParameter[] parameters = getMethodParameters();
+		if (ObjectUtils.isEmpty(parameters)) {
 			return EMPTY_ARGS;
 		}
 		try {
-			List<Mono<Object>> argMonos = Stream.of(getMethodParameters())
-					.map(param -> {
+			List<Mono<Object>> argMonos = IntStream.range(0, parameters.length)
+					.mapToObj(i -> {
+						MethodParameter param = parameters[i];
 						param.initParameterNameDiscovery(this.parameterNameDiscoverer);
 						return findProvidedArgument(param, providedArgs)
 								.map(Mono::just)
 								.orElseGet(() -> {
-									HandlerMethodArgumentResolver resolver = findResolver(param);
+									HandlerMethodArgumentResolver resolver = findResolver(param, i);
 									return resolveArg(resolver, param, bindingContext, exchange);
 								});
 
@@ -171,7 +205,14 @@ public class InvocableHandlerMethod extends HandlerMethod {
 				.findFirst();
 	}
 
-	private HandlerMethodArgumentResolver findResolver(MethodParameter param) {
+	private HandlerMethodArgumentResolver findResolver(MethodParameter param, int index) {
+		if (this.boundResolvers != null) {
+			HandlerMethodArgumentResolver resolver = this.boundResolvers[index];
+			if (resolver == null) {
+				throw getArgumentError("No suitable resolver for", param, null);
+			}
+			return resolver;
+		}
 		return this.resolvers.stream()
 				.filter(r -> r.supportsParameter(param))
 				.findFirst()
@@ -209,8 +250,14 @@ public class InvocableHandlerMethod extends HandlerMethod {
 			logger.trace("Invoking '" + ClassUtils.getQualifiedMethodName(getMethod(), getBeanType()) +
 					"' with arguments " + Arrays.toString(args));
 		}
-		ReflectionUtils.makeAccessible(getBridgedMethod());
-		Object returnValue = getBridgedMethod().invoke(getBean(), args);
+		Object returnValue;
+		if (this.methodInvoker != null) {
+			returnValue = this.methodInvoker.invoke(getBean(), args);
+		}
+		else {
+			ReflectionUtils.makeAccessible(getBridgedMethod());
+			returnValue = getBridgedMethod().invoke(getBean(), args);
+		}
 		if (logger.isTraceEnabled()) {
 			logger.trace("Method [" + ClassUtils.getQualifiedMethodName(getMethod(), getBeanType()) +
 					"] returned [" + returnValue + "]");
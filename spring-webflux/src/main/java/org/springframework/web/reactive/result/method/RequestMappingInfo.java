@@ -201,30 +201,47 @@ public final class RequestMappingInfo implements RequestCondition<RequestMapping
 	 * a potentially new request mapping info with conditions tailored to the current request.
 	 * <p>For example the returned instance may contain the subset of URL patterns that match to
 	 * the current request, sorted with best matching patterns on top.
-	 * @return a new instance in case all conditions match; or {@code null} otherwise
+	 * @return the same instance if all conditions match as they are; a new instance
+	 * in case all conditions match but some of them are narrowed down to the current
+	 * request; or {@code null} otherwise
 	 */
 	@Override
 	public RequestMappingInfo getMatchingCondition(ServerWebExchange exchange) {
 		RequestMethodsRequestCondition methods = this.methodsCondition.getMatchingCondition(exchange);
+		if (methods == null) {
+			return null;
+		}
 		ParamsRequestCondition params = this.paramsCondition.getMatchingCondition(exchange);
+		if (params == null) {
+			return null;
+		}
 		HeadersRequestCondition headers = this.headersCondition.getMatchingCondition(exchange);
+		if (headers == null) {
+			return null;
+		}
 		ConsumesRequestCondition consumes = this.consumesCondition.getMatchingCondition(exchange);
+		if (consumes == null) {
+			return null;
+		}
 		ProducesRequestCondition produces = this.producesCondition.getMatchingCondition(exchange);
-
-		if (methods == null || params == null || headers == null || consumes == null || produces == null) {
+		if (produces == null) {
 			return null;
 		}
-
 		PatternsRequestCondition patterns = this.patternsCondition.getMatchingCondition(exchange);
 		if (patterns == null) {
 			return null;
 		}
-
 		RequestConditionHolder custom = this.customConditionHolder.getMatchingCondition(exchange);
 		if (custom == null) {
 			return null;
 		}
 
+		if (patterns == this.patternsCondition && methods == this.methodsCondition &&
+				params == this.paramsCondition && headers == this.headersCondition &&
+				consumes == this.consumesCondition && produces == this.producesCondition &&
+				custom == this.customConditionHolder) {
+			return this;
+		}
 		return new RequestMappingInfo(this.name, patterns,
 				methods, params, headers, consumes, produces, custom.getCondition());
 	}
@@ -31,17 +31,25 @@ import java.util.Set;
 import java.util.StringTokenizer;
 import java.util.stream.Collectors;
 
+import reactor.core.publisher.Mono;
+
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.InvalidMediaTypeException;
 import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.PathSegmentContainer;
 import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.lang.Nullable;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
+import org.springframework.web.cors.reactive.CorsUtils;
 import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.reactive.result.condition.ConsumesRequestCondition;
 import org.springframework.web.reactive.result.condition.NameValueExpression;
+import org.springframework.web.reactive.result.condition.ProducesRequestCondition;
 import org.springframework.web.server.MethodNotAllowedException;
 import org.springframework.web.server.NotAcceptableStatusException;
 import org.springframework.web.server.ServerWebExchange;
@@ -80,6 +88,81 @@ public abstract class RequestMappingInfoHandlerMapping extends AbstractHandlerMe
 		return info.getPatternsCondition().getPatternStrings();
 	}
 
+	/**
+	 * Mappings are indexed by the literal prefix of their URL patterns.
+	 */
+	@Override
+	protected boolean supportsPathPrefixLookup() {
+		return true;
+	}
+
+	/**
+	 * Look up a handler method, resolving the requested media types and
+	 * parsing the content type of the request once for all mappings checked.
+	 */
+	@Override
+	public Mono<HandlerMethod> getHandlerInternal(ServerWebExchange exchange) {
+		try {
+			return super.getHandlerInternal(exchange);
+		}
+		finally {
+			ProducesRequestCondition.clearMediaTypesAttribute(exchange);
+			ConsumesRequestCondition.clearContentTypeAttribute(exchange);
+		}
+	}
+
+	/**
+	 * Lookup results are cached by HTTP method, lookup path, "Content-Type"
+	 * header and {@link #getRequestedMediaTypes requested media types}, except
+	 * for CORS pre-flight requests.
+	 * @see #setLookupCacheLimit
+	 */
+	@Override
+	@Nullable
+	protected Object getLookupCacheKey(String lookupPath, ServerWebExchange exchange) {
+		ServerHttpRequest request = exchange.getRequest();
+		if (CorsUtils.isPreFlightRequest(request)) {
+			return null;
+		}
+		List<MediaType> mediaTypes;
+		try {
+			mediaTypes = getRequestedMediaTypes(exchange);
+		}
+		catch (NotAcceptableStatusException | InvalidMediaTypeException ex) {
+			return null;
+		}
+		return new LookupCacheKey(request.getMethodValue(), lookupPath,
+				request.getHeaders().getFirst(HttpHeaders.CONTENT_TYPE), mediaTypes);
+	}
+
+	/**
+	 * A RequestMappingInfo is cacheable unless it has "params", "headers" or
+	 * custom conditions, and its URL patterns match the request.
+	 */
+	@Override
+	protected boolean isLookupCacheable(RequestMappingInfo info, ServerWebExchange exchange) {
+		if (info.getParamsCondition().isEmpty() && info.getHeadersCondition().isEmpty() &&
+				info.getCustomCondition() == null) {
+			return true;
+		}
+		return (info.getPatternsCondition().getMatchingCondition(exchange) == null);
+	}
+
+	/**
+	 * Return the media types requested by the given exchange, as used for
+	 * {@link #getLookupCacheKey lookup cache keys}. These need to be the media
+	 * types that "produces" conditions are matched against.
+	 * <p>By default this returns the media types in the "Accept" header.
+	 * @param exchange the current exchange
+	 * @throws NotAcceptableStatusException if the requested media types
+	 * cannot be resolved
+	 */
+	protected List<MediaType> getRequestedMediaTypes(ServerWebExchange exchange)
+			throws NotAcceptableStatusException {
+
+		return exchange.getRequest().getHeaders().getAccept();
+	}
+
 	/**
 	 * Check if the given RequestMappingInfo matches the current request and
 	 * return a (potentially new) instance with conditions that match the
@@ -119,7 +202,9 @@ public abstract class RequestMappingInfoHandlerMapping extends AbstractHandlerMe
 		}
 		else {
 			bestPattern = patterns.iterator().next();
-			uriVariables = bestPattern.matchAndExtract(lookupPath);
+			PathSegmentContainer path = exchange.getRequest().getPath().pathWithinApplication();
+			uriVariables = (path.value().equals(lookupPath) ?
+					bestPattern.matchAndExtractParsedPath(path) : bestPattern.matchAndExtract(lookupPath));
 		}
 
 		// Let URI vars be stripped of semicolon content..
@@ -410,6 +495,54 @@ public abstract class RequestMappingInfoHandlerMapping extends AbstractHandlerMe
 		}
 	}
 
+	/**
+	 * Key for the lookup cache.
+	 */
+	private static final class LookupCacheKey {
+
+		private final String method;
+
+		private final String lookupPath;
+
+		private final String contentType;
+
+		private final List<MediaType> mediaTypes;
+
+		public LookupCacheKey(String method, String lookupPath, @Nullable String contentType,
+				List<MediaType> mediaTypes) {
+
+			this.method = method;
+			this.lookupPath = lookupPath;
+			this.contentType = contentType;
+			this.mediaTypes = mediaTypes;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if (this == other) {
+				return true;
+			}
+			if (!(other instanceof LookupCacheKey)) {
+				return false;
+			}
+			LookupCacheKey otherKey = (LookupCacheKey) other;
+			return (this.method.equals(otherKey.method) &&
+					this.lookupPath.equals(otherKey.lookupPath) &&
+					ObjectUtils.nullSafeEquals(this.contentType, otherKey.contentType) &&
+					this.mediaTypes.equals(otherKey.mediaTypes));
+		}
+
+		@Override
+		public int hashCode() {
+			int result = this.method.hashCode();
+			result = 31 * result + this.lookupPath.hashCode();
+			result = 31 * result + ObjectUtils.nullSafeHashCode(this.contentType);
+			result = 31 * result + this.mediaTypes.hashCode();
+			return result;
+		}
+	}
+
+
 	/**
 	 * Default handler for HTTP OPTIONS.
 	 */
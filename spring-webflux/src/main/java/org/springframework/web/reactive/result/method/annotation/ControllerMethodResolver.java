@@ -27,6 +27,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -34,6 +35,9 @@ import org.apache.commons.logging.LogFactory;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ParameterNameDiscoverer;
 import org.springframework.core.ReactiveAdapterRegistry;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 import org.springframework.core.annotation.AnnotationUtils;
@@ -47,6 +51,7 @@ import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.method.ControllerAdviceBean;
 import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.method.HandlerMethodInvoker;
 import org.springframework.web.method.annotation.ExceptionHandlerMethodResolver;
 import org.springframework.web.reactive.result.method.HandlerMethodArgumentResolver;
 import org.springframework.web.reactive.result.method.InvocableHandlerMethod;
@@ -82,6 +87,10 @@ class ControllerMethodResolver {
 
 	private final List<HandlerMethodArgumentResolver> exceptionHandlerResolvers;
 
+	private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+
+	private boolean precompileHandlerMethods;
+
 
 	private final Map<Class<?>, Set<Method>> initBinderMethodCache = new ConcurrentHashMap<>(64);
 
@@ -89,6 +98,8 @@ class ControllerMethodResolver {
 
 	private final Map<Class<?>, ExceptionHandlerMethodResolver> exceptionHandlerCache = new ConcurrentHashMap<>(64);
 
+	private final Map<HandlerMethod, HandlerMethodArgumentResolver[]> boundResolverCache = new ConcurrentHashMap<>(64);
+
 
 	private final Map<ControllerAdviceBean, Set<Method>> initBinderAdviceCache = new LinkedHashMap<>(64);
 
@@ -204,16 +215,62 @@ class ControllerMethodResolver {
 	}
 
 
+	/**
+	 * Whether to invoke {@code @RequestMapping} methods through a
+	 * {@link HandlerMethodInvoker}.
+	 */
+	void setPrecompileHandlerMethods(boolean precompileHandlerMethods) {
+		this.precompileHandlerMethods = precompileHandlerMethods;
+	}
+
+
 	/**
 	 * Return an {@link InvocableHandlerMethod} for the given
 	 * {@code @RequestMapping} method initialized with argument resolvers.
+	 * The argument resolver for each method parameter is selected on first
+	 * access to the method and reused after that.
 	 */
 	public InvocableHandlerMethod getRequestMappingMethod(HandlerMethod handlerMethod) {
 		InvocableHandlerMethod invocable = new InvocableHandlerMethod(handlerMethod);
 		invocable.setArgumentResolvers(this.requestMappingResolvers);
+		invocable.setBoundArgumentResolvers(getBoundResolvers(handlerMethod));
+		if (this.precompileHandlerMethods) {
+			invocable.setMethodInvoker(HandlerMethodInvoker.forHandlerMethod(handlerMethod));
+		}
 		return invocable;
 	}
 
+	/**
+	 * Return the parameters of the given {@code @RequestMapping} method that
+	 * none of the configured argument resolvers supports.
+	 */
+	public List<MethodParameter> getUnboundParameters(HandlerMethod handlerMethod) {
+		MethodParameter[] parameters = handlerMethod.getMethodParameters();
+		HandlerMethodArgumentResolver[] resolvers = getBoundResolvers(handlerMethod);
+		return IntStream.range(0, parameters.length)
+				.filter(i -> resolvers[i] == null)
+				.mapToObj(i -> parameters[i])
+				.collect(Collectors.toList());
+	}
+
+	private HandlerMethodArgumentResolver[] getBoundResolvers(HandlerMethod handlerMethod) {
+		HandlerMethod key = (handlerMethod.getResolvedFromHandlerMethod() != null ?
+				handlerMethod.getResolvedFromHandlerMethod() : handlerMethod);
+		return this.boundResolverCache.computeIfAbsent(key, hm -> {
+			MethodParameter[] parameters = hm.getMethodParameters();
+			HandlerMethodArgumentResolver[] resolvers = new HandlerMethodArgumentResolver[parameters.length];
+			for (int i = 0; i < parameters.length; i++) {
+				MethodParameter parameter = parameters[i];
+				parameter.initParameterNameDiscovery(this.parameterNameDiscoverer);
+				resolvers[i] = this.requestMappingResolvers.stream()
+						.filter(resolver -> resolver.supportsParameter(parameter))
+						.findFirst()
+						.orElse(null);
+			}
+			return resolvers;
+		});
+	}
+
 	/**
 	 * Find {@code @InitBinder} methods in {@code @ControllerAdvice} components
 	 * or in the controller of the given {@code @RequestMapping} method.
@@ -17,16 +17,20 @@
 package org.springframework.web.reactive.result.method.annotation;
 
 import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import reactor.core.publisher.Mono;
 
+import org.springframework.beans.factory.BeanFactoryUtils;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.MethodParameter;
 import org.springframework.core.ReactiveAdapterRegistry;
 import org.springframework.http.codec.ServerCodecConfigurer;
 import org.springframework.lang.Nullable;
@@ -36,16 +40,23 @@ import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.reactive.BindingContext;
 import org.springframework.web.reactive.HandlerAdapter;
 import org.springframework.web.reactive.HandlerResult;
+import org.springframework.web.reactive.result.method.AbstractHandlerMethodMapping;
 import org.springframework.web.reactive.result.method.InvocableHandlerMethod;
 import org.springframework.web.server.ServerWebExchange;
 
 /**
  * Supports the invocation of {@code @RequestMapping} methods.
  *
+ * <p>The argument resolver for each method parameter is selected once, when
+ * the method is first invoked or, for the methods of all
+ * {@link AbstractHandlerMethodMapping} beans, on startup, where method
+ * parameters that no argument resolver supports are reported as well.
+ *
  * @author Rossen Stoyanchev
  * @since 5.0
  */
-public class RequestMappingHandlerAdapter implements HandlerAdapter, ApplicationContextAware, InitializingBean {
+public class RequestMappingHandlerAdapter
+		implements HandlerAdapter, ApplicationContextAware, InitializingBean, SmartInitializingSingleton {
 
 	private static final Log logger = LogFactory.getLog(RequestMappingHandlerAdapter.class);
 
@@ -58,6 +69,8 @@ public class RequestMappingHandlerAdapter implements HandlerAdapter, Application
 
 	private ReactiveAdapterRegistry reactiveAdapterRegistry;
 
+	private boolean precompileHandlerMethods = false;
+
 	private ConfigurableApplicationContext applicationContext;
 
 	private ControllerMethodResolver methodResolver;
@@ -127,6 +140,24 @@ public class RequestMappingHandlerAdapter implements HandlerAdapter, Application
 		return this.reactiveAdapterRegistry;
 	}
 
+	/**
+	 * Whether to invoke {@code @RequestMapping} methods through a
+	 * {@link org.springframework.web.method.HandlerMethodInvoker HandlerMethodInvoker}
+	 * rather than reflectively.
+	 * <p>The default is {@code false}.
+	 */
+	public void setPrecompileHandlerMethods(boolean precompileHandlerMethods) {
+		this.precompileHandlerMethods = precompileHandlerMethods;
+	}
+
+	/**
+	 * Whether {@code @RequestMapping} methods are invoked through a
+	 * {@code HandlerMethodInvoker}.
+	 */
+	public boolean isPrecompileHandlerMethods() {
+		return this.precompileHandlerMethods;
+	}
+
 	/**
 	 * A {@link ConfigurableApplicationContext} is expected for resolving
 	 * expressions in method argument default values as well as for
@@ -161,10 +192,36 @@ public class RequestMappingHandlerAdapter implements HandlerAdapter, Application
 
 		this.methodResolver = new ControllerMethodResolver(this.argumentResolverConfigurer,
 				this.messageCodecConfigurer, this.reactiveAdapterRegistry, this.applicationContext);
+		this.methodResolver.setPrecompileHandlerMethods(this.precompileHandlerMethods);
 
 		this.modelInitializer = new ModelInitializer(this.reactiveAdapterRegistry);
 	}
 
+	/**
+	 * Select the argument resolvers for the methods of all
+	 * {@link AbstractHandlerMethodMapping} beans, and report method parameters
+	 * that none of the argument resolvers supports.
+	 */
+	@Override
+	public void afterSingletonsInstantiated() {
+		if (this.applicationContext == null) {
+			return;
+		}
+		@SuppressWarnings("rawtypes")
+		Map<String, AbstractHandlerMethodMapping> mappings = BeanFactoryUtils.beansOfTypeIncludingAncestors(
+				this.applicationContext, AbstractHandlerMethodMapping.class, true, false);
+		for (AbstractHandlerMethodMapping<?> mapping : mappings.values()) {
+			for (HandlerMethod handlerMethod : mapping.getHandlerMethods().values()) {
+				for (MethodParameter parameter : this.methodResolver.getUnboundParameters(handlerMethod)) {
+					if (logger.isWarnEnabled()) {
+						logger.warn("No suitable resolver for argument " + parameter.getParameterIndex() +
+								" of type '" + parameter.getParameterType().getName() + "' on " + handlerMethod);
+					}
+				}
+			}
+		}
+	}
+
 
 	@Override
 	public boolean supports(Object handler) {
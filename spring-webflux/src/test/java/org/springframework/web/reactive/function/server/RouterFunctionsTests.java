@@ -16,14 +16,17 @@
 
 package org.springframework.web.reactive.function.server;
 
+import java.net.URI;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Test;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.server.reactive.HttpHandler;
 import org.springframework.mock.http.server.reactive.test.MockServerHttpRequest;
@@ -35,6 +38,7 @@ import org.springframework.web.server.WebFilterChain;
 
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
+import static org.springframework.web.reactive.function.server.RequestPredicates.*;
 
 /**
  * @author Arjen Poutsma
@@ -117,6 +121,68 @@ public class RouterFunctionsTests {
 				.verify();
 	}
 
+	@Test
+	public void compile() throws Exception {
+		HandlerFunction<ServerResponse> getUser = request -> ServerResponse.ok().build();
+		HandlerFunction<ServerResponse> getCurrentUser = request -> ServerResponse.ok().build();
+		HandlerFunction<ServerResponse> createUser = request -> ServerResponse.ok().build();
+		HandlerFunction<ServerResponse> getOther = request -> ServerResponse.ok().build();
+		HandlerFunction<ServerResponse> admin = request -> ServerResponse.ok().build();
+		AtomicInteger fallbackCount = new AtomicInteger();
+		AtomicInteger adminCount = new AtomicInteger();
+
+		RouterFunction<ServerResponse> routerFunction = RouterFunctions.compile(
+				RouterFunctions.route(GET("/user/{id}"), getUser)
+						.andRoute(GET("/user/me"), getCurrentUser)
+						.and(request -> {
+							fallbackCount.incrementAndGet();
+							return Mono.empty();
+						})
+						.andRoute(POST("/user"), createUser)
+						.andNest(path("/other"), RouterFunctions.route(GET("/{id}"), getOther))
+						.andRoute(path("/admin").and(request -> adminCount.incrementAndGet() > 0), admin));
+
+		assertRoute(routerFunction, HttpMethod.GET, "/user/me", getUser);
+		assertEquals(0, fallbackCount.get());
+		assertRoute(routerFunction, HttpMethod.POST, "/user/", createUser);
+		assertEquals(1, fallbackCount.get());
+		assertRoute(routerFunction, HttpMethod.GET, "/other/1", getOther);
+		assertRoute(routerFunction, HttpMethod.POST, "/user/me", null);
+		assertEquals(0, adminCount.get());
+		assertRoute(routerFunction, HttpMethod.DELETE, "/admin", admin);
+		assertEquals(1, adminCount.get());
+	}
+
+	@Test
+	public void compileFiltered() throws Exception {
+		HandlerFunction<ServerResponse> handlerFunction = request -> ServerResponse.ok().build();
+
+		RouterFunction<ServerResponse> routerFunction = RouterFunctions.compile(
+				RouterFunctions.route(GET("/foo"), handlerFunction)
+						.andRoute(GET("/bar"), handlerFunction)
+						.filter((request, next) -> ServerResponse.accepted().build()));
+
+		MockServerRequest request = MockServerRequest.builder()
+				.method(HttpMethod.GET).uri(URI.create("http://localhost/bar")).build();
+		ServerResponse response = routerFunction.route(request).block().handle(request).block();
+		assertEquals(HttpStatus.ACCEPTED, response.statusCode());
+		assertRoute(routerFunction, HttpMethod.GET, "/baz", null);
+	}
+
+	private static void assertRoute(RouterFunction<ServerResponse> routerFunction, HttpMethod method,
+			String path, HandlerFunction<ServerResponse> expected) {
+
+		MockServerRequest request = MockServerRequest.builder()
+				.method(method).uri(URI.create("http://localhost" + path)).build();
+		Mono<HandlerFunction<ServerResponse>> result = routerFunction.route(request);
+		if (expected != null) {
+			StepVerifier.create(result).expectNext(expected).expectComplete().verify();
+		}
+		else {
+			StepVerifier.create(result).expectComplete().verify();
+		}
+	}
+
 	@Test
 	public void toHttpHandlerNormal() throws Exception {
 		HandlerFunction<ServerResponse> handlerFunction = request -> ServerResponse.accepted().build();
@@ -16,6 +16,7 @@
 
 package org.springframework.web.reactive.handler;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
@@ -29,6 +30,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import org.springframework.http.server.reactive.PathSegmentContainer;
 import org.springframework.web.util.pattern.PathPattern;
 import org.springframework.web.util.pattern.PathPatternParser;
 import org.springframework.web.util.pattern.PatternParseException;
@@ -98,6 +100,17 @@ public class PathPatternRegistryTests {
 				pattern("/foo/{*baz}")));
 	}
 
+	@Test
+	public void findFirstMatchForParsedPath() {
+		this.registry.register("/foo/{*baz}", new Object());
+		this.registry.register("/foo/bar/{baz}", new Object());
+		PathSegmentContainer lookupPath = PathSegmentContainer.parse("/foo/bar/baz", StandardCharsets.UTF_8);
+		assertThat(this.registry.findFirstMatchForParsedPath(lookupPath).get().getPattern(),
+				is(pattern("/foo/bar/{baz}")));
+		assertThat(this.registry.findFirstMatchForParsedPath(lookupPath).get().getPattern(),
+				is(this.registry.findFirstMatch("/foo/bar/baz").get().getPattern()));
+	}
+
 
 	private List<PathPattern> getPatternList(Collection<PathMatchResult<Object>> results) {
 		return results.stream()
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.reactive.resource;
+
+import java.io.File;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import reactor.core.publisher.Mono;
+
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.test.MockServerHttpRequest;
+import org.springframework.mock.http.server.reactive.test.MockServerWebExchange;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.server.ServerWebExchange;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for {@link ContentCachingResourceResolver}.
+ *
+ * @author agent
+ */
+public class ContentCachingResourceResolverTests {
+
+	private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+	private static final String CONTENT = String.join("\n", Collections.nCopies(50, "function foo() { return 42; }"));
+
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	private ContentCachingResourceResolver cachingResolver;
+
+	private ResourceResolverChain chain;
+
+	private List<Resource> locations;
+
+
+	@Before
+	public void setup() throws IOException {
+		writeFile("app.js", CONTENT.getBytes(StandardCharsets.UTF_8));
+		this.cachingResolver = new ContentCachingResourceResolver();
+		this.chain = new DefaultResourceResolverChain(Arrays.asList(this.cachingResolver, new PathResourceResolver()));
+		this.locations = Collections.singletonList(new FileSystemResource(this.folder.getRoot().getPath() + "/"));
+	}
+
+
+	@Test
+	public void resolveAndCacheContent() throws IOException {
+		Resource resolved = resolve("app.js", null);
+
+		assertTrue(resolved instanceof ContentCachingResourceResolver.CachedResource);
+		assertFalse(resolved.isFile());
+		assertEquals("app.js", resolved.getFilename());
+		assertEquals(CONTENT, StreamUtils.copyToString(resolved.getInputStream(), StandardCharsets.UTF_8));
+		assertEquals(CONTENT.length(), resolved.contentLength());
+
+		HttpHeaders headers = ((HttpResource) resolved).getResponseHeaders();
+		String eTag = "\"" + DigestUtils.md5DigestAsHex(CONTENT.getBytes(StandardCharsets.UTF_8)) + "\"";
+		assertEquals(eTag, headers.getETag());
+		assertNull(headers.getFirst(HttpHeaders.CONTENT_ENCODING));
+		assertEquals(HttpHeaders.ACCEPT_ENCODING, headers.getFirst(HttpHeaders.VARY));
+		assertTrue(this.cachingResolver.getCacheSize() > CONTENT.length());
+	}
+
+	@Test
+	public void resolveFromCacheWithoutReadingResource() throws IOException {
+		resolve("app.js", null);
+		assertTrue(new File(this.folder.getRoot(), "app.js").delete());
+
+		Resource resolved = resolve("app.js", null);
+		assertEquals(CONTENT, StreamUtils.copyToString(resolved.getInputStream(), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void resourceStreamClosedAfterCaching() throws IOException {
+		AtomicBoolean closed = new AtomicBoolean();
+		Resource resource = new ByteArrayResource(CONTENT.getBytes(StandardCharsets.UTF_8)) {
+			@Override
+			public InputStream getInputStream() throws IOException {
+				return new FilterInputStream(super.getInputStream()) {
+					@Override
+					public void close() throws IOException {
+						closed.set(true);
+						super.close();
+					}
+				};
+			}
+			@Override
+			public long lastModified() {
+				return 0;
+			}
+		};
+		ResourceResolver resolver = new ResourceResolver() {
+			@Override
+			public Mono<Resource> resolveResource(ServerWebExchange exchange, String requestPath,
+					List<? extends Resource> locations, ResourceResolverChain chain) {
+				return Mono.just(resource);
+			}
+			@Override
+			public Mono<String> resolveUrlPath(String resourcePath, List<? extends Resource> locations,
+					ResourceResolverChain chain) {
+				return Mono.just(resourcePath);
+			}
+		};
+		this.chain = new DefaultResourceResolverChain(Arrays.asList(this.cachingResolver, resolver));
+
+		Resource resolved = resolve("app.js", null);
+		assertTrue(resolved instanceof ContentCachingResourceResolver.CachedResource);
+		assertTrue(closed.get());
+	}
+
+	@Test
+	public void resolveGzipVariant() throws IOException {
+		Resource identity = resolve("app.js", null);
+		Resource resolved = resolve("app.js", "gzip, deflate");
+
+		HttpHeaders headers = ((HttpResource) resolved).getResponseHeaders();
+		assertEquals("gzip", headers.getFirst(HttpHeaders.CONTENT_ENCODING));
+		assertNotEquals(((HttpResource) identity).getResponseHeaders().getETag(), headers.getETag());
+		assertTrue(resolved.contentLength() < CONTENT.length());
+		assertEquals(CONTENT, StreamUtils.copyToString(
+				new GZIPInputStream(resolved.getInputStream()), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void resolveBrotliVariant() throws IOException {
+		writeFile("app.js.br", new byte[] {1, 2, 3});
+
+		Resource resolved = resolve("app.js", "gzip, deflate, br");
+		assertEquals("br", ((HttpResource) resolved).getResponseHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+		assertEquals(3, resolved.contentLength());
+
+		resolved = resolve("app.js", "gzip");
+		assertEquals("gzip", ((HttpResource) resolved).getResponseHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+	}
+
+	@Test
+	public void resolveWithoutCompression() throws IOException {
+		this.cachingResolver.setCompress(false);
+
+		Resource resolved = resolve("app.js", "gzip");
+		HttpHeaders headers = ((HttpResource) resolved).getResponseHeaders();
+		assertNull(headers.getFirst(HttpHeaders.CONTENT_ENCODING));
+		assertNull(headers.getFirst(HttpHeaders.VARY));
+		assertEquals(CONTENT.length(), this.cachingResolver.getCacheSize());
+	}
+
+	@Test
+	public void resourceAboveMaxResourceSize() throws IOException {
+		this.cachingResolver.setMaxResourceSize(CONTENT.length() - 1);
+
+		Resource resolved = resolve("app.js", null);
+		assertTrue(resolved instanceof FileSystemResource);
+		assertEquals(0, this.cachingResolver.getCacheSize());
+	}
+
+	@Test
+	public void evictWhenAboveMaxCacheSize() throws IOException {
+		writeFile("other.js", CONTENT.getBytes(StandardCharsets.UTF_8));
+		this.cachingResolver = new ContentCachingResourceResolver(CONTENT.length() * 3 / 2);
+		this.cachingResolver.setCompress(false);
+		this.chain = new DefaultResourceResolverChain(Arrays.asList(this.cachingResolver, new PathResourceResolver()));
+
+		resolve("app.js", null);
+		resolve("other.js", null);
+		assertEquals(CONTENT.length(), this.cachingResolver.getCacheSize());
+
+		assertTrue(new File(this.folder.getRoot(), "app.js").delete());
+		assertNull(this.chain.resolveResource(null, "app.js", this.locations).block(TIMEOUT));
+		assertNotNull(resolve("other.js", null));
+	}
+
+	@Test
+	public void clearCache() throws IOException {
+		resolve("app.js", null);
+		this.cachingResolver.clearCache();
+		assertEquals(0, this.cachingResolver.getCacheSize());
+	}
+
+
+	private Resource resolve(String path, String acceptEncoding) {
+		MockServerHttpRequest.BaseBuilder<?> builder = MockServerHttpRequest.get("");
+		if (acceptEncoding != null) {
+			builder.header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+		}
+		MockServerWebExchange exchange = builder.toExchange();
+		Resource resource = this.chain.resolveResource(exchange, path, this.locations).block(TIMEOUT);
+		assertNotNull(resource);
+		return resource;
+	}
+
+	private void writeFile(String name, byte[] content) throws IOException {
+		Files.write(new File(this.folder.getRoot(), name).toPath(), content);
+	}
+
+}
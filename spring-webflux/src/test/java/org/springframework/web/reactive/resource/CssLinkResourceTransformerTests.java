@@ -21,6 +21,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -32,12 +33,14 @@ import reactor.test.StepVerifier;
 
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.mock.http.server.reactive.test.MockServerHttpRequest;
 import org.springframework.mock.http.server.reactive.test.MockServerWebExchange;
 import org.springframework.util.StringUtils;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Unit tests for {@link CssLinkResourceTransformer}.
@@ -151,6 +154,29 @@ public class CssLinkResourceTransformerTests {
 				.expectComplete().verify();
 	}
 
+	@Test
+	public void transformWithCachedGzipVariant() throws Exception {
+		ClassPathResource location = new ClassPathResource("test/", getClass());
+		ResourceResolverChain cachingChain = new DefaultResourceResolverChain(
+				Arrays.asList(new ContentCachingResourceResolver(), new PathResourceResolver()));
+
+		MockServerWebExchange exchange = MockServerHttpRequest.get("/static/main.css")
+				.header(HttpHeaders.ACCEPT_ENCODING, "gzip").toExchange();
+		Resource gzipped = cachingChain.resolveResource(exchange, "main.css",
+				Collections.singletonList(location)).block(Duration.ofSeconds(5));
+		assertTrue(((ContentCachingResourceResolver.CachedResource) gzipped).isEncoded());
+		StepVerifier.create(this.transformerChain.transform(exchange, gzipped))
+				.expectNext(gzipped)
+				.expectComplete().verify();
+
+		exchange = MockServerHttpRequest.get("/static/main.css").toExchange();
+		Resource identity = cachingChain.resolveResource(exchange, "main.css",
+				Collections.singletonList(location)).block(Duration.ofSeconds(5));
+		StepVerifier.create(this.transformerChain.transform(exchange, identity))
+				.expectNextMatches(resource -> resource instanceof TransformedResource)
+				.expectComplete().verify();
+	}
+
 	private void createTempCopy(String filePath, String copyFilePath) throws IOException {
 		Resource location = new ClassPathResource("test/", CssLinkResourceTransformerTests.class);
 		Path original = Paths.get(location.getFile().getAbsolutePath(), filePath);
@@ -362,6 +362,43 @@ public class ResourceWebHandlerTests {
 		assertResponseBody(exchange, "h1 { color:red; }");
 	}
 
+	@Test
+	public void getCachedContent() throws Exception {
+		this.handler.setResourceResolvers(Arrays.asList(new ContentCachingResourceResolver(), new PathResourceResolver()));
+		this.handler.afterPropertiesSet();
+
+		MockServerWebExchange exchange = MockServerHttpRequest.get("").toExchange();
+		setPathWithinHandlerMapping(exchange, "foo.css");
+		this.handler.handle(exchange).block(TIMEOUT);
+
+		HttpHeaders headers = exchange.getResponse().getHeaders();
+		assertEquals(MediaType.parseMediaType("text/css"), headers.getContentType());
+		assertEquals(17, headers.getContentLength());
+		assertEquals(resourceLastModified("test/foo.css") / 1000, headers.getLastModified() / 1000);
+		assertEquals("bytes", headers.getFirst("Accept-Ranges"));
+		assertResponseBody(exchange, "h1 { color:red; }");
+
+		String eTag = headers.getETag();
+		exchange = MockServerHttpRequest.get("").ifNoneMatch(eTag).toExchange();
+		setPathWithinHandlerMapping(exchange, "foo.css");
+		this.handler.handle(exchange).block(TIMEOUT);
+		assertEquals(HttpStatus.NOT_MODIFIED, exchange.getResponse().getStatusCode());
+	}
+
+	@Test
+	public void getCachedContentByteRange() throws Exception {
+		this.handler.setResourceResolvers(Arrays.asList(new ContentCachingResourceResolver(), new PathResourceResolver()));
+		this.handler.afterPropertiesSet();
+
+		MockServerWebExchange exchange = MockServerHttpRequest.get("").header("Range", "bytes=0-1").toExchange();
+		setPathWithinHandlerMapping(exchange, "foo.txt");
+		this.handler.handle(exchange).block(TIMEOUT);
+
+		assertEquals(HttpStatus.PARTIAL_CONTENT, exchange.getResponse().getStatusCode());
+		assertEquals("bytes 0-1/10", exchange.getResponse().getHeaders().getFirst("Content-Range"));
+		assertResponseBody(exchange, "So");
+	}
+
 	@Test
 	public void directory() throws Exception {
 		MockServerWebExchange exchange = MockServerHttpRequest.get("").toExchange();
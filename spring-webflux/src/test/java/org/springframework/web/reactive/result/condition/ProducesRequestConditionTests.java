@@ -28,6 +28,7 @@ import org.springframework.web.server.ServerWebExchange;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.springframework.mock.http.server.reactive.test.MockServerHttpRequest.get;
@@ -47,6 +48,14 @@ public class ProducesRequestConditionTests {
 		assertNotNull(condition.getMatchingCondition(exchange));
 	}
 
+	@Test
+	public void matchAllExpressionsReturnsSameInstance() throws Exception {
+		ServerWebExchange exchange = MockServerHttpRequest.get("/").header("Accept", "*/*").toExchange();
+		ProducesRequestCondition condition = new ProducesRequestCondition("text/plain", "application/xml");
+
+		assertSame(condition, condition.getMatchingCondition(exchange));
+	}
+
 	@Test
 	public void matchNegated() throws Exception {
 		ServerWebExchange exchange = MockServerHttpRequest.get("/").header("Accept", "text/plain").toExchange();
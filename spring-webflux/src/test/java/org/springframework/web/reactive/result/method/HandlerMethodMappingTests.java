@@ -19,6 +19,7 @@ package org.springframework.web.reactive.result.method;
 import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Map;
 import java.util.Set;
 
 import org.hamcrest.Matchers;
@@ -133,11 +134,103 @@ public class HandlerMethodMappingTests {
 		assertThat(this.mapping.getMappingRegistry().getMappings().keySet(), Matchers.not(Matchers.contains(key)));
 	}
 
+	@Test
+	public void lockFreeLookup() throws Exception {
+		this.mapping.setLockFreeLookup(true);
+		this.mapping.registerMapping("/foo", this.handler, this.method1);
+		this.mapping.registerMapping("/fo*", this.handler, this.method2);
+
+		Mono<Object> result = this.mapping.getHandler(MockServerHttpRequest.get("/foo").toExchange());
+		assertEquals(this.method1, ((HandlerMethod) result.block()).getMethod());
+		result = this.mapping.getHandler(MockServerHttpRequest.get("/fox").toExchange());
+		assertEquals(this.method2, ((HandlerMethod) result.block()).getMethod());
+
+		Map<String, HandlerMethod> mappings = this.mapping.getMappingRegistry().getMappings();
+		assertSame(mappings, this.mapping.getMappingRegistry().getMappings());
+
+		this.mapping.unregisterMapping("/foo");
+		assertThat(mappings.keySet(), Matchers.contains("/foo", "/fo*"));
+		assertThat(this.mapping.getMappingRegistry().getMappings().keySet(), Matchers.contains("/fo*"));
+		result = this.mapping.getHandler(MockServerHttpRequest.get("/foo").toExchange());
+		assertEquals(this.method2, ((HandlerMethod) result.block()).getMethod());
+	}
+
+	@Test
+	public void lookupCache() throws Exception {
+		MyHandlerMethodMapping mapping = new MyHandlerMethodMapping();
+		mapping.setLookupCacheLimit(1);
+		mapping.registerMapping("/foo", this.handler, this.method1);
+		mapping.registerMapping("/fo*", this.handler, this.method2);
+
+		Mono<Object> result = mapping.getHandler(MockServerHttpRequest.get("/fox").toExchange());
+		assertEquals(this.method2, ((HandlerMethod) result.block()).getMethod());
+		int matchCount = mapping.getMatchCount();
+		result = mapping.getHandler(MockServerHttpRequest.get("/fox").toExchange());
+		assertEquals(this.method2, ((HandlerMethod) result.block()).getMethod());
+		assertEquals(matchCount, mapping.getMatchCount());
+
+		result = mapping.getHandler(MockServerHttpRequest.get("/foo").toExchange());
+		assertEquals(this.method1, ((HandlerMethod) result.block()).getMethod());
+		matchCount = mapping.getMatchCount();
+		result = mapping.getHandler(MockServerHttpRequest.get("/fox").toExchange());
+		assertEquals(this.method2, ((HandlerMethod) result.block()).getMethod());
+		assertTrue(mapping.getMatchCount() > matchCount);
+
+		mapping.unregisterMapping("/fo*");
+		assertNull(mapping.getHandler(MockServerHttpRequest.get("/fox").toExchange()).block());
+	}
+
+	@Test
+	public void pathPrefixLookup() throws Exception {
+		MyHandlerMethodMapping mapping = new MyHandlerMethodMapping();
+		mapping.setPathPrefixLookup(true);
+		mapping.registerMapping("/foo/{id}", this.handler, this.method1);
+		mapping.registerMapping("/bar/{id}", this.handler, this.method2);
+
+		assertThat(mapping.getMappingRegistry().getMappingsByPathPrefix("/foo/1"), Matchers.contains("/foo/{id}"));
+		assertThat(mapping.getMappingRegistry().getMappingsByPathPrefix("/bar/1"), Matchers.contains("/bar/{id}"));
+		assertThat(mapping.getMappingRegistry().getMappingsByPathPrefix("/baz/1"), Matchers.empty());
+
+		Mono<Object> result = mapping.getHandler(MockServerHttpRequest.get("/bar/1").toExchange());
+		assertEquals(this.method2, ((HandlerMethod) result.block()).getMethod());
+	}
+
+	@Test
+	public void pathPrefixLookupIndexesLiteralDirectories() throws Exception {
+		MyHandlerMethodMapping mapping = new MyHandlerMethodMapping();
+		mapping.setPathPrefixLookup(true);
+		mapping.registerMapping("/{type}/list", this.handler, this.method1);
+		mapping.registerMapping("/foo/{*rest}", this.handler, this.method1);
+		mapping.registerMapping("/Foo/bar", this.handler, this.method2);
+		mapping.registerMapping("/foo/bar/baz", this.handler, this.method2);
+
+		assertThat(mapping.getMappingRegistry().getMappingsByPathPrefix("/foo"),
+				Matchers.contains("/{type}/list", "/foo/{*rest}", "/Foo/bar"));
+		assertThat(mapping.getMappingRegistry().getMappingsByPathPrefix("//foo/bar/"),
+				Matchers.contains("/{type}/list", "/foo/{*rest}", "/Foo/bar", "/foo/bar/baz"));
+
+		mapping.unregisterMapping("/foo/{*rest}");
+		assertThat(mapping.getMappingRegistry().getMappingsByPathPrefix("/foo/bar"),
+				Matchers.contains("/{type}/list", "/Foo/bar", "/foo/bar/baz"));
+	}
+
 
 	private static class MyHandlerMethodMapping extends AbstractHandlerMethodMapping<String> {
 
 		private PathMatcher pathMatcher = new ParsingPathMatcher();
 
+		private boolean pathPrefixLookup;
+
+		private int matchCount;
+
+		public void setPathPrefixLookup(boolean pathPrefixLookup) {
+			this.pathPrefixLookup = pathPrefixLookup;
+		}
+
+		public int getMatchCount() {
+			return this.matchCount;
+		}
+
 		@Override
 		protected boolean isHandler(Class<?> beanType) {
 			return true;
@@ -151,11 +244,20 @@ public class HandlerMethodMappingTests {
 
 		@Override
 		protected Set<String> getMappingPathPatterns(String key) {
+			if (this.pathPrefixLookup) {
+				return Collections.singleton(key);
+			}
 			return (this.pathMatcher.isPattern(key) ? Collections.emptySet() : Collections.singleton(key));
 		}
 
+		@Override
+		protected boolean supportsPathPrefixLookup() {
+			return this.pathPrefixLookup;
+		}
+
 		@Override
 		protected String getMatchingMapping(String pattern, ServerWebExchange exchange) {
+			this.matchCount++;
 			String lookupPath = exchange.getRequest().getURI().getPath();
 			return (this.pathMatcher.match(pattern, lookupPath) ? pattern : null);
 		}
@@ -166,6 +268,16 @@ public class HandlerMethodMappingTests {
 			return this.pathMatcher.getPatternComparator(lookupPath);
 		}
 
+		@Override
+		protected Object getLookupCacheKey(String lookupPath, ServerWebExchange exchange) {
+			return lookupPath;
+		}
+
+		@Override
+		protected boolean isLookupCacheable(String mapping, ServerWebExchange exchange) {
+			return true;
+		}
+
 	}
 
 	@Controller
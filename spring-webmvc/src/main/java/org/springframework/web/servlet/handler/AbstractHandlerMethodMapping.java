@@ -92,6 +92,29 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 
 	private final MappingRegistry mappingRegistry = new MappingRegistry();
 
+	private volatile int lookupCacheLimit = 0;
+
+	/** Fast access cache for lookup results, returning cached matches without a global lock */
+	private final Map<Object, Match> lookupAccessCache = new ConcurrentHashMap<>();
+
+	/** Map from lookup cache key to lookup result, synchronized for lookup result creation */
+	@SuppressWarnings("serial")
+	private final Map<Object, Match> lookupCreationCache = new LinkedHashMap<Object, Match>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Object, Match> eldest) {
+			if (size() > getLookupCacheLimit()) {
+				lookupAccessCache.remove(eldest.getKey());
+				return true;
+			}
+			else {
+				return false;
+			}
+		}
+	};
+
+	/** Incremented whenever the lookup cache is cleared, guarded by the creation cache */
+	private volatile int lookupCacheGeneration;
+
 
 	/**
 	 * Whether to detect handler methods in beans in ancestor ApplicationContexts.
@@ -124,6 +147,45 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 		return this.namingStrategy;
 	}
 
+	/**
+	 * Whether to look up handler methods in immutable snapshots of the registered
+	 * mappings rather than under a read lock. A new snapshot is taken on the first
+	 * lookup after mappings have been registered or unregistered, so lookups take
+	 * no lock in between, at the expense of copying all mappings after a change.
+	 * <p>Default is "false". Switch this flag on for highly concurrent request
+	 * processing with mappings that rarely change after initialization.
+	 * This flag must be set before the handler mapping is in use.
+	 * @since 5.0
+	 */
+	public void setLockFreeLookup(boolean lockFreeLookup) {
+		this.mappingRegistry.setLockFree(lockFreeLookup);
+	}
+
+	/**
+	 * Specify the maximum number of lookup results to cache, each holding the
+	 * best-matching mapping and handler method for a
+	 * {@link #getLookupCacheKey lookup cache key}. A result is only cached if
+	 * the outcome of matching all checked mappings is
+	 * {@link #isLookupCacheable determined by that key}. The cache is cleared
+	 * whenever mappings are registered or unregistered.
+	 * <p>Default is 0, i.e. lookup results are not cached. Caching also requires
+	 * a subclass that provides lookup cache keys.
+	 * @since 5.0
+	 */
+	public void setLookupCacheLimit(int lookupCacheLimit) {
+		Assert.isTrue(lookupCacheLimit >= 0, "'lookupCacheLimit' must not be negative");
+		this.lookupCacheLimit = lookupCacheLimit;
+		clearLookupCache();
+	}
+
+	/**
+	 * Return the maximum number of lookup results to cache.
+	 * @since 5.0
+	 */
+	public int getLookupCacheLimit() {
+		return this.lookupCacheLimit;
+	}
+
 	/**
 	 * Return a (read-only) map with all mappings and HandlerMethod's.
 	 */
@@ -340,14 +402,26 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 	 */
 	@Nullable
 	protected HandlerMethod lookupHandlerMethod(String lookupPath, HttpServletRequest request) throws Exception {
+		int cacheGeneration = this.lookupCacheGeneration;
+		Object cacheKey = (this.lookupCacheLimit > 0 ? getLookupCacheKey(lookupPath, request) : null);
+		if (cacheKey != null) {
+			Match cachedMatch = this.lookupAccessCache.get(cacheKey);
+			if (cachedMatch != null) {
+				handleMatch(cachedMatch.mapping, lookupPath, request);
+				return cachedMatch.handlerMethod;
+			}
+		}
+
 		List<Match> matches = new ArrayList<>();
+		boolean cacheable = (cacheKey != null);
 		List<T> directPathMatches = this.mappingRegistry.getMappingsByUrl(lookupPath);
 		if (directPathMatches != null) {
-			addMatchingMappings(directPathMatches, matches, request);
+			cacheable = addMatchingMappings(directPathMatches, matches, request, cacheable);
 		}
 		if (matches.isEmpty()) {
-			// No choice but to go through all mappings...
-			addMatchingMappings(this.mappingRegistry.getMappings().keySet(), matches, request);
+			// Go through all mappings that may match, or all mappings if not indexed...
+			cacheable = addMatchingMappings(
+					this.mappingRegistry.getMappingsByPathPrefix(lookupPath), matches, request, cacheable);
 		}
 
 		if (!matches.isEmpty()) {
@@ -370,6 +444,9 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 							request.getRequestURL() + "': {" + m1 + ", " + m2 + "}");
 				}
 			}
+			if (cacheable) {
+				cacheLookupResult(cacheKey, bestMatch, cacheGeneration);
+			}
 			handleMatch(bestMatch.mapping, lookupPath, request);
 			return bestMatch.handlerMethod;
 		}
@@ -378,15 +455,42 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 		}
 	}
 
-	private void addMatchingMappings(Collection<T> mappings, List<Match> matches, HttpServletRequest request) {
+	private boolean addMatchingMappings(Collection<T> mappings, List<Match> matches,
+			HttpServletRequest request, boolean cacheable) {
+
+		Map<T, HandlerMethod> handlerMethods = this.mappingRegistry.getMappings();
 		for (T mapping : mappings) {
+			cacheable = (cacheable && isLookupCacheable(mapping, request));
 			T match = getMatchingMapping(mapping, request);
 			if (match != null) {
-				matches.add(new Match(match, this.mappingRegistry.getMappings().get(mapping)));
+				HandlerMethod handlerMethod = handlerMethods.get(mapping);
+				// Null if unregistered in the meantime, with lock-free lookups
+				if (handlerMethod != null) {
+					matches.add(new Match(match, handlerMethod));
+				}
+			}
+		}
+		return cacheable;
+	}
+
+	private void cacheLookupResult(Object cacheKey, Match match, int cacheGeneration) {
+		synchronized (this.lookupCreationCache) {
+			// Skip results based on mappings that changed in the meantime
+			if (cacheGeneration == this.lookupCacheGeneration) {
+				this.lookupAccessCache.put(cacheKey, match);
+				this.lookupCreationCache.put(cacheKey, match);
 			}
 		}
 	}
 
+	private void clearLookupCache() {
+		synchronized (this.lookupCreationCache) {
+			this.lookupCacheGeneration++;
+			this.lookupAccessCache.clear();
+			this.lookupCreationCache.clear();
+		}
+	}
+
 	/**
 	 * Invoked when a matching mapping is found.
 	 * @param mapping the matching mapping
@@ -428,6 +532,49 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 	}
 
 
+	/**
+	 * Whether the path patterns returned from {@link #getMappingPathPatterns}
+	 * fully restrict the lookup paths a mapping can match, with literal path
+	 * segments matched as they are. If so, mappings are indexed by the literal
+	 * prefix of their patterns, and only those sharing a prefix with the lookup
+	 * path are checked, rather than all registered mappings.
+	 * <p>By default this returns {@code false}.
+	 * @since 5.0
+	 */
+	protected boolean supportsPathPrefixLookup() {
+		return false;
+	}
+
+	/**
+	 * Return the key under which the result of the handler method lookup for
+	 * the given request may be {@link #setLookupCacheLimit cached}, or
+	 * {@code null} if the request is not eligible for caching. The key must
+	 * reflect all request input that {@link #isLookupCacheable cacheable}
+	 * mappings are matched against.
+	 * <p>By default this returns {@code null}.
+	 * @param lookupPath mapping lookup path within the current servlet mapping
+	 * @param request the current request
+	 * @since 5.0
+	 */
+	@Nullable
+	protected Object getLookupCacheKey(String lookupPath, HttpServletRequest request) {
+		return null;
+	}
+
+	/**
+	 * Whether the outcome of matching the given mapping to the given request is
+	 * fully determined by its {@link #getLookupCacheKey lookup cache key}.
+	 * The lookup result is cached only if this holds for all checked mappings.
+	 * <p>By default this returns {@code false}.
+	 * @param mapping the mapping to check
+	 * @param request the current request
+	 * @since 5.0
+	 */
+	protected boolean isLookupCacheable(T mapping, HttpServletRequest request) {
+		return false;
+	}
+
+
 	// Abstract template methods
 
 	/**
@@ -484,29 +631,51 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 
 		private final Map<T, HandlerMethod> mappingLookup = new LinkedHashMap<>();
 
-		private final MultiValueMap<String, T> urlLookup = new LinkedMultiValueMap<>();
+		private final LinkedMultiValueMap<String, T> urlLookup = new LinkedMultiValueMap<>();
 
 		private final Map<String, List<HandlerMethod>> nameLookup = new ConcurrentHashMap<>();
 
+		private final PathPrefixIndex<T> pathPrefixIndex = new PathPrefixIndex<>();
+
 		private final Map<HandlerMethod, CorsConfiguration> corsLookup = new ConcurrentHashMap<>();
 
 		private final ReentrantReadWriteLock readWriteLock = new ReentrantReadWriteLock();
 
+		private boolean lockFree;
+
+		private volatile MappingSnapshot snapshot;
+
 		/**
-		 * Return all mappings and handler methods. Not thread-safe.
+		 * Return all mappings and handler methods. Not thread-safe, unless
+		 * lookups are lock-free.
 		 * @see #acquireReadLock()
 		 */
 		public Map<T, HandlerMethod> getMappings() {
-			return this.mappingLookup;
+			return (this.lockFree ? getSnapshot().mappingLookup : this.mappingLookup);
 		}
 
 		/**
-		 * Return matches for the given URL path. Not thread-safe.
+		 * Return matches for the given URL path. Not thread-safe, unless
+		 * lookups are lock-free.
 		 * @see #acquireReadLock()
 		 */
 		@Nullable
 		public List<T> getMappingsByUrl(String urlPath) {
-			return this.urlLookup.get(urlPath);
+			return (this.lockFree ? getSnapshot().urlLookup : this.urlLookup).get(urlPath);
+		}
+
+		/**
+		 * Return the mappings that may match the given lookup path, i.e. those
+		 * sharing the literal prefix of their path patterns with the lookup path
+		 * if {@link #supportsPathPrefixLookup() supported}, or all mappings
+		 * otherwise. Not thread-safe, unless lookups are lock-free.
+		 * @see #acquireReadLock()
+		 */
+		public Collection<T> getMappingsByPathPrefix(String lookupPath) {
+			if (!supportsPathPrefixLookup()) {
+				return getMappings().keySet();
+			}
+			return (this.lockFree ? getSnapshot().pathPrefixIndex : this.pathPrefixIndex).getCandidates(lookupPath);
 		}
 
 		/**
@@ -526,16 +695,51 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 
 		/**
 		 * Acquire the read lock when using getMappings and getMappingsByUrl.
+		 * A no-op if lookups are lock-free.
 		 */
 		public void acquireReadLock() {
-			this.readWriteLock.readLock().lock();
+			if (!this.lockFree) {
+				this.readWriteLock.readLock().lock();
+			}
 		}
 
 		/**
 		 * Release the read lock after using getMappings and getMappingsByUrl.
+		 * A no-op if lookups are lock-free.
 		 */
 		public void releaseReadLock() {
-			this.readWriteLock.readLock().unlock();
+			if (!this.lockFree) {
+				this.readWriteLock.readLock().unlock();
+			}
+		}
+
+		/**
+		 * Whether to read mappings from immutable snapshots rather than under
+		 * the read lock.
+		 * @see #setLockFreeLookup
+		 */
+		public void setLockFree(boolean lockFree) {
+			this.lockFree = lockFree;
+		}
+
+		/**
+		 * Return the current snapshot of all mappings, taking a new snapshot if
+		 * mappings have changed since the last one. Thread-safe for concurrent use.
+		 */
+		private MappingSnapshot getSnapshot() {
+			MappingSnapshot snapshot = this.snapshot;
+			if (snapshot == null) {
+				// The read lock excludes changes while copying and publishing
+				this.readWriteLock.readLock().lock();
+				try {
+					snapshot = new MappingSnapshot(this.mappingLookup, this.urlLookup, this.pathPrefixIndex);
+					this.snapshot = snapshot;
+				}
+				finally {
+					this.readWriteLock.readLock().unlock();
+				}
+			}
+			return snapshot;
 		}
 
 		public void register(T mapping, Object handler, Method method) {
@@ -548,6 +752,8 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 					logger.info("Mapped \"" + mapping + "\" onto " + handlerMethod);
 				}
 				this.mappingLookup.put(mapping, handlerMethod);
+				this.pathPrefixIndex.add(mapping, getMappingPathPatterns(mapping));
+				this.snapshot = null;
 
 				List<String> directUrls = getDirectUrls(mapping);
 				for (String url : directUrls) {
@@ -566,6 +772,7 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 				}
 
 				this.registry.put(mapping, new MappingRegistration<>(mapping, handlerMethod, directUrls, name));
+				clearLookupCache();
 			}
 			finally {
 				this.readWriteLock.writeLock().unlock();
@@ -630,6 +837,8 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 				}
 
 				this.mappingLookup.remove(definition.getMapping());
+				this.pathPrefixIndex.remove(definition.getMapping());
+				this.snapshot = null;
 
 				for (String url : definition.getDirectUrls()) {
 					List<T> list = this.urlLookup.get(url);
@@ -644,6 +853,7 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 				removeMappingName(definition);
 
 				this.corsLookup.remove(definition.getHandlerMethod());
+				clearLookupCache();
 			}
 			finally {
 				this.readWriteLock.writeLock().unlock();
@@ -715,6 +925,155 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 	}
 
 
+	/**
+	 * An immutable copy of the mappings used for lookups, for lock-free access.
+	 */
+	private class MappingSnapshot {
+
+		private final Map<T, HandlerMethod> mappingLookup;
+
+		private final MultiValueMap<String, T> urlLookup;
+
+		private final PathPrefixIndex<T> pathPrefixIndex;
+
+		public MappingSnapshot(Map<T, HandlerMethod> mappingLookup, LinkedMultiValueMap<String, T> urlLookup,
+				PathPrefixIndex<T> pathPrefixIndex) {
+
+			this.mappingLookup = Collections.unmodifiableMap(new LinkedHashMap<>(mappingLookup));
+			this.urlLookup = urlLookup.deepCopy();
+			this.pathPrefixIndex = pathPrefixIndex.copy();
+		}
+	}
+
+
+	/**
+	 * A prefix tree of mappings, keyed by the literal leading directory segments
+	 * of their path patterns, i.e. the segments before the last one and before the
+	 * first segment with a wildcard or URI variable. Each mapping is stored under
+	 * the longest prefix shared by all of its patterns, so that a lookup only needs
+	 * to collect the mappings along the segments of the lookup path.
+	 * <p>Segments are trimmed and lower-cased, which may yield extra candidates
+	 * for case-sensitive matching but never excludes a potential match.
+	 */
+	private static class PathPrefixIndex<T> {
+
+		private final Node<T> root = new Node<>();
+
+		private final Map<T, Node<T>> nodes = new HashMap<>();
+
+		public void add(T mapping, Collection<String> patterns) {
+			Node<T> node = this.root;
+			for (String segment : getCommonPrefix(patterns)) {
+				node = node.children.computeIfAbsent(segment, key -> new Node<>());
+			}
+			node.mappings.add(mapping);
+			this.nodes.put(mapping, node);
+		}
+
+		public void remove(T mapping) {
+			Node<T> node = this.nodes.remove(mapping);
+			if (node != null) {
+				node.mappings.remove(mapping);
+			}
+		}
+
+		public PathPrefixIndex<T> copy() {
+			PathPrefixIndex<T> copy = new PathPrefixIndex<>();
+			copyNode(this.root, copy.root, copy.nodes);
+			return copy;
+		}
+
+		private static <T> void copyNode(Node<T> source, Node<T> target, Map<T, Node<T>> nodes) {
+			target.mappings.addAll(source.mappings);
+			for (T mapping : source.mappings) {
+				nodes.put(mapping, target);
+			}
+			source.children.forEach((segment, child) -> {
+				Node<T> node = new Node<>();
+				target.children.put(segment, node);
+				copyNode(child, node, nodes);
+			});
+		}
+
+		public List<T> getCandidates(String lookupPath) {
+			List<T> candidates = new ArrayList<>(this.root.mappings);
+			Node<T> node = this.root;
+			for (String segment : getSegments(lookupPath, lookupPath.length())) {
+				node = node.children.get(segment);
+				if (node == null) {
+					break;
+				}
+				candidates.addAll(node.mappings);
+			}
+			return candidates;
+		}
+
+		private static List<String> getCommonPrefix(Collection<String> patterns) {
+			List<String> prefix = null;
+			for (String pattern : patterns) {
+				List<String> segments = getLiteralPrefix(pattern);
+				if (prefix == null) {
+					prefix = segments;
+				}
+				else {
+					int length = 0;
+					while (length < prefix.size() && length < segments.size() &&
+							prefix.get(length).equals(segments.get(length))) {
+						length++;
+					}
+					prefix = prefix.subList(0, length);
+				}
+			}
+			return (prefix != null ? prefix : Collections.emptyList());
+		}
+
+		private static List<String> getLiteralPrefix(String pattern) {
+			int end = pattern.length();
+			for (int i = 0; i < pattern.length(); i++) {
+				char c = pattern.charAt(i);
+				if (c == '*' || c == '?' || c == '{') {
+					end = i;
+					break;
+				}
+			}
+			return getSegments(pattern, Math.max(pattern.lastIndexOf('/', end - 1), 0));
+		}
+
+		private static List<String> getSegments(String path, int end) {
+			List<String> segments = new ArrayList<>();
+			int start = 0;
+			while (start < end) {
+				int index = path.indexOf('/', start);
+				if (index == -1 || index > end) {
+					index = end;
+				}
+				String segment = path.substring(start, index).trim();
+				if (!segment.isEmpty()) {
+					segments.add(toLowerCase(segment));
+				}
+				start = index + 1;
+			}
+			return segments;
+		}
+
+		private static String toLowerCase(String segment) {
+			char[] chars = segment.toCharArray();
+			for (int i = 0; i < chars.length; i++) {
+				chars[i] = Character.toLowerCase(chars[i]);
+			}
+			return new String(chars);
+		}
+
+
+		private static class Node<T> {
+
+			private final Map<String, Node<T>> children = new HashMap<>();
+
+			private final List<T> mappings = new ArrayList<>(1);
+		}
+	}
+
+
 	/**
 	 * A thin wrapper around a matched HandlerMethod and its mapping, for the purpose of
 	 * comparing the best match with a comparator in the context of the current request.
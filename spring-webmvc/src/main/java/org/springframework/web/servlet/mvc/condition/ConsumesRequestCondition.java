@@ -50,6 +50,8 @@ public final class ConsumesRequestCondition extends AbstractRequestCondition<Con
 
 	private final static ConsumesRequestCondition PRE_FLIGHT_MATCH = new ConsumesRequestCondition();
 
+	private static final String CONTENT_TYPE_ATTRIBUTE = ConsumesRequestCondition.class.getName() + ".CONTENT_TYPE";
+
 
 	private final List<ConsumeMediaTypeExpression> expressions;
 
@@ -157,8 +159,8 @@ public final class ConsumesRequestCondition extends AbstractRequestCondition<Con
 	 * to contain matching expressions only. The match is performed via
 	 * {@link MediaType#includes(MediaType)}.
 	 * @param request the current request
-	 * @return the same instance if the condition contains no expressions;
-	 * or a new condition with matching expressions only;
+	 * @return the same instance if the condition contains no expressions or
+	 * if all of them match; or a new condition with matching expressions only;
 	 * or {@code null} if no expressions match.
 	 */
 	@Override
@@ -171,9 +173,7 @@ public final class ConsumesRequestCondition extends AbstractRequestCondition<Con
 		}
 		MediaType contentType;
 		try {
-			contentType = StringUtils.hasLength(request.getContentType()) ?
-					MediaType.parseMediaType(request.getContentType()) :
-					MediaType.APPLICATION_OCTET_STREAM;
+			contentType = getContentType(request);
 		}
 		catch (InvalidMediaTypeException ex) {
 			return null;
@@ -185,9 +185,23 @@ public final class ConsumesRequestCondition extends AbstractRequestCondition<Con
 				iterator.remove();
 			}
 		}
+		if (result.size() == this.expressions.size()) {
+			return this;
+		}
 		return (result.isEmpty()) ? null : new ConsumesRequestCondition(result);
 	}
 
+	private static MediaType getContentType(HttpServletRequest request) throws InvalidMediaTypeException {
+		MediaType contentType = (MediaType) request.getAttribute(CONTENT_TYPE_ATTRIBUTE);
+		if (contentType == null) {
+			contentType = StringUtils.hasLength(request.getContentType()) ?
+					MediaType.parseMediaType(request.getContentType()) :
+					MediaType.APPLICATION_OCTET_STREAM;
+			request.setAttribute(CONTENT_TYPE_ATTRIBUTE, contentType);
+		}
+		return contentType;
+	}
+
 	/**
 	 * Returns:
 	 * <ul>
@@ -216,6 +230,18 @@ public final class ConsumesRequestCondition extends AbstractRequestCondition<Con
 	}
 
 
+	/**
+	 * Remove the content type that was parsed and stored as a request attribute
+	 * while matching, so that it is parsed once per handler lookup rather than
+	 * once per candidate mapping.
+	 * @param request the current request
+	 * @since 5.0
+	 */
+	public static void clearContentTypeAttribute(HttpServletRequest request) {
+		request.removeAttribute(CONTENT_TYPE_ATTRIBUTE);
+	}
+
+
 	/**
 	 * Parses and matches a single media type expression to a request's 'Content-Type' header.
 	 */
@@ -191,8 +191,9 @@ public final class PatternsRequestCondition extends AbstractRequestCondition<Pat
 	 * <li>Pattern match with "/" appended if the pattern doesn't already end in "/"
 	 * </ul>
 	 * @param request the current request
-	 * @return the same instance if the condition contains no patterns;
-	 * or a new condition with sorted matching patterns;
+	 * @return the same instance if the condition contains no patterns or if
+	 * all of them match as they are and in order; or a new condition with
+	 * sorted matching patterns;
 	 * or {@code null} if no patterns match.
 	 */
 	@Override
@@ -205,9 +206,27 @@ public final class PatternsRequestCondition extends AbstractRequestCondition<Pat
 		String lookupPath = this.pathHelper.getLookupPathForRequest(request);
 		List<String> matches = getMatchingPatterns(lookupPath);
 
-		return matches.isEmpty() ? null :
-			new PatternsRequestCondition(matches, this.pathHelper, this.pathMatcher, this.useSuffixPatternMatch,
-					this.useTrailingSlashMatch, this.fileExtensions);
+		if (matches.isEmpty()) {
+			return null;
+		}
+		else if (isSamePatterns(matches)) {
+			return this;
+		}
+		return new PatternsRequestCondition(matches, this.pathHelper, this.pathMatcher, this.useSuffixPatternMatch,
+				this.useTrailingSlashMatch, this.fileExtensions);
+	}
+
+	private boolean isSamePatterns(List<String> matches) {
+		if (matches.size() != this.patterns.size()) {
+			return false;
+		}
+		Iterator<String> iterator = this.patterns.iterator();
+		for (String match : matches) {
+			if (!match.equals(iterator.next())) {
+				return false;
+			}
+		}
+		return true;
 	}
 
 	/**
@@ -52,6 +52,8 @@ public final class ProducesRequestCondition extends AbstractRequestCondition<Pro
 
 	private static final ProducesRequestCondition EMPTY_CONDITION = new ProducesRequestCondition();
 
+	private static final String MEDIA_TYPES_ATTRIBUTE = ProducesRequestCondition.class.getName() + ".MEDIA_TYPES";
+
 
 	private final List<ProduceMediaTypeExpression> MEDIA_TYPE_ALL_LIST =
 			Collections.singletonList(new ProduceMediaTypeExpression("*/*"));
@@ -180,8 +182,8 @@ public final class ProducesRequestCondition extends AbstractRequestCondition<Pro
 	 * to contain matching expressions only. The match is performed via
 	 * {@link MediaType#isCompatibleWith(MediaType)}.
 	 * @param request the current request
-	 * @return the same instance if there are no expressions;
-	 * or a new condition with matching expressions;
+	 * @return the same instance if there are no expressions or if all of them
+	 * match; or a new condition with matching expressions;
 	 * or {@code null} if no expressions match.
 	 */
 	@Override
@@ -206,7 +208,10 @@ public final class ProducesRequestCondition extends AbstractRequestCondition<Pro
 				iterator.remove();
 			}
 		}
-		if (!result.isEmpty()) {
+		if (result.size() == this.expressions.size()) {
+			return this;
+		}
+		else if (!result.isEmpty()) {
 			return new ProducesRequestCondition(result, this.contentNegotiationManager);
 		}
 		else if (acceptedMediaTypes.contains(MediaType.ALL)) {
@@ -260,9 +265,15 @@ public final class ProducesRequestCondition extends AbstractRequestCondition<Pro
 		}
 	}
 
+	@SuppressWarnings("unchecked")
 	private List<MediaType> getAcceptedMediaTypes(HttpServletRequest request) throws HttpMediaTypeNotAcceptableException {
-		List<MediaType> mediaTypes = this.contentNegotiationManager.resolveMediaTypes(new ServletWebRequest(request));
-		return mediaTypes.isEmpty() ? Collections.singletonList(MediaType.ALL) : mediaTypes;
+		List<MediaType> mediaTypes = (List<MediaType>) request.getAttribute(MEDIA_TYPES_ATTRIBUTE);
+		if (mediaTypes == null) {
+			mediaTypes = this.contentNegotiationManager.resolveMediaTypes(new ServletWebRequest(request));
+			mediaTypes = (mediaTypes.isEmpty() ? Collections.singletonList(MediaType.ALL) : mediaTypes);
+			request.setAttribute(MEDIA_TYPES_ATTRIBUTE, mediaTypes);
+		}
+		return mediaTypes;
 	}
 
 	private int indexOfEqualMediaType(MediaType mediaType) {
@@ -310,6 +321,18 @@ public final class ProducesRequestCondition extends AbstractRequestCondition<Pro
 	}
 
 
+	/**
+	 * Remove the requested media types that were resolved and stored as a
+	 * request attribute while matching, so that they are resolved once per
+	 * handler lookup rather than once per candidate mapping.
+	 * @param request the current request
+	 * @since 5.0
+	 */
+	public static void clearMediaTypesAttribute(HttpServletRequest request) {
+		request.removeAttribute(MEDIA_TYPES_ATTRIBUTE);
+	}
+
+
 	/**
 	 * Parses and matches a single media type expression to a request's 'Accept' header.
 	 */
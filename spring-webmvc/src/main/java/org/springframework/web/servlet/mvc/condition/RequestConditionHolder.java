@@ -107,7 +107,8 @@ public final class RequestConditionHolder extends AbstractRequestCondition<Reque
 	/**
 	 * Get the matching condition for the held request condition wrap it in a
 	 * new RequestConditionHolder instance. Or otherwise if this is an empty
-	 * holder, return the same holder instance.
+	 * holder, or if the held condition matches as it is, return the same
+	 * holder instance.
 	 */
 	@Override
 	public RequestConditionHolder getMatchingCondition(HttpServletRequest request) {
@@ -115,6 +116,9 @@ public final class RequestConditionHolder extends AbstractRequestCondition<Reque
 			return this;
 		}
 		RequestCondition<?> match = (RequestCondition<?>) this.condition.getMatchingCondition(request);
+		if (match == this.condition) {
+			return this;
+		}
 		return (match != null ? new RequestConditionHolder(match) : null);
 	}
 
@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import javax.servlet.DispatcherType;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 
@@ -33,18 +34,27 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.InvalidMediaTypeException;
 import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
+import org.springframework.util.AntPathMatcher;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.MultiValueMap;
+import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.web.HttpMediaTypeNotAcceptableException;
 import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
+import org.springframework.web.accept.ContentNegotiationStrategy;
+import org.springframework.web.accept.HeaderContentNegotiationStrategy;
 import org.springframework.web.bind.UnsatisfiedServletRequestParameterException;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.cors.CorsUtils;
 import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.HandlerMapping;
 import org.springframework.web.servlet.handler.AbstractHandlerMethodMapping;
+import org.springframework.web.servlet.mvc.condition.ConsumesRequestCondition;
 import org.springframework.web.servlet.mvc.condition.NameValueExpression;
+import org.springframework.web.servlet.mvc.condition.ProducesRequestCondition;
 import org.springframework.web.util.WebUtils;
 
 /**
@@ -59,6 +69,9 @@ public abstract class RequestMappingInfoHandlerMapping extends AbstractHandlerMe
 
 	private static final Method HTTP_OPTIONS_HANDLE_METHOD;
 
+	private static final ContentNegotiationStrategy HEADER_NEGOTIATION_STRATEGY =
+			new HeaderContentNegotiationStrategy();
+
 	static {
 		try {
 			HTTP_OPTIONS_HANDLE_METHOD = HttpOptionsHandler.class.getMethod("handle");
@@ -83,6 +96,82 @@ public abstract class RequestMappingInfoHandlerMapping extends AbstractHandlerMe
 		return info.getPatternsCondition().getPatterns();
 	}
 
+	/**
+	 * Mappings are indexed by the literal prefix of their URL patterns as long
+	 * as the default {@link AntPathMatcher} is used.
+	 */
+	@Override
+	protected boolean supportsPathPrefixLookup() {
+		return (getPathMatcher().getClass() == AntPathMatcher.class);
+	}
+
+	/**
+	 * Look up a handler method, resolving the requested media types and
+	 * parsing the content type of the request once for all mappings checked.
+	 */
+	@Override
+	protected HandlerMethod getHandlerInternal(HttpServletRequest request) throws Exception {
+		try {
+			return super.getHandlerInternal(request);
+		}
+		finally {
+			ProducesRequestCondition.clearMediaTypesAttribute(request);
+			ConsumesRequestCondition.clearContentTypeAttribute(request);
+		}
+	}
+
+	/**
+	 * Lookup results are cached by HTTP method, lookup path, "Content-Type"
+	 * header and {@link #getRequestedMediaTypes requested media types}, except
+	 * for CORS pre-flight requests.
+	 * @see #setLookupCacheLimit
+	 */
+	@Override
+	@Nullable
+	protected Object getLookupCacheKey(String lookupPath, HttpServletRequest request) {
+		if (CorsUtils.isPreFlightRequest(request)) {
+			return null;
+		}
+		List<MediaType> mediaTypes;
+		try {
+			mediaTypes = getRequestedMediaTypes(request);
+		}
+		catch (HttpMediaTypeNotAcceptableException | InvalidMediaTypeException ex) {
+			return null;
+		}
+		return new LookupCacheKey(request.getMethod(), request.getDispatcherType(),
+				lookupPath, request.getContentType(), mediaTypes);
+	}
+
+	/**
+	 * A RequestMappingInfo is cacheable unless it has "params", "headers" or
+	 * custom conditions, and its URL patterns match the request.
+	 */
+	@Override
+	protected boolean isLookupCacheable(RequestMappingInfo info, HttpServletRequest request) {
+		if (info.getParamsCondition().isEmpty() && info.getHeadersCondition().isEmpty() &&
+				info.getCustomCondition() == null) {
+			return true;
+		}
+		return (info.getPatternsCondition().getMatchingCondition(request) == null);
+	}
+
+	/**
+	 * Return the media types requested by the given request, as used for
+	 * {@link #getLookupCacheKey lookup cache keys}. These need to be the media
+	 * types that "produces" conditions are matched against.
+	 * <p>By default this returns the media types in the "Accept" header.
+	 * @param request the current request
+	 * @throws HttpMediaTypeNotAcceptableException if the requested media types
+	 * cannot be resolved
+	 * @since 5.0
+	 */
+	protected List<MediaType> getRequestedMediaTypes(HttpServletRequest request)
+			throws HttpMediaTypeNotAcceptableException {
+
+		return HEADER_NEGOTIATION_STRATEGY.resolveMediaTypes(new ServletWebRequest(request));
+	}
+
 	/**
 	 * Check if the given RequestMappingInfo matches the current request and
 	 * return a (potentially new) instance with conditions that match the
@@ -424,6 +513,59 @@ public abstract class RequestMappingInfoHandlerMapping extends AbstractHandlerMe
 	}
 
 
+	/**
+	 * Key for the lookup cache.
+	 */
+	private static final class LookupCacheKey {
+
+		private final String method;
+
+		private final DispatcherType dispatcherType;
+
+		private final String lookupPath;
+
+		private final String contentType;
+
+		private final List<MediaType> mediaTypes;
+
+		public LookupCacheKey(String method, @Nullable DispatcherType dispatcherType, String lookupPath,
+				@Nullable String contentType, List<MediaType> mediaTypes) {
+
+			this.method = method;
+			this.dispatcherType = dispatcherType;
+			this.lookupPath = lookupPath;
+			this.contentType = contentType;
+			this.mediaTypes = mediaTypes;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if (this == other) {
+				return true;
+			}
+			if (!(other instanceof LookupCacheKey)) {
+				return false;
+			}
+			LookupCacheKey otherKey = (LookupCacheKey) other;
+			return (this.method.equals(otherKey.method) &&
+					this.dispatcherType == otherKey.dispatcherType &&
+					this.lookupPath.equals(otherKey.lookupPath) &&
+					ObjectUtils.nullSafeEquals(this.contentType, otherKey.contentType) &&
+					this.mediaTypes.equals(otherKey.mediaTypes));
+		}
+
+		@Override
+		public int hashCode() {
+			int result = this.method.hashCode();
+			result = 31 * result + ObjectUtils.nullSafeHashCode(this.dispatcherType);
+			result = 31 * result + this.lookupPath.hashCode();
+			result = 31 * result + ObjectUtils.nullSafeHashCode(this.contentType);
+			result = 31 * result + this.mediaTypes.hashCode();
+			return result;
+		}
+	}
+
+
 	/**
 	 * Default handler for HTTP OPTIONS.
 	 */
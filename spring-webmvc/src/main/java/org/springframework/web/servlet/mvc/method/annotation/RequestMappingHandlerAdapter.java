@@ -30,10 +30,13 @@ import javax.servlet.http.HttpSession;
 
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.BeanFactoryUtils;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.core.DefaultParameterNameDiscoverer;
 import org.springframework.core.MethodIntrospector;
+import org.springframework.core.MethodParameter;
 import org.springframework.core.ParameterNameDiscoverer;
 import org.springframework.core.ReactiveAdapterRegistry;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
@@ -70,6 +73,7 @@ import org.springframework.web.context.request.async.WebAsyncTask;
 import org.springframework.web.context.request.async.WebAsyncUtils;
 import org.springframework.web.method.ControllerAdviceBean;
 import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.method.HandlerMethodInvoker;
 import org.springframework.web.method.annotation.ErrorsMethodArgumentResolver;
 import org.springframework.web.method.annotation.ExpressionValueMethodArgumentResolver;
 import org.springframework.web.method.annotation.InitBinderDataBinderFactory;
@@ -91,6 +95,7 @@ import org.springframework.web.method.support.InvocableHandlerMethod;
 import org.springframework.web.method.support.ModelAndViewContainer;
 import org.springframework.web.servlet.ModelAndView;
 import org.springframework.web.servlet.View;
+import org.springframework.web.servlet.handler.AbstractHandlerMethodMapping;
 import org.springframework.web.servlet.mvc.annotation.ModelAndViewResolver;
 import org.springframework.web.servlet.mvc.method.AbstractHandlerMethodAdapter;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
@@ -107,6 +112,12 @@ import org.springframework.web.util.WebUtils;
  * Or alternatively, to re-configure all argument and return value types,
  * use {@link #setArgumentResolvers} and {@link #setReturnValueHandlers}.
  *
+ * <p>The argument resolvers and the return value handler to use for a
+ * {@code HandlerMethod} are selected once, when the method is first invoked
+ * or, for the methods of all {@link AbstractHandlerMethodMapping} beans, on
+ * startup, where method parameters that no argument resolver supports are
+ * reported as well.
+ *
  * @author Rossen Stoyanchev
  * @author Juergen Hoeller
  * @since 3.1
@@ -114,7 +125,7 @@ import org.springframework.web.util.WebUtils;
  * @see HandlerMethodReturnValueHandler
  */
 public class RequestMappingHandlerAdapter extends AbstractHandlerMethodAdapter
-		implements BeanFactoryAware, InitializingBean {
+		implements BeanFactoryAware, InitializingBean, SmartInitializingSingleton {
 
 	private List<HandlerMethodArgumentResolver> customArgumentResolvers;
 
@@ -156,6 +167,8 @@ public class RequestMappingHandlerAdapter extends AbstractHandlerMethodAdapter
 
 	private ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
 
+	private boolean precompileHandlerMethods = false;
+
 	private ConfigurableBeanFactory beanFactory;
 
 
@@ -172,6 +185,8 @@ public class RequestMappingHandlerAdapter extends AbstractHandlerMethodAdapter
 	private final Map<ControllerAdviceBean, Set<Method>> modelAttributeAdviceCache =
 			new LinkedHashMap<>();
 
+	private final Map<HandlerMethod, InvocationPlan> invocationPlanCache = new ConcurrentHashMap<>(64);
+
 
 	public RequestMappingHandlerAdapter() {
 		StringHttpMessageConverter stringHttpMessageConverter = new StringHttpMessageConverter();
@@ -513,6 +528,16 @@ public class RequestMappingHandlerAdapter extends AbstractHandlerMethodAdapter
 		this.parameterNameDiscoverer = parameterNameDiscoverer;
 	}
 
+	/**
+	 * Whether to invoke {@code @RequestMapping} methods through a
+	 * {@link HandlerMethodInvoker} rather than reflectively.
+	 * <p>The default is {@code false}.
+	 * @since 5.0
+	 */
+	public void setPrecompileHandlerMethods(boolean precompileHandlerMethods) {
+		this.precompileHandlerMethods = precompileHandlerMethods;
+	}
+
 	/**
 	 * A {@link ConfigurableBeanFactory} is expected for resolving expressions
 	 * in method argument default values.
@@ -552,6 +577,32 @@ public class RequestMappingHandlerAdapter extends AbstractHandlerMethodAdapter
 		}
 	}
 
+	/**
+	 * Select the argument resolvers and return value handlers for the methods
+	 * of all {@link AbstractHandlerMethodMapping} beans, and report method
+	 * parameters that none of the argument resolvers supports.
+	 */
+	@Override
+	public void afterSingletonsInstantiated() {
+		if (getApplicationContext() == null) {
+			return;
+		}
+		@SuppressWarnings("rawtypes")
+		Map<String, AbstractHandlerMethodMapping> mappings = BeanFactoryUtils.beansOfTypeIncludingAncestors(
+				getApplicationContext(), AbstractHandlerMethodMapping.class, true, false);
+		for (AbstractHandlerMethodMapping<?> mapping : mappings.values()) {
+			for (HandlerMethod handlerMethod : mapping.getHandlerMethods().values()) {
+				InvocationPlan plan = getInvocationPlan(handlerMethod);
+				for (MethodParameter parameter : plan.getUnboundParameters()) {
+					if (logger.isWarnEnabled()) {
+						logger.warn("No suitable resolver for argument " + parameter.getParameterIndex() +
+								" of type '" + parameter.getParameterType().getName() + "' on " + handlerMethod);
+					}
+				}
+			}
+		}
+	}
+
 	private void initControllerAdviceCache() {
 		if (getApplicationContext() == null) {
 			return;
@@ -831,6 +882,12 @@ public class RequestMappingHandlerAdapter extends AbstractHandlerMethodAdapter
 			invocableMethod.setHandlerMethodReturnValueHandlers(this.returnValueHandlers);
 			invocableMethod.setDataBinderFactory(binderFactory);
 			invocableMethod.setParameterNameDiscoverer(this.parameterNameDiscoverer);
+			InvocationPlan plan = getInvocationPlan(handlerMethod);
+			invocableMethod.setBoundArgumentResolvers(plan.getArgumentResolvers());
+			invocableMethod.setBoundReturnValueHandler(plan.getReturnValueHandler());
+			if (this.precompileHandlerMethods) {
+				invocableMethod.setMethodInvoker(HandlerMethodInvoker.forHandlerMethod(handlerMethod));
+			}
 
 			ModelAndViewContainer mavContainer = new ModelAndViewContainer();
 			mavContainer.addAllAttributes(RequestContextUtils.getInputFlashMap(request));
@@ -868,6 +925,21 @@ public class RequestMappingHandlerAdapter extends AbstractHandlerMethodAdapter
 		}
 	}
 
+	/**
+	 * Return the invocation plan for the given handler method, creating it
+	 * on first access.
+	 */
+	private InvocationPlan getInvocationPlan(HandlerMethod handlerMethod) {
+		HandlerMethod key = (handlerMethod.getResolvedFromHandlerMethod() != null ?
+				handlerMethod.getResolvedFromHandlerMethod() : handlerMethod);
+		InvocationPlan plan = this.invocationPlanCache.get(key);
+		if (plan == null) {
+			plan = new InvocationPlan(key);
+			this.invocationPlanCache.put(key, plan);
+		}
+		return plan;
+	}
+
 	/**
 	 * Create a {@link ServletInvocableHandlerMethod} from the given {@link HandlerMethod} definition.
 	 * @param handlerMethod the {@link HandlerMethod} definition
@@ -994,4 +1066,49 @@ public class RequestMappingHandlerAdapter extends AbstractHandlerMethodAdapter
 			((AnnotationUtils.findAnnotation(method, RequestMapping.class) == null) &&
 			(AnnotationUtils.findAnnotation(method, ModelAttribute.class) != null));
 
+
+
+	/**
+	 * The argument resolvers and the return value handler selected for the
+	 * parameters and the declared return type of a handler method.
+	 */
+	private class InvocationPlan {
+
+		private final MethodParameter[] parameters;
+
+		private final HandlerMethodArgumentResolver[] argumentResolvers;
+
+		private final HandlerMethodReturnValueHandler returnValueHandler;
+
+		public InvocationPlan(HandlerMethod handlerMethod) {
+			this.parameters = handlerMethod.getMethodParameters();
+			this.argumentResolvers = new HandlerMethodArgumentResolver[this.parameters.length];
+			for (int i = 0; i < this.parameters.length; i++) {
+				this.parameters[i].initParameterNameDiscovery(parameterNameDiscoverer);
+				this.argumentResolvers[i] = RequestMappingHandlerAdapter.this.argumentResolvers
+						.getArgumentResolver(this.parameters[i]);
+			}
+			this.returnValueHandler = returnValueHandlers.getReturnValueHandlerFor(handlerMethod.getReturnType());
+		}
+
+		public HandlerMethodArgumentResolver[] getArgumentResolvers() {
+			return this.argumentResolvers;
+		}
+
+		@Nullable
+		public HandlerMethodReturnValueHandler getReturnValueHandler() {
+			return this.returnValueHandler;
+		}
+
+		public List<MethodParameter> getUnboundParameters() {
+			List<MethodParameter> result = new ArrayList<>();
+			for (int i = 0; i < this.parameters.length; i++) {
+				if (this.argumentResolvers[i] == null) {
+					result.add(this.parameters[i]);
+				}
+			}
+			return result;
+		}
+	}
+
 }
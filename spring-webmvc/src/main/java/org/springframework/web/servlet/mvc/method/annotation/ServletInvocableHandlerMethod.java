@@ -62,6 +62,8 @@ public class ServletInvocableHandlerMethod extends InvocableHandlerMethod {
 
 	private HandlerMethodReturnValueHandlerComposite returnValueHandlers;
 
+	private HandlerMethodReturnValueHandler boundReturnValueHandler;
+
 
 	/**
 	 * Creates an instance from the given handler and method.
@@ -87,6 +89,18 @@ public class ServletInvocableHandlerMethod extends InvocableHandlerMethod {
 	}
 
 
+	/**
+	 * Set the {@link HandlerMethodReturnValueHandler} to use for return values
+	 * of the declared return type, as selected upfront through
+	 * {@link HandlerMethodReturnValueHandlerComposite#getReturnValueHandlerFor}.
+	 * Return values of any other type, e.g. a subclass of the declared type,
+	 * are still handled through the registered composite.
+	 * @since 5.0
+	 */
+	public void setBoundReturnValueHandler(@Nullable HandlerMethodReturnValueHandler returnValueHandler) {
+		this.boundReturnValueHandler = returnValueHandler;
+	}
+
 	/**
 	 * Invoke the method and handle the return value through one of the
 	 * configured {@link HandlerMethodReturnValueHandler}s.
@@ -113,8 +127,12 @@ public class ServletInvocableHandlerMethod extends InvocableHandlerMethod {
 
 		mavContainer.setRequestHandled(false);
 		try {
-			this.returnValueHandlers.handleReturnValue(
-					returnValue, getReturnValueType(returnValue), mavContainer, webRequest);
+			HandlerMethodReturnValueHandler handler = this.returnValueHandlers;
+			if (this.boundReturnValueHandler != null &&
+					(returnValue == null || returnValue.getClass() == getReturnType().getParameterType())) {
+				handler = this.boundReturnValueHandler;
+			}
+			handler.handleReturnValue(returnValue, getReturnValueType(returnValue), mavContainer, webRequest);
 		}
 		catch (Exception ex) {
 			if (logger.isTraceEnabled()) {
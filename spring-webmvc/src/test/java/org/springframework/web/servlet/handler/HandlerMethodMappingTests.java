@@ -20,10 +20,12 @@ import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import javax.servlet.http.HttpServletRequest;
 
+import org.hamcrest.Matchers;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -41,6 +43,9 @@ import org.springframework.web.util.UrlPathHelper;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 
 /**
@@ -222,6 +227,89 @@ public class HandlerMethodMappingTests {
 		assertNull(this.mapping.getMappingRegistry().getCorsConfiguration(handlerMethod));
 	}
 
+	@Test
+	public void pathPrefixLookup() throws Exception {
+		MyHandlerMethodMapping mapping = new MyHandlerMethodMapping();
+		mapping.setPathPrefixLookup(true);
+		mapping.registerMapping("/foo/{id}", this.handler, this.method1);
+		mapping.registerMapping("/bar/{id}", this.handler, this.method2);
+
+		assertThat(mapping.getMappingRegistry().getMappingsByPathPrefix("/foo/1"), Matchers.contains("/foo/{id}"));
+		assertThat(mapping.getMappingRegistry().getMappingsByPathPrefix("/bar/1"), Matchers.contains("/bar/{id}"));
+		assertThat(mapping.getMappingRegistry().getMappingsByPathPrefix("/baz/1"), Matchers.empty());
+
+		HandlerMethod result = mapping.getHandlerInternal(new MockHttpServletRequest("GET", "/bar/1"));
+		assertEquals(this.method2, result.getMethod());
+	}
+
+	@Test
+	public void pathPrefixLookupIndexesLiteralDirectories() throws Exception {
+		MyHandlerMethodMapping mapping = new MyHandlerMethodMapping();
+		mapping.setPathPrefixLookup(true);
+		mapping.registerMapping("/{type}/list", this.handler, this.method1);
+		mapping.registerMapping("/foo/**", this.handler, this.method1);
+		mapping.registerMapping("/Foo/bar", this.handler, this.method2);
+		mapping.registerMapping("/foo/bar/baz", this.handler, this.method2);
+
+		assertThat(mapping.getMappingRegistry().getMappingsByPathPrefix("/foo"),
+				Matchers.contains("/{type}/list", "/foo/**", "/Foo/bar"));
+		assertThat(mapping.getMappingRegistry().getMappingsByPathPrefix("/foo/bar.json"),
+				Matchers.contains("/{type}/list", "/foo/**", "/Foo/bar"));
+		assertThat(mapping.getMappingRegistry().getMappingsByPathPrefix("//foo/bar/"),
+				Matchers.contains("/{type}/list", "/foo/**", "/Foo/bar", "/foo/bar/baz"));
+
+		mapping.unregisterMapping("/foo/**");
+		assertThat(mapping.getMappingRegistry().getMappingsByPathPrefix("/foo/bar"),
+				Matchers.contains("/{type}/list", "/Foo/bar", "/foo/bar/baz"));
+	}
+
+	@Test
+	public void lockFreeLookup() throws Exception {
+		this.mapping.setLockFreeLookup(true);
+		this.mapping.registerMapping("/foo", this.handler, this.method1);
+		this.mapping.registerMapping("/fo*", this.handler, this.method2);
+
+		HandlerMethod result = this.mapping.getHandlerInternal(new MockHttpServletRequest("GET", "/foo"));
+		assertEquals(this.method1, result.getMethod());
+		result = this.mapping.getHandlerInternal(new MockHttpServletRequest("GET", "/fox"));
+		assertEquals(this.method2, result.getMethod());
+
+		Map<String, HandlerMethod> mappings = this.mapping.getMappingRegistry().getMappings();
+		assertSame(mappings, this.mapping.getMappingRegistry().getMappings());
+
+		this.mapping.unregisterMapping("/foo");
+		assertThat(mappings.keySet(), Matchers.contains("/foo", "/fo*"));
+		assertThat(this.mapping.getMappingRegistry().getMappings().keySet(), Matchers.contains("/fo*"));
+		assertNull(this.mapping.getMappingRegistry().getMappingsByUrl("/foo"));
+		result = this.mapping.getHandlerInternal(new MockHttpServletRequest("GET", "/foo"));
+		assertEquals(this.method2, result.getMethod());
+	}
+
+	@Test
+	public void lookupCache() throws Exception {
+		MyHandlerMethodMapping mapping = new MyHandlerMethodMapping();
+		mapping.setLookupCacheLimit(1);
+		mapping.registerMapping("/foo", this.handler, this.method1);
+		mapping.registerMapping("/fo*", this.handler, this.method2);
+
+		HandlerMethod result = mapping.getHandlerInternal(new MockHttpServletRequest("GET", "/fox"));
+		assertEquals(this.method2, result.getMethod());
+		int matchCount = mapping.getMatchCount();
+		result = mapping.getHandlerInternal(new MockHttpServletRequest("GET", "/fox"));
+		assertEquals(this.method2, result.getMethod());
+		assertEquals(matchCount, mapping.getMatchCount());
+
+		result = mapping.getHandlerInternal(new MockHttpServletRequest("GET", "/foo"));
+		assertEquals(this.method1, result.getMethod());
+		matchCount = mapping.getMatchCount();
+		result = mapping.getHandlerInternal(new MockHttpServletRequest("GET", "/fox"));
+		assertEquals(this.method2, result.getMethod());
+		assertTrue(mapping.getMatchCount() > matchCount);
+
+		mapping.unregisterMapping("/fo*");
+		assertNull(mapping.getHandlerInternal(new MockHttpServletRequest("GET", "/fox")));
+	}
+
 	@Test
 	public void getCorsConfigWithBeanNameHandler() throws Exception {
 
@@ -248,11 +336,23 @@ public class HandlerMethodMappingTests {
 
 		private PathMatcher pathMatcher = new AntPathMatcher();
 
+		private boolean pathPrefixLookup;
+
+		private int matchCount;
+
 
 		public MyHandlerMethodMapping() {
 			setHandlerMethodMappingNamingStrategy(new SimpleMappingNamingStrategy());
 		}
 
+		public void setPathPrefixLookup(boolean pathPrefixLookup) {
+			this.pathPrefixLookup = pathPrefixLookup;
+		}
+
+		public int getMatchCount() {
+			return this.matchCount;
+		}
+
 		@Override
 		protected boolean isHandler(Class<?> beanType) {
 			return true;
@@ -266,9 +366,17 @@ public class HandlerMethodMappingTests {
 
 		@Override
 		protected Set<String> getMappingPathPatterns(String key) {
+			if (this.pathPrefixLookup) {
+				return Collections.singleton(key);
+			}
 			return (this.pathMatcher.isPattern(key) ? Collections.<String>emptySet() : Collections.singleton(key));
 		}
 
+		@Override
+		protected boolean supportsPathPrefixLookup() {
+			return this.pathPrefixLookup;
+		}
+
 		@Override
 		protected CorsConfiguration initCorsConfiguration(Object handler, Method method, String mapping) {
 			CorsConfiguration corsConfig = new CorsConfiguration();
@@ -278,6 +386,7 @@ public class HandlerMethodMappingTests {
 
 		@Override
 		protected String getMatchingMapping(String pattern, HttpServletRequest request) {
+			this.matchCount++;
 			String lookupPath = this.pathHelper.getLookupPathForRequest(request);
 			return this.pathMatcher.match(pattern, lookupPath) ? pattern : null;
 		}
@@ -288,6 +397,16 @@ public class HandlerMethodMappingTests {
 			return this.pathMatcher.getPatternComparator(lookupPath);
 		}
 
+		@Override
+		protected Object getLookupCacheKey(String lookupPath, HttpServletRequest request) {
+			return lookupPath;
+		}
+
+		@Override
+		protected boolean isLookupCacheable(String mapping, HttpServletRequest request) {
+			return true;
+		}
+
 	}
 
 	private static class SimpleMappingNamingStrategy implements HandlerMethodMappingNamingStrategy<String> {
@@ -44,6 +44,16 @@ public class ProducesRequestConditionTests {
 		assertNotNull(condition.getMatchingCondition(request));
 	}
 
+	@Test
+	public void matchAllExpressionsReturnsSameInstance() {
+		ProducesRequestCondition condition = new ProducesRequestCondition("text/plain", "application/xml");
+
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader("Accept", "*/*");
+
+		assertSame(condition, condition.getMatchingCondition(request));
+	}
+
 	@Test
 	public void matchNegated() {
 		ProducesRequestCondition condition = new ProducesRequestCondition("!text/plain");
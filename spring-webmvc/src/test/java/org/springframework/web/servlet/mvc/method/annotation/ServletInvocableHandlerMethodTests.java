@@ -177,6 +177,28 @@ public class ServletInvocableHandlerMethodTests {
 		assertEquals("view", this.mavContainer.getViewName());
 	}
 
+	@Test
+	public void invokeAndHandle_BoundReturnValueHandler() throws Exception {
+		ServletInvocableHandlerMethod handlerMethod = getHandlerMethod(new Handler(), "handle");
+		handlerMethod.setBoundReturnValueHandler(new ViewNameMethodReturnValueHandler());
+		handlerMethod.invokeAndHandle(this.webRequest, this.mavContainer);
+
+		assertEquals("view", this.mavContainer.getViewName());
+	}
+
+	@Test
+	public void invokeAndHandle_BoundReturnValueHandlerWithDynamicReturnValue() throws Exception {
+		this.argumentResolvers.addResolver(new RequestParamMethodArgumentResolver(null, false));
+		this.returnValueHandlers.addHandler(new ViewMethodReturnValueHandler());
+
+		// Return value type differs from the declared type: handled through the composite
+		ServletInvocableHandlerMethod handlerMethod = getHandlerMethod(new Handler(), "dynamicReturnValue", String.class);
+		handlerMethod.setBoundReturnValueHandler(new ExceptionRaisingReturnValueHandler());
+		handlerMethod.invokeAndHandle(this.webRequest, this.mavContainer);
+
+		assertEquals(RedirectView.class, this.mavContainer.getView().getClass());
+	}
+
 	@Test
 	public void wrapConcurrentResult_MethodLevelResponseBody() throws Exception {
 		wrapConcurrentResult_ResponseBody(new MethodLevelResponseBodyHandler(), "bar", String.class);